@@ -0,0 +1,50 @@
+-- Converts activities into a table partitioned by month of created_at (UTC), named
+-- activities_pYYYYMM. ActivityPartitionService creates the partitions of the coming months and
+-- archives expired ones once garden.activities.partitions.enabled is set. The activity list
+-- endpoints always bound created_at, so they only scan the partitions of their time window.
+-- A partitioned table's primary key must include the partition key, so it becomes
+-- (id, created_at); IDs are random UUIDs and stay unique in practice.
+-- Foreign keys are not copied by LIKE: re-create those of activities_unpartitioned on the new
+-- table before dropping it. Run during a quiet period; the copy holds a lock on activities.
+
+BEGIN;
+
+ALTER TABLE activities RENAME TO activities_unpartitioned;
+
+CREATE TABLE activities (LIKE activities_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (created_at);
+
+ALTER TABLE activities ADD PRIMARY KEY (id, created_at);
+
+-- Catches activities outside every monthly partition, so an insert never fails
+CREATE TABLE activities_default PARTITION OF activities DEFAULT;
+
+-- One partition per month from the oldest activity to three months ahead
+DO $$
+DECLARE
+    month TIMESTAMP;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT min(created_at) FROM activities_unpartitioned), now()) AT TIME ZONE 'UTC'),
+            date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+            INTERVAL '1 month')
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF activities FOR VALUES FROM (%L) TO (%L)',
+            'activities_p' || to_char(month, 'YYYYMM'),
+            month AT TIME ZONE 'UTC',
+            (month + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+INSERT INTO activities SELECT * FROM activities_unpartitioned;
+
+-- Created on every partition; serve the user and garden plan lists newest first
+CREATE INDEX IF NOT EXISTS activities_user_id_created_at_idx ON activities (user_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS activities_garden_plan_id_created_at_idx ON activities (garden_plan_id, created_at DESC);
+
+COMMIT;
+
+-- After checking the new table and re-creating its foreign keys:
+-- DROP TABLE activities_unpartitioned;
@@ -0,0 +1,34 @@
+-- Activities per user, garden plan, type and day (UTC), kept by ActivityRollupService in the
+-- same transaction as the activities, so the dashboard endpoints
+-- (GET /api/activities/user/{userId}/daily, /streak and /garden-plan/{gardenPlanId}/daily)
+-- read one row per day and type instead of scanning activities.
+-- Activities outside any garden plan are counted under the nil UUID, since garden_plan_id is
+-- part of the primary key. There is deliberately no foreign key: counts are recounted from the
+-- activities by the reconciliation job.
+
+CREATE TABLE IF NOT EXISTS activity_daily_counts (
+    user_id UUID NOT NULL,
+    garden_plan_id UUID NOT NULL,
+    activity_type TEXT NOT NULL,
+    activity_day DATE NOT NULL,
+    activity_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, garden_plan_id, activity_type, activity_day)
+);
+
+-- Serves the per-plan dashboard; per-user reads use the primary key
+CREATE INDEX IF NOT EXISTS activity_daily_counts_garden_plan_id_activity_day_idx
+    ON activity_daily_counts (garden_plan_id, activity_day);
+
+-- Backfill the history from the activities; safe to re-run
+INSERT INTO activity_daily_counts (user_id, garden_plan_id, activity_type, activity_day, activity_count, updated_at)
+SELECT user_id,
+       COALESCE(garden_plan_id, '00000000-0000-0000-0000-000000000000'),
+       activity_type,
+       (created_at AT TIME ZONE 'UTC')::date,
+       COUNT(*),
+       now()
+FROM activities
+GROUP BY 1, 2, 3, 4
+ON CONFLICT (user_id, garden_plan_id, activity_type, activity_day) DO UPDATE
+    SET activity_count = EXCLUDED.activity_count, updated_at = EXCLUDED.updated_at;
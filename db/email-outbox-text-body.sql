@@ -0,0 +1,5 @@
+-- Plain-text alternative of queued emails, rendered from the .txt variant of an email template
+-- and sent alongside the HTML body. Emails queued before this column existed have none.
+
+ALTER TABLE email_outbox
+    ADD COLUMN IF NOT EXISTS text_body TEXT;
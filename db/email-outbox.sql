@@ -0,0 +1,25 @@
+-- Emails queued by EmailOutboxService in the transaction that requests them, and sent by the
+-- EmailOutboxWorker threads. Workers lock one due row at a time with FOR UPDATE SKIP LOCKED and
+-- keep it locked while sending, so concurrent workers and instances never send the same email.
+-- Failed attempts are retried with exponential backoff (next_attempt_at) until max-attempts,
+-- after which the row is dead-lettered (status = 'DEAD') and kept for inspection.
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recipient TEXT NOT NULL,
+    subject TEXT NOT NULL,
+    html_body TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'SENT', 'DEAD')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    provider_id TEXT,
+    plant_reminder_id UUID REFERENCES plant_reminders (id) ON DELETE SET NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    sent_at TIMESTAMPTZ
+);
+
+-- Serves the workers' scan of due emails; sent and dead rows are not indexed
+CREATE INDEX IF NOT EXISTS email_outbox_pending_next_attempt_at_idx
+    ON email_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,5 @@
+-- Thumbnails of uploaded garden images (POST /api/garden-images/upload). The column lists the
+-- widths of the generated thumbnails, comma-separated, and stays null for images with an
+-- external URL or whose thumbnails are still being generated.
+
+ALTER TABLE garden_images ADD COLUMN IF NOT EXISTS thumbnail_widths VARCHAR(255);
@@ -0,0 +1,10 @@
+-- Index for the comment feed of an image (GET /api/image-comments/image/{imageId}/feed),
+-- which seeks on (created_at, id) newest first within one image. The index returns each page
+-- in order without sorting, and replaces the plain image_id index from
+-- db/image-engagement-indexes.sql, whose lookups it also serves.
+-- CONCURRENTLY avoids locking the table while building; run each statement outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS image_comments_image_id_created_at_id_idx
+    ON image_comments (image_id, created_at DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS image_comments_image_id_idx;
@@ -0,0 +1,21 @@
+-- Like and comment counts per garden image, kept by ImageEngagementCounterService so the
+-- count endpoints read one row instead of counting image_likes and image_comments.
+-- There is deliberately no foreign key to garden_images: counts of deleted images are
+-- removed by the reconciliation job, and a batch of deltas never fails on one of them.
+
+CREATE TABLE IF NOT EXISTS image_engagement_counts (
+    image_id UUID PRIMARY KEY,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Backfill from the source tables; safe to re-run
+INSERT INTO image_engagement_counts (image_id, like_count, comment_count, updated_at)
+SELECT i.id,
+       (SELECT COUNT(*) FROM image_likes l WHERE l.image_id = i.id),
+       (SELECT COUNT(*) FROM image_comments c WHERE c.image_id = i.id),
+       now()
+FROM garden_images i
+ON CONFLICT (image_id) DO UPDATE
+    SET like_count = EXCLUDED.like_count, comment_count = EXCLUDED.comment_count, updated_at = EXCLUDED.updated_at;
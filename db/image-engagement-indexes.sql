@@ -0,0 +1,10 @@
+-- Indexes for the batch engagement lookup of garden images (GET /api/garden-images/engagement).
+-- Counts come from image_engagement_counts by primary key; the user's likes are read with
+-- user_id = ? AND image_id IN (...), which the (image_id, user_id) index answers from the
+-- index alone, as it does the single-image existsByImageIdAndUserId check.
+-- image_comments gets an image_id index for the per-image comment listing and the
+-- reconciliation counts. CONCURRENTLY avoids locking the tables while building;
+-- run each statement outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS image_likes_image_id_user_id_idx ON image_likes (image_id, user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS image_comments_image_id_idx ON image_comments (image_id);
@@ -0,0 +1,17 @@
+-- One like per user and image, enforced by the database. ImageLikeService likes, unlikes and
+-- toggles with single INSERT ... ON CONFLICT (image_id, user_id) and DELETE ... RETURNING
+-- statements, which need this unique index. It replaces the plain index from
+-- db/image-engagement-indexes.sql and serves the same lookups.
+-- CONCURRENTLY avoids locking the table while building; run each statement outside a transaction.
+
+-- Remove duplicates left by earlier check-then-insert races, keeping the oldest like.
+-- The engagement count reconciliation corrects the like counts afterwards.
+DELETE FROM image_likes l
+USING image_likes older
+WHERE l.image_id = older.image_id
+  AND l.user_id = older.user_id
+  AND (l.created_at, l.id) > (older.created_at, older.id);
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS image_likes_image_id_user_id_key ON image_likes (image_id, user_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS image_likes_image_id_user_id_idx;
@@ -0,0 +1,20 @@
+-- Daily digest emails, written by ReminderDispatcher and EmailOutboxService when
+-- reminders.dispatch.digest is on. All due reminders of a user are claimed with one update that
+-- tags them with a claim ID (email_claim_id), and a single email listing them is queued with the
+-- same ID (reminder_claim_id). Once the outbox has sent it, every reminder of the claim is
+-- marked as sent.
+
+ALTER TABLE plant_reminders
+    ADD COLUMN IF NOT EXISTS email_claim_id UUID;
+
+ALTER TABLE email_outbox
+    ADD COLUMN IF NOT EXISTS reminder_claim_id UUID;
+
+-- Serves looking up and marking the reminders of a claim
+CREATE INDEX IF NOT EXISTS plant_reminders_email_claim_id_idx
+    ON plant_reminders (email_claim_id)
+    WHERE email_claim_id IS NOT NULL;
+
+-- Serves grouping due reminders by the owner of their garden plan
+CREATE INDEX IF NOT EXISTS garden_plans_user_id_idx
+    ON garden_plans (user_id);
@@ -0,0 +1,20 @@
+-- Email delivery state of plant reminders, written by ReminderDispatcher.
+-- A reminder is claimed (email_claimed_at) with a conditional update before its email is sent,
+-- so it is emailed at most once even across restarts and instances. A rejected email releases
+-- the claim for a retry, until email_attempts reaches the configured maximum.
+
+ALTER TABLE plant_reminders
+    ADD COLUMN IF NOT EXISTS email_claimed_at TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS email_sent_at TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS email_id TEXT,
+    ADD COLUMN IF NOT EXISTS email_attempts INTEGER NOT NULL DEFAULT 0;
+
+-- Serves the dispatcher's keyset scan of due, unclaimed reminders
+CREATE INDEX IF NOT EXISTS plant_reminders_due_email_idx
+    ON plant_reminders (reminder_date, id)
+    WHERE is_completed = false AND email_claimed_at IS NULL;
+
+-- Reminders that were due before the dispatcher existed are not emailed retroactively
+UPDATE plant_reminders
+SET email_claimed_at = now()
+WHERE reminder_date < CURRENT_DATE AND email_claimed_at IS NULL;
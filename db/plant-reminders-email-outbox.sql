@@ -0,0 +1,7 @@
+-- Reminder emails are queued in email_outbox, which retries failed sends itself, so the
+-- dispatcher no longer releases claims for a retry. email_claimed_at is now set in the
+-- transaction that queues the email, and email_sent_at and email_id once the outbox has sent it.
+-- Run after plant-reminders-email-dispatch.sql and email-outbox.sql.
+
+ALTER TABLE plant_reminders
+    DROP COLUMN IF EXISTS email_attempts;
@@ -0,0 +1,7 @@
+-- Time of day (UTC) of plant reminders, read by ReminderScheduler to email each reminder at its
+-- exact due time. Reminders without a time are emailed at reminders.dispatch.reminder-time.
+-- The scheduler loads the reminders due within its horizon through the existing partial index
+-- plant_reminders_due_email_idx (reminder_date, id).
+
+ALTER TABLE plant_reminders
+    ADD COLUMN IF NOT EXISTS reminder_time TIME;
@@ -0,0 +1,50 @@
+-- Recurring plant reminders. A series stores its recurrence rule once (an interval in days,
+-- days of the week as a bit mask from Monday, and an optional seasonal window of months), and
+-- occurrences are expanded on demand by ReminderSeriesService. Only occurrences that were
+-- completed or skipped are stored, in reminder_series_exceptions, so the tables grow with user
+-- actions instead of with the calendar.
+--
+-- next_due_date is the next occurrence that was not emailed yet; ReminderDispatcher finds due
+-- series through it and moves it forward when it queues an email, so the due query never expands
+-- a rule. It is null once the series has ended.
+
+CREATE TABLE IF NOT EXISTS reminder_series (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    plant_id UUID NOT NULL REFERENCES plants (id) ON DELETE CASCADE,
+    garden_plan_id UUID NOT NULL REFERENCES garden_plans (id) ON DELETE CASCADE,
+    reminder_type TEXT NOT NULL,
+    notes TEXT,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    interval_days INTEGER,
+    weekdays INTEGER,
+    season_start_month INTEGER,
+    season_end_month INTEGER,
+    next_due_date DATE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT reminder_series_rule_check CHECK (
+        (interval_days IS NOT NULL OR COALESCE(weekdays, 0) <> 0)
+        AND (interval_days IS NULL OR interval_days BETWEEN 1 AND 366)
+        AND (weekdays IS NULL OR weekdays BETWEEN 0 AND 127)
+        AND (season_start_month IS NULL) = (season_end_month IS NULL)
+        AND (season_start_month IS NULL OR season_start_month BETWEEN 1 AND 12)
+        AND (season_end_month IS NULL OR season_end_month BETWEEN 1 AND 12)
+        AND (end_date IS NULL OR end_date >= start_date)
+    )
+);
+
+CREATE TABLE IF NOT EXISTS reminder_series_exceptions (
+    series_id UUID NOT NULL REFERENCES reminder_series (id) ON DELETE CASCADE,
+    occurrence_date DATE NOT NULL,
+    kind TEXT NOT NULL CHECK (kind IN ('COMPLETED', 'SKIPPED')),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (series_id, occurrence_date)
+);
+
+-- Serves the dispatcher's keyset scan of due series; ended series are left out
+CREATE INDEX IF NOT EXISTS reminder_series_next_due_date_idx
+    ON reminder_series (next_due_date, id)
+    WHERE next_due_date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS reminder_series_garden_plan_id_idx
+    ON reminder_series (garden_plan_id);
@@ -0,0 +1,19 @@
+-- Trigram indexes for the ranked searches of garden plans, plants and profiles.
+-- gin_trgm_ops indexes serve both ILIKE '%term%' and the word similarity operator (<%),
+-- so every searched column gets one. CONCURRENTLY avoids locking the tables while building;
+-- run each statement outside a transaction.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS garden_plans_name_trgm_idx ON garden_plans USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS garden_plans_type_trgm_idx ON garden_plans USING gin (type gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS garden_plans_location_trgm_idx ON garden_plans USING gin (location gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS garden_plans_description_trgm_idx ON garden_plans USING gin (description gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS plants_name_trgm_idx ON plants USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS plants_type_trgm_idx ON plants USING gin (type gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS plants_description_trgm_idx ON plants USING gin (description gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS plants_watering_frequency_trgm_idx ON plants USING gin (watering_frequency gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS plants_sunlight_requirements_trgm_idx ON plants USING gin (sunlight_requirements gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS profiles_full_name_trgm_idx ON profiles USING gin (full_name gin_trgm_ops);
@@ -0,0 +1,22 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the monthly partitions of the activities table, their retention
+ * and archival, and the time window of activity queries.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.activities.partitions")
+@Data
+public class ActivityPartitionConfig {
+    private boolean enabled = false; // Needs the partitioned table from db/activities-partitioning.sql
+    private int monthsAhead = 3; // Monthly partitions created ahead of the current month
+    private int retentionMonths = 24; // Months kept in the table, including the current one; 0 keeps all
+    private String archiveDirectory = "data/activity-archive"; // Where expired partitions are exported
+    private Duration maintenanceInterval = Duration.ofHours(12); // How often partitions are created and expired
+    private Duration queryWindow = Duration.ofDays(365); // How far back activity lists reach by default
+}
@@ -0,0 +1,20 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the per-day activity counts behind the activity dashboards.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.activities.rollups")
+@Data
+public class ActivityRollupConfig {
+    private int defaultRangeDays = 30; // Days returned when a dashboard query gives no start day
+    private int maxRangeDays = 366; // Longest range of days one dashboard query may read
+    private int streakWindowDays = 366; // Days searched back for activity streaks
+    private int reconcileDays = 2; // Closed days recounted from the activities by each reconciliation
+    private Duration reconcileInterval = Duration.ofHours(6); // How often recent days are recounted
+}
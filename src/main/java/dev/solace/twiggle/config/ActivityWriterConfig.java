@@ -0,0 +1,19 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the background writer of asynchronously recorded activities.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.activities.writer")
+@Data
+public class ActivityWriterConfig {
+    private int bufferCapacity = 8192; // Activities waiting to be written; more are dropped
+    private int batchSize = 500; // Activities written per insert statement
+    private Duration flushInterval = Duration.ofSeconds(1); // Longest time an activity waits for a full batch
+    private Duration shutdownTimeout = Duration.ofSeconds(30); // How long shutdown waits for the buffer to drain
+}
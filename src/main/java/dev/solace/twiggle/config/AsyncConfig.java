@@ -0,0 +1,64 @@
+package dev.solace.twiggle.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for running independent work in parallel.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String QUERY_EXECUTOR = "queryExecutor";
+    public static final String THUMBNAIL_EXECUTOR = "thumbnailExecutor";
+
+    /**
+     * Bounded pool for running independent read queries of one request in parallel.
+     * Kept smaller than the connection pool so parallel reads cannot starve other requests.
+     *
+     * @param poolSize maximum number of queries running at once
+     * @param queueCapacity maximum number of queued queries
+     * @return the executor
+     */
+    @Bean(name = QUERY_EXECUTOR)
+    public Executor queryExecutor(
+            @Value("${async.query-executor.pool-size:4}") int poolSize,
+            @Value("${async.query-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-");
+        // When saturated, run on the calling thread instead of failing the request
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for generating thumbnails of uploaded images. Decoding and resizing are CPU and
+     * memory heavy, so only a few images are processed at once.
+     *
+     * @param poolSize maximum number of images processed at once
+     * @param queueCapacity maximum number of images waiting for thumbnails
+     * @return the executor
+     */
+    @Bean(name = THUMBNAIL_EXECUTOR)
+    public Executor thumbnailExecutor(
+            @Value("${async.thumbnail-executor.pool-size:2}") int poolSize,
+            @Value("${async.thumbnail-executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        // When saturated, the uploading request generates its own thumbnails, slowing down uploads
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the email outbox and the workers sending its emails.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "email.outbox")
+@Data
+public class EmailOutboxConfig {
+    private boolean enabled = true; // Whether the workers send queued emails
+    private Duration pollInterval = Duration.ofSeconds(5); // Pause between two polls for due emails
+    private int workers = 2; // Batches being sent at the same time
+    private int batchSize = 50; // Emails sent per request to Resend, at most 100
+    private int sendsPerSecond = 2; // Requests to Resend per second, matching its rate limit
+    private Duration rateLimitTimeout = Duration.ofSeconds(10); // Longest wait for a send permit
+    private int maxAttempts = 8; // Failed attempts after which an email is dead-lettered
+    private Duration initialBackoff =
+            Duration.ofSeconds(30); // Wait after the first failed attempt, doubled after each further one
+    private Duration maxBackoff = Duration.ofHours(1); // Longest wait between two attempts
+}
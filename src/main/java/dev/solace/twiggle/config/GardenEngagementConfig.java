@@ -0,0 +1,25 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the like and comment counters of garden images, the cache of
+ * which images each user liked and the cache of comment authors.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.engagement")
+@Data
+public class GardenEngagementConfig {
+    private Duration flushInterval = Duration.ofSeconds(2); // How often buffered count changes are written
+    private int flushBatchSize = 500; // Images written per upsert statement
+    private Duration reconcileInterval = Duration.ofHours(1); // How often counts are checked against the source tables
+    private int maxCachedLikedSets = 10000; // Users whose liked images are held in memory
+    private Duration likedSetIdleTimeout = Duration.ofMinutes(30); // Unused liked sets are dropped after this long
+    private double likedFilterFalsePositiveRate = 0.01; // Share of unliked images that still need a lookup
+    private Duration likedFilterRebuildInterval = Duration.ofHours(6); // How often the filter drops unliked pairs
+    private Duration authorCacheTtl = Duration.ofMinutes(1); // How long comment author profiles are reused
+    private int maxCachedAuthors = 10000; // Comment author profiles held in memory
+}
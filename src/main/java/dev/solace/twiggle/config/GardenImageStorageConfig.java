@@ -0,0 +1,21 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for uploaded garden images and their thumbnails.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.images")
+@Data
+public class GardenImageStorageConfig {
+    private String storageDirectory = "data/garden-images"; // Where uploaded images and thumbnails are written
+    private List<Integer> thumbnailWidths = List.of(160, 480, 960); // Widths of the generated thumbnails in pixels
+    private float thumbnailQuality = 0.8f; // JPEG quality of the thumbnails, from 0 to 1
+    private long maxImagePixels = 50_000_000; // Larger images are rejected before they are decoded
+    private Duration cacheMaxAge = Duration.ofDays(365); // How long clients may cache served images
+}
@@ -0,0 +1,17 @@
+package dev.solace.twiggle.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for garden plan layouts.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.layout")
+@Data
+public class GardenLayoutConfig {
+    private int gridWidth = 10; // Number of columns in a garden grid
+    private int gridHeight = 10; // Number of rows in a garden grid
+    private int maxCachedGardens = 1000; // Garden occupancy grids kept in memory
+}
@@ -0,0 +1,22 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the popularity ranking of public garden plans.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "garden.popularity")
+@Data
+public class GardenPopularityConfig {
+    private Duration halfLife = Duration.ofHours(48); // Age at which an event counts half as much
+    private double likeWeight = 1.0; // Score of a like on one of the plan's images
+    private double commentWeight = 3.0; // Score of a comment on one of the plan's images
+    private double activityWeight = 0.5; // Score of an activity recorded on the plan
+    private double creationWeight = 2.0; // Score of creating the plan, so new plans enter the feed
+    private int rebuildHalfLives = 20; // Events older than this many half-lives are skipped on rebuild
+    private Duration rebuildInterval = Duration.ofHours(1); // How often the ranking is recomputed from the database
+}
@@ -0,0 +1,20 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the scheduled emailing of due plant reminders.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reminders.dispatch")
+@Data
+public class ReminderDispatchConfig {
+    private boolean enabled = true; // Whether due reminders are emailed automatically
+    private Duration interval = Duration.ofMinutes(1); // Pause between two dispatch runs
+    private int pageSize = 100; // Due reminders read per query, or users per query in digest mode
+    private String reminderTime = "09:00"; // Time of day (UTC) of reminders and series occurrences that have none
+    private boolean digest = false; // Whether each user gets one email listing all their due reminders
+}
@@ -0,0 +1,20 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for emailing plant reminders at their exact due time.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reminders.scheduler")
+@Data
+public class ReminderSchedulerConfig {
+    private boolean enabled = true; // Whether reminders are emailed at their time instead of once due by date
+    private Duration tick = Duration.ofSeconds(1); // Resolution of the timing wheel
+    private Duration horizon = Duration.ofHours(24); // How far ahead reminders are held in memory
+    private Duration refillInterval = Duration.ofHours(1); // Pause between two reloads of the horizon
+    private int pageSize = 1000; // Reminders read per query when reloading
+}
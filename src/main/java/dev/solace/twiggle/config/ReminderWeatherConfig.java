@@ -0,0 +1,31 @@
+package dev.solace.twiggle.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for holding back watering reminders on rainy days.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reminders.weather")
+@Data
+public class ReminderWeatherConfig {
+    private boolean enabled = true; // Whether forecasts are checked before emailing watering reminders
+    private List<String> reminderTypes = List.of("water", "watering"); // Reminder types checked, ignoring case
+    private double precipitationThresholdMm = 10.0; // Daily precipitation above which a reminder is held back
+    private Action action = Action.DEFER; // What happens to reminders on a rainy day
+    private Duration forecastTtl = Duration.ofHours(1); // How long the forecast of a location is reused
+    private int maxConcurrentLookups = 4; // Forecasts fetched at the same time in one run
+    private Duration lookupTimeout = Duration.ofSeconds(10); // Time to wait for the forecasts of one page
+
+    /**
+     * What happens to a watering reminder when heavy rain is expected.
+     */
+    public enum Action {
+        DEFER, // Move the reminder to the next day
+        ANNOTATE // Email it as usual, with a note about the expected rain
+    }
+}
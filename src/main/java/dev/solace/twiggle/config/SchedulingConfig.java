@@ -0,0 +1,12 @@
+package dev.solace.twiggle.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs. They share a pool of
+ * {@code spring.task.scheduling.pool.size} threads.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
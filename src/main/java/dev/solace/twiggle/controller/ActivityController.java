@@ -1,13 +1,18 @@
 package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ActivityDTO;
+import dev.solace.twiggle.dto.ActivityDailyCountDTO;
+import dev.solace.twiggle.dto.ActivityStreakDTO;
 import dev.solace.twiggle.dto.ApiResponse;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.ActivityRollupService;
 import dev.solace.twiggle.service.ActivityService;
 import dev.solace.twiggle.util.ResponseUtil;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final ActivityRollupService activityRollupService;
 
     /**
      * Get all activities with pagination and sorting.
@@ -82,6 +89,7 @@ public class ActivityController {
      * Get activities by user ID with pagination and sorting.
      *
      * @param userId    the user ID
+     * @param since     the earliest creation time (defaults to the configured query window)
      * @param page      page number (0-based)
      * @param size      page size
      * @param sort      sort property
@@ -91,12 +99,13 @@ public class ActivityController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<Page<ActivityDTO>>> getActivitiesByUserId(
             @PathVariable UUID userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "DESC") String direction) {
         Pageable pageable = createPageable(page, size, sort, direction);
-        Page<ActivityDTO> activities = activityService.findByUserId(userId, pageable);
+        Page<ActivityDTO> activities = activityService.findByUserId(userId, since, pageable);
         return ResponseUtil.success("Successfully retrieved activities for user", activities);
     }
 
@@ -104,6 +113,7 @@ public class ActivityController {
      * Get activities by garden plan ID with pagination and sorting.
      *
      * @param gardenPlanId the garden plan ID
+     * @param since        the earliest creation time (defaults to the configured query window)
      * @param page         page number (0-based)
      * @param size         page size
      * @param sort         sort property
@@ -113,12 +123,13 @@ public class ActivityController {
     @GetMapping("/garden-plan/{gardenPlanId}")
     public ResponseEntity<ApiResponse<Page<ActivityDTO>>> getActivitiesByGardenPlanId(
             @PathVariable UUID gardenPlanId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "DESC") String direction) {
         Pageable pageable = createPageable(page, size, sort, direction);
-        Page<ActivityDTO> activities = activityService.findByGardenPlanId(gardenPlanId, pageable);
+        Page<ActivityDTO> activities = activityService.findByGardenPlanId(gardenPlanId, since, pageable);
         return ResponseUtil.success("Successfully retrieved activities for garden plan", activities);
     }
 
@@ -127,6 +138,7 @@ public class ActivityController {
      *
      * @param userId       the user ID
      * @param activityType the activity type
+     * @param since        the earliest creation time (defaults to the configured query window)
      * @param page         page number (0-based)
      * @param size         page size
      * @param sort         sort property
@@ -137,15 +149,82 @@ public class ActivityController {
     public ResponseEntity<ApiResponse<Page<ActivityDTO>>> getActivitiesByUserIdAndType(
             @PathVariable UUID userId,
             @PathVariable String activityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "DESC") String direction) {
         Pageable pageable = createPageable(page, size, sort, direction);
-        Page<ActivityDTO> activities = activityService.findByUserIdAndActivityType(userId, activityType, pageable);
+        Page<ActivityDTO> activities =
+                activityService.findByUserIdAndActivityType(userId, activityType, since, pageable);
         return ResponseUtil.success("Successfully retrieved activities for user and type", activities);
     }
 
+    /**
+     * Get how many activities of each type a user recorded per day (UTC), for dashboards.
+     * Reads one precomputed count per day and type.
+     *
+     * @param userId       the user ID
+     * @param gardenPlanId only count activities on this garden plan (optional)
+     * @param activityType only count activities of this type (optional)
+     * @param from         the first day (defaults to the last 30 days)
+     * @param to           the last day, inclusive (defaults to today)
+     * @return the counts of every day and type with activities, oldest day first
+     */
+    @GetMapping("/user/{userId}/daily")
+    public ResponseEntity<ApiResponse<List<ActivityDailyCountDTO>>> getUserDailyCounts(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) UUID gardenPlanId,
+            @RequestParam(required = false) String activityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ActivityDailyCountDTO> counts =
+                    activityRollupService.getUserDailyCounts(userId, gardenPlanId, activityType, from, to);
+            return ResponseUtil.success("Successfully retrieved daily activity counts for user", counts);
+        } catch (IllegalArgumentException e) {
+            throw invalidRange(e);
+        }
+    }
+
+    /**
+     * Get how many activities of each type were recorded on a garden plan per day (UTC).
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param activityType only count activities of this type (optional)
+     * @param from         the first day (defaults to the last 30 days)
+     * @param to           the last day, inclusive (defaults to today)
+     * @return the counts of every day and type with activities, oldest day first
+     */
+    @GetMapping("/garden-plan/{gardenPlanId}/daily")
+    public ResponseEntity<ApiResponse<List<ActivityDailyCountDTO>>> getGardenPlanDailyCounts(
+            @PathVariable UUID gardenPlanId,
+            @RequestParam(required = false) String activityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ActivityDailyCountDTO> counts =
+                    activityRollupService.getGardenPlanDailyCounts(gardenPlanId, activityType, from, to);
+            return ResponseUtil.success("Successfully retrieved daily activity counts for garden plan", counts);
+        } catch (IllegalArgumentException e) {
+            throw invalidRange(e);
+        }
+    }
+
+    /**
+     * Get a user's current and longest streak of consecutive days (UTC) with activities.
+     *
+     * @param userId       the user ID
+     * @param activityType only consider activities of this type (optional)
+     * @return the streaks
+     */
+    @GetMapping("/user/{userId}/streak")
+    public ResponseEntity<ApiResponse<ActivityStreakDTO>> getUserStreak(
+            @PathVariable UUID userId, @RequestParam(required = false) String activityType) {
+        ActivityStreakDTO streak = activityRollupService.getStreak(userId, activityType);
+        return ResponseUtil.success("Successfully retrieved activity streak for user", streak);
+    }
+
     /**
      * Create a new activity.
      *
@@ -158,6 +237,25 @@ public class ActivityController {
         return ResponseUtil.success("Activity created successfully", createdActivity);
     }
 
+    /**
+     * Record a new activity without waiting for it to be stored. The activity is written in
+     * the background shortly after; use the regular create endpoint when the stored activity
+     * is needed in the response.
+     *
+     * @param activityDTO the activity DTO to record (validated)
+     * @return accepted response
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponse<Void>> recordActivity(@Valid @RequestBody ActivityDTO activityDTO) {
+        if (!activityService.record(activityDTO)) {
+            throw new CustomException(
+                    "Too many activities are waiting to be stored",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return ResponseUtil.accepted("Activity accepted for recording", null);
+    }
+
     /**
      * Update an existing activity.
      *
@@ -187,6 +285,11 @@ public class ActivityController {
         return ResponseUtil.success("Activity deleted successfully", null);
     }
 
+    private static CustomException invalidRange(IllegalArgumentException e) {
+        return new CustomException(
+                "Invalid date range: " + e.getMessage(), HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_TYPE);
+    }
+
     /**
      * Creates a pageable object from pagination parameters.
      * Throws CustomException if the direction is invalid.
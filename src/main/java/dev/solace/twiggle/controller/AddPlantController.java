@@ -2,6 +2,7 @@ package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.AddPlantDTO;
 import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.BatchAddPlantDTO;
 import dev.solace.twiggle.dto.PlantDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
@@ -9,6 +10,7 @@ import dev.solace.twiggle.service.AddPlantService;
 import dev.solace.twiggle.util.ResponseUtil;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -34,10 +36,27 @@ public class AddPlantController {
         try {
             PlantDTO createdPlant = addPlantService.addFromLibrary(addPlantDTO);
             return ResponseUtil.success("Plant added successfully", createdPlant);
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error adding plant: {}", e.getMessage(), e);
             throw new CustomException(
                     "Failed to add plant", HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR);
         }
     }
+
+    @PostMapping("/from-library/batch")
+    public ResponseEntity<ApiResponse<List<PlantDTO>>> addPlants(
+            @Valid @RequestBody BatchAddPlantDTO batchAddPlantDTO) {
+        try {
+            List<PlantDTO> createdPlants = addPlantService.addFromLibraryBatch(batchAddPlantDTO);
+            return ResponseUtil.success("Plants added successfully", createdPlants);
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error adding plants: {}", e.getMessage(), e);
+            throw new CustomException(
+                    "Failed to add plants", HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR);
+        }
+    }
 }
@@ -1,13 +1,21 @@
 package dev.solace.twiggle.controller;
 
+import dev.solace.twiggle.config.GardenImageStorageConfig;
 import dev.solace.twiggle.dto.ApiResponse;
 import dev.solace.twiggle.dto.GardenImageDTO;
+import dev.solace.twiggle.dto.ImageEngagementDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.service.GardenImageService;
+import dev.solace.twiggle.service.ImageStorageService;
+import dev.solace.twiggle.service.ImageStorageService.StoredFile;
 import dev.solace.twiggle.util.ResponseUtil;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -16,9 +24,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * REST controller for garden images.
@@ -30,7 +42,17 @@ import org.springframework.web.bind.annotation.*;
 @RateLimiter(name = "standard-api")
 public class GardenImageController {
 
+    private static final int MAX_ENGAGEMENT_IMAGES = 100;
+    private static final int MAX_TITLE_LENGTH = 255;
+    // Request attributes of Tomcat's sendfile support
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final GardenImageService gardenImageService;
+    private final ImageStorageService imageStorageService;
+    private final GardenImageStorageConfig gardenImageStorageConfig;
 
     /**
      * Get all garden images with pagination and sorting.
@@ -122,6 +144,27 @@ public class GardenImageController {
         return ResponseUtil.success("Successfully searched images by title", images);
     }
 
+    /**
+     * Get the like and comment counts of many garden images at once, such as a gallery,
+     * and whether the given user liked each of them.
+     *
+     * @param imageIds the garden image IDs, comma-separated (at most 100)
+     * @param userId the user viewing the images (optional)
+     * @return the engagement of every requested image, in request order
+     */
+    @GetMapping("/engagement")
+    public ResponseEntity<ApiResponse<List<ImageEngagementDTO>>> getImageEngagement(
+            @RequestParam List<UUID> imageIds, @RequestParam(required = false) UUID userId) {
+        if (imageIds.isEmpty() || imageIds.size() > MAX_ENGAGEMENT_IMAGES) {
+            throw new CustomException(
+                    "Between 1 and " + MAX_ENGAGEMENT_IMAGES + " image IDs are required",
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_REQUEST);
+        }
+        List<ImageEngagementDTO> engagement = gardenImageService.getEngagement(imageIds, userId);
+        return ResponseUtil.success("Successfully retrieved image engagement", engagement);
+    }
+
     /**
      * Create a new garden image.
      *
@@ -135,6 +178,71 @@ public class GardenImageController {
         return ResponseUtil.success("Garden image created successfully", createdImage);
     }
 
+    /**
+     * Upload a new garden image file. Thumbnail URLs are added to the image once its
+     * thumbnails are generated in the background.
+     *
+     * @param file the image file (JPEG, PNG, GIF or BMP)
+     * @param gardenPlanId the garden plan ID (optional)
+     * @param title the image title (optional)
+     * @return the created garden image DTO
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<GardenImageDTO>> uploadGardenImage(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) UUID gardenPlanId,
+            @RequestParam(required = false) String title) {
+        if (file.isEmpty()) {
+            throw new CustomException("Image file is required", HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        if (title != null && title.length() > MAX_TITLE_LENGTH) {
+            throw new CustomException(
+                    "Title must be less than " + MAX_TITLE_LENGTH + " characters",
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_REQUEST);
+        }
+        GardenImageDTO createdImage = gardenImageService.upload(file, gardenPlanId, title);
+        return ResponseUtil.success("Garden image uploaded successfully", createdImage);
+    }
+
+    /**
+     * Get the original file of an uploaded garden image.
+     *
+     * @param id the garden image ID
+     * @param request the HTTP request
+     * @param response the HTTP response the file is written to
+     * @throws IOException if the file cannot be sent
+     */
+    @GetMapping("/{id}/original")
+    public void getOriginalImage(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        StoredFile file = imageStorageService
+                .findOriginal(id)
+                .orElseThrow(() -> new CustomException(
+                        "Garden image file not found", HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND));
+        sendFile(file, request, response);
+    }
+
+    /**
+     * Get a thumbnail of an uploaded garden image.
+     *
+     * @param id the garden image ID
+     * @param width the thumbnail width, one of the widths listed in the image's thumbnail URLs
+     * @param request the HTTP request
+     * @param response the HTTP response the thumbnail is written to
+     * @throws IOException if the thumbnail cannot be sent
+     */
+    @GetMapping("/{id}/thumbnails/{width}")
+    public void getThumbnail(
+            @PathVariable UUID id, @PathVariable int width, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        StoredFile file = imageStorageService
+                .findThumbnail(id, width)
+                .orElseThrow(() ->
+                        new CustomException("Thumbnail not found", HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND));
+        sendFile(file, request, response);
+    }
+
     /**
      * Update an existing garden image.
      *
@@ -164,6 +272,30 @@ public class GardenImageController {
         return ResponseUtil.success("Garden image deleted successfully", null);
     }
 
+    /**
+     * Writes a stored image file with long-lived cache headers; stored files never change.
+     * Where the container supports it, the file is handed to sendfile and goes from the page
+     * cache to the socket without being copied through the JVM.
+     */
+    private void sendFile(StoredFile file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(file.mediaType());
+        response.setContentLengthLong(file.size());
+        response.setHeader(
+                HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(gardenImageStorageConfig.getCacheMaxAge())
+                        .cachePublic()
+                        .immutable()
+                        .getHeaderValue());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.size());
+        } else {
+            Files.copy(file.path(), response.getOutputStream());
+        }
+    }
+
     /**
      * Creates a pageable object from pagination parameters.
      */
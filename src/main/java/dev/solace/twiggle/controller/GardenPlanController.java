@@ -2,13 +2,18 @@ package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ApiResponse;
 import dev.solace.twiggle.dto.GardenPlanDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.GardenPlanOverviewService;
+import dev.solace.twiggle.service.GardenPlanPopularityService;
 import dev.solace.twiggle.service.GardenPlanService;
 import dev.solace.twiggle.util.ResponseUtil;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,7 +33,11 @@ import org.springframework.web.bind.annotation.*;
 @RateLimiter(name = "standard-api")
 public class GardenPlanController {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final GardenPlanService gardenPlanService;
+    private final GardenPlanOverviewService gardenPlanOverviewService;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
 
     /**
      * Get all garden plans with pagination and sorting.
@@ -77,6 +86,31 @@ public class GardenPlanController {
                         "Garden plan not found with id: " + id, HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND));
     }
 
+    /**
+     * Get a garden plan together with its plants, pending reminders and images, including
+     * like and comment counts per image, in one request.
+     *
+     * @param id the garden plan ID
+     * @param include comma-separated sections to include (plants, reminders, images, counts); all by default
+     * @return the garden plan overview if found
+     */
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ApiResponse<GardenPlanOverviewDTO>> getGardenPlanOverview(
+            @PathVariable UUID id, @RequestParam(required = false) String include) {
+        Set<GardenPlanOverviewDTO.Section> sections;
+        try {
+            sections = GardenPlanOverviewService.parseSections(include);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(
+                    "Invalid include value: " + include, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_TYPE);
+        }
+        return gardenPlanOverviewService
+                .getOverview(id, sections)
+                .map(overview -> ResponseUtil.success("Successfully retrieved garden plan overview", overview))
+                .orElseThrow(() -> new CustomException(
+                        "Garden plan not found with id: " + id, HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
     /**
      * Get garden plans by user ID with pagination and sorting.
      *
@@ -134,6 +168,31 @@ public class GardenPlanController {
         return ResponseUtil.success("Successfully retrieved public garden plans", plans);
     }
 
+    /**
+     * Get public garden plans ranked by recent likes, comments and activity. Pages are read
+     * with a cursor, so later pages cost no more than the first.
+     *
+     * @param cursor the nextCursor of the previous page (optional; omit for the first page)
+     * @param size page size (1-100)
+     * @return one page of trending public garden plans
+     */
+    @GetMapping("/public/trending")
+    public ResponseEntity<ApiResponse<GardenPlanFeedDTO>> getTrendingGardenPlans(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new CustomException(
+                    "Size must be between 1 and " + MAX_FEED_SIZE, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        GardenPlanFeedDTO feed;
+        try {
+            feed = gardenPlanPopularityService.getFeed(cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(
+                    "Invalid cursor value: " + cursor, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_TYPE);
+        }
+        return ResponseUtil.success("Successfully retrieved trending garden plans", feed);
+    }
+
     /**
      * Get public garden plans without pagination (for backward compatibility).
      *
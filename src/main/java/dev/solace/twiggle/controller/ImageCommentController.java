@@ -2,6 +2,7 @@ package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ApiResponse;
 import dev.solace.twiggle.dto.ImageCommentDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.service.ImageCommentService;
@@ -29,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 @RateLimiter(name = "standard-api")
 public class ImageCommentController {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ImageCommentService imageCommentService;
 
     /**
@@ -88,6 +91,34 @@ public class ImageCommentController {
         return ResponseUtil.success("Successfully retrieved comments for image", comments);
     }
 
+    /**
+     * Get an image's comments, newest first, with each author's name and avatar embedded.
+     * Pages are read with a cursor, so later pages cost no more than the first.
+     *
+     * @param imageId the image ID
+     * @param cursor the nextCursor of the previous page (optional; omit for the first page)
+     * @param size page size (1-100)
+     * @return one page of comments with their authors
+     */
+    @GetMapping("/image/{imageId}/feed")
+    public ResponseEntity<ApiResponse<ImageCommentFeedDTO>> getCommentFeed(
+            @PathVariable UUID imageId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new CustomException(
+                    "Size must be between 1 and " + MAX_FEED_SIZE, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        ImageCommentFeedDTO feed;
+        try {
+            feed = imageCommentService.getFeed(imageId, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(
+                    "Invalid cursor value: " + cursor, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_TYPE);
+        }
+        return ResponseUtil.success("Successfully retrieved comment feed for image", feed);
+    }
+
     /**
      * Get image comments by user ID with pagination and sorting.
      *
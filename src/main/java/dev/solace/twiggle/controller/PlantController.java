@@ -1,7 +1,9 @@
 package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.LayoutPatchDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantPositionDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.service.PlantService;
@@ -316,6 +318,68 @@ public class PlantController {
         }
     }
 
+    /**
+     * Move many plants of a garden plan in one change, e.g. after a drag-and-drop edit.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param layoutPatch the moves to apply (validated)
+     * @return the applied positions
+     */
+    @PatchMapping("/garden-plan/{gardenPlanId}/layout")
+    public ResponseEntity<ApiResponse<List<PlantPositionDTO>>> patchLayout(
+            @PathVariable UUID gardenPlanId, @Valid @RequestBody LayoutPatchDTO layoutPatch) {
+        return handleServiceCall(
+                () -> plantService.applyLayoutPatch(gardenPlanId, layoutPatch),
+                "Garden layout updated successfully",
+                "Failed to update garden layout",
+                ErrorCode.INTERNAL_ERROR);
+    }
+
+    /**
+     * Get the plants inside a rectangle of a garden plan layout.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param minX the left column (inclusive)
+     * @param minY the top row (inclusive)
+     * @param maxX the right column (inclusive)
+     * @param maxY the bottom row (inclusive)
+     * @return the plant positions in the region
+     */
+    @GetMapping("/garden-plan/{gardenPlanId}/layout/region")
+    public ResponseEntity<ApiResponse<List<PlantPositionDTO>>> getPlantsInRegion(
+            @PathVariable UUID gardenPlanId,
+            @RequestParam int minX,
+            @RequestParam int minY,
+            @RequestParam int maxX,
+            @RequestParam int maxY) {
+        return handleServiceCall(
+                () -> plantService.findPlantsInRegion(gardenPlanId, minX, minY, maxX, maxY),
+                "Plants retrieved successfully",
+                "Failed to retrieve plants in region",
+                ErrorCode.INTERNAL_ERROR);
+    }
+
+    /**
+     * Get the free position of a garden plan closest to a given position.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param x the column
+     * @param y the row
+     * @return the nearest free position
+     */
+    @GetMapping("/garden-plan/{gardenPlanId}/layout/nearest-free")
+    public ResponseEntity<ApiResponse<PlantPositionDTO>> getNearestFreePosition(
+            @PathVariable UUID gardenPlanId, @RequestParam int x, @RequestParam int y) {
+        return handleServiceCall(
+                () -> plantService
+                        .findNearestFreePosition(gardenPlanId, x, y)
+                        .orElseThrow(() -> new CustomException(
+                                "Garden plan has no free positions", HttpStatus.CONFLICT, ErrorCode.GARDEN_PLAN_FULL)),
+                "Free position found successfully",
+                "Failed to find a free position",
+                ErrorCode.INTERNAL_ERROR);
+    }
+
     /**
      * Delete a plant.
      *
@@ -1,6 +1,7 @@
 package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.PlantHealthDTO;
 import dev.solace.twiggle.dto.PlantsLibraryDTO;
 import dev.solace.twiggle.dto.PlantsLibrarySearchCriteria;
 import dev.solace.twiggle.exception.CustomException;
@@ -31,6 +32,8 @@ import org.springframework.web.bind.annotation.*;
 @RateLimiter(name = "standard-api")
 public class PlantsLibraryController {
 
+    private static final int MAX_BATCH_SIZE = 200;
+
     private final PlantsLibraryService plantsLibraryService;
 
     /**
@@ -360,4 +363,30 @@ public class PlantsLibraryController {
                     "Failed to retrieve medicinal plants", HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_ERROR);
         }
     }
+
+    /**
+     * Get pests and diseases for many plants in one request.
+     *
+     * @param ids the plant IDs (at most 200)
+     * @return pests and diseases for each known plant
+     */
+    @PostMapping("/pests-diseases/batch")
+    public ResponseEntity<ApiResponse<List<PlantHealthDTO>>> getPestsAndDiseasesBatch(@RequestBody List<UUID> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(
+                    "Between 1 and " + MAX_BATCH_SIZE + " plant IDs are required",
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_REQUEST);
+        }
+        try {
+            List<PlantHealthDTO> health = plantsLibraryService.findPestsAndDiseases(ids);
+            return ResponseUtil.success("Successfully retrieved pests and diseases", health);
+        } catch (Exception e) {
+            log.error("Error retrieving pests and diseases for {} plants: {}", ids.size(), e.getMessage(), e);
+            throw new CustomException(
+                    "Failed to retrieve pests and diseases",
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    ErrorCode.INTERNAL_ERROR);
+        }
+    }
 }
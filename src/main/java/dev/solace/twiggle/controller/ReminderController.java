@@ -1,9 +1,11 @@
 package dev.solace.twiggle.controller;
 
 import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.EmailOutboxDTO;
 import dev.solace.twiggle.dto.ReminderEmailRequest;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.EmailOutboxService;
 import dev.solace.twiggle.service.ReminderService;
 import dev.solace.twiggle.util.ResponseUtil;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
@@ -12,6 +14,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -26,32 +29,20 @@ import org.springframework.web.bind.annotation.*;
 public class ReminderController {
 
     private final ReminderService reminderService;
+    private final EmailOutboxService emailOutboxService;
     private static final String SUCCESS = "success";
 
+    /**
+     * Queue a reminder email. The email is sent by the outbox workers, retried if sending fails,
+     * and its delivery can be followed with the returned tracking ID.
+     */
     @PostMapping("/send")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> sendReminder(
-            @Valid @RequestBody ReminderEmailRequest request) {
+    public ResponseEntity<ApiResponse<EmailOutboxDTO>> sendReminder(@Valid @RequestBody ReminderEmailRequest request) {
         log.info("Received request to send reminder for plant: {}", request.getPlantName());
         try {
-            Map<String, Object> result = reminderService.sendReminderEmailWithId(request);
-            boolean success = (boolean) result.get(SUCCESS);
-
-            if (success) {
-                log.info("Successfully processed reminder request for {}", request.getUserEmail());
-                Map<String, Object> response = new HashMap<>();
-                response.put(SUCCESS, true);
-                response.put("message", "Reminder email sent successfully");
-                if (result.containsKey("id")) {
-                    response.put("id", result.get("id"));
-                }
-                return ResponseUtil.success("Reminder email sent successfully", response);
-            } else {
-                log.warn("Failed to send reminder email for {}", request.getUserEmail());
-                throw new CustomException(
-                        "Failed to send reminder email",
-                        HttpStatus.INTERNAL_SERVER_ERROR,
-                        ErrorCode.EMAIL_SENDING_FAILED);
-            }
+            EmailOutboxDTO queued = emailOutboxService.enqueueReminder(request);
+            log.info("Queued reminder email {} for {}", queued.getId(), request.getUserEmail());
+            return ResponseUtil.accepted("Reminder email queued", queued);
         } catch (CustomException e) {
             throw e;
         } catch (Exception e) {
@@ -61,6 +52,21 @@ public class ReminderController {
         }
     }
 
+    /**
+     * Get the delivery state of a queued email.
+     */
+    @GetMapping("/emails/{id}")
+    public ResponseEntity<ApiResponse<EmailOutboxDTO>> getEmailStatus(@PathVariable UUID id) {
+        return emailOutboxService
+                .findById(id)
+                .map(email -> ResponseUtil.success("Successfully retrieved email status", email))
+                .orElseThrow(() ->
+                        new CustomException("Email not found", HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    /**
+     * Send a test email right away, to check the email configuration.
+     */
     @GetMapping("/test/{email}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> testEmail(@PathVariable String email) {
         log.info("Sending test email to: {}", email);
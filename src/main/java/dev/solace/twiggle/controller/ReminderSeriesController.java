@@ -0,0 +1,180 @@
+package dev.solace.twiggle.controller;
+
+import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.ReminderOccurrenceDTO;
+import dev.solace.twiggle.dto.ReminderSeriesDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.model.ReminderSeriesException;
+import dev.solace.twiggle.service.ReminderSeriesService;
+import dev.solace.twiggle.util.ResponseUtil;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for recurring plant reminders and their occurrences.
+ */
+@RestController
+@RequestMapping("/api/reminder-series")
+@RequiredArgsConstructor
+@Slf4j
+@RateLimiter(name = "standard-api")
+public class ReminderSeriesController {
+
+    private static final String REMINDER_SERIES_NOT_FOUND = "Reminder series not found";
+    private final ReminderSeriesService reminderSeriesService;
+
+    /**
+     * Get a reminder series by ID.
+     *
+     * @param id the series ID
+     * @return the series DTO if found
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReminderSeriesDTO>> getReminderSeriesById(@PathVariable UUID id) {
+        return reminderSeriesService
+                .findById(id)
+                .map(series -> ResponseUtil.success("Successfully retrieved reminder series", series))
+                .orElseThrow(this::notFound);
+    }
+
+    /**
+     * Get reminder series by garden plan ID with pagination.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param page         page number (0-based)
+     * @param size         page size
+     * @return page of series DTOs
+     */
+    @GetMapping("/garden-plan/{gardenPlanId}")
+    public ResponseEntity<ApiResponse<Page<ReminderSeriesDTO>>> getReminderSeriesByGardenPlanId(
+            @PathVariable UUID gardenPlanId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "createdAt"));
+        Page<ReminderSeriesDTO> series = reminderSeriesService.findByGardenPlanId(gardenPlanId, pageable);
+        return ResponseUtil.success("Successfully retrieved reminder series for garden plan", series);
+    }
+
+    /**
+     * Get the occurrences of a reminder series in a date range.
+     *
+     * @param id   the series ID
+     * @param from the first date, inclusive
+     * @param to   the last date, inclusive
+     * @return the occurrences in order
+     */
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<ApiResponse<List<ReminderOccurrenceDTO>>> getOccurrences(
+            @PathVariable UUID id, @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        return reminderSeriesService
+                .findOccurrences(id, from, to)
+                .map(occurrences -> ResponseUtil.success("Successfully retrieved occurrences", occurrences))
+                .orElseThrow(this::notFound);
+    }
+
+    /**
+     * Get the occurrences of every reminder series of a garden plan in a date range.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param from         the first date, inclusive
+     * @param to           the last date, inclusive
+     * @return the occurrences ordered by date
+     */
+    @GetMapping("/garden-plan/{gardenPlanId}/occurrences")
+    public ResponseEntity<ApiResponse<List<ReminderOccurrenceDTO>>> getOccurrencesByGardenPlanId(
+            @PathVariable UUID gardenPlanId, @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        List<ReminderOccurrenceDTO> occurrences =
+                reminderSeriesService.findOccurrencesByGardenPlanId(gardenPlanId, from, to);
+        return ResponseUtil.success("Successfully retrieved occurrences for garden plan", occurrences);
+    }
+
+    /**
+     * Create a new reminder series.
+     *
+     * @param seriesDTO the series DTO to create (validated)
+     * @return the created series DTO
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReminderSeriesDTO>> createReminderSeries(
+            @Valid @RequestBody ReminderSeriesDTO seriesDTO) {
+        ReminderSeriesDTO created = reminderSeriesService.create(seriesDTO);
+        return ResponseUtil.created("Reminder series created successfully", created);
+    }
+
+    /**
+     * Update an existing reminder series.
+     *
+     * @param id        the series ID
+     * @param seriesDTO the updated series DTO (validated)
+     * @return the updated series DTO
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReminderSeriesDTO>> updateReminderSeries(
+            @PathVariable UUID id, @Valid @RequestBody ReminderSeriesDTO seriesDTO) {
+        return reminderSeriesService
+                .update(id, seriesDTO)
+                .map(updated -> ResponseUtil.success("Reminder series updated successfully", updated))
+                .orElseThrow(this::notFound);
+    }
+
+    /**
+     * Mark an occurrence of a reminder series as completed.
+     *
+     * @param id   the series ID
+     * @param date the occurrence date
+     * @return the updated occurrence
+     */
+    @PutMapping("/{id}/occurrences/{date}/complete")
+    public ResponseEntity<ApiResponse<ReminderOccurrenceDTO>> completeOccurrence(
+            @PathVariable UUID id, @PathVariable LocalDate date) {
+        return reminderSeriesService
+                .markOccurrence(id, date, ReminderSeriesException.Kind.COMPLETED)
+                .map(occurrence -> ResponseUtil.success("Occurrence marked as completed", occurrence))
+                .orElseThrow(this::notFound);
+    }
+
+    /**
+     * Skip an occurrence of a reminder series.
+     *
+     * @param id   the series ID
+     * @param date the occurrence date
+     * @return the updated occurrence
+     */
+    @PutMapping("/{id}/occurrences/{date}/skip")
+    public ResponseEntity<ApiResponse<ReminderOccurrenceDTO>> skipOccurrence(
+            @PathVariable UUID id, @PathVariable LocalDate date) {
+        return reminderSeriesService
+                .markOccurrence(id, date, ReminderSeriesException.Kind.SKIPPED)
+                .map(occurrence -> ResponseUtil.success("Occurrence skipped", occurrence))
+                .orElseThrow(this::notFound);
+    }
+
+    /**
+     * Delete a reminder series.
+     *
+     * @param id the series ID
+     * @return success response
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteReminderSeries(@PathVariable UUID id) {
+        reminderSeriesService.delete(id);
+        return ResponseUtil.success("Reminder series deleted successfully", null);
+    }
+
+    private CustomException notFound() {
+        return new CustomException(REMINDER_SERIES_NOT_FOUND, HttpStatus.NOT_FOUND, ErrorCode.RESOURCE_NOT_FOUND);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.solace.twiggle.controller;
+
+import dev.solace.twiggle.dto.ApiResponse;
+import dev.solace.twiggle.dto.SearchResultDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.UnifiedSearchService;
+import dev.solace.twiggle.util.ResponseUtil;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for searching garden plans, plants, garden images and profiles at once.
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@RateLimiter(name = "standard-api")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final UnifiedSearchService unifiedSearchService;
+
+    /**
+     * Search every entity type with one query. Private garden plans, and the plants and
+     * images in them, are only returned to their owner.
+     *
+     * @param query the search text
+     * @param viewerId the user searching (optional; anonymous searches only see public plans)
+     * @param types comma-separated entity types (garden_plan, plant, garden_image, profile); all by default
+     * @param limit maximum number of results (1-100)
+     * @return the matches of all types, best first
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResultDTO>>> search(
+            @RequestParam String query,
+            @RequestParam(required = false) UUID viewerId,
+            @RequestParam(required = false) String types,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (query.isBlank()) {
+            throw new CustomException(
+                    "Search query must not be blank", HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new CustomException(
+                    "Limit must be between 1 and " + MAX_LIMIT, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        Set<SearchResultDTO.Type> selectedTypes;
+        try {
+            selectedTypes = UnifiedSearchService.parseTypes(types);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(
+                    "Invalid types value: " + types, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_TYPE);
+        }
+        List<SearchResultDTO> results = unifiedSearchService.search(query, viewerId, selectedTypes, limit);
+        return ResponseUtil.success("Successfully searched", results);
+    }
+}
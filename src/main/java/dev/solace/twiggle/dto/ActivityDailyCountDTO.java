@@ -0,0 +1,23 @@
+package dev.solace.twiggle.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of activities of one type recorded on one day (UTC).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDailyCountDTO {
+
+    private LocalDate day;
+
+    private String activityType;
+
+    private Long count;
+}
@@ -0,0 +1,25 @@
+package dev.solace.twiggle.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Runs of consecutive days (UTC) on which a user recorded activities.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStreakDTO {
+
+    private String activityType;
+
+    private Integer currentStreak;
+
+    private Integer longestStreak;
+
+    private LocalDate lastActiveDay;
+}
@@ -0,0 +1,24 @@
+package dev.solace.twiggle.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAddPlantDTO {
+
+    @NotNull(message = "Garden plan ID is required") private UUID gardenPlanId;
+
+    @NotEmpty(message = "At least one plants library ID is required")
+    @Size(max = 100, message = "At most 100 plants can be added at once")
+    private List<@NotNull(message = "Plants library ID is required") UUID> plantsLibraryIds;
+}
@@ -0,0 +1,24 @@
+package dev.solace.twiggle.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The profile fields shown next to a comment. Name and avatar are null for authors
+ * without a profile.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentAuthorDTO {
+
+    private UUID id;
+
+    private String fullName;
+
+    private String avatarUrl;
+}
@@ -0,0 +1,32 @@
+package dev.solace.twiggle.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Delivery state of a queued email, looked up by its tracking ID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutboxDTO {
+
+    private UUID id;
+
+    private String status;
+
+    private Integer attempts;
+
+    private OffsetDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime sentAt;
+}
@@ -1,8 +1,11 @@
 package dev.solace.twiggle.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +28,9 @@ public class GardenImageDTO {
     private String title;
 
     private OffsetDateTime createdAt;
+
+    // Thumbnail URLs by width in pixels, only for uploaded images once their thumbnails are ready
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Map<Integer, String> thumbnailUrls;
 }
@@ -0,0 +1,30 @@
+package dev.solace.twiggle.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Garden image with its engagement counts, as shown in a garden plan overview.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GardenImageOverviewDTO {
+
+    private UUID id;
+
+    private String imageUrl;
+
+    private String title;
+
+    private OffsetDateTime createdAt;
+
+    private Long likeCount;
+
+    private Long commentCount;
+}
@@ -0,0 +1,21 @@
+package dev.solace.twiggle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A garden plan in the public feed, with its popularity: the weighted sum of its recent
+ * likes, comments and activities, each counting half as much per half-life of age.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GardenPlanFeedItemDTO {
+
+    private GardenPlanDTO gardenPlan;
+
+    private double popularity;
+}
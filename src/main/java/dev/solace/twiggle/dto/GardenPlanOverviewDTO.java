@@ -0,0 +1,53 @@
+package dev.solace.twiggle.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Everything needed to open a garden plan in one response. Sections that were not
+ * requested are left out of the JSON.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GardenPlanOverviewDTO {
+
+    private UUID id;
+
+    private GardenPlanDTO gardenPlan;
+
+    private List<PlantDTO> plants;
+
+    private List<PlantReminderDTO> pendingReminders;
+
+    private List<GardenImageOverviewDTO> images;
+
+    /**
+     * Optional sections of the overview that can be selected with the {@code include} parameter.
+     */
+    public enum Section {
+        PLANTS,
+        REMINDERS,
+        IMAGES,
+        COUNTS;
+
+        /**
+         * Parse a section name case-insensitively.
+         *
+         * @param name the section name
+         * @return the section
+         * @throws IllegalArgumentException if the name is not a section
+         */
+        public static Section from(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.solace.twiggle.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of an image's comments, newest first. Pass {@code nextCursor} back to read the
+ * next page; it is left out on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImageCommentFeedDTO {
+
+    private List<ImageCommentFeedItemDTO> items;
+
+    private String nextCursor;
+}
@@ -0,0 +1,28 @@
+package dev.solace.twiggle.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A comment in an image's comment feed, with its author.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageCommentFeedItemDTO {
+
+    private UUID id;
+
+    private UUID imageId;
+
+    private String comment;
+
+    private OffsetDateTime createdAt;
+
+    private CommentAuthorDTO author;
+}
@@ -0,0 +1,25 @@
+package dev.solace.twiggle.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Like and comment counts of a garden image, and whether the requesting user liked it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageEngagementDTO {
+
+    private UUID imageId;
+
+    private Long likeCount;
+
+    private Long commentCount;
+
+    private Boolean likedByUser;
+}
@@ -0,0 +1,24 @@
+package dev.solace.twiggle.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A set of plant moves applied to a garden plan layout as one change.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LayoutPatchDTO {
+
+    @NotEmpty(message = "At least one move is required")
+    @Size(max = 500, message = "At most 500 plants can be moved at once")
+    private List<@Valid PlantPositionDTO> moves;
+}
@@ -0,0 +1,21 @@
+package dev.solace.twiggle.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO bundling the pests and diseases known to affect a plants library entry.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantHealthDTO {
+    private UUID plantLibraryId;
+    private List<PestDTO> pests;
+    private List<PlantDiseaseDTO> diseases;
+}
@@ -0,0 +1,25 @@
+package dev.solace.twiggle.dto;
+
+import dev.solace.twiggle.repository.PlantPositionView;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Grid position of a plant in a garden plan layout.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantPositionDTO implements PlantPositionView {
+
+    @NotNull(message = "Plant ID is required") private UUID id;
+
+    @NotNull(message = "Position X is required") private Integer positionX;
+
+    @NotNull(message = "Position Y is required") private Integer positionY;
+}
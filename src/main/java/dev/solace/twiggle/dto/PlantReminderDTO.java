@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -27,6 +28,8 @@ public class PlantReminderDTO {
 
     @NotNull(message = "Reminder date is required") private LocalDate reminderDate;
 
+    private LocalTime reminderTime;
+
     @Size(max = 2000, message = "Notes must be less than 2000 characters")
     private String notes;
 
@@ -52,4 +52,8 @@ public class ReminderEmailRequest {
 
     @NotNull(message = "Garden space ID is required") @Size(min = 36, max = 36, message = "Garden space ID must be a UUID string (36 characters)")
     private String gardenSpaceId;
+
+    @Size(max = 35, message = "Locale must be less than 35 characters")
+    @Pattern(regexp = "^[A-Za-z]{2,8}(-[A-Za-z0-9]{1,8})*$", message = "Locale must be a language tag such as en-US")
+    private String locale;
 }
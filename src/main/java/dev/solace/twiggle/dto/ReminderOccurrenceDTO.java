@@ -0,0 +1,33 @@
+package dev.solace.twiggle.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One occurrence of a reminder series, expanded from its recurrence rule.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderOccurrenceDTO {
+
+    private UUID seriesId;
+
+    private UUID plantId;
+
+    private UUID gardenPlanId;
+
+    private String reminderType;
+
+    private String notes;
+
+    private LocalDate reminderDate;
+
+    // PENDING, COMPLETED or SKIPPED
+    private String status;
+}
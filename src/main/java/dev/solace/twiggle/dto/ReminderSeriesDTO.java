@@ -0,0 +1,65 @@
+package dev.solace.twiggle.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for recurring plant reminders. A series needs an interval, weekdays or
+ * both, and may be limited to a seasonal window of months.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderSeriesDTO {
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private UUID id;
+
+    @NotNull(message = "Plant ID is required") private UUID plantId;
+
+    @NotNull(message = "Garden plan ID is required") private UUID gardenPlanId;
+
+    @NotBlank(message = "Reminder type is required")
+    @Size(max = 255, message = "Reminder type must be less than 255 characters")
+    private String reminderType;
+
+    @Size(max = 2000, message = "Notes must be less than 2000 characters")
+    private String notes;
+
+    @NotNull(message = "Start date is required") private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Min(value = 1, message = "Interval must be at least 1 day")
+    @Max(value = 366, message = "Interval must be at most 366 days")
+    private Integer intervalDays;
+
+    private Set<DayOfWeek> weekdays;
+
+    @Min(value = 1, message = "Season start month must be between 1 and 12")
+    @Max(value = 12, message = "Season start month must be between 1 and 12")
+    private Integer seasonStartMonth;
+
+    @Min(value = 1, message = "Season end month must be between 1 and 12")
+    @Max(value = 12, message = "Season end month must be between 1 and 12")
+    private Integer seasonEndMonth;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDate nextDueDate;
+
+    private OffsetDateTime createdAt;
+}
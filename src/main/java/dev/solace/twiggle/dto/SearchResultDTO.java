@@ -0,0 +1,55 @@
+package dev.solace.twiggle.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One hit of the unified search, tagged with the kind of entity it points to.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResultDTO {
+
+    private Type type;
+
+    private UUID id;
+
+    private String title;
+
+    private String snippet;
+
+    private String imageUrl;
+
+    private UUID gardenPlanId;
+
+    private double score;
+
+    /**
+     * Kinds of entities covered by the unified search.
+     */
+    public enum Type {
+        GARDEN_PLAN,
+        PLANT,
+        GARDEN_IMAGE,
+        PROFILE;
+
+        /**
+         * Parse a type name case-insensitively; dashes are accepted in place of underscores.
+         *
+         * @param name the type name
+         * @return the type
+         * @throws IllegalArgumentException if the name is not a type
+         */
+        public static Type from(String name) {
+            return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -16,6 +16,7 @@ public enum ErrorCode {
     MALFORMED_JSON("Please verify the JSON syntax and data types in your request."),
     INVALID_ARGUMENT("Please check the argument values against the API specifications."),
     UNSUPPORTED_MEDIA_TYPE("Please use one of the supported media types for this endpoint."),
+    PAYLOAD_TOO_LARGE("Please reduce the size of the uploaded file and try again."),
     // Authentication & Authorization Errors
     ACCESS_DENIED("Please ensure you have the necessary permissions or authenticate properly."),
     // Resource & Method Errors
@@ -23,11 +24,14 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED("Please use one of the supported HTTP methods for this endpoint."),
     // System Errors
     INTERNAL_ERROR("Please try again later or contact support if the issue persists."),
+    SERVICE_UNAVAILABLE("The service is temporarily overloaded. Please retry your request shortly."),
     RATE_LIMIT_EXCEEDED(
             "Please wait and try your request again later. Contact support if you need a higher rate limit."),
     EMAIL_SENDING_FAILED("Please check the email service configuration and try again."),
     EXTERNAL_API_ERROR("External API request failed. Please try again later or contact support."),
     DUPLICATE("Please ensure the resource you're trying to create does not already exist."),
+    GARDEN_PLAN_FULL("Please remove or move some plants to free up space in the garden plan."),
+    POSITION_OCCUPIED("Please choose a free position or move the plant occupying it first."),
     VALIDATION_ERROR("Please review the validation errors and correct your request."),
     CONFIGURATION_ERROR("Please check the application configuration for any issues.");
 
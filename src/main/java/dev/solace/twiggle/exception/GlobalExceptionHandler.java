@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
@@ -145,6 +146,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 ex, message, HttpStatus.UNSUPPORTED_MEDIA_TYPE, ErrorCode.UNSUPPORTED_MEDIA_TYPE, request);
     }
 
+    @Override
+    protected ResponseEntity<Object> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        String message = ex.getMaxUploadSize() > 0
+                ? String.format("The uploaded file exceeds the maximum size of %d bytes", ex.getMaxUploadSize())
+                : "The uploaded file exceeds the maximum size";
+        return buildErrorResponse(ex, message, HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.PAYLOAD_TOO_LARGE, request);
+    }
+
     /**
      * Handles generic Exception instances as a fallback.
      * Logs the error and returns a generic internal server error response.
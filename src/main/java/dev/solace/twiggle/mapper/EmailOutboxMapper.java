@@ -0,0 +1,18 @@
+package dev.solace.twiggle.mapper;
+
+import dev.solace.twiggle.dto.EmailOutboxDTO;
+import dev.solace.twiggle.model.EmailOutbox;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface EmailOutboxMapper {
+
+    /**
+     * Converts an EmailOutbox entity to an EmailOutboxDTO, leaving out the email itself.
+     *
+     * @param emailOutbox the entity to convert
+     * @return the corresponding DTO
+     */
+    EmailOutboxDTO toDto(EmailOutbox emailOutbox);
+}
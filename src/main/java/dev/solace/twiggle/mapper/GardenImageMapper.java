@@ -2,6 +2,10 @@ package dev.solace.twiggle.mapper;
 
 import dev.solace.twiggle.dto.GardenImageDTO;
 import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.service.ImageStorageService;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -16,6 +20,7 @@ public interface GardenImageMapper {
      * @param gardenImage the entity to convert
      * @return the corresponding DTO
      */
+    @Mapping(target = "thumbnailUrls", expression = "java(thumbnailUrls(gardenImage))")
     GardenImageDTO toDto(GardenImage gardenImage);
 
     /**
@@ -26,5 +31,25 @@ public interface GardenImageMapper {
      * @return the corresponding entity
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "thumbnailWidths", ignore = true)
     GardenImage toEntity(GardenImageDTO gardenImageDTO);
+
+    /**
+     * Builds the thumbnail URLs of an image from its generated thumbnail widths.
+     *
+     * @param gardenImage the entity
+     * @return the thumbnail URLs by width, empty if the image has no thumbnails
+     */
+    default Map<Integer, String> thumbnailUrls(GardenImage gardenImage) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        if (gardenImage.getThumbnailWidths() == null
+                || gardenImage.getThumbnailWidths().isBlank()) {
+            return urls;
+        }
+        Arrays.stream(gardenImage.getThumbnailWidths().split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .forEach(width -> urls.put(width, ImageStorageService.thumbnailUrl(gardenImage.getId(), width)));
+        return urls;
+    }
 }
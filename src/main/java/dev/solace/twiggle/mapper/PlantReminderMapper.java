@@ -20,11 +20,16 @@ public interface PlantReminderMapper {
 
     /**
      * Converts a PlantReminderDTO to a PlantReminder entity.
-     * ID will be auto-generated and not set from the DTO.
+     * ID will be auto-generated and not set from the DTO, and the email delivery state is
+     * managed by the reminder dispatcher and the email outbox.
      *
      * @param plantReminderDTO the DTO to convert
      * @return the corresponding entity
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "emailClaimedAt", ignore = true)
+    @Mapping(target = "emailClaimId", ignore = true)
+    @Mapping(target = "emailSentAt", ignore = true)
+    @Mapping(target = "emailId", ignore = true)
     PlantReminder toEntity(PlantReminderDTO plantReminderDTO);
 }
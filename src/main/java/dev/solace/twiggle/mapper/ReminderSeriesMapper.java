@@ -0,0 +1,54 @@
+package dev.solace.twiggle.mapper;
+
+import dev.solace.twiggle.dto.ReminderSeriesDTO;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.service.util.ReminderRecurrence;
+import java.time.DayOfWeek;
+import java.util.Set;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ReminderSeriesMapper {
+
+    /**
+     * Converts a ReminderSeries entity to a ReminderSeriesDTO.
+     *
+     * @param reminderSeries the entity to convert
+     * @return the corresponding DTO
+     */
+    ReminderSeriesDTO toDto(ReminderSeries reminderSeries);
+
+    /**
+     * Converts a ReminderSeriesDTO to a ReminderSeries entity.
+     * ID will be auto-generated, and the next occurrence is computed by the service.
+     *
+     * @param reminderSeriesDTO the DTO to convert
+     * @return the corresponding entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "nextDueDate", ignore = true)
+    ReminderSeries toEntity(ReminderSeriesDTO reminderSeriesDTO);
+
+    /**
+     * Converts days of the week to the stored bit mask.
+     *
+     * @param weekdays the days, or null
+     * @return the bit mask, or null for no days
+     */
+    default Integer toWeekdays(Set<DayOfWeek> weekdays) {
+        int mask = ReminderRecurrence.toWeekdays(weekdays);
+        return mask == 0 ? null : mask;
+    }
+
+    /**
+     * Converts the stored bit mask to days of the week.
+     *
+     * @param weekdays the bit mask, or null
+     * @return the days
+     */
+    default Set<DayOfWeek> fromWeekdays(Integer weekdays) {
+        return ReminderRecurrence.fromWeekdays(weekdays);
+    }
+}
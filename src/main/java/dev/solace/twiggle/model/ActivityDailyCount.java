@@ -0,0 +1,63 @@
+package dev.solace.twiggle.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/**
+ * ActivityDailyCount entity that maps to the 'activity_daily_counts' table, which holds the
+ * number of activities of each type a user recorded on a garden plan per day (UTC).
+ */
+@Entity
+@Table(name = "activity_daily_counts")
+@IdClass(ActivityDailyCount.Key.class)
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityDailyCount {
+
+    /**
+     * Stands in for the garden plan of activities recorded outside any plan, since the
+     * garden plan is part of the primary key.
+     */
+    public static final UUID NO_GARDEN_PLAN = new UUID(0, 0);
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "uuid")
+    private UUID userId;
+
+    @Id
+    @Column(name = "garden_plan_id", columnDefinition = "uuid")
+    private UUID gardenPlanId;
+
+    @Id
+    @Column(name = "activity_type")
+    private String activityType;
+
+    @Id
+    @Column(name = "activity_day")
+    private LocalDate day;
+
+    @Column(name = "activity_count", nullable = false)
+    private Long activityCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    /**
+     * Primary key of a daily count.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private UUID gardenPlanId;
+        private String activityType;
+        private LocalDate day;
+    }
+}
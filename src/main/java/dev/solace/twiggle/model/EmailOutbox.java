@@ -0,0 +1,74 @@
+package dev.solace.twiggle.model;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/**
+ * EmailOutbox entity that maps to the 'email_outbox' table: emails queued in the transaction
+ * that requested them and sent later by the outbox workers.
+ */
+@Entity
+@Table(name = "email_outbox")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox {
+
+    /**
+     * Delivery state of a queued email.
+     */
+    public enum Status {
+        PENDING, // Waiting for its next attempt
+        SENT, // Accepted by the email provider
+        DEAD // Gave up after the maximum number of attempts
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "html_body", nullable = false, columnDefinition = "text")
+    private String htmlBody;
+
+    @Column(name = "text_body", columnDefinition = "text")
+    private String textBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "provider_id")
+    private String providerId;
+
+    @Column(name = "plant_reminder_id", columnDefinition = "uuid")
+    private UUID plantReminderId;
+
+    // Claim of the plant reminders listed in a digest email
+    @Column(name = "reminder_claim_id", columnDefinition = "uuid")
+    private UUID reminderClaimId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+}
@@ -32,4 +32,8 @@ public class GardenImage {
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
+
+    // Comma-separated widths of the generated thumbnails, null until they are ready
+    @Column(name = "thumbnail_widths")
+    private String thumbnailWidths;
 }
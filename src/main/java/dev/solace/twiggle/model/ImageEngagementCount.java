@@ -0,0 +1,32 @@
+package dev.solace.twiggle.model;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/**
+ * ImageEngagementCount entity that maps to the 'image_engagement_counts' table, which holds
+ * the number of likes and comments of each garden image.
+ */
+@Entity
+@Table(name = "image_engagement_counts")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageEngagementCount {
+
+    @Id
+    @Column(name = "image_id", columnDefinition = "uuid")
+    private UUID imageId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -9,7 +9,7 @@ import lombok.*;
  * ImageLike entity that maps to the existing 'image_likes' table in Supabase.
  */
 @Entity
-@Table(name = "image_likes")
+@Table(name = "image_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"image_id", "user_id"}))
 @Setter
 @Getter
 @NoArgsConstructor
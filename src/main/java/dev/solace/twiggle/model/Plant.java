@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 /**
  * Plant entity that maps to the existing 'plants' table in Supabase.
@@ -18,7 +19,8 @@ import lombok.*;
 public class Plant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue
+    @UuidGenerator
     @Column(columnDefinition = "uuid")
     private UUID id;
 
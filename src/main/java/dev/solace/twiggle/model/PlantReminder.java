@@ -2,6 +2,7 @@ package dev.solace.twiggle.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.*;
@@ -34,6 +35,10 @@ public class PlantReminder {
     @Column(name = "reminder_date", nullable = false)
     private LocalDate reminderDate;
 
+    // Time of day (UTC) the reminder is emailed at, or null for the configured default time
+    @Column(name = "reminder_time")
+    private LocalTime reminderTime;
+
     @Column(name = "notes")
     private String notes;
 
@@ -42,4 +47,17 @@ public class PlantReminder {
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
+
+    // Email delivery state, written only by the reminder dispatcher and the email outbox
+    @Column(name = "email_claimed_at", insertable = false, updatable = false)
+    private OffsetDateTime emailClaimedAt;
+
+    @Column(name = "email_claim_id", insertable = false, updatable = false, columnDefinition = "uuid")
+    private UUID emailClaimId;
+
+    @Column(name = "email_sent_at", insertable = false, updatable = false)
+    private OffsetDateTime emailSentAt;
+
+    @Column(name = "email_id", insertable = false, updatable = false)
+    private String emailId;
 }
@@ -0,0 +1,68 @@
+package dev.solace.twiggle.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/**
+ * ReminderSeries entity that maps to the 'reminder_series' table: a recurring plant reminder
+ * stored once as a rule, whose occurrences are expanded on demand instead of being stored as
+ * one plant reminder each.
+ */
+@Entity
+@Table(name = "reminder_series")
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(name = "plant_id", nullable = false, columnDefinition = "uuid")
+    private UUID plantId;
+
+    @Column(name = "garden_plan_id", nullable = false, columnDefinition = "uuid")
+    private UUID gardenPlanId;
+
+    @Column(name = "reminder_type", nullable = false)
+    private String reminderType;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Days between two occurrences, counted from the start date
+    @Column(name = "interval_days")
+    private Integer intervalDays;
+
+    // Days of the week of the occurrences, one bit per day from Monday (bit 0) to Sunday (bit 6)
+    @Column(name = "weekdays")
+    private Integer weekdays;
+
+    // Months of the seasonal window, inclusive; the window wraps around the new year if the
+    // start month is after the end month
+    @Column(name = "season_start_month")
+    private Integer seasonStartMonth;
+
+    @Column(name = "season_end_month")
+    private Integer seasonEndMonth;
+
+    // First occurrence not emailed yet, or null once the series has ended; written by the
+    // reminder dispatcher
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package dev.solace.twiggle.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.*;
+
+/**
+ * ReminderSeriesException entity that maps to the 'reminder_series_exceptions' table, which
+ * holds the occurrences of a reminder series that were completed or skipped. Occurrences
+ * without a row are pending.
+ */
+@Entity
+@Table(name = "reminder_series_exceptions")
+@IdClass(ReminderSeriesException.Key.class)
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderSeriesException {
+
+    /**
+     * State of an occurrence that differs from pending.
+     */
+    public enum Kind {
+        COMPLETED, // The care task was done
+        SKIPPED // The occurrence was cancelled
+    }
+
+    @Id
+    @Column(name = "series_id", columnDefinition = "uuid")
+    private UUID seriesId;
+
+    @Id
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false)
+    private Kind kind;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    /**
+     * Primary key of an exception.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID seriesId;
+        private LocalDate occurrenceDate;
+    }
+}
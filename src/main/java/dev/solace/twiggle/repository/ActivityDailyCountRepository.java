@@ -0,0 +1,87 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ActivityDailyCount;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the per-day activity counts behind the activity dashboards.
+ */
+@Repository
+public interface ActivityDailyCountRepository
+        extends JpaRepository<ActivityDailyCount, ActivityDailyCount.Key>, ActivityDailyCountUpdateRepository {
+
+    /**
+     * Sum a user's activities per day and type over a range of days.
+     *
+     * @param userId the user ID
+     * @param gardenPlanId only count activities on this garden plan, or null for all
+     * @param activityType only count activities of this type, or null for all
+     * @param from the first day (UTC)
+     * @param to the last day (UTC), inclusive
+     * @return the totals of every day and type with activities, oldest day first
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT c.day AS day, c.activityType AS activityType, SUM(c.activityCount) AS activityCount "
+            + "FROM ActivityDailyCount c "
+            + "WHERE c.userId = :userId AND c.day BETWEEN :from AND :to "
+            + "AND (:gardenPlanId IS NULL OR c.gardenPlanId = :gardenPlanId) "
+            + "AND (:activityType IS NULL OR c.activityType = :activityType) "
+            + "GROUP BY c.day, c.activityType HAVING SUM(c.activityCount) > 0 "
+            + "ORDER BY c.day, c.activityType")
+    List<ActivityDayTotalView> sumByUserPerDay(
+            @Param("userId") UUID userId,
+            @Param("gardenPlanId") UUID gardenPlanId,
+            @Param("activityType") String activityType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * Sum the activities of all users on a garden plan per day and type over a range of days.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param activityType only count activities of this type, or null for all
+     * @param from the first day (UTC)
+     * @param to the last day (UTC), inclusive
+     * @return the totals of every day and type with activities, oldest day first
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT c.day AS day, c.activityType AS activityType, SUM(c.activityCount) AS activityCount "
+            + "FROM ActivityDailyCount c "
+            + "WHERE c.gardenPlanId = :gardenPlanId AND c.day BETWEEN :from AND :to "
+            + "AND (:activityType IS NULL OR c.activityType = :activityType) "
+            + "GROUP BY c.day, c.activityType HAVING SUM(c.activityCount) > 0 "
+            + "ORDER BY c.day, c.activityType")
+    List<ActivityDayTotalView> sumByGardenPlanPerDay(
+            @Param("gardenPlanId") UUID gardenPlanId,
+            @Param("activityType") String activityType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * Find the days on which a user recorded activities.
+     *
+     * @param userId the user ID
+     * @param activityType only consider activities of this type, or null for all
+     * @param from the first day (UTC)
+     * @param to the last day (UTC), inclusive
+     * @return the days with activities, newest first
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT c.day FROM ActivityDailyCount c "
+            + "WHERE c.userId = :userId AND c.day BETWEEN :from AND :to "
+            + "AND (:activityType IS NULL OR c.activityType = :activityType) "
+            + "GROUP BY c.day HAVING SUM(c.activityCount) > 0 "
+            + "ORDER BY c.day DESC")
+    List<LocalDate> findActiveDays(
+            @Param("userId") UUID userId,
+            @Param("activityType") String activityType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
@@ -0,0 +1,26 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Custom repository fragment for writing many daily activity counts in one statement.
+ */
+public interface ActivityDailyCountUpdateRepository {
+
+    /**
+     * Add to many daily counts, creating the rows that do not exist yet.
+     *
+     * @param deltas the change to each daily count
+     * @return the number of rows written
+     */
+    int addCounts(List<? extends ActivityDailyCountView> deltas);
+
+    /**
+     * Replace the counts of one day with counts of the activities created on it.
+     *
+     * @param day the day (UTC)
+     * @return the number of rows written
+     */
+    int rebuildDay(LocalDate day);
+}
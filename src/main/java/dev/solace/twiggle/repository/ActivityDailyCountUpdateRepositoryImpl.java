@@ -0,0 +1,103 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ActivityDailyCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ActivityDailyCountUpdateRepository} using native
+ * {@code INSERT ... ON CONFLICT DO UPDATE} and {@code INSERT ... SELECT} statements.
+ */
+public class ActivityDailyCountUpdateRepositoryImpl implements ActivityDailyCountUpdateRepository {
+
+    private static final int COLUMNS = 5;
+
+    static final String DELETE_DAY_SQL = "DELETE FROM activity_daily_counts WHERE activity_day = ?1";
+
+    static final String REBUILD_DAY_SQL =
+            "INSERT INTO activity_daily_counts (user_id, garden_plan_id, activity_type, activity_day, activity_count, updated_at) "
+                    + "SELECT user_id, COALESCE(garden_plan_id, CAST(?1 AS uuid)), activity_type, ?2, COUNT(*), ?3 "
+                    + "FROM activities WHERE created_at >= ?4 AND created_at < ?5 "
+                    + "GROUP BY user_id, COALESCE(garden_plan_id, CAST(?1 AS uuid)), activity_type";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int addCounts(List<? extends ActivityDailyCountView> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery(buildUpsertSql(deltas.size()));
+        int parameter = 1;
+        for (ActivityDailyCountView delta : deltas) {
+            query.setParameter(parameter++, delta.getUserId());
+            query.setParameter(parameter++, delta.getGardenPlanId());
+            query.setParameter(parameter++, delta.getActivityType());
+            query.setParameter(parameter++, delta.getDay());
+            query.setParameter(parameter++, delta.getActivityCount());
+        }
+        query.setParameter(parameter, OffsetDateTime.now());
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int written = query.executeUpdate();
+        entityManager.clear();
+        return written;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildDay(LocalDate day) {
+        OffsetDateTime start = day.atStartOfDay().atOffset(ZoneOffset.UTC);
+        entityManager.flush();
+        entityManager.createNativeQuery(DELETE_DAY_SQL).setParameter(1, day).executeUpdate();
+        int written = entityManager
+                .createNativeQuery(REBUILD_DAY_SQL)
+                .setParameter(1, ActivityDailyCount.NO_GARDEN_PLAN)
+                .setParameter(2, day)
+                .setParameter(3, OffsetDateTime.now())
+                .setParameter(4, start)
+                .setParameter(5, start.plusDays(1))
+                .executeUpdate();
+        entityManager.clear();
+        return written;
+    }
+
+    static String buildUpsertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO activity_daily_counts "
+                + "(user_id, garden_plan_id, activity_type, activity_day, activity_count, updated_at) VALUES ");
+        int updatedAt = rows * COLUMNS + 1;
+        for (int row = 0; row < rows; row++) {
+            int base = row * COLUMNS;
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(?")
+                    .append(base + 1)
+                    .append(" AS uuid), CAST(?")
+                    .append(base + 2)
+                    .append(" AS uuid), ?")
+                    .append(base + 3)
+                    .append(", CAST(?")
+                    .append(base + 4)
+                    .append(" AS date), CAST(?")
+                    .append(base + 5)
+                    .append(" AS bigint), ?")
+                    .append(updatedAt)
+                    .append(')');
+        }
+        return sql.append(
+                        " ON CONFLICT (user_id, garden_plan_id, activity_type, activity_day) DO UPDATE SET activity_count = ")
+                .append("activity_daily_counts.activity_count + EXCLUDED.activity_count, ")
+                .append("updated_at = EXCLUDED.updated_at")
+                .toString();
+    }
+}
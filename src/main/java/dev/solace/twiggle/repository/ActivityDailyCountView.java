@@ -0,0 +1,20 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection of the number of activities of one type a user recorded on a garden plan on one
+ * day, or of a change to it.
+ */
+public interface ActivityDailyCountView {
+    UUID getUserId();
+
+    UUID getGardenPlanId();
+
+    String getActivityType();
+
+    LocalDate getDay();
+
+    Long getActivityCount();
+}
@@ -0,0 +1,15 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the number of activities of one type on one day, summed over the rows of a
+ * daily count query.
+ */
+public interface ActivityDayTotalView {
+    LocalDate getDay();
+
+    String getActivityType();
+
+    Long getActivityCount();
+}
@@ -0,0 +1,18 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Activity;
+import java.util.List;
+
+/**
+ * Custom repository fragment for inserting many activities in one statement.
+ */
+public interface ActivityInsertRepository {
+
+    /**
+     * Insert activities whose IDs and creation times are already set.
+     *
+     * @param activities the activities to insert
+     * @return the number of rows inserted
+     */
+    int insertAll(List<Activity> activities);
+}
@@ -0,0 +1,74 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Activity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ActivityInsertRepository} using a native multi-row
+ * {@code INSERT ... VALUES} statement.
+ */
+public class ActivityInsertRepositoryImpl implements ActivityInsertRepository {
+
+    private static final int COLUMNS = 6;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int insertAll(List<Activity> activities) {
+        if (activities.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery(buildInsertSql(activities.size()));
+        int parameter = 1;
+        for (Activity activity : activities) {
+            query.setParameter(parameter++, activity.getId());
+            query.setParameter(parameter++, activity.getUserId());
+            // Typed: an untyped null reaches PostgreSQL as bytea, which cannot be cast to uuid
+            query.setParameter(
+                    parameter++, new TypedParameterValue<UUID>(StandardBasicTypes.UUID, activity.getGardenPlanId()));
+            query.setParameter(parameter++, activity.getActivityType());
+            query.setParameter(parameter++, activity.getDescription());
+            query.setParameter(parameter++, activity.getCreatedAt());
+        }
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int inserted = query.executeUpdate();
+        entityManager.clear();
+        return inserted;
+    }
+
+    static String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO activities (id, user_id, garden_plan_id, activity_type, description, created_at) VALUES ");
+        for (int row = 0; row < rows; row++) {
+            int base = row * COLUMNS;
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(?")
+                    .append(base + 1)
+                    .append(" AS uuid), CAST(?")
+                    .append(base + 2)
+                    .append(" AS uuid), CAST(?")
+                    .append(base + 3)
+                    .append(" AS uuid), ?")
+                    .append(base + 4)
+                    .append(", ?")
+                    .append(base + 5)
+                    .append(", ?")
+                    .append(base + 6)
+                    .append(')');
+        }
+        return sql.toString();
+    }
+}
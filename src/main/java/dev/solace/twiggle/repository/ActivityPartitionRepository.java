@@ -0,0 +1,61 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Activity;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Custom repository fragment for managing the monthly partitions of the activities table.
+ * Only works on PostgreSQL with the partitioned table from db/activities-partitioning.sql.
+ */
+public interface ActivityPartitionRepository {
+
+    /**
+     * Find the monthly partitions of the activities table, including ones that were detached
+     * but not yet dropped.
+     *
+     * @return the partitions, oldest first
+     */
+    List<ActivityPartition> findPartitions();
+
+    /**
+     * Create a partition for a range of creation times, unless it exists.
+     *
+     * @param name the partition name
+     * @param from the first creation time of the partition
+     * @param to the first creation time after the partition
+     */
+    void createPartition(String name, OffsetDateTime from, OffsetDateTime to);
+
+    /**
+     * Detach a partition, so its activities are no longer part of the activities table.
+     *
+     * @param name the partition name
+     */
+    void detachPartition(String name);
+
+    /**
+     * Read every activity of a partition without holding them all in memory.
+     *
+     * @param name the partition name
+     * @param consumer receives every activity, oldest first
+     * @return the number of activities read
+     */
+    long streamPartition(String name, Consumer<Activity> consumer);
+
+    /**
+     * Drop a detached partition.
+     *
+     * @param name the partition name
+     */
+    void dropPartition(String name);
+
+    /**
+     * A monthly partition of the activities table.
+     *
+     * @param name the partition name
+     * @param attached whether the partition is still part of the activities table
+     */
+    record ActivityPartition(String name, boolean attached) {}
+}
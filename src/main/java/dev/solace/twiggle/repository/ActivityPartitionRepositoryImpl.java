@@ -0,0 +1,104 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Activity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ActivityPartitionRepository} using native PostgreSQL DDL. Partition
+ * names cannot be bound as parameters, so they are checked against the naming pattern before
+ * they are put into a statement.
+ */
+public class ActivityPartitionRepositoryImpl implements ActivityPartitionRepository {
+
+    static final Pattern PARTITION_NAME = Pattern.compile("activities_p\\d{6}");
+
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssxxx");
+    private static final int FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<ActivityPartition> findPartitions() {
+        List<Object[]> rows = entityManager
+                .createNativeQuery("SELECT c.relname, EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid) "
+                        + "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = current_schema() AND c.relkind IN ('r', 'p') "
+                        + "AND c.relname ~ '^activities_p[0-9]{6}$' ORDER BY c.relname")
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ActivityPartition((String) row[0], Boolean.TRUE.equals(row[1])))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void createPartition(String name, OffsetDateTime from, OffsetDateTime to) {
+        entityManager.createNativeQuery(buildCreateSql(name, from, to)).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void detachPartition(String name) {
+        entityManager
+                .createNativeQuery("ALTER TABLE activities DETACH PARTITION " + checkName(name))
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public long streamPartition(String name, Consumer<Activity> consumer) {
+        long read = 0;
+        try (Stream<Activity> rows = entityManager
+                .createNativeQuery(
+                        "SELECT id, user_id, garden_plan_id, activity_type, description, created_at FROM "
+                                + checkName(name) + " ORDER BY created_at",
+                        Activity.class)
+                .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                .getResultStream()) {
+            Iterator<Activity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Activity activity = iterator.next();
+                consumer.accept(activity);
+                // Keep the persistence context from growing with the partition
+                entityManager.detach(activity);
+                read++;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    @Transactional
+    public void dropPartition(String name) {
+        entityManager
+                .createNativeQuery("DROP TABLE IF EXISTS " + checkName(name))
+                .executeUpdate();
+    }
+
+    static String buildCreateSql(String name, OffsetDateTime from, OffsetDateTime to) {
+        return "CREATE TABLE IF NOT EXISTS " + checkName(name) + " PARTITION OF activities FOR VALUES FROM ('"
+                + BOUND_FORMAT.format(from.withOffsetSameInstant(ZoneOffset.UTC)) + "') TO ('"
+                + BOUND_FORMAT.format(to.withOffsetSameInstant(ZoneOffset.UTC)) + "')";
+    }
+
+    private static String checkName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Not an activities partition: " + name);
+        }
+        return name;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.solace.twiggle.repository;
 
 import dev.solace.twiggle.model.Activity;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -10,79 +11,95 @@ import org.springframework.stereotype.Repository;
 
 /**
  * Repository for managing Activity entities.
+ * The activities table is partitioned by month of creation, so the finders for a user or garden
+ * plan take the earliest creation time to read, which limits them to the partitions from then on.
  */
 @Repository
-public interface ActivityRepository extends JpaRepository<Activity, UUID> {
+public interface ActivityRepository
+        extends JpaRepository<Activity, UUID>, ActivityInsertRepository, ActivityPartitionRepository {
 
     /**
-     * Find all activities for a specific user with pagination.
+     * Find the activities of a specific user created since a given time, with pagination.
      *
      * @param userId The ID of the user
+     * @param since The earliest creation time
      * @param pageable Pagination and sorting information
      * @return Page of activities for the user
      */
-    Page<Activity> findByUserId(UUID userId, Pageable pageable);
+    Page<Activity> findByUserIdAndCreatedAtGreaterThanEqual(UUID userId, OffsetDateTime since, Pageable pageable);
 
     /**
-     * Find all activities for a specific user.
+     * Find the activities of a specific user created since a given time.
      *
      * @param userId The ID of the user
+     * @param since The earliest creation time
      * @return List of activities for the user
      */
-    List<Activity> findByUserId(UUID userId);
+    List<Activity> findByUserIdAndCreatedAtGreaterThanEqual(UUID userId, OffsetDateTime since);
 
     /**
-     * Find all activities for a specific garden plan with pagination.
+     * Find the activities of a specific garden plan created since a given time, with pagination.
      *
      * @param gardenPlanId The ID of the garden plan
+     * @param since The earliest creation time
      * @param pageable Pagination and sorting information
      * @return Page of activities for the garden plan
      */
-    Page<Activity> findByGardenPlanId(UUID gardenPlanId, Pageable pageable);
+    Page<Activity> findByGardenPlanIdAndCreatedAtGreaterThanEqual(
+            UUID gardenPlanId, OffsetDateTime since, Pageable pageable);
 
     /**
-     * Find all activities for a specific garden plan.
+     * Find the activities of a specific garden plan created since a given time.
      *
      * @param gardenPlanId The ID of the garden plan
+     * @param since The earliest creation time
      * @return List of activities for the garden plan
      */
-    List<Activity> findByGardenPlanId(UUID gardenPlanId);
+    List<Activity> findByGardenPlanIdAndCreatedAtGreaterThanEqual(UUID gardenPlanId, OffsetDateTime since);
 
     /**
-     * Find all activities of a specific type for a user with pagination.
+     * Find the activities of a specific type for a user created since a given time, with pagination.
      *
      * @param userId The ID of the user
      * @param activityType The type of activity
+     * @param since The earliest creation time
      * @param pageable Pagination and sorting information
      * @return Page of activities of the specified type for the user
      */
-    Page<Activity> findByUserIdAndActivityType(UUID userId, String activityType, Pageable pageable);
+    Page<Activity> findByUserIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+            UUID userId, String activityType, OffsetDateTime since, Pageable pageable);
 
     /**
-     * Find all activities of a specific type for a user.
+     * Find the activities of a specific type for a user created since a given time.
      *
      * @param userId The ID of the user
      * @param activityType The type of activity
+     * @param since The earliest creation time
      * @return List of activities of the specified type for the user
      */
-    List<Activity> findByUserIdAndActivityType(UUID userId, String activityType);
+    List<Activity> findByUserIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+            UUID userId, String activityType, OffsetDateTime since);
 
     /**
-     * Find all activities of a specific type for a garden plan with pagination.
+     * Find the activities of a specific type for a garden plan created since a given time, with pagination.
      *
      * @param gardenPlanId The ID of the garden plan
      * @param activityType The type of activity
+     * @param since The earliest creation time
      * @param pageable Pagination and sorting information
      * @return Page of activities of the specified type for the garden plan
      */
-    Page<Activity> findByGardenPlanIdAndActivityType(UUID gardenPlanId, String activityType, Pageable pageable);
+    Page<Activity> findByGardenPlanIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+            UUID gardenPlanId, String activityType, OffsetDateTime since, Pageable pageable);
 
     /**
-     * Find all activities of a specific type for a garden plan.
+     * Find the activities of a specific type for a garden plan created since a given time.
      *
      * @param gardenPlanId The ID of the garden plan
      * @param activityType The type of activity
+     * @param since The earliest creation time
      * @return List of activities of the specified type for the garden plan
      */
-    List<Activity> findByGardenPlanIdAndActivityType(UUID gardenPlanId, String activityType);
+    List<Activity> findByGardenPlanIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+            UUID gardenPlanId, String activityType, OffsetDateTime since);
 }
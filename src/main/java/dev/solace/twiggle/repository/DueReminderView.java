@@ -0,0 +1,35 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Projection of a due reminder with everything needed to email it: the plant, the garden plan
+ * and its location, for the weather, and the plan's owner.
+ */
+public interface DueReminderView extends WeatherCheckView {
+    UUID getId();
+
+    String getReminderType();
+
+    LocalDate getReminderDate();
+
+    LocalTime getReminderTime();
+
+    String getNotes();
+
+    String getPlantName();
+
+    String getPlantImageUrl();
+
+    UUID getGardenPlanId();
+
+    String getGardenPlanName();
+
+    String getGardenPlanLocation();
+
+    UUID getUserId();
+
+    String getUserEmail();
+}
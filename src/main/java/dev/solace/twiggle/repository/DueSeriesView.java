@@ -0,0 +1,44 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection of a due reminder series with its recurrence rule and everything needed to email
+ * it: the plant, the garden plan and its location, for the weather, and the plan's owner.
+ */
+public interface DueSeriesView extends WeatherCheckView {
+    UUID getId();
+
+    String getReminderType();
+
+    String getNotes();
+
+    LocalDate getNextDueDate();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Integer getIntervalDays();
+
+    Integer getWeekdays();
+
+    Integer getSeasonStartMonth();
+
+    Integer getSeasonEndMonth();
+
+    String getPlantName();
+
+    String getPlantImageUrl();
+
+    UUID getGardenPlanId();
+
+    String getGardenPlanName();
+
+    String getGardenPlanLocation();
+
+    UUID getUserId();
+
+    String getUserEmail();
+}
@@ -0,0 +1,32 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.EmailOutbox;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing EmailOutbox entities.
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * Lock pending emails whose next attempt is due, oldest first. Rows locked by another
+     * transaction are skipped, so concurrent workers never claim the same email. The locks
+     * are held until the calling transaction ends.
+     *
+     * @param now The current time
+     * @param limit The maximum number of emails to lock
+     * @return The locked emails
+     */
+    @Query(
+            value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now"
+                    + " ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+}
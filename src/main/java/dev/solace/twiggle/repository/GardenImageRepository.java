@@ -6,7 +6,11 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for managing GardenImage entities.
@@ -59,4 +63,16 @@ public interface GardenImageRepository extends JpaRepository<GardenImage, UUID>
      * @return Page of images with the specified title
      */
     Page<GardenImage> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    /**
+     * Record the generated thumbnails of an image.
+     *
+     * @param id The ID of the image
+     * @param thumbnailWidths Comma-separated widths of the generated thumbnails
+     * @return 1 if the image was updated, 0 if it no longer exists
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE GardenImage i SET i.thumbnailWidths = :thumbnailWidths WHERE i.id = :id")
+    int updateThumbnailWidths(@Param("id") UUID id, @Param("thumbnailWidths") String thumbnailWidths);
 }
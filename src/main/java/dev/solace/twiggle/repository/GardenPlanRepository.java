@@ -1,6 +1,7 @@
 package dev.solace.twiggle.repository;
 
 import dev.solace.twiggle.model.GardenPlan;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -15,7 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
  * Repository interface for the GardenPlan entity.
  */
 @Repository
-public interface GardenPlanRepository extends JpaRepository<GardenPlan, UUID> {
+public interface GardenPlanRepository extends JpaRepository<GardenPlan, UUID>, GardenPlanSearchRepository {
 
     /**
      * Find all garden plans belonging to a specific user with pagination and sorting.
@@ -54,74 +55,7 @@ public interface GardenPlanRepository extends JpaRepository<GardenPlan, UUID> {
     List<GardenPlan> findByIsPublicTrue();
 
     /**
-     * Enhanced search for garden plans by various criteria with relevance scoring.
-     * The search prioritizes name matches, then type, and finally location.
-     * It will return closest matching results when partial entries are provided.
-     *
-     * @param name search term for name (can be null)
-     * @param type search term for type (can be null)
-     * @param location search term for location (can be null)
-     * @param query general search term for any field including description (can be null)
-     * @param userId optional user ID to filter by (can be null)
-     * @param isPublic optional flag to filter by public status (can be null)
-     * @param pageable pagination and sorting parameters
-     * @return page of matching garden plans ordered by relevance
-     */
-    @Transactional(readOnly = true)
-    @Query(
-            value = "SELECT g.*, " + "CASE "
-                    + "  WHEN LOWER(g.name) = LOWER(:name) THEN 100 "
-                    + "  WHEN LOWER(g.name) LIKE LOWER(CONCAT(:name, '%')) THEN 80 "
-                    + "  WHEN LOWER(g.name) LIKE LOWER(CONCAT('%', :name, '%')) THEN 60 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN LOWER(g.type) = LOWER(:type) THEN 50 "
-                    + "  WHEN LOWER(g.type) LIKE LOWER(CONCAT(:type, '%')) THEN 40 "
-                    + "  WHEN LOWER(g.type) LIKE LOWER(CONCAT('%', :type, '%')) THEN 30 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN LOWER(g.location) = LOWER(:location) THEN 25 "
-                    + "  WHEN LOWER(g.location) LIKE LOWER(CONCAT(:location, '%')) THEN 20 "
-                    + "  WHEN LOWER(g.location) LIKE LOWER(CONCAT('%', :location, '%')) THEN 15 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN (:query IS NOT NULL) AND ("
-                    + "       LOWER(g.name) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(g.description) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(g.type) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(g.location) LIKE LOWER(CONCAT('%', :query, '%'))) THEN 10 "
-                    + "  ELSE 0 "
-                    + "END AS relevance_score "
-                    + "FROM garden_plans g "
-                    + "WHERE (:name IS NULL OR "
-                    + "       LOWER(g.name) LIKE LOWER(CONCAT('%', :name, '%'))) "
-                    + "AND (:type IS NULL OR "
-                    + "     LOWER(g.type) LIKE LOWER(CONCAT('%', :type, '%'))) "
-                    + "AND (:location IS NULL OR "
-                    + "     LOWER(g.location) LIKE LOWER(CONCAT('%', :location, '%'))) "
-                    + "AND (:query IS NULL OR "
-                    + "     LOWER(g.name) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(g.description) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(g.type) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(g.location) LIKE LOWER(CONCAT('%', :query, '%'))) "
-                    + "AND (:userId IS NULL OR g.user_id = :userId) "
-                    + "AND (:isPublic IS NULL OR g.is_public = :isPublic) "
-                    + "ORDER BY relevance_score DESC",
-            nativeQuery = true)
-    Page<GardenPlan> searchGardenPlansWithRelevance(
-            @Param("name") String name,
-            @Param("type") String type,
-            @Param("location") String location,
-            @Param("query") String query,
-            @Param("userId") UUID userId,
-            @Param("isPublic") Boolean isPublic,
-            Pageable pageable);
-
-    /**
-     * Simpler search garden plans by various criteria (fallback method).
+     * Search garden plans by various criteria.
      *
      * @param query search term for name, description, type, or location
      * @param userId optional user ID to filter by (can be null)
@@ -142,4 +76,49 @@ public interface GardenPlanRepository extends JpaRepository<GardenPlan, UUID> {
             @Param("userId") UUID userId,
             @Param("isPublic") Boolean isPublic,
             Pageable pageable);
+
+    /**
+     * Find the visibility and creation time of every garden plan.
+     *
+     * @return one row per garden plan
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT g.id AS id, g.isPublic AS isPublic, g.createdAt AS createdAt FROM GardenPlan g")
+    List<PlanCreationView> findCreationTimes();
+
+    /**
+     * Sum the likes and comments on each garden plan's images and the activities recorded on it,
+     * each weighted and halved for every half-life it lies before {@code now}.
+     * Events outside {@code [since, now)} are not counted.
+     *
+     * @param since the oldest event time to count
+     * @param now the time the decay is measured to
+     * @param halfLifeSeconds the half-life in seconds
+     * @param likeWeight the weight of a like
+     * @param commentWeight the weight of a comment
+     * @param activityWeight the weight of an activity
+     * @return the decayed engagement of each garden plan that has any
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = "SELECT e.garden_plan_id AS gardenPlanId, "
+                    + "SUM(e.weight * POWER(2, EXTRACT(EPOCH FROM (e.created_at - :now)) / :halfLifeSeconds)) "
+                    + "AS decayedWeight FROM ("
+                    + "SELECT i.garden_plan_id, l.created_at, :likeWeight AS weight FROM image_likes l "
+                    + "JOIN garden_images i ON i.id = l.image_id WHERE l.created_at >= :since AND l.created_at < :now "
+                    + "UNION ALL "
+                    + "SELECT i.garden_plan_id, c.created_at, :commentWeight FROM image_comments c "
+                    + "JOIN garden_images i ON i.id = c.image_id WHERE c.created_at >= :since AND c.created_at < :now "
+                    + "UNION ALL "
+                    + "SELECT a.garden_plan_id, a.created_at, :activityWeight FROM activities a "
+                    + "WHERE a.garden_plan_id IS NOT NULL AND a.created_at >= :since AND a.created_at < :now"
+                    + ") e WHERE e.garden_plan_id IS NOT NULL GROUP BY e.garden_plan_id",
+            nativeQuery = true)
+    List<PlanEngagementView> sumDecayedEngagement(
+            @Param("since") OffsetDateTime since,
+            @Param("now") OffsetDateTime now,
+            @Param("halfLifeSeconds") double halfLifeSeconds,
+            @Param("likeWeight") double likeWeight,
+            @Param("commentWeight") double commentWeight,
+            @Param("activityWeight") double activityWeight);
 }
@@ -0,0 +1,29 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.GardenPlan;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Custom repository fragment for ranked garden plan search.
+ */
+public interface GardenPlanSearchRepository {
+
+    /**
+     * Enhanced search for garden plans by various criteria with relevance scoring.
+     * Terms match substrings and, through trigram similarity, close misspellings. Name matches
+     * weigh most, then type, then location, then the general query.
+     *
+     * @param name search term for name (can be null)
+     * @param type search term for type (can be null)
+     * @param location search term for location (can be null)
+     * @param query general search term for any field including description (can be null)
+     * @param userId optional user ID to filter by (can be null)
+     * @param isPublic optional flag to filter by public status (can be null)
+     * @param pageable pagination parameters; results are always ordered by relevance
+     * @return page of matching garden plans ordered by relevance
+     */
+    Page<GardenPlan> searchGardenPlansWithRelevance(
+            String name, String type, String location, String query, UUID userId, Boolean isPublic, Pageable pageable);
+}
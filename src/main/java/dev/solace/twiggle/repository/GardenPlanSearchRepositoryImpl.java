@@ -0,0 +1,33 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.GardenPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link GardenPlanSearchRepository} using pg_trgm ranked queries.
+ */
+public class GardenPlanSearchRepositoryImpl implements GardenPlanSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GardenPlan> searchGardenPlansWithRelevance(
+            String name, String type, String location, String query, UUID userId, Boolean isPublic, Pageable pageable) {
+        return new TrigramSearchQuery("garden_plans", "g")
+                .field("name", name, 100)
+                .field("type", type, 50)
+                .field("location", location, 25)
+                .anyField(List.of("name", "description", "type", "location"), query, 10)
+                .equal("user_id", userId)
+                .equal("is_public", isPublic)
+                .fetch(entityManager, GardenPlan.class, pageable);
+    }
+}
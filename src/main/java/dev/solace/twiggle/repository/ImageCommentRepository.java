@@ -1,11 +1,15 @@
 package dev.solace.twiggle.repository;
 
 import dev.solace.twiggle.model.ImageComment;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -67,6 +71,35 @@ public interface ImageCommentRepository extends JpaRepository<ImageComment, UUID
      */
     List<ImageComment> findByImageIdAndUserId(UUID imageId, UUID userId);
 
+    /**
+     * Find the newest comments for a specific image, newest first.
+     *
+     * @param imageId The ID of the image
+     * @param limit The maximum number of comments to return
+     * @return The newest comments for the image
+     */
+    @Query("SELECT c FROM ImageComment c WHERE c.imageId = :imageId ORDER BY c.createdAt DESC, c.id DESC")
+    List<ImageComment> findFeedByImageId(@Param("imageId") UUID imageId, Limit limit);
+
+    /**
+     * Find the comments for a specific image that follow a given comment, newest first.
+     * Seeks on (created_at, id), so later pages cost no more than the first.
+     *
+     * @param imageId The ID of the image
+     * @param createdAt The creation time of the last comment of the previous page
+     * @param id The ID of the last comment of the previous page
+     * @param limit The maximum number of comments to return
+     * @return The comments following the given one
+     */
+    @Query("SELECT c FROM ImageComment c WHERE c.imageId = :imageId"
+            + " AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))"
+            + " ORDER BY c.createdAt DESC, c.id DESC")
+    List<ImageComment> findFeedByImageIdAfter(
+            @Param("imageId") UUID imageId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
     /**
      * Count the number of comments for a specific image.
      *
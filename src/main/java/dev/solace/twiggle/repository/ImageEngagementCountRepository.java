@@ -0,0 +1,51 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ImageEngagementCount;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the denormalized like and comment counts of garden images.
+ */
+@Repository
+public interface ImageEngagementCountRepository
+        extends JpaRepository<ImageEngagementCount, UUID>, ImageEngagementCountUpdateRepository {
+
+    /**
+     * Count the likes and comments of every garden image whose stored counts differ from
+     * its rows in image_likes and image_comments.
+     *
+     * @return the true counts of each image whose stored counts are wrong or missing
+     */
+    @Transactional(readOnly = true)
+    @Query(
+            value = "SELECT i.id AS imageId, COALESCE(l.total, 0) AS likeCount, COALESCE(c.total, 0) AS commentCount "
+                    + "FROM garden_images i "
+                    + "LEFT JOIN (SELECT image_id, COUNT(*) AS total FROM image_likes GROUP BY image_id) l "
+                    + "ON l.image_id = i.id "
+                    + "LEFT JOIN (SELECT image_id, COUNT(*) AS total FROM image_comments GROUP BY image_id) c "
+                    + "ON c.image_id = i.id "
+                    + "LEFT JOIN image_engagement_counts e ON e.image_id = i.id "
+                    + "WHERE COALESCE(e.like_count, 0) <> COALESCE(l.total, 0) "
+                    + "OR COALESCE(e.comment_count, 0) <> COALESCE(c.total, 0)",
+            nativeQuery = true)
+    List<ImageEngagementView> findMismatchedCounts();
+
+    /**
+     * Delete the counts of garden images that no longer exist.
+     *
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "DELETE FROM image_engagement_counts e "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM garden_images i WHERE i.id = e.image_id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,25 @@
+package dev.solace.twiggle.repository;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for writing many image engagement counts in one statement.
+ */
+public interface ImageEngagementCountUpdateRepository {
+
+    /**
+     * Add to the counts of many images, creating the rows of images that have none.
+     *
+     * @param deltas the change to the like and comment count of each image
+     * @return the number of rows written
+     */
+    int addCounts(List<? extends ImageEngagementView> deltas);
+
+    /**
+     * Overwrite the counts of many images, creating the rows of images that have none.
+     *
+     * @param counts the like and comment count of each image
+     * @return the number of rows written
+     */
+    int setCounts(List<? extends ImageEngagementView> counts);
+}
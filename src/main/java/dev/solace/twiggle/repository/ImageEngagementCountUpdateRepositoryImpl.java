@@ -0,0 +1,78 @@
+package dev.solace.twiggle.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ImageEngagementCountUpdateRepository} using a native
+ * {@code INSERT ... VALUES ... ON CONFLICT DO UPDATE} statement.
+ */
+public class ImageEngagementCountUpdateRepositoryImpl implements ImageEngagementCountUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int addCounts(List<? extends ImageEngagementView> deltas) {
+        return upsert(deltas, true);
+    }
+
+    @Override
+    @Transactional
+    public int setCounts(List<? extends ImageEngagementView> counts) {
+        return upsert(counts, false);
+    }
+
+    private int upsert(List<? extends ImageEngagementView> rows, boolean add) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery(buildUpsertSql(rows.size(), add));
+        int parameter = 1;
+        for (ImageEngagementView row : rows) {
+            query.setParameter(parameter++, row.getImageId());
+            query.setParameter(parameter++, row.getLikeCount());
+            query.setParameter(parameter++, row.getCommentCount());
+        }
+        query.setParameter(parameter, OffsetDateTime.now());
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int written = query.executeUpdate();
+        entityManager.clear();
+        return written;
+    }
+
+    static String buildUpsertSql(int rows, boolean add) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO image_engagement_counts (image_id, like_count, comment_count, updated_at) VALUES ");
+        int updatedAt = rows * 3 + 1;
+        for (int row = 0; row < rows; row++) {
+            int base = row * 3;
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(?")
+                    .append(base + 1)
+                    .append(" AS uuid), CAST(?")
+                    .append(base + 2)
+                    .append(" AS bigint), CAST(?")
+                    .append(base + 3)
+                    .append(" AS bigint), ?")
+                    .append(updatedAt)
+                    .append(')');
+        }
+        String previous = add ? "image_engagement_counts.%s + " : "";
+        return sql.append(" ON CONFLICT (image_id) DO UPDATE SET like_count = ")
+                .append(previous.formatted("like_count"))
+                .append("EXCLUDED.like_count, comment_count = ")
+                .append(previous.formatted("comment_count"))
+                .append("EXCLUDED.comment_count, updated_at = EXCLUDED.updated_at")
+                .toString();
+    }
+}
@@ -0,0 +1,14 @@
+package dev.solace.twiggle.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a garden image's like and comment counts, or of changes to them.
+ */
+public interface ImageEngagementView {
+    UUID getImageId();
+
+    Long getLikeCount();
+
+    Long getCommentCount();
+}
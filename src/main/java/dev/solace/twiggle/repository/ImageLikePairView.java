@@ -0,0 +1,15 @@
+package dev.solace.twiggle.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of who liked which image, without the like's other columns.
+ */
+public interface ImageLikePairView {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    UUID getImageId();
+}
@@ -4,16 +4,19 @@ import dev.solace.twiggle.model.ImageLike;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository for managing ImageLike entities.
  */
 @Repository
-public interface ImageLikeRepository extends JpaRepository<ImageLike, UUID> {
+public interface ImageLikeRepository extends JpaRepository<ImageLike, UUID>, ImageLikeUpdateRepository {
 
     /**
      * Find all likes for a specific image with pagination.
@@ -49,6 +52,26 @@ public interface ImageLikeRepository extends JpaRepository<ImageLike, UUID> {
      */
     List<ImageLike> findByUserId(UUID userId);
 
+    /**
+     * Find the IDs of all images a user has liked.
+     *
+     * @param userId The ID of the user
+     * @return The IDs of the images the user has liked
+     */
+    @Query("SELECT l.imageId FROM ImageLike l WHERE l.userId = :userId")
+    List<UUID> findImageIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Find the next likes in ID order, for reading every like in batches.
+     *
+     * @param after The ID of the last like of the previous batch
+     * @param limit The maximum number of likes to return
+     * @return The user and image of each like
+     */
+    @Query("SELECT l.id AS id, l.userId AS userId, l.imageId AS imageId FROM ImageLike l "
+            + "WHERE l.id > :after ORDER BY l.id")
+    List<ImageLikePairView> findPairsAfter(@Param("after") UUID after, Limit limit);
+
     /**
      * Find a like for a specific image by a specific user.
      *
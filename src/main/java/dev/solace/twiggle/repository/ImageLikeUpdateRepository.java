@@ -0,0 +1,50 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ImageLike;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for liking and unliking images in single statements, so
+ * concurrent requests of one user cannot create duplicate likes or delete a like twice.
+ * Relies on the unique index on (image_id, user_id).
+ */
+public interface ImageLikeUpdateRepository {
+
+    /**
+     * Insert a like unless the user already liked the image.
+     *
+     * @param imageLike the like to insert, with its ID and creation time set
+     * @return true if the like was inserted, false if the user already liked the image
+     */
+    boolean insertIfAbsent(ImageLike imageLike);
+
+    /**
+     * Delete the like of a user on an image.
+     *
+     * @param imageId the image ID
+     * @param userId the user ID
+     * @return the creation time of the deleted like, empty if there was none
+     */
+    Optional<OffsetDateTime> deleteLike(UUID imageId, UUID userId);
+
+    /**
+     * Delete the like of a user on an image, or insert one if there was none.
+     *
+     * @param imageId the image ID
+     * @param userId the user ID
+     * @param newId the ID of the like if one is inserted
+     * @param createdAt the creation time of the like if one is inserted
+     * @return the change made, empty if a concurrent request inserted the like first
+     */
+    Optional<Toggle> toggle(UUID imageId, UUID userId, UUID newId, OffsetDateTime createdAt);
+
+    /**
+     * The outcome of a toggle.
+     *
+     * @param liked true if a like was inserted, false if one was deleted
+     * @param createdAt the creation time of the inserted or deleted like
+     */
+    record Toggle(boolean liked, OffsetDateTime createdAt) {}
+}
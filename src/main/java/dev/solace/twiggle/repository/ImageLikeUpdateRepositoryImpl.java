@@ -0,0 +1,96 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ImageLike;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ImageLikeUpdateRepository} using native
+ * {@code INSERT ... ON CONFLICT DO NOTHING} and {@code DELETE ... RETURNING} statements.
+ */
+public class ImageLikeUpdateRepositoryImpl implements ImageLikeUpdateRepository {
+
+    static final String INSERT_SQL = "INSERT INTO image_likes (id, image_id, user_id, created_at)"
+            + " VALUES (CAST(:id AS uuid), CAST(:imageId AS uuid), CAST(:userId AS uuid),"
+            + " CAST(:createdAt AS timestamptz))"
+            + " ON CONFLICT (image_id, user_id) DO NOTHING";
+
+    static final String DELETE_SQL = "DELETE FROM image_likes"
+            + " WHERE image_id = CAST(:imageId AS uuid) AND user_id = CAST(:userId AS uuid)"
+            + " RETURNING created_at";
+
+    // The insert runs only if the delete found nothing. Both see the same snapshot, so when a
+    // concurrent request inserts the like in between, the insert conflicts and nothing is returned.
+    static final String TOGGLE_SQL = "WITH removed AS ("
+            + " DELETE FROM image_likes"
+            + " WHERE image_id = CAST(:imageId AS uuid) AND user_id = CAST(:userId AS uuid)"
+            + " RETURNING created_at),"
+            + " added AS ("
+            + " INSERT INTO image_likes (id, image_id, user_id, created_at)"
+            + " SELECT CAST(:id AS uuid), CAST(:imageId AS uuid), CAST(:userId AS uuid),"
+            + " CAST(:createdAt AS timestamptz)"
+            + " WHERE NOT EXISTS (SELECT 1 FROM removed)"
+            + " ON CONFLICT (image_id, user_id) DO NOTHING"
+            + " RETURNING created_at)"
+            + " SELECT FALSE AS liked, created_at FROM removed"
+            + " UNION ALL SELECT TRUE AS liked, created_at FROM added";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(ImageLike imageLike) {
+        entityManager.flush();
+        int inserted = entityManager
+                .createNativeQuery(INSERT_SQL)
+                .setParameter("id", imageLike.getId())
+                .setParameter("imageId", imageLike.getImageId())
+                .setParameter("userId", imageLike.getUserId())
+                .setParameter("createdAt", imageLike.getCreatedAt())
+                .executeUpdate();
+        entityManager.clear();
+        return inserted > 0;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<OffsetDateTime> deleteLike(UUID imageId, UUID userId) {
+        entityManager.flush();
+        List<OffsetDateTime> deleted = entityManager
+                .createNativeQuery(DELETE_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("created_at", OffsetDateTime.class)
+                .setParameter("imageId", imageId)
+                .setParameter("userId", userId)
+                .getResultList();
+        entityManager.clear();
+        return deleted.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<Toggle> toggle(UUID imageId, UUID userId, UUID newId, OffsetDateTime createdAt) {
+        entityManager.flush();
+        List<Object[]> changes = entityManager
+                .createNativeQuery(TOGGLE_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("liked", Boolean.class)
+                .addScalar("created_at", OffsetDateTime.class)
+                .setParameter("id", newId)
+                .setParameter("imageId", imageId)
+                .setParameter("userId", userId)
+                .setParameter("createdAt", createdAt)
+                .getResultList();
+        entityManager.clear();
+        return changes.stream().findFirst().map(row -> new Toggle((Boolean) row[0], (OffsetDateTime) row[1]));
+    }
+}
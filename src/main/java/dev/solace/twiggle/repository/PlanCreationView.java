@@ -0,0 +1,16 @@
+package dev.solace.twiggle.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a garden plan's visibility and creation time, used to seed the popularity
+ * ranking without loading full plan rows.
+ */
+public interface PlanCreationView {
+    UUID getId();
+
+    Boolean getIsPublic();
+
+    OffsetDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package dev.solace.twiggle.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a garden plan's summed, time-decayed engagement.
+ */
+public interface PlanEngagementView {
+    UUID getGardenPlanId();
+
+    Double getDecayedWeight();
+}
@@ -0,0 +1,20 @@
+package dev.solace.twiggle.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for bulk layout changes to plants.
+ */
+public interface PlantLayoutRepository {
+
+    /**
+     * Set the grid positions of many plants of a garden plan in one statement.
+     * Plants that do not belong to the garden plan are left unchanged.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param positions the new position of each plant
+     * @return the number of plants updated
+     */
+    int updatePositions(UUID gardenPlanId, List<? extends PlantPositionView> positions);
+}
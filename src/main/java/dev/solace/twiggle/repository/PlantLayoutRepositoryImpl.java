@@ -0,0 +1,63 @@
+package dev.solace.twiggle.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link PlantLayoutRepository} using a native
+ * {@code UPDATE ... FROM (VALUES ...)} statement.
+ */
+public class PlantLayoutRepositoryImpl implements PlantLayoutRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updatePositions(UUID gardenPlanId, List<? extends PlantPositionView> positions) {
+        if (positions.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery(buildUpdateSql(positions.size()));
+        int parameter = 1;
+        for (PlantPositionView position : positions) {
+            query.setParameter(parameter++, position.getId());
+            query.setParameter(parameter++, position.getPositionX());
+            query.setParameter(parameter++, position.getPositionY());
+        }
+        query.setParameter(parameter++, OffsetDateTime.now());
+        query.setParameter(parameter, gardenPlanId);
+
+        // Same as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    static String buildUpdateSql(int rows) {
+        StringBuilder sql = new StringBuilder("UPDATE plants AS p SET position_x = v.position_x, ")
+                .append("position_y = v.position_y, updated_at = ?")
+                .append(rows * 3 + 1)
+                .append(" FROM (VALUES ");
+        for (int row = 0; row < rows; row++) {
+            int base = row * 3;
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(?")
+                    .append(base + 1)
+                    .append(" AS uuid), CAST(?")
+                    .append(base + 2)
+                    .append(" AS integer), CAST(?")
+                    .append(base + 3)
+                    .append(" AS integer))");
+        }
+        return sql.append(") AS v(id, position_x, position_y) WHERE p.id = v.id AND p.garden_plan_id = ?")
+                .append(rows * 3 + 2)
+                .toString();
+    }
+}
@@ -0,0 +1,15 @@
+package dev.solace.twiggle.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a plant's grid position, used to build garden occupancy without loading
+ * full plant rows.
+ */
+public interface PlantPositionView {
+    UUID getId();
+
+    Integer getPositionX();
+
+    Integer getPositionY();
+}
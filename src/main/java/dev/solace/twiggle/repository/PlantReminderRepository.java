@@ -2,12 +2,19 @@ package dev.solace.twiggle.repository;
 
 import dev.solace.twiggle.model.PlantReminder;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for managing PlantReminder entities.
@@ -103,4 +110,231 @@ public interface PlantReminderRepository extends JpaRepository<PlantReminder, UU
      * @return Page of incomplete reminders for the plant
      */
     Page<PlantReminder> findByPlantIdAndIsCompleted(UUID plantId, Boolean isCompleted, Pageable pageable);
+
+    /**
+     * Find all reminders of a garden plan with a given completion status, soonest first.
+     *
+     * @param gardenPlanId The ID of the garden plan
+     * @param isCompleted The completion status (false for pending)
+     * @return List of matching reminders ordered by reminder date
+     */
+    List<PlantReminder> findByGardenPlanIdAndIsCompletedOrderByReminderDateAsc(UUID gardenPlanId, Boolean isCompleted);
+
+    /**
+     * Find incomplete reminders due on or before a date that were never claimed for an email,
+     * ordered by due date and ID and starting after the given position (keyset pagination).
+     * Reminders of deleted plants or plans, or whose owner has no email address, are skipped.
+     *
+     * @param date The due date
+     * @param afterDate The due date of the last reminder of the previous page
+     * @param afterId The ID of the last reminder of the previous page
+     * @param pageable The page size; the page number must be 0
+     * @return Reminders to email, oldest first
+     */
+    @Query("SELECT r.id AS id, r.reminderType AS reminderType, r.reminderDate AS reminderDate,"
+            + " r.reminderTime AS reminderTime, r.notes AS notes,"
+            + " p.name AS plantName, p.imageUrl AS plantImageUrl, g.id AS gardenPlanId, g.name AS gardenPlanName,"
+            + " g.location AS gardenPlanLocation,"
+            + " u.id AS userId, u.email AS userEmail"
+            + " FROM PlantReminder r"
+            + " JOIN Plant p ON p.id = r.plantId"
+            + " JOIN GardenPlan g ON g.id = r.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE r.isCompleted = false AND r.reminderDate <= :date"
+            + " AND r.emailClaimedAt IS NULL AND u.email IS NOT NULL"
+            + " AND (r.reminderDate > :afterDate OR (r.reminderDate = :afterDate AND r.id > :afterId))"
+            + " ORDER BY r.reminderDate, r.id")
+    List<DueReminderView> findDueForEmail(
+            @Param("date") LocalDate date,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Find the given reminders if they are incomplete, were never claimed for an email and are
+     * due, in one query. A reminder moved to a later date or time after its timer was set is not
+     * returned before its new due time. Reminders of deleted plants or plans, or whose owner has
+     * no email address, are skipped.
+     *
+     * @param ids The IDs of the reminders
+     * @param date The current date (UTC)
+     * @param time The current time of day (UTC)
+     * @param defaultTime The time of day of reminders without one
+     * @return Reminders to email, oldest first
+     */
+    @Query("SELECT r.id AS id, r.reminderType AS reminderType, r.reminderDate AS reminderDate,"
+            + " r.reminderTime AS reminderTime, r.notes AS notes,"
+            + " p.name AS plantName, p.imageUrl AS plantImageUrl, g.id AS gardenPlanId, g.name AS gardenPlanName,"
+            + " g.location AS gardenPlanLocation,"
+            + " u.id AS userId, u.email AS userEmail"
+            + " FROM PlantReminder r"
+            + " JOIN Plant p ON p.id = r.plantId"
+            + " JOIN GardenPlan g ON g.id = r.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE r.id IN :ids AND r.isCompleted = false"
+            + " AND r.emailClaimedAt IS NULL AND u.email IS NOT NULL"
+            + " AND (r.reminderDate < :date"
+            + " OR (r.reminderDate = :date AND COALESCE(r.reminderTime, :defaultTime) <= :time))"
+            + " ORDER BY r.reminderDate, r.id")
+    List<DueReminderView> findDueForEmailByIds(
+            @Param("ids") Collection<UUID> ids,
+            @Param("date") LocalDate date,
+            @Param("time") LocalTime time,
+            @Param("defaultTime") LocalTime defaultTime);
+
+    /**
+     * Find the due times of incomplete reminders due between two dates that were never claimed
+     * for an email, ordered by due date and ID and starting after the given position (keyset
+     * pagination).
+     *
+     * @param from The first due date
+     * @param to The last due date
+     * @param afterDate The due date of the last reminder of the previous page
+     * @param afterId The ID of the last reminder of the previous page
+     * @param pageable The page size; the page number must be 0
+     * @return Reminders to schedule, oldest first
+     */
+    @Query("SELECT r.id AS id, r.reminderDate AS reminderDate, r.reminderTime AS reminderTime"
+            + " FROM PlantReminder r"
+            + " WHERE r.isCompleted = false AND r.emailClaimedAt IS NULL"
+            + " AND r.reminderDate >= :from AND r.reminderDate <= :to"
+            + " AND (r.reminderDate > :afterDate OR (r.reminderDate = :afterDate AND r.id > :afterId))"
+            + " ORDER BY r.reminderDate, r.id")
+    List<ReminderTimeView> findUnclaimedBetween(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Find the owners of incomplete reminders due on or before a date that were never claimed
+     * for an email, ordered by ID and starting after the given owner (keyset pagination).
+     *
+     * @param date The due date
+     * @param afterUserId The last owner of the previous page
+     * @param pageable The page size; the page number must be 0
+     * @return IDs of the users to send a digest to
+     */
+    @Query("SELECT DISTINCT g.userId FROM PlantReminder r"
+            + " JOIN Plant p ON p.id = r.plantId"
+            + " JOIN GardenPlan g ON g.id = r.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE r.isCompleted = false AND r.reminderDate <= :date"
+            + " AND r.emailClaimedAt IS NULL AND u.email IS NOT NULL AND g.userId > :afterUserId"
+            + " ORDER BY g.userId")
+    List<UUID> findUserIdsWithDueForEmail(
+            @Param("date") LocalDate date, @Param("afterUserId") UUID afterUserId, Pageable pageable);
+
+    /**
+     * Find the incomplete reminders of some users due on or before a date that were never
+     * claimed for an email, in one query.
+     *
+     * @param date The due date
+     * @param userIds The IDs of the owners
+     * @return Reminders to email, grouped by owner and oldest first
+     */
+    @Query("SELECT r.id AS id, r.reminderType AS reminderType, r.reminderDate AS reminderDate,"
+            + " r.reminderTime AS reminderTime, r.notes AS notes,"
+            + " p.name AS plantName, p.imageUrl AS plantImageUrl, g.id AS gardenPlanId, g.name AS gardenPlanName,"
+            + " g.location AS gardenPlanLocation,"
+            + " u.id AS userId, u.email AS userEmail"
+            + " FROM PlantReminder r"
+            + " JOIN Plant p ON p.id = r.plantId"
+            + " JOIN GardenPlan g ON g.id = r.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE r.isCompleted = false AND r.reminderDate <= :date"
+            + " AND r.emailClaimedAt IS NULL AND u.email IS NOT NULL AND g.userId IN :userIds"
+            + " ORDER BY g.userId, r.reminderDate, r.id")
+    List<DueReminderView> findDueForDigest(@Param("date") LocalDate date, @Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Move incomplete reminders that were never claimed for an email to another due date, such
+     * as when rain makes watering unnecessary.
+     *
+     * @param ids The IDs of the reminders
+     * @param date The new due date
+     * @return The number of reminders moved
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PlantReminder r SET r.reminderDate = :date"
+            + " WHERE r.id IN :ids AND r.isCompleted = false AND r.emailClaimedAt IS NULL")
+    int deferUnclaimed(@Param("ids") Collection<UUID> ids, @Param("date") LocalDate date);
+
+    /**
+     * Claim a reminder for emailing, unless it was claimed or completed meanwhile.
+     *
+     * @param id The ID of the reminder
+     * @param claimedAt The claim time
+     * @return 1 if this caller may send the email, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE plant_reminders SET email_claimed_at = :claimedAt"
+                    + " WHERE id = :id AND email_claimed_at IS NULL AND is_completed = false",
+            nativeQuery = true)
+    int claimForEmail(@Param("id") UUID id, @Param("claimedAt") OffsetDateTime claimedAt);
+
+    /**
+     * Claim reminders for one digest email, skipping those claimed or completed meanwhile. The
+     * claimed reminders are tagged with the claim ID.
+     *
+     * @param ids The IDs of the reminders
+     * @param claimId The ID of this claim
+     * @param claimedAt The claim time
+     * @return The number of reminders claimed
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE plant_reminders SET email_claimed_at = :claimedAt, email_claim_id = :claimId"
+                    + " WHERE id IN (:ids) AND email_claimed_at IS NULL AND is_completed = false",
+            nativeQuery = true)
+    int claimAllForEmail(
+            @Param("ids") Collection<UUID> ids,
+            @Param("claimId") UUID claimId,
+            @Param("claimedAt") OffsetDateTime claimedAt);
+
+    /**
+     * Find the reminders of a digest claim.
+     *
+     * @param claimId The ID of the claim
+     * @return IDs of the claimed reminders
+     */
+    @Query("SELECT r.id FROM PlantReminder r WHERE r.emailClaimId = :claimId")
+    List<UUID> findIdsByEmailClaimId(@Param("claimId") UUID claimId);
+
+    /**
+     * Record that the digest email of a claim was accepted by the email provider.
+     *
+     * @param claimId The ID of the claim
+     * @param emailId The provider's ID of the email
+     * @param sentAt The send time
+     * @return The number of reminders updated
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE plant_reminders SET email_sent_at = :sentAt, email_id = :emailId"
+                    + " WHERE email_claim_id = :claimId",
+            nativeQuery = true)
+    int markClaimEmailSent(
+            @Param("claimId") UUID claimId, @Param("emailId") String emailId, @Param("sentAt") OffsetDateTime sentAt);
+
+    /**
+     * Record that the email of a claimed reminder was accepted by the email provider.
+     *
+     * @param id The ID of the reminder
+     * @param emailId The provider's ID of the email
+     * @param sentAt The send time
+     * @return 1 if the reminder was updated, 0 if it no longer exists
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE plant_reminders SET email_sent_at = :sentAt, email_id = :emailId WHERE id = :id",
+            nativeQuery = true)
+    int markEmailSent(@Param("id") UUID id, @Param("emailId") String emailId, @Param("sentAt") OffsetDateTime sentAt);
 }
@@ -15,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
  * Repository interface for the Plant entity.
  */
 @Repository
-public interface PlantRepository extends JpaRepository<Plant, UUID> {
+public interface PlantRepository extends JpaRepository<Plant, UUID>, PlantLayoutRepository, PlantSearchRepository {
 
     /**
      * Find all plants belonging to a specific garden plan with pagination and sorting.
@@ -36,6 +36,17 @@ public interface PlantRepository extends JpaRepository<Plant, UUID> {
     @Transactional(readOnly = true)
     List<Plant> findByGardenPlanId(UUID gardenPlanId);
 
+    /**
+     * Find the grid positions of all positioned plants in a garden plan.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @return list of plant positions
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT p.id AS id, p.positionX AS positionX, p.positionY AS positionY FROM Plant p "
+            + "WHERE p.gardenPlanId = :gardenPlanId AND p.positionX IS NOT NULL AND p.positionY IS NOT NULL")
+    List<PlantPositionView> findPositionsByGardenPlanId(@Param("gardenPlanId") UUID gardenPlanId);
+
     /**
      * Find plants by type with pagination and sorting.
      *
@@ -71,80 +82,4 @@ public interface PlantRepository extends JpaRepository<Plant, UUID> {
             + "LOWER(p.sunlightRequirements) LIKE LOWER(CONCAT('%', :query, '%'))) "
             + "AND (:gardenPlanId IS NULL OR p.gardenPlanId = :gardenPlanId)")
     Page<Plant> searchPlants(@Param("query") String query, @Param("gardenPlanId") UUID gardenPlanId, Pageable pageable);
-
-    /**
-     * Enhanced search for plants with relevance scoring.
-     * The search prioritizes name matches, then type, and finally other fields.
-     * It will return closest matching results when partial entries are provided.
-     *
-     * @param name search term for name (can be null)
-     * @param type search term for type (can be null)
-     * @param wateringFrequency search term for watering frequency (can be null)
-     * @param sunlightRequirements search term for sunlight requirements (can be null)
-     * @param query general search term for any field including description (can be null)
-     * @param gardenPlanId optional garden plan ID to filter by (can be null)
-     * @param pageable pagination and sorting parameters
-     * @return page of matching plants ordered by relevance
-     */
-    @Transactional(readOnly = true)
-    @Query(
-            value = "SELECT p.*, " + "CASE "
-                    + "  WHEN LOWER(p.name) = LOWER(:name) THEN 100 "
-                    + "  WHEN LOWER(p.name) LIKE LOWER(CONCAT(:name, '%')) THEN 80 "
-                    + "  WHEN LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')) THEN 60 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN LOWER(p.type) = LOWER(:type) THEN 50 "
-                    + "  WHEN LOWER(p.type) LIKE LOWER(CONCAT(:type, '%')) THEN 40 "
-                    + "  WHEN LOWER(p.type) LIKE LOWER(CONCAT('%', :type, '%')) THEN 30 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN LOWER(p.watering_frequency) = LOWER(:wateringFrequency) THEN 25 "
-                    + "  WHEN LOWER(p.watering_frequency) LIKE LOWER(CONCAT(:wateringFrequency, '%')) THEN 20 "
-                    + "  WHEN LOWER(p.watering_frequency) LIKE LOWER(CONCAT('%', :wateringFrequency, '%')) THEN 15 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN LOWER(p.sunlight_requirements) = LOWER(:sunlightRequirements) THEN 25 "
-                    + "  WHEN LOWER(p.sunlight_requirements) LIKE LOWER(CONCAT(:sunlightRequirements, '%')) THEN 20 "
-                    + "  WHEN LOWER(p.sunlight_requirements) LIKE LOWER(CONCAT('%', :sunlightRequirements, '%')) THEN 15 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN (:query IS NOT NULL) AND ("
-                    + "       LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(p.description) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(p.type) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(p.watering_frequency) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "       LOWER(p.sunlight_requirements) LIKE LOWER(CONCAT('%', :query, '%'))) THEN 10 "
-                    + "  ELSE 0 "
-                    + "END AS relevance_score "
-                    + "FROM plants p "
-                    + "WHERE (:name IS NULL OR "
-                    + "       LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) "
-                    + "AND (:type IS NULL OR "
-                    + "     LOWER(p.type) LIKE LOWER(CONCAT('%', :type, '%'))) "
-                    + "AND (:wateringFrequency IS NULL OR "
-                    + "     LOWER(p.watering_frequency) LIKE LOWER(CONCAT('%', :wateringFrequency, '%'))) "
-                    + "AND (:sunlightRequirements IS NULL OR "
-                    + "     LOWER(p.sunlight_requirements) LIKE LOWER(CONCAT('%', :sunlightRequirements, '%'))) "
-                    + "AND (:query IS NULL OR "
-                    + "     LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(p.description) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(p.type) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(p.watering_frequency) LIKE LOWER(CONCAT('%', :query, '%')) OR "
-                    + "     LOWER(p.sunlight_requirements) LIKE LOWER(CONCAT('%', :query, '%'))) "
-                    + "AND (:gardenPlanId IS NULL OR p.garden_plan_id = :gardenPlanId) "
-                    + "ORDER BY relevance_score DESC",
-            nativeQuery = true)
-    Page<Plant> searchPlantsWithRelevance(
-            @Param("name") String name,
-            @Param("type") String type,
-            @Param("wateringFrequency") String wateringFrequency,
-            @Param("sunlightRequirements") String sunlightRequirements,
-            @Param("query") String query,
-            @Param("gardenPlanId") UUID gardenPlanId,
-            Pageable pageable);
 }
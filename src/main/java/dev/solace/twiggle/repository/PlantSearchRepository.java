@@ -0,0 +1,35 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Plant;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Custom repository fragment for ranked plant search.
+ */
+public interface PlantSearchRepository {
+
+    /**
+     * Enhanced search for plants with relevance scoring.
+     * Terms match substrings and, through trigram similarity, close misspellings. Name matches
+     * weigh most, then type, then watering and sunlight, then the general query.
+     *
+     * @param name search term for name (can be null)
+     * @param type search term for type (can be null)
+     * @param wateringFrequency search term for watering frequency (can be null)
+     * @param sunlightRequirements search term for sunlight requirements (can be null)
+     * @param query general search term for any field including description (can be null)
+     * @param gardenPlanId optional garden plan ID to filter by (can be null)
+     * @param pageable pagination parameters; results are always ordered by relevance
+     * @return page of matching plants ordered by relevance
+     */
+    Page<Plant> searchPlantsWithRelevance(
+            String name,
+            String type,
+            String wateringFrequency,
+            String sunlightRequirements,
+            String query,
+            UUID gardenPlanId,
+            Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Plant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link PlantSearchRepository} using pg_trgm ranked queries.
+ */
+public class PlantSearchRepositoryImpl implements PlantSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Plant> searchPlantsWithRelevance(
+            String name,
+            String type,
+            String wateringFrequency,
+            String sunlightRequirements,
+            String query,
+            UUID gardenPlanId,
+            Pageable pageable) {
+        return new TrigramSearchQuery("plants", "p")
+                .field("name", name, 100)
+                .field("type", type, 50)
+                .field("watering_frequency", wateringFrequency, 25)
+                .field("sunlight_requirements", sunlightRequirements, 25)
+                .anyField(
+                        List.of("name", "description", "type", "watering_frequency", "sunlight_requirements"),
+                        query,
+                        10)
+                .equal("garden_plan_id", gardenPlanId)
+                .fetch(entityManager, Plant.class, pageable);
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Repository;
  * Repository interface for the Profile entity.
  */
 @Repository
-public interface ProfileRepository extends JpaRepository<Profile, UUID> {
+public interface ProfileRepository extends JpaRepository<Profile, UUID>, ProfileSearchRepository {
 
     /**
      * Find profiles by full name containing the given text (case-insensitive).
@@ -43,36 +43,4 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     @Query("SELECT p FROM Profile p WHERE "
             + "(:query IS NULL OR LOWER(p.fullName) LIKE LOWER(CONCAT('%', :query, '%')))")
     Page<Profile> searchProfiles(@Param("query") String query, Pageable pageable);
-
-    /**
-     * Enhanced search for profiles with relevance scoring.
-     * The search prioritizes exact matches, then prefix matches, then substring matches.
-     * It will return closest matching results when partial entries are provided.
-     *
-     * @param fullName search term for full name (can be null)
-     * @param query general search term for any field (can be null)
-     * @param pageable pagination and sorting parameters
-     * @return page of matching profiles ordered by relevance
-     */
-    @Query(
-            value = "SELECT p.*, " + "CASE "
-                    + "  WHEN LOWER(p.full_name) = LOWER(:fullName) THEN 100 "
-                    + "  WHEN LOWER(p.full_name) LIKE LOWER(CONCAT(:fullName, '%')) THEN 80 "
-                    + "  WHEN LOWER(p.full_name) LIKE LOWER(CONCAT('%', :fullName, '%')) THEN 60 "
-                    + "  ELSE 0 "
-                    + "END + "
-                    + "CASE "
-                    + "  WHEN (:query IS NOT NULL) AND "
-                    + "       LOWER(p.full_name) LIKE LOWER(CONCAT('%', :query, '%')) THEN 10 "
-                    + "  ELSE 0 "
-                    + "END AS relevance_score "
-                    + "FROM profiles p "
-                    + "WHERE (:fullName IS NULL OR "
-                    + "       LOWER(p.full_name) LIKE LOWER(CONCAT('%', :fullName, '%'))) "
-                    + "AND (:query IS NULL OR "
-                    + "     LOWER(p.full_name) LIKE LOWER(CONCAT('%', :query, '%'))) "
-                    + "ORDER BY relevance_score DESC",
-            nativeQuery = true)
-    Page<Profile> searchProfilesWithRelevance(
-            @Param("fullName") String fullName, @Param("query") String query, Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Custom repository fragment for ranked profile search.
+ */
+public interface ProfileSearchRepository {
+
+    /**
+     * Enhanced search for profiles with relevance scoring.
+     * Terms match substrings and, through trigram similarity, close misspellings; the closer
+     * the full name is to the term, the higher the profile ranks.
+     *
+     * @param fullName search term for full name (can be null)
+     * @param query general search term for any field (can be null)
+     * @param pageable pagination parameters; results are always ordered by relevance
+     * @return page of matching profiles ordered by relevance
+     */
+    Page<Profile> searchProfilesWithRelevance(String fullName, String query, Pageable pageable);
+}
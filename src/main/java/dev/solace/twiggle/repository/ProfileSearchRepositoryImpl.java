@@ -0,0 +1,26 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.Profile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link ProfileSearchRepository} using pg_trgm ranked queries.
+ */
+public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Profile> searchProfilesWithRelevance(String fullName, String query, Pageable pageable) {
+        return new TrigramSearchQuery("profiles", "p")
+                .field("full_name", fullName, 100)
+                .field("full_name", query, 10)
+                .fetch(entityManager, Profile.class, pageable);
+    }
+}
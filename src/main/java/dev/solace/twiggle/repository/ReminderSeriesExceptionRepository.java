@@ -0,0 +1,45 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ReminderSeriesException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the completed and skipped occurrences of reminder series.
+ */
+@Repository
+public interface ReminderSeriesExceptionRepository
+        extends JpaRepository<ReminderSeriesException, ReminderSeriesException.Key> {
+
+    /**
+     * Find the exceptions of some series in a date range.
+     *
+     * @param seriesIds The IDs of the series
+     * @param from The first date, inclusive
+     * @param to The last date, inclusive
+     * @return Exceptions in the range
+     */
+    @Query("SELECT e FROM ReminderSeriesException e"
+            + " WHERE e.seriesId IN :seriesIds AND e.occurrenceDate BETWEEN :from AND :to")
+    List<ReminderSeriesException> findInRange(
+            @Param("seriesIds") Collection<UUID> seriesIds, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Delete all exceptions of a series.
+     *
+     * @param seriesId The ID of the series
+     * @return The number of exceptions deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReminderSeriesException e WHERE e.seriesId = :seriesId")
+    int deleteBySeriesId(@Param("seriesId") UUID seriesId);
+}
@@ -0,0 +1,121 @@
+package dev.solace.twiggle.repository;
+
+import dev.solace.twiggle.model.ReminderSeries;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for managing ReminderSeries entities.
+ */
+@Repository
+public interface ReminderSeriesRepository extends JpaRepository<ReminderSeries, UUID> {
+
+    /**
+     * Find all reminder series of a garden plan with pagination.
+     *
+     * @param gardenPlanId The ID of the garden plan
+     * @param pageable Pagination and sorting information
+     * @return Page of reminder series of the garden plan
+     */
+    Page<ReminderSeries> findByGardenPlanId(UUID gardenPlanId, Pageable pageable);
+
+    /**
+     * Find all reminder series of a garden plan.
+     *
+     * @param gardenPlanId The ID of the garden plan
+     * @return List of reminder series of the garden plan
+     */
+    List<ReminderSeries> findByGardenPlanId(UUID gardenPlanId);
+
+    /**
+     * Find reminder series whose next occurrence is due on or before a date, ordered by that
+     * occurrence and ID and starting after the given position (keyset pagination). Series of
+     * deleted plants or plans, or whose owner has no email address, are skipped.
+     *
+     * @param date The due date
+     * @param afterDate The next occurrence of the last series of the previous page
+     * @param afterId The ID of the last series of the previous page
+     * @param pageable The page size; the page number must be 0
+     * @return Series to email, oldest occurrence first
+     */
+    @Query("SELECT s.id AS id, s.reminderType AS reminderType, s.notes AS notes, s.nextDueDate AS nextDueDate,"
+            + " s.startDate AS startDate, s.endDate AS endDate, s.intervalDays AS intervalDays,"
+            + " s.weekdays AS weekdays, s.seasonStartMonth AS seasonStartMonth, s.seasonEndMonth AS seasonEndMonth,"
+            + " p.name AS plantName, p.imageUrl AS plantImageUrl, g.id AS gardenPlanId, g.name AS gardenPlanName,"
+            + " g.location AS gardenPlanLocation, u.id AS userId, u.email AS userEmail"
+            + " FROM ReminderSeries s"
+            + " JOIN Plant p ON p.id = s.plantId"
+            + " JOIN GardenPlan g ON g.id = s.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE s.nextDueDate <= :date AND u.email IS NOT NULL"
+            + " AND (s.nextDueDate > :afterDate OR (s.nextDueDate = :afterDate AND s.id > :afterId))"
+            + " ORDER BY s.nextDueDate, s.id")
+    List<DueSeriesView> findDueForEmail(
+            @Param("date") LocalDate date,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Find the owners of reminder series whose next occurrence is due on or before a date,
+     * ordered by ID and starting after the given owner (keyset pagination).
+     *
+     * @param date The due date
+     * @param afterUserId The last owner of the previous page
+     * @param pageable The page size; the page number must be 0
+     * @return IDs of the users to send a digest to
+     */
+    @Query("SELECT DISTINCT g.userId FROM ReminderSeries s"
+            + " JOIN Plant p ON p.id = s.plantId"
+            + " JOIN GardenPlan g ON g.id = s.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE s.nextDueDate <= :date AND u.email IS NOT NULL AND g.userId > :afterUserId"
+            + " ORDER BY g.userId")
+    List<UUID> findUserIdsWithDueForEmail(
+            @Param("date") LocalDate date, @Param("afterUserId") UUID afterUserId, Pageable pageable);
+
+    /**
+     * Find the reminder series of some users whose next occurrence is due on or before a date,
+     * in one query.
+     *
+     * @param date The due date
+     * @param userIds The IDs of the owners
+     * @return Series to email, grouped by owner and oldest occurrence first
+     */
+    @Query("SELECT s.id AS id, s.reminderType AS reminderType, s.notes AS notes, s.nextDueDate AS nextDueDate,"
+            + " s.startDate AS startDate, s.endDate AS endDate, s.intervalDays AS intervalDays,"
+            + " s.weekdays AS weekdays, s.seasonStartMonth AS seasonStartMonth, s.seasonEndMonth AS seasonEndMonth,"
+            + " p.name AS plantName, p.imageUrl AS plantImageUrl, g.id AS gardenPlanId, g.name AS gardenPlanName,"
+            + " g.location AS gardenPlanLocation, u.id AS userId, u.email AS userEmail"
+            + " FROM ReminderSeries s"
+            + " JOIN Plant p ON p.id = s.plantId"
+            + " JOIN GardenPlan g ON g.id = s.gardenPlanId"
+            + " JOIN AuthUser u ON u.id = g.userId"
+            + " WHERE s.nextDueDate <= :date AND u.email IS NOT NULL AND g.userId IN :userIds"
+            + " ORDER BY g.userId, s.nextDueDate, s.id")
+    List<DueSeriesView> findDueForDigest(@Param("date") LocalDate date, @Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Move the next occurrence of a series forward, unless another run moved it meanwhile.
+     * Claims the current occurrence for emailing.
+     *
+     * @param id The ID of the series
+     * @param current The next occurrence read by the caller
+     * @param next The new next occurrence, or null if the series has ended
+     * @return 1 if this caller moved the occurrence, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReminderSeries s SET s.nextDueDate = :next WHERE s.id = :id AND s.nextDueDate = :current")
+    int advanceNextDueDate(@Param("id") UUID id, @Param("current") LocalDate current, @Param("next") LocalDate next);
+}
@@ -0,0 +1,16 @@
+package dev.solace.twiggle.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Projection of a reminder with only what is needed to schedule its email at its due time.
+ */
+public interface ReminderTimeView {
+    UUID getId();
+
+    LocalDate getReminderDate();
+
+    LocalTime getReminderTime();
+}
@@ -0,0 +1,156 @@
+package dev.solace.twiggle.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Builder for ranked native searches backed by pg_trgm.
+ * Every search term becomes an {@code ILIKE '%term%'} or {@code term <% column} filter, both of
+ * which can use a {@code gin_trgm_ops} index on the column (see {@code db/search-trigram-indexes.sql}),
+ * and a score from {@code similarity()} and {@code word_similarity()}. Absent terms are left out of
+ * the SQL instead of being guarded with {@code :param IS NULL}, so the planner always sees the
+ * indexable predicates. Results are ordered by score and then by ID, which keeps pages stable.
+ */
+final class TrigramSearchQuery {
+
+    private final String table;
+    private final String alias;
+    private final List<String> filters = new ArrayList<>();
+    private final List<String> scores = new ArrayList<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    TrigramSearchQuery(String table, String alias) {
+        this.table = table;
+        this.alias = alias;
+    }
+
+    /**
+     * Match a term against one column.
+     *
+     * @param column the column name
+     * @param term the search term, skipped if null or blank
+     * @param weight the score of a perfect match
+     * @return this query
+     */
+    TrigramSearchQuery field(String column, String term, int weight) {
+        return anyField(List.of(column), term, weight);
+    }
+
+    /**
+     * Match a term against several columns; a row matches if any column does and is scored
+     * by its best column.
+     *
+     * @param columns the column names
+     * @param term the search term, skipped if null or blank
+     * @param weight the score of a perfect match
+     * @return this query
+     */
+    TrigramSearchQuery anyField(List<String> columns, String term, int weight) {
+        if (term == null || term.isBlank()) {
+            return this;
+        }
+        String param = "t" + parameters.size();
+        String likeParam = param + "_like";
+        parameters.put(param, term);
+        parameters.put(likeParam, "%" + escapeLike(term) + "%");
+
+        List<String> matches = new ArrayList<>();
+        List<String> columnScores = new ArrayList<>();
+        for (String column : columns) {
+            String qualified = alias + "." + column;
+            matches.add(qualified + " ILIKE :" + likeParam);
+            matches.add(":" + param + " <% " + qualified);
+            // word_similarity rewards containing the term, similarity rewards matching the whole value
+            columnScores.add("COALESCE(word_similarity(:" + param + ", " + qualified + ") + similarity(:" + param + ", "
+                    + qualified + "), 0)");
+        }
+        filters.add("(" + String.join(" OR ", matches) + ")");
+        String best =
+                columnScores.size() == 1 ? columnScores.get(0) : "GREATEST(" + String.join(", ", columnScores) + ")";
+        scores.add(weight + " * " + best);
+        return this;
+    }
+
+    /**
+     * Filter on an exact column value.
+     *
+     * @param column the column name
+     * @param value the value, skipped if null
+     * @return this query
+     */
+    TrigramSearchQuery equal(String column, Object value) {
+        if (value == null) {
+            return this;
+        }
+        String param = "e" + parameters.size();
+        parameters.put(param, value);
+        filters.add(alias + "." + column + " = :" + param);
+        return this;
+    }
+
+    String selectSql() {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(alias)
+                .append(".* FROM ")
+                .append(table)
+                .append(' ')
+                .append(alias)
+                .append(whereClause())
+                .append(" ORDER BY ");
+        if (!scores.isEmpty()) {
+            sql.append('(').append(String.join(" + ", scores)).append(") DESC, ");
+        }
+        return sql.append(alias).append(".id").toString();
+    }
+
+    String countSql() {
+        // Only the filters: the score is not needed to count matches
+        return "SELECT COUNT(*) FROM " + table + " " + alias + whereClause();
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    /**
+     * Run the search. The sort of the pageable is ignored, results are always ordered by
+     * relevance. The count query is skipped when the page alone determines the total.
+     *
+     * @param entityManager the entity manager
+     * @param resultType the entity class mapped to the table
+     * @param pageable pagination parameters
+     * @return page of matching entities ordered by relevance
+     */
+    <T> Page<T> fetch(EntityManager entityManager, Class<T> resultType, Pageable pageable) {
+        Query select = bind(entityManager.createNativeQuery(selectSql(), resultType));
+        if (pageable.isPaged()) {
+            select.setFirstResult((int) pageable.getOffset());
+            select.setMaxResults(pageable.getPageSize());
+        }
+        @SuppressWarnings("unchecked")
+        List<T> content = select.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> ((Number)
+                        bind(entityManager.createNativeQuery(countSql())).getSingleResult())
+                .longValue());
+    }
+
+    private Query bind(Query query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private String whereClause() {
+        return filters.isEmpty() ? "" : " WHERE " + String.join(" AND ", filters);
+    }
+
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,15 @@
+package dev.solace.twiggle.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of what the weather check reads from a due reminder or reminder series: its type
+ * and the location of its garden plan.
+ */
+public interface WeatherCheckView {
+    UUID getId();
+
+    String getReminderType();
+
+    String getGardenPlanLocation();
+}
@@ -0,0 +1,215 @@
+package dev.solace.twiggle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.solace.twiggle.config.ActivityPartitionConfig;
+import dev.solace.twiggle.model.Activity;
+import dev.solace.twiggle.repository.ActivityPartitionRepository.ActivityPartition;
+import dev.solace.twiggle.repository.ActivityRepository;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintenance of the monthly partitions of the activities table (UTC months).
+ * Partitions are created a few months ahead, so inserts never fall into the default partition.
+ * Partitions older than the retention period are detached, so queries stop seeing them, then
+ * exported to a gzipped NDJSON file in the archive directory and dropped. A partition that was
+ * detached but not dropped, such as after a crash, is exported again on the next run.
+ * The per-day activity counts are kept, so dashboards still cover archived months.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityPartitionService {
+
+    static final String PARTITION_PREFIX = "activities_p";
+    static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ActivityRepository activityRepository;
+    private final ActivityPartitionConfig activityPartitionConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Create the partitions of the coming months and archive the expired ones, if partition
+     * maintenance is enabled.
+     */
+    @Scheduled(fixedDelayString = "${garden.activities.partitions.maintenance-interval:PT12H}")
+    public void maintain() {
+        if (!activityPartitionConfig.isEnabled()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        createPartitions(current);
+        expirePartitions(current);
+    }
+
+    /**
+     * Create the partitions of a month and of the configured number of months after it,
+     * unless they exist.
+     *
+     * @param current the first month
+     * @return the number of partitions that exist now
+     */
+    public int createPartitions(YearMonth current) {
+        int ensured = 0;
+        for (int ahead = 0; ahead <= Math.max(0, activityPartitionConfig.getMonthsAhead()); ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            try {
+                activityRepository.createPartition(
+                        partitionName(month), monthStart(month), monthStart(month.plusMonths(1)));
+                ensured++;
+            } catch (RuntimeException e) {
+                // Fails when the default partition already holds activities of the month
+                log.error("Failed to create activities partition for {}: {}", month, e.getMessage());
+            }
+        }
+        return ensured;
+    }
+
+    /**
+     * Archive and drop every partition older than the retention period.
+     *
+     * @param current the current month
+     * @return the number of partitions archived
+     */
+    public int expirePartitions(YearMonth current) {
+        int retentionMonths = activityPartitionConfig.getRetentionMonths();
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        int archived = 0;
+        for (ActivityPartition partition : activityRepository.findPartitions()) {
+            YearMonth month = parseMonth(partition.name());
+            if (month == null || !isExpired(month, current, retentionMonths)) {
+                continue;
+            }
+            try {
+                archive(partition);
+                archived++;
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to archive activities partition {}, retrying on next run", partition.name(), e);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Detach a partition, export its activities and drop it. The partition is only dropped
+     * once the export is complete and synced to disk.
+     */
+    private void archive(ActivityPartition partition) throws IOException {
+        if (partition.attached()) {
+            activityRepository.detachPartition(partition.name());
+        }
+        Path archive = export(partition.name());
+        activityRepository.dropPartition(partition.name());
+        log.info("Archived activities partition {} to {}", partition.name(), archive);
+    }
+
+    /**
+     * Write the activities of a partition to a gzipped file with one JSON object per line.
+     *
+     * @return the archive file
+     */
+    Path export(String partitionName) throws IOException {
+        Path directory = Path.of(activityPartitionConfig.getArchiveDirectory()).toAbsolutePath();
+        Files.createDirectories(directory);
+        Path archive = directory.resolve(partitionName + ARCHIVE_SUFFIX);
+        Path temp = directory.resolve(partitionName + ARCHIVE_SUFFIX + ".tmp");
+        try {
+            long rows;
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                    GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(file, BUFFER_SIZE))) {
+                rows = activityRepository.streamPartition(partitionName, activity -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(ArchivedActivity.of(activity)));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.finish();
+                out.flush();
+                file.getFD().sync();
+            }
+            Files.move(temp, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Exported {} activities of partition {}", rows, partitionName);
+            return archive;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + MONTH_FORMAT.format(month);
+    }
+
+    /**
+     * Get the month of a partition from its name.
+     *
+     * @return the month, or null if the name is not one of a monthly partition
+     */
+    static YearMonth parseMonth(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether a month is before the last {@code retentionMonths} months, counting the current one.
+     */
+    static boolean isExpired(YearMonth month, YearMonth current, int retentionMonths) {
+        return month.isBefore(current.minusMonths(retentionMonths - 1L));
+    }
+
+    private static OffsetDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * An activity as written to an archive, including its ID unlike {@code ActivityDTO}.
+     */
+    record ArchivedActivity(
+            UUID id,
+            UUID userId,
+            UUID gardenPlanId,
+            String activityType,
+            String description,
+            OffsetDateTime createdAt) {
+
+        static ArchivedActivity of(Activity activity) {
+            return new ArchivedActivity(
+                    activity.getId(),
+                    activity.getUserId(),
+                    activity.getGardenPlanId(),
+                    activity.getActivityType(),
+                    activity.getDescription(),
+                    activity.getCreatedAt());
+        }
+    }
+}
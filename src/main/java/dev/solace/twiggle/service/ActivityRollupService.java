@@ -0,0 +1,293 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.ActivityRollupConfig;
+import dev.solace.twiggle.dto.ActivityDailyCountDTO;
+import dev.solace.twiggle.dto.ActivityStreakDTO;
+import dev.solace.twiggle.model.Activity;
+import dev.solace.twiggle.model.ActivityDailyCount;
+import dev.solace.twiggle.repository.ActivityDailyCountRepository;
+import dev.solace.twiggle.repository.ActivityDailyCountView;
+import dev.solace.twiggle.repository.ActivityDayTotalView;
+import dev.solace.twiggle.repository.ActivityRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-day activity counts for the activity dashboards, kept in the activity_daily_counts table
+ * so a dashboard reads one row per day and type instead of every activity.
+ * The counts are changed in the same transaction as the activities they count. Days are UTC.
+ * A periodic reconciliation recounts the last closed days from the activities to correct any
+ * drift, and {@link #backfill(LocalDate, LocalDate)} recounts older history the same way.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityRollupService {
+
+    private static final Comparator<Change> CHANGE_ORDER = Comparator.comparing(Change::getUserId)
+            .thenComparing(Change::getGardenPlanId)
+            .thenComparing(Change::getActivityType)
+            .thenComparing(Change::getDay);
+
+    private final ActivityRepository activityRepository;
+    private final ActivityDailyCountRepository activityDailyCountRepository;
+    private final ActivityRollupConfig activityRollupConfig;
+
+    /**
+     * Insert new activities and count them, in one transaction.
+     *
+     * @param activities the activities, with their IDs and creation times set
+     */
+    @Transactional
+    public void insertAll(List<Activity> activities) {
+        activityRepository.insertAll(activities);
+        activitiesAdded(activities);
+    }
+
+    /**
+     * Count new activities.
+     *
+     * @param activities the created activities
+     */
+    public void activitiesAdded(Collection<Activity> activities) {
+        Map<Key, Long> deltas = new HashMap<>();
+        activities.forEach(activity -> deltas.merge(key(activity), 1L, Long::sum));
+        write(deltas);
+    }
+
+    /**
+     * Count an activity whose user, garden plan or type may have changed.
+     *
+     * @param previous the activity before the change
+     * @param updated the activity after the change
+     */
+    public void activityUpdated(Activity previous, Activity updated) {
+        Map<Key, Long> deltas = new HashMap<>();
+        deltas.merge(key(previous), -1L, Long::sum);
+        deltas.merge(key(updated), 1L, Long::sum);
+        write(deltas);
+    }
+
+    /**
+     * Stop counting a deleted activity.
+     *
+     * @param activity the deleted activity
+     */
+    public void activityRemoved(Activity activity) {
+        write(Map.of(key(activity), -1L));
+    }
+
+    /**
+     * Get how many activities of each type a user recorded per day.
+     *
+     * @param userId the user ID
+     * @param gardenPlanId only count activities on this garden plan, or null for all
+     * @param activityType only count activities of this type, or null for all
+     * @param from the first day, or null for the configured default range
+     * @param to the last day, inclusive, or null for today
+     * @return the counts of every day and type with activities, oldest day first
+     * @throws IllegalArgumentException if the range is reversed or longer than allowed
+     */
+    public List<ActivityDailyCountDTO> getUserDailyCounts(
+            UUID userId, UUID gardenPlanId, String activityType, LocalDate from, LocalDate to) {
+        LocalDate last = to != null ? to : today();
+        LocalDate first = resolveFrom(from, last);
+        return toDtos(activityDailyCountRepository.sumByUserPerDay(userId, gardenPlanId, activityType, first, last));
+    }
+
+    /**
+     * Get how many activities of each type all users recorded on a garden plan per day.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param activityType only count activities of this type, or null for all
+     * @param from the first day, or null for the configured default range
+     * @param to the last day, inclusive, or null for today
+     * @return the counts of every day and type with activities, oldest day first
+     * @throws IllegalArgumentException if the range is reversed or longer than allowed
+     */
+    public List<ActivityDailyCountDTO> getGardenPlanDailyCounts(
+            UUID gardenPlanId, String activityType, LocalDate from, LocalDate to) {
+        LocalDate last = to != null ? to : today();
+        LocalDate first = resolveFrom(from, last);
+        return toDtos(activityDailyCountRepository.sumByGardenPlanPerDay(gardenPlanId, activityType, first, last));
+    }
+
+    /**
+     * Get a user's current and longest run of consecutive days with activities, searched
+     * back over the configured window. The current streak still counts when the user has not
+     * recorded anything yet today.
+     *
+     * @param userId the user ID
+     * @param activityType only consider activities of this type, or null for all
+     * @return the streaks
+     */
+    public ActivityStreakDTO getStreak(UUID userId, String activityType) {
+        LocalDate today = today();
+        LocalDate from = today.minusDays(Math.max(1, activityRollupConfig.getStreakWindowDays()) - 1L);
+        List<LocalDate> activeDays = activityDailyCountRepository.findActiveDays(userId, activityType, from, today);
+        return streak(activityType, activeDays, today);
+    }
+
+    /**
+     * Recount the activities of a range of days, one transaction per day. Meant for closed
+     * days: activities created on a day while it is recounted may be counted twice.
+     *
+     * @param from the first day
+     * @param to the last day, inclusive
+     * @return the number of daily counts written
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        int written = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            written += activityDailyCountRepository.rebuildDay(day);
+        }
+        log.info("Recounted daily activity counts from {} to {}: {} rows written", from, to, written);
+        return written;
+    }
+
+    /**
+     * Recount the last closed days, correcting counts that drifted from the activities, such
+     * as after a failed batch of asynchronously recorded activities.
+     */
+    @Scheduled(
+            fixedDelayString = "${garden.activities.rollups.reconcile-interval:PT6H}",
+            initialDelayString = "${garden.activities.rollups.reconcile-interval:PT6H}")
+    public void reconcile() {
+        int days = activityRollupConfig.getReconcileDays();
+        if (days > 0) {
+            LocalDate yesterday = today().minusDays(1);
+            backfill(yesterday.minusDays(days - 1L), yesterday);
+        }
+    }
+
+    /**
+     * Find the current and longest streak in a list of distinct days, newest first.
+     */
+    static ActivityStreakDTO streak(String activityType, List<LocalDate> activeDays, LocalDate today) {
+        int current = 0;
+        int longest = 0;
+        int run = 0;
+        // The newest run is current if it reaches today or yesterday
+        boolean inCurrent = !activeDays.isEmpty() && !activeDays.getFirst().isBefore(today.minusDays(1));
+        LocalDate previous = null;
+        for (LocalDate day : activeDays) {
+            if (previous != null && day.equals(previous.minusDays(1))) {
+                run++;
+            } else {
+                inCurrent = inCurrent && previous == null;
+                run = 1;
+            }
+            if (inCurrent) {
+                current = run;
+            }
+            longest = Math.max(longest, run);
+            previous = day;
+        }
+        return ActivityStreakDTO.builder()
+                .activityType(activityType)
+                .currentStreak(current)
+                .longestStreak(longest)
+                .lastActiveDay(activeDays.isEmpty() ? null : activeDays.getFirst())
+                .build();
+    }
+
+    private void write(Map<Key, Long> deltas) {
+        // Rows in a fixed order, so concurrent upserts of the same counts cannot deadlock
+        List<Change> changes = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                changes.add(new Change(key.userId(), key.gardenPlanId(), key.activityType(), key.day(), delta));
+            }
+        });
+        changes.sort(CHANGE_ORDER);
+        activityDailyCountRepository.addCounts(changes);
+    }
+
+    private LocalDate resolveFrom(LocalDate from, LocalDate to) {
+        int maxDays = Math.max(1, activityRollupConfig.getMaxRangeDays());
+        LocalDate first = from != null
+                ? from
+                : to.minusDays(Math.clamp(activityRollupConfig.getDefaultRangeDays(), 1, maxDays) - 1L);
+        if (first.isAfter(to)) {
+            throw new IllegalArgumentException("The first day must not be after the last day");
+        }
+        if (ChronoUnit.DAYS.between(first, to) >= maxDays) {
+            throw new IllegalArgumentException("The range must not be longer than " + maxDays + " days");
+        }
+        return first;
+    }
+
+    private static List<ActivityDailyCountDTO> toDtos(List<ActivityDayTotalView> totals) {
+        return totals.stream()
+                .map(total -> ActivityDailyCountDTO.builder()
+                        .day(total.getDay())
+                        .activityType(total.getActivityType())
+                        .count(total.getActivityCount())
+                        .build())
+                .toList();
+    }
+
+    private static Key key(Activity activity) {
+        return new Key(
+                activity.getUserId(),
+                activity.getGardenPlanId() != null ? activity.getGardenPlanId() : ActivityDailyCount.NO_GARDEN_PLAN,
+                activity.getActivityType(),
+                day(activity.getCreatedAt()));
+    }
+
+    static LocalDate day(OffsetDateTime time) {
+        return time.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private record Key(UUID userId, UUID gardenPlanId, String activityType, LocalDate day) {}
+
+    /**
+     * A change to one daily count, as written by an upsert.
+     */
+    private record Change(UUID userId, UUID gardenPlanId, String activityType, LocalDate day, Long activityCount)
+            implements ActivityDailyCountView {
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public UUID getGardenPlanId() {
+            return gardenPlanId;
+        }
+
+        @Override
+        public String getActivityType() {
+            return activityType;
+        }
+
+        @Override
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public Long getActivityCount() {
+            return activityCount;
+        }
+    }
+}
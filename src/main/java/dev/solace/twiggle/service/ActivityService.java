@@ -1,5 +1,6 @@
 package dev.solace.twiggle.service;
 
+import dev.solace.twiggle.config.ActivityPartitionConfig;
 import dev.solace.twiggle.dto.ActivityDTO;
 import dev.solace.twiggle.mapper.ActivityMapper;
 import dev.solace.twiggle.model.Activity;
@@ -25,6 +26,10 @@ public class ActivityService {
 
     private final ActivityRepository activityRepository;
     private final ActivityMapper activityMapper;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
+    private final ActivityRollupService activityRollupService;
+    private final ActivityWriter activityWriter;
+    private final ActivityPartitionConfig activityPartitionConfig;
 
     /**
      * Find all activities with pagination and sorting.
@@ -59,21 +64,24 @@ public class ActivityService {
      * Find activities by user ID with pagination.
      *
      * @param userId the user ID
+     * @param since the earliest creation time, or null for the configured query window
      * @param pageable pagination and sorting parameters
      * @return page of activity DTOs for the user
      */
-    public Page<ActivityDTO> findByUserId(UUID userId, Pageable pageable) {
-        return activityRepository.findByUserId(userId, pageable).map(activityMapper::toDto);
+    public Page<ActivityDTO> findByUserId(UUID userId, OffsetDateTime since, Pageable pageable) {
+        return activityRepository
+                .findByUserIdAndCreatedAtGreaterThanEqual(userId, windowStart(since), pageable)
+                .map(activityMapper::toDto);
     }
 
     /**
-     * Find activities by user ID without pagination.
+     * Find activities by user ID within the configured query window, without pagination.
      *
      * @param userId the user ID
      * @return list of activity DTOs for the user
      */
     public List<ActivityDTO> findByUserId(UUID userId) {
-        return activityRepository.findByUserId(userId).stream()
+        return activityRepository.findByUserIdAndCreatedAtGreaterThanEqual(userId, windowStart(null)).stream()
                 .map(activityMapper::toDto)
                 .toList();
     }
@@ -82,21 +90,26 @@ public class ActivityService {
      * Find activities by garden plan ID with pagination.
      *
      * @param gardenPlanId the garden plan ID
+     * @param since the earliest creation time, or null for the configured query window
      * @param pageable pagination and sorting parameters
      * @return page of activity DTOs for the garden plan
      */
-    public Page<ActivityDTO> findByGardenPlanId(UUID gardenPlanId, Pageable pageable) {
-        return activityRepository.findByGardenPlanId(gardenPlanId, pageable).map(activityMapper::toDto);
+    public Page<ActivityDTO> findByGardenPlanId(UUID gardenPlanId, OffsetDateTime since, Pageable pageable) {
+        return activityRepository
+                .findByGardenPlanIdAndCreatedAtGreaterThanEqual(gardenPlanId, windowStart(since), pageable)
+                .map(activityMapper::toDto);
     }
 
     /**
-     * Find activities by garden plan ID without pagination.
+     * Find activities by garden plan ID within the configured query window, without pagination.
      *
      * @param gardenPlanId the garden plan ID
      * @return list of activity DTOs for the garden plan
      */
     public List<ActivityDTO> findByGardenPlanId(UUID gardenPlanId) {
-        return activityRepository.findByGardenPlanId(gardenPlanId).stream()
+        return activityRepository
+                .findByGardenPlanIdAndCreatedAtGreaterThanEqual(gardenPlanId, windowStart(null))
+                .stream()
                 .map(activityMapper::toDto)
                 .toList();
     }
@@ -106,12 +119,15 @@ public class ActivityService {
      *
      * @param userId the user ID
      * @param activityType the activity type
+     * @param since the earliest creation time, or null for the configured query window
      * @param pageable pagination and sorting parameters
      * @return page of activity DTOs for the user and type
      */
-    public Page<ActivityDTO> findByUserIdAndActivityType(UUID userId, String activityType, Pageable pageable) {
+    public Page<ActivityDTO> findByUserIdAndActivityType(
+            UUID userId, String activityType, OffsetDateTime since, Pageable pageable) {
         return activityRepository
-                .findByUserIdAndActivityType(userId, activityType, pageable)
+                .findByUserIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+                        userId, activityType, windowStart(since), pageable)
                 .map(activityMapper::toDto);
     }
 
@@ -120,13 +136,15 @@ public class ActivityService {
      *
      * @param gardenPlanId the garden plan ID
      * @param activityType the activity type
+     * @param since the earliest creation time, or null for the configured query window
      * @param pageable pagination and sorting parameters
      * @return page of activity DTOs for the garden plan and type
      */
     public Page<ActivityDTO> findByGardenPlanIdAndActivityType(
-            UUID gardenPlanId, String activityType, Pageable pageable) {
+            UUID gardenPlanId, String activityType, OffsetDateTime since, Pageable pageable) {
         return activityRepository
-                .findByGardenPlanIdAndActivityType(gardenPlanId, activityType, pageable)
+                .findByGardenPlanIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+                        gardenPlanId, activityType, windowStart(since), pageable)
                 .map(activityMapper::toDto);
     }
 
@@ -142,10 +160,28 @@ public class ActivityService {
 
         Activity activity = activityMapper.toEntity(activityDTO);
         Activity savedActivity = activityRepository.save(activity);
+        activityRollupService.activitiesAdded(List.of(savedActivity));
+        gardenPlanPopularityService.recordActivity(savedActivity.getGardenPlanId(), savedActivity.getCreatedAt());
 
         return activityMapper.toDto(savedActivity);
     }
 
+    /**
+     * Record a new activity without waiting for it to be written. The activity is inserted
+     * in the background within the writer's flush interval; use {@link #create(ActivityDTO)}
+     * when the stored activity is needed right away.
+     *
+     * @param activityDTO the activity DTO to record
+     * @return true if the activity was queued, false if it was dropped because the writer is saturated
+     */
+    public boolean record(ActivityDTO activityDTO) {
+        activityDTO.setCreatedAt(OffsetDateTime.now());
+
+        Activity activity = activityMapper.toEntity(activityDTO);
+        activity.setId(UUID.randomUUID());
+        return activityWriter.enqueue(activity);
+    }
+
     /**
      * Update an existing activity.
      *
@@ -156,6 +192,14 @@ public class ActivityService {
     @Transactional
     public Optional<ActivityDTO> update(UUID id, ActivityDTO activityDTO) {
         return activityRepository.findById(id).map(existingActivity -> {
+            Activity previous = new Activity(
+                    existingActivity.getId(),
+                    existingActivity.getUserId(),
+                    existingActivity.getGardenPlanId(),
+                    existingActivity.getActivityType(),
+                    existingActivity.getDescription(),
+                    existingActivity.getCreatedAt());
+
             // Update fields from the DTO
             existingActivity.setUserId(activityDTO.getUserId());
             existingActivity.setGardenPlanId(activityDTO.getGardenPlanId());
@@ -163,7 +207,9 @@ public class ActivityService {
             existingActivity.setDescription(activityDTO.getDescription());
 
             // Save and convert back to DTO
-            return activityMapper.toDto(activityRepository.save(existingActivity));
+            Activity savedActivity = activityRepository.save(existingActivity);
+            activityRollupService.activityUpdated(previous, savedActivity);
+            return activityMapper.toDto(savedActivity);
         });
     }
 
@@ -174,6 +220,17 @@ public class ActivityService {
      */
     @Transactional
     public void delete(UUID id) {
-        activityRepository.deleteById(id);
+        activityRepository.findById(id).ifPresent(activity -> {
+            activityRepository.delete(activity);
+            activityRollupService.activityRemoved(activity);
+            gardenPlanPopularityService.retractActivity(activity.getGardenPlanId(), activity.getCreatedAt());
+        });
+    }
+
+    /**
+     * The earliest creation time to read, so queries only touch the partitions from then on.
+     */
+    private OffsetDateTime windowStart(OffsetDateTime since) {
+        return since != null ? since : OffsetDateTime.now().minus(activityPartitionConfig.getQueryWindow());
     }
 }
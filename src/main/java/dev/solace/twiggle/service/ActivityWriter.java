@@ -0,0 +1,232 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.ActivityWriterConfig;
+import dev.solace.twiggle.model.Activity;
+import dev.solace.twiggle.service.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes asynchronously recorded activities in the background, so recording one costs the
+ * caller a single lock-free enqueue instead of a transaction.
+ * Activities wait in a bounded ring buffer, and one writer thread inserts them in batches, along
+ * with their daily counts, as soon as a batch is full or the flush interval has passed since the
+ * last write, so no activity waits longer than one interval. When the buffer is full, new
+ * activities are dropped and counted. On shutdown the buffer is drained completely.
+ */
+@Component
+@Slf4j
+public class ActivityWriter {
+
+    private static final String METRIC_PREFIX = "activities.writer";
+
+    private final ActivityRollupService activityRollupService;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
+    private final ActivityWriterConfig activityWriterConfig;
+    private final MpscRingBuffer<Activity> buffer;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile Thread writerThread;
+
+    public ActivityWriter(
+            ActivityRollupService activityRollupService,
+            GardenPlanPopularityService gardenPlanPopularityService,
+            ActivityWriterConfig activityWriterConfig,
+            MeterRegistry meterRegistry) {
+        this.activityRollupService = activityRollupService;
+        this.gardenPlanPopularityService = gardenPlanPopularityService;
+        this.activityWriterConfig = activityWriterConfig;
+        this.buffer = new MpscRingBuffer<>(activityWriterConfig.getBufferCapacity());
+        this.written = Counter.builder(METRIC_PREFIX + ".activities")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder(METRIC_PREFIX + ".activities")
+                .tag("result", "dropped")
+                .description("Activities rejected because the buffer was full or the writer stopped")
+                .register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PREFIX + ".activities")
+                .tag("result", "failed")
+                .description("Activities that could not be inserted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch")
+                .description("Time to insert one batch of activities")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", buffer, MpscRingBuffer::size)
+                .description("Activities waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        writerThread = Thread.ofPlatform().name("activity-writer").daemon().start(this::run);
+    }
+
+    /**
+     * Queue an activity to be written. Its ID and creation time must already be set.
+     *
+     * @param activity the activity
+     * @return false if the activity was dropped because the buffer is full or the writer stopped
+     */
+    public boolean enqueue(Activity activity) {
+        if (!running || !buffer.offer(activity)) {
+            dropped.increment();
+            return false;
+        }
+        if (buffer.size() >= batchSize() && wakeRequested.compareAndSet(false, true)) {
+            Thread thread = writerThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop accepting activities and wait for the buffered ones to be written.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            drain();
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(activityWriterConfig.getShutdownTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Activity writer did not drain within the shutdown timeout, {} activities lost", buffer.size());
+        } else {
+            // Activities enqueued while the writer thread was finishing
+            drain();
+        }
+    }
+
+    /**
+     * Write every buffered activity. Must only be called from the writer thread, or before it
+     * was started.
+     *
+     * @return the number of activities taken from the buffer
+     */
+    int drain() {
+        int total = 0;
+        int batch;
+        do {
+            batch = writeBatch();
+            total += batch;
+        } while (batch > 0);
+        return total;
+    }
+
+    int queueDepth() {
+        return buffer.size();
+    }
+
+    private void run() {
+        long flushNanos = activityWriterConfig.getFlushInterval().toNanos();
+        long lastFlush = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (buffer.size() >= batchSize() || now - lastFlush >= flushNanos) {
+                writeBatch();
+                lastFlush = now;
+                continue;
+            }
+            wakeRequested.set(false);
+            // Check again, so an activity that filled the batch before the flag was cleared is not missed
+            if (buffer.size() < batchSize()) {
+                LockSupport.parkNanos(this, flushNanos - (now - lastFlush));
+            }
+        }
+        int drained = drain();
+        log.info("Activity writer stopped after draining {} activities", drained);
+    }
+
+    /**
+     * Insert up to one batch of buffered activities and record the inserted ones.
+     */
+    private int writeBatch() {
+        List<Activity> batch = new ArrayList<>(Math.min(batchSize(), buffer.size()));
+        buffer.drain(batch::add, batchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            written(insert(batch));
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Insert a batch of activities. If the batch insert fails, such as for an activity of a
+     * deleted garden plan, the activities are inserted one by one so only the failing ones are
+     * lost.
+     *
+     * @return the activities that were inserted
+     */
+    private List<Activity> insert(List<Activity> batch) {
+        try {
+            activityRollupService.insertAll(batch);
+            return batch;
+        } catch (RuntimeException e) {
+            log.warn("Failed to insert batch of {} activities, inserting one by one: {}", batch.size(), e.getMessage());
+        }
+        List<Activity> inserted = new ArrayList<>(batch.size());
+        for (Activity activity : batch) {
+            try {
+                activityRollupService.insertAll(List.of(activity));
+                inserted.add(activity);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Failed to insert activity {}: {}", activity.getId(), e.getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Count inserted activities and add them to the popularity ranking. A ranking failure is
+     * only logged, since the activities are already stored and must not be inserted again.
+     */
+    private void written(List<Activity> activities) {
+        written.increment(activities.size());
+        try {
+            for (Activity activity : activities) {
+                gardenPlanPopularityService.recordActivity(activity.getGardenPlanId(), activity.getCreatedAt());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to record popularity of {} written activities: {}", activities.size(), e.getMessage());
+        }
+    }
+
+    private int batchSize() {
+        return Math.max(1, activityWriterConfig.getBatchSize());
+    }
+}
@@ -1,18 +1,26 @@
 package dev.solace.twiggle.service;
 
 import dev.solace.twiggle.dto.AddPlantDTO;
+import dev.solace.twiggle.dto.BatchAddPlantDTO;
 import dev.solace.twiggle.dto.PlantDTO;
 import dev.solace.twiggle.mapper.PlantAddMapper;
 import dev.solace.twiggle.mapper.PlantMapper;
 import dev.solace.twiggle.model.Plant;
 import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.model.ReminderSeries;
 import dev.solace.twiggle.repository.PlantRepository;
 import dev.solace.twiggle.repository.PlantsLibraryRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.HashSet;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,8 +38,11 @@ public class AddPlantService {
     private final PlantMapper plantMapper;
     private final PlantAddMapper plantAddMapper;
 
-    // Grid size for plant positioning
-    private static final int GRID_SIZE = 10;
+    private final GardenOccupancyCache gardenOccupancyCache;
+    private final UnifiedSearchService unifiedSearchService;
+
+    private final ReminderSeriesRepository reminderSeriesRepository;
+    private final CareScheduleGenerator careScheduleGenerator;
 
     public PlantDTO addFromLibrary(AddPlantDTO addPlantDTO) {
 
@@ -44,64 +55,96 @@ public class AddPlantService {
                 .orElseThrow(() ->
                         new EntityNotFoundException("Plants library entry not found with ID: " + plantsLibraryId));
 
-        // Map plants library to plant entity
-        Plant plant = plantAddMapper.toPlantEntity(plantsLibrary);
-
-        // Set garden plan ID and timestamps
-        plant.setGardenPlanId(gardenPlanId);
-        OffsetDateTime now = OffsetDateTime.now();
-        plant.setCreatedAt(now);
-        plant.setUpdatedAt(now);
-
-        // Find an available position for the plant
-        setAvailablePosition(plant, gardenPlanId);
+        // Claim the next free position in the garden grid
+        Cell cell = gardenOccupancyCache.claim(gardenPlanId, 1).get(0);
 
         // Save the plant
-        Plant savedPlant = plantRepository.save(plant);
+        Plant savedPlant = plantRepository.save(toPlant(plantsLibrary, gardenPlanId, cell, OffsetDateTime.now()));
+        gardenOccupancyCache.place(gardenPlanId, savedPlant.getId(), cell.x(), cell.y());
+        unifiedSearchService.indexPlant(savedPlant);
+
+        // Schedule its care reminders
+        createCareSchedules(List.of(plantsLibrary), List.of(savedPlant));
 
         // Return the DTO
         return plantMapper.toDto(savedPlant);
     }
 
     /**
-     * Finds an available position in the garden grid and sets it on the plant.
+     * Add many plants from the library to a garden plan in one transaction.
+     * Library entries are fetched in one query, positions are claimed together from the
+     * occupancy grid, and the plants are inserted as one batch, as are their care reminders.
+     * The same library entry may be listed more than once to add several copies of it.
      *
-     * @param plant the plant to position
-     * @param gardenPlanId the garden plan ID
+     * @param batchAddPlantDTO the garden plan and the plants library IDs to add
+     * @return the created plants, in request order
+     * @throws EntityNotFoundException if any plants library entry does not exist
      */
-    private void setAvailablePosition(Plant plant, UUID gardenPlanId) {
-        // Fetch existing plants to check their positions
-        List<Plant> existingPlants = plantRepository.findByGardenPlanId(gardenPlanId);
-
-        // Create a set of occupied positions
-        Set<String> occupied = new HashSet<>();
-        for (Plant existingPlant : existingPlants) {
-            if (existingPlant.getPositionX() != null && existingPlant.getPositionY() != null) {
-                occupied.add(existingPlant.getPositionX() + "," + existingPlant.getPositionY());
+    public List<PlantDTO> addFromLibraryBatch(BatchAddPlantDTO batchAddPlantDTO) {
+        UUID gardenPlanId = batchAddPlantDTO.getGardenPlanId();
+        List<UUID> plantsLibraryIds = batchAddPlantDTO.getPlantsLibraryIds();
+
+        // Fetch all requested library entries at once
+        Map<UUID, PlantsLibrary> libraryById = new HashMap<>();
+        for (PlantsLibrary plantsLibrary : plantsLibraryRepository.findAllById(new LinkedHashSet<>(plantsLibraryIds))) {
+            libraryById.put(plantsLibrary.getId(), plantsLibrary);
+        }
+        for (UUID plantsLibraryId : plantsLibraryIds) {
+            if (!libraryById.containsKey(plantsLibraryId)) {
+                throw new EntityNotFoundException("Plants library entry not found with ID: " + plantsLibraryId);
             }
         }
 
-        // Find an available position
-        Integer positionX = null;
-        Integer positionY = null;
-
-        // Try to find an empty spot in the grid
-        boolean found = false;
-        for (int y = 0; y < GRID_SIZE && !found; y++) {
-            for (int x = 0; x < GRID_SIZE && !found; x++) {
-                if (!occupied.contains(x + "," + y)) {
-                    positionX = x;
-                    positionY = y;
-                    found = true;
-                    break;
-                }
-            }
+        // Claim one position per plant
+        List<Cell> cells = gardenOccupancyCache.claim(gardenPlanId, plantsLibraryIds.size());
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Plant> plants = new ArrayList<>(plantsLibraryIds.size());
+        for (int i = 0; i < plantsLibraryIds.size(); i++) {
+            plants.add(toPlant(libraryById.get(plantsLibraryIds.get(i)), gardenPlanId, cells.get(i), now));
+        }
+
+        List<Plant> savedPlants = plantRepository.saveAll(plants);
+        for (Plant savedPlant : savedPlants) {
+            gardenOccupancyCache.place(
+                    gardenPlanId, savedPlant.getId(), savedPlant.getPositionX(), savedPlant.getPositionY());
+            unifiedSearchService.indexPlant(savedPlant);
         }
+        createCareSchedules(plantsLibraryIds.stream().map(libraryById::get).toList(), savedPlants);
+        log.debug("Added {} plants from library to garden plan {}", savedPlants.size(), gardenPlanId);
+        return savedPlants.stream().map(plantMapper::toDto).toList();
+    }
 
-        // Set the position on the plant
-        plant.setPositionX(positionX);
-        plant.setPositionY(positionY);
+    /**
+     * Create the care reminder series of newly added plants from their library entries, inserted
+     * as one batch.
+     *
+     * @param plantsLibraries the library entry of each plant
+     * @param plants the saved plants, in the same order
+     */
+    private void createCareSchedules(List<PlantsLibrary> plantsLibraries, List<Plant> plants) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<ReminderSeries> series = new ArrayList<>();
+        for (int i = 0; i < plants.size(); i++) {
+            series.addAll(careScheduleGenerator.generate(plantsLibraries.get(i), plants.get(i), today));
+        }
+        if (!series.isEmpty()) {
+            reminderSeriesRepository.saveAll(series);
+            log.debug("Scheduled {} care reminder series for {} plants", series.size(), plants.size());
+        }
+    }
 
-        log.debug("Plant positioned at ({}, {})", positionX, positionY);
+    /**
+     * Map a plants library entry to a new plant placed at the given cell.
+     */
+    private Plant toPlant(PlantsLibrary plantsLibrary, UUID gardenPlanId, Cell cell, OffsetDateTime now) {
+        Plant plant = plantAddMapper.toPlantEntity(plantsLibrary);
+        plant.setGardenPlanId(gardenPlanId);
+        plant.setCreatedAt(now);
+        plant.setUpdatedAt(now);
+        plant.setPositionX(cell.x());
+        plant.setPositionY(cell.y());
+        log.debug("Plant positioned at ({}, {})", cell.x(), cell.y());
+        return plant;
     }
 }
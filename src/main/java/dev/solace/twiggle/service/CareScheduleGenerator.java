@@ -0,0 +1,157 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.model.Plant;
+import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.service.util.CareSchedule;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates the care reminders of plants added from the plants library. The watering
+ * frequency, planting season, germination time and time to harvest of a library entry are
+ * parsed into a {@link CareSchedule} once and cached by entry until the entry changes. A plant
+ * gets a recurring watering series from its sowing date, and one-off series for planting, when
+ * it is added outside its planting season, for checking germination and for harvest. Watering
+ * ends at harvest when the time to harvest is known.
+ */
+@Component
+@Slf4j
+public class CareScheduleGenerator {
+
+    static final String WATERING = "Watering";
+    static final String PLANTING = "Planting";
+    static final String GERMINATION = "Germination check";
+    static final String HARVEST = "Harvest";
+
+    private final Map<UUID, CareSchedule> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * Get the care intervals of a plants library entry, parsed on first use.
+     *
+     * @param plantsLibrary the plants library entry
+     * @return the care intervals
+     */
+    public CareSchedule scheduleOf(PlantsLibrary plantsLibrary) {
+        if (plantsLibrary.getId() == null) {
+            return parse(plantsLibrary);
+        }
+        return schedules.computeIfAbsent(plantsLibrary.getId(), id -> parse(plantsLibrary));
+    }
+
+    /**
+     * Build the care reminder series of a plant added from a plants library entry. The series
+     * are not saved, so the series of many plants can be inserted together.
+     *
+     * @param plantsLibrary the plants library entry
+     * @param plant the saved plant
+     * @param today the date the plant is added
+     * @return the series to save, empty if the entry has no usable care data
+     */
+    public List<ReminderSeries> generate(PlantsLibrary plantsLibrary, Plant plant, LocalDate today) {
+        CareSchedule schedule = scheduleOf(plantsLibrary);
+        LocalDate sowingDate = schedule.sowingDate(today);
+        OffsetDateTime now = OffsetDateTime.now();
+        List<ReminderSeries> series = new ArrayList<>();
+        if (sowingDate.isAfter(today)) {
+            series.add(once(
+                    plant,
+                    PLANTING,
+                    "Best planting season: "
+                            + plantsLibrary.getBestPlantingSeason().strip(),
+                    sowingDate,
+                    now));
+        }
+        LocalDate harvestDate = schedule.harvestDays() != null ? sowingDate.plusDays(schedule.harvestDays()) : null;
+        if (schedule.wateringIntervalDays() != null) {
+            int interval = schedule.wateringIntervalDays();
+            // Watering stops at harvest; without a harvest time it runs until the plant is removed
+            ReminderSeries watering = series(
+                    plant,
+                    WATERING,
+                    "Water every " + interval + (interval == 1 ? " day" : " days"),
+                    sowingDate,
+                    harvestDate,
+                    interval,
+                    now);
+            watering.setNextDueDate(sowingDate);
+            series.add(watering);
+        }
+        if (schedule.germinationDays() != null) {
+            series.add(once(
+                    plant,
+                    GERMINATION,
+                    "Seedlings should have emerged by now",
+                    sowingDate.plusDays(schedule.germinationDays()),
+                    now));
+        }
+        if (harvestDate != null) {
+            series.add(once(plant, HARVEST, "Ready to harvest", harvestDate, now));
+        }
+        return series;
+    }
+
+    /**
+     * Discard the cached care intervals of a plants library entry once the current transaction
+     * commits.
+     *
+     * @param plantsLibraryId the plants library ID
+     */
+    public void invalidate(UUID plantsLibraryId) {
+        TransactionUtils.afterCommit(() -> schedules.remove(plantsLibraryId));
+    }
+
+    /**
+     * Get the number of library entries whose care intervals are cached.
+     *
+     * @return the number of cached schedules
+     */
+    int size() {
+        return schedules.size();
+    }
+
+    private static CareSchedule parse(PlantsLibrary plantsLibrary) {
+        CareSchedule schedule = CareSchedule.parse(
+                plantsLibrary.getWateringFrequency(),
+                plantsLibrary.getBestPlantingSeason(),
+                plantsLibrary.getGerminationTime(),
+                plantsLibrary.getTimeToHarvest());
+        log.debug("Parsed care schedule of plants library entry {}: {}", plantsLibrary.getId(), schedule);
+        return schedule;
+    }
+
+    private static ReminderSeries once(
+            Plant plant, String reminderType, String notes, LocalDate date, OffsetDateTime now) {
+        ReminderSeries series = series(plant, reminderType, notes, date, date, 1, now);
+        series.setNextDueDate(date);
+        return series;
+    }
+
+    private static ReminderSeries series(
+            Plant plant,
+            String reminderType,
+            String notes,
+            LocalDate startDate,
+            LocalDate endDate,
+            int intervalDays,
+            OffsetDateTime now) {
+        ReminderSeries series = new ReminderSeries();
+        series.setPlantId(plant.getId());
+        series.setGardenPlanId(plant.getGardenPlanId());
+        series.setReminderType(reminderType);
+        series.setNotes(notes);
+        series.setStartDate(startDate);
+        series.setEndDate(endDate);
+        series.setIntervalDays(intervalDays);
+        series.setCreatedAt(now);
+        return series;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.dto.CommentAuthorDTO;
+import dev.solace.twiggle.model.Profile;
+import dev.solace.twiggle.repository.ProfileRepository;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of the profiles shown next to comments, shared across requests, so a page
+ * of comments costs at most one profile query for the authors not seen in the last minute.
+ * Authors without a profile are cached too. Profile writes evict their entry once they commit;
+ * the short lifetime bounds staleness for any other change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentAuthorCache {
+
+    private final ProfileRepository profileRepository;
+    private final GardenEngagementConfig gardenEngagementConfig;
+
+    private final Map<UUID, CachedAuthor> authors = new ConcurrentHashMap<>();
+
+    /**
+     * Get the authors with the given IDs, loading the ones not cached with one query.
+     *
+     * @param userIds the author user IDs
+     * @return the author of every requested ID
+     */
+    public Map<UUID, CommentAuthorDTO> getAuthors(Collection<UUID> userIds) {
+        return getAuthors(userIds, System.nanoTime());
+    }
+
+    /**
+     * Drop a cached author once the current transaction commits.
+     *
+     * @param userId the author user ID
+     */
+    public void evict(UUID userId) {
+        TransactionUtils.afterCommit(() -> authors.remove(userId));
+    }
+
+    Map<UUID, CommentAuthorDTO> getAuthors(Collection<UUID> userIds, long now) {
+        long ttl = gardenEngagementConfig.getAuthorCacheTtl().toNanos();
+        Map<UUID, CommentAuthorDTO> found = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID userId : userIds) {
+            CachedAuthor cached = authors.get(userId);
+            if (cached != null && now - cached.loadedAt() < ttl) {
+                found.put(userId, cached.author());
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<UUID, CommentAuthorDTO> loaded = new HashMap<>();
+        for (Profile profile : profileRepository.findAllById(missing)) {
+            loaded.put(profile.getId(), toAuthor(profile));
+        }
+        for (UUID userId : missing) {
+            CommentAuthorDTO author = loaded.getOrDefault(
+                    userId, CommentAuthorDTO.builder().id(userId).build());
+            authors.put(userId, new CachedAuthor(author, now));
+            found.put(userId, author);
+        }
+        if (authors.size() > gardenEngagementConfig.getMaxCachedAuthors()) {
+            trim(now, ttl);
+        }
+        log.debug("Loaded {} comment authors, {} from cache", missing.size(), found.size() - missing.size());
+        return found;
+    }
+
+    int size() {
+        return authors.size();
+    }
+
+    private void trim(long now, long ttl) {
+        authors.values().removeIf(cached -> now - cached.loadedAt() >= ttl);
+        Iterator<UUID> iterator = authors.keySet().iterator();
+        while (authors.size() > gardenEngagementConfig.getMaxCachedAuthors() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static CommentAuthorDTO toAuthor(Profile profile) {
+        return CommentAuthorDTO.builder()
+                .id(profile.getId())
+                .fullName(profile.getFullName())
+                .avatarUrl(profile.getAvatarUrl())
+                .build();
+    }
+
+    private record CachedAuthor(CommentAuthorDTO author, long loadedAt) {}
+}
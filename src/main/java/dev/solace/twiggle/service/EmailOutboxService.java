@@ -0,0 +1,362 @@
+package dev.solace.twiggle.service;
+
+import com.resend.core.exception.ResendException;
+import dev.solace.twiggle.config.EmailOutboxConfig;
+import dev.solace.twiggle.dto.EmailOutboxDTO;
+import dev.solace.twiggle.dto.ReminderEmailRequest;
+import dev.solace.twiggle.mapper.EmailOutboxMapper;
+import dev.solace.twiggle.model.EmailOutbox;
+import dev.solace.twiggle.repository.EmailOutboxRepository;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.ReminderService.ReminderEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox for emails. Emails are queued in the transaction that requests them and
+ * sent later by {@link EmailOutboxWorker} in batches, so no request waits on the email provider
+ * and no email is lost when the provider fails. A failed attempt is retried with exponential
+ * backoff, and an email is dead-lettered after the maximum number of attempts.
+ */
+@Service
+@Slf4j
+public class EmailOutboxService {
+
+    private static final String METRIC_PREFIX = "email.outbox";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    // Most emails Resend accepts in one batch request
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final PlantReminderRepository plantReminderRepository;
+    private final ReminderSeriesRepository reminderSeriesRepository;
+    private final ReminderService reminderService;
+    private final EmailOutboxMapper emailOutboxMapper;
+    private final EmailOutboxConfig emailOutboxConfig;
+
+    private final Counter queued;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer sendTimer;
+    private final Timer lagTimer;
+
+    public EmailOutboxService(
+            EmailOutboxRepository emailOutboxRepository,
+            PlantReminderRepository plantReminderRepository,
+            ReminderSeriesRepository reminderSeriesRepository,
+            ReminderService reminderService,
+            EmailOutboxMapper emailOutboxMapper,
+            EmailOutboxConfig emailOutboxConfig,
+            MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.plantReminderRepository = plantReminderRepository;
+        this.reminderSeriesRepository = reminderSeriesRepository;
+        this.reminderService = reminderService;
+        this.emailOutboxMapper = emailOutboxMapper;
+        this.emailOutboxConfig = emailOutboxConfig;
+        this.queued = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "queued")
+                .register(meterRegistry);
+        this.sent =
+                Counter.builder(METRIC_PREFIX + ".emails").tag("result", "sent").register(meterRegistry);
+        this.retried = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "retried")
+                .description("Failed attempts that were scheduled for a retry")
+                .register(meterRegistry);
+        this.dead = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "dead")
+                .description("Emails given up after the maximum number of attempts")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send")
+                .description("Time to hand one batch of emails to the email provider")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("Time from queueing an email until it was sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a reminder email.
+     *
+     * @param request the reminder details
+     * @return the queued email, whose ID tracks its delivery
+     */
+    @Transactional
+    public EmailOutboxDTO enqueueReminder(ReminderEmailRequest request) {
+        return emailOutboxMapper.toDto(enqueue(reminderService.buildReminderEmail(request), null, null));
+    }
+
+    /**
+     * Claim a due plant reminder and queue its email in one transaction, unless it was claimed
+     * or completed meanwhile. The reminder is marked as sent once the email is.
+     *
+     * @param request the reminder details
+     * @param plantReminderId the ID of the plant reminder
+     * @return the ID of the queued email, or empty if the reminder was not claimed
+     */
+    @Transactional
+    public Optional<UUID> enqueuePlantReminder(ReminderEmailRequest request, UUID plantReminderId) {
+        if (plantReminderRepository.claimForEmail(plantReminderId, OffsetDateTime.now(ZoneOffset.UTC)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(enqueue(reminderService.buildReminderEmail(request), plantReminderId, null)
+                .getId());
+    }
+
+    /**
+     * Claim the due occurrence of a reminder series, by moving the series to its next
+     * occurrence, and queue its email in one transaction, unless another run moved it
+     * meanwhile.
+     *
+     * @param request the reminder details
+     * @param reminderSeriesId the ID of the reminder series
+     * @param dueDate the next occurrence of the series read by the caller
+     * @param nextDueDate the new next occurrence, or null if the series has ended
+     * @return the ID of the queued email, or empty if the occurrence was not claimed
+     */
+    @Transactional
+    public Optional<UUID> enqueueSeriesOccurrence(
+            ReminderEmailRequest request, UUID reminderSeriesId, LocalDate dueDate, LocalDate nextDueDate) {
+        if (reminderSeriesRepository.advanceNextDueDate(reminderSeriesId, dueDate, nextDueDate) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                enqueue(reminderService.buildReminderEmail(request), null, null).getId());
+    }
+
+    /**
+     * Claim the due plant reminders and reminder series occurrences of one user and queue a
+     * single digest email listing them, in one transaction. Reminders claimed or completed
+     * meanwhile, and occurrences another run moved past, are left out of the digest. All
+     * claimed reminders are marked as sent once the email is.
+     *
+     * @param requests the details of each reminder by plant reminder ID, all addressed to the
+     *     same user
+     * @param occurrences the due series occurrences of the same user
+     * @return the ID of the queued email, or empty if nothing was claimed
+     */
+    @Transactional
+    public Optional<UUID> enqueueDigest(Map<UUID, ReminderEmailRequest> requests, List<SeriesOccurrence> occurrences) {
+        UUID claimId = UUID.randomUUID();
+        List<ReminderEmailRequest> claimedRequests = new ArrayList<>(claimAll(requests, claimId));
+        boolean remindersClaimed = !claimedRequests.isEmpty();
+        for (SeriesOccurrence occurrence : occurrences) {
+            if (reminderSeriesRepository.advanceNextDueDate(
+                            occurrence.reminderSeriesId(), occurrence.dueDate(), occurrence.nextDueDate())
+                    > 0) {
+                claimedRequests.add(occurrence.request());
+            }
+        }
+        if (claimedRequests.isEmpty()) {
+            return Optional.empty();
+        }
+        ReminderEmail email = claimedRequests.size() == 1
+                ? reminderService.buildReminderEmail(claimedRequests.getFirst())
+                : reminderService.buildDigestEmail(claimedRequests);
+        return Optional.of(
+                enqueue(email, null, remindersClaimed ? claimId : null).getId());
+    }
+
+    /**
+     * Find a queued email by its tracking ID.
+     *
+     * @param id the tracking ID
+     * @return the delivery state of the email, if it exists
+     */
+    @Transactional(readOnly = true)
+    public Optional<EmailOutboxDTO> findById(UUID id) {
+        return emailOutboxRepository.findById(id).map(emailOutboxMapper::toDto);
+    }
+
+    /**
+     * Send the oldest due emails in one request to the email provider. Their rows stay locked
+     * until the outcome is recorded, so concurrent workers skip them; if the process dies while
+     * sending, the transaction rolls back and the emails are sent again on a later attempt. The
+     * provider accepts or rejects a batch as a whole, so the emails of a rejected batch are sent
+     * again one by one, and only those that fail on their own count a failed attempt.
+     *
+     * @param permit takes a permit of the provider's rate limit before each further request,
+     *     returning false if none is left; emails not sent for lack of a permit are left due
+     * @return the number of emails attempted, 0 if none was due
+     */
+    @Transactional
+    public int sendNext(BooleanSupplier permit) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int batchSize = Math.clamp(emailOutboxConfig.getBatchSize(), 1, MAX_BATCH_SIZE);
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(now, batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<ReminderEmail> emails = new ArrayList<>(due.size());
+        for (EmailOutbox email : due) {
+            email.setAttempts(email.getAttempts() + 1);
+            emails.add(toEmail(email));
+        }
+
+        List<String> providerIds;
+        long start = System.nanoTime();
+        try {
+            providerIds = emails.size() == 1
+                    ? List.of(reminderService.sendEmail(emails.getFirst()))
+                    : reminderService.sendEmails(emails);
+        } catch (ResendException | RuntimeException e) {
+            providerIds = null;
+            if (due.size() == 1) {
+                failed(due.getFirst(), e, now);
+            } else {
+                log.warn("Batch of {} emails was rejected, sending them one by one: {}", due.size(), e.getMessage());
+                sendOneByOne(due, permit, now);
+            }
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (providerIds != null) {
+            OffsetDateTime sentAt = OffsetDateTime.now(ZoneOffset.UTC);
+            for (int i = 0; i < due.size(); i++) {
+                sent(due.get(i), i < providerIds.size() ? providerIds.get(i) : null, sentAt);
+            }
+        }
+        emailOutboxRepository.saveAll(due);
+        return due.size();
+    }
+
+    /**
+     * Get the wait before the next attempt of an email, doubling from the initial backoff after
+     * every failed attempt up to the maximum.
+     *
+     * @param attempts the number of failed attempts, at least 1
+     * @param initial the wait after the first failed attempt
+     * @param max the longest wait
+     * @return the wait
+     */
+    static Duration backoff(int attempts, Duration initial, Duration max) {
+        Duration backoff = initial.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 30));
+        return backoff.compareTo(max) > 0 ? max : backoff;
+    }
+
+    private List<ReminderEmailRequest> claimAll(Map<UUID, ReminderEmailRequest> requests, UUID claimId) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        int claimed = plantReminderRepository.claimAllForEmail(
+                requests.keySet(), claimId, OffsetDateTime.now(ZoneOffset.UTC));
+        if (claimed == 0) {
+            return List.of();
+        }
+        if (claimed == requests.size()) {
+            return List.copyOf(requests.values());
+        }
+        return plantReminderRepository.findIdsByEmailClaimId(claimId).stream()
+                .map(requests::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private EmailOutbox enqueue(ReminderEmail email, UUID plantReminderId, UUID reminderClaimId) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setRecipient(email.to());
+        outbox.setSubject(email.subject());
+        outbox.setHtmlBody(email.html());
+        outbox.setTextBody(email.text());
+        outbox.setStatus(EmailOutbox.Status.PENDING);
+        outbox.setAttempts(0);
+        outbox.setNextAttemptAt(now);
+        outbox.setPlantReminderId(plantReminderId);
+        outbox.setReminderClaimId(reminderClaimId);
+        outbox.setCreatedAt(now);
+        EmailOutbox saved = emailOutboxRepository.save(outbox);
+        queued.increment();
+        return saved;
+    }
+
+    private void sendOneByOne(List<EmailOutbox> batch, BooleanSupplier permit, OffsetDateTime now) {
+        for (EmailOutbox email : batch) {
+            if (!permit.getAsBoolean()) {
+                // Out of permits; the attempt is not counted and the email stays due
+                email.setAttempts(email.getAttempts() - 1);
+                continue;
+            }
+            try {
+                sent(email, reminderService.sendEmail(toEmail(email)), OffsetDateTime.now(ZoneOffset.UTC));
+            } catch (ResendException | RuntimeException e) {
+                failed(email, e, now);
+            }
+        }
+    }
+
+    private static ReminderEmail toEmail(EmailOutbox email) {
+        return new ReminderEmail(email.getRecipient(), email.getSubject(), email.getHtmlBody(), email.getTextBody());
+    }
+
+    private void sent(EmailOutbox email, String providerId, OffsetDateTime sentAt) {
+        email.setStatus(EmailOutbox.Status.SENT);
+        email.setProviderId(providerId);
+        email.setSentAt(sentAt);
+        email.setLastError(null);
+        if (email.getPlantReminderId() != null) {
+            plantReminderRepository.markEmailSent(email.getPlantReminderId(), providerId, sentAt);
+        }
+        if (email.getReminderClaimId() != null) {
+            plantReminderRepository.markClaimEmailSent(email.getReminderClaimId(), providerId, sentAt);
+        }
+        sent.increment();
+        lagTimer.record(Duration.between(email.getCreatedAt(), sentAt));
+    }
+
+    private void failed(EmailOutbox email, Exception e, OffsetDateTime now) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        email.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (email.getAttempts() >= emailOutboxConfig.getMaxAttempts()) {
+            email.setStatus(EmailOutbox.Status.DEAD);
+            dead.increment();
+            log.error(
+                    "Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(),
+                    email.getRecipient(),
+                    email.getAttempts(),
+                    error);
+            return;
+        }
+        Duration backoff =
+                backoff(email.getAttempts(), emailOutboxConfig.getInitialBackoff(), emailOutboxConfig.getMaxBackoff());
+        email.setNextAttemptAt(now.plus(backoff));
+        retried.increment();
+        log.warn(
+                "Failed to send email {}, attempt {}, retrying in {}: {}",
+                email.getId(),
+                email.getAttempts(),
+                backoff,
+                error);
+    }
+
+    /**
+     * A due occurrence of a reminder series to claim for a digest email.
+     *
+     * @param reminderSeriesId the ID of the reminder series
+     * @param dueDate the next occurrence of the series read by the caller
+     * @param nextDueDate the new next occurrence, or null if the series has ended
+     * @param request the reminder details of the occurrence
+     */
+    public record SeriesOccurrence(
+            UUID reminderSeriesId, LocalDate dueDate, LocalDate nextDueDate, ReminderEmailRequest request) {}
+}
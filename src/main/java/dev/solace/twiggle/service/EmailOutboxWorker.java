@@ -0,0 +1,84 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.EmailOutboxConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends the due emails of the outbox. Every poll starts the configured number of workers on
+ * virtual threads, each sending one batch at a time until none is due, while a shared rate
+ * limiter keeps the requests within the email provider's limit.
+ */
+@Component
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailOutboxConfig emailOutboxConfig;
+    private final RateLimiter rateLimiter;
+
+    public EmailOutboxWorker(
+            EmailOutboxService emailOutboxService,
+            EmailOutboxConfig emailOutboxConfig,
+            RateLimiterRegistry rateLimiterRegistry) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailOutboxConfig = emailOutboxConfig;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(
+                "email-outbox",
+                RateLimiterConfig.custom()
+                        .limitForPeriod(Math.max(1, emailOutboxConfig.getSendsPerSecond()))
+                        .limitRefreshPeriod(Duration.ofSeconds(1))
+                        .timeoutDuration(emailOutboxConfig.getRateLimitTimeout())
+                        .build());
+    }
+
+    /**
+     * Send every due email, if the outbox workers are enabled.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT5S}")
+    public void sendDue() {
+        if (!emailOutboxConfig.isEnabled()) {
+            return;
+        }
+        int processed = drain();
+        if (processed > 0) {
+            log.debug("Processed {} outbox emails", processed);
+        }
+    }
+
+    /**
+     * Send due emails on the configured number of workers until none is due.
+     *
+     * @return the number of emails attempted
+     */
+    int drain() {
+        AtomicInteger processed = new AtomicInteger();
+        // Closing the executor waits for the workers to finish
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < Math.max(1, emailOutboxConfig.getWorkers()); i++) {
+                executor.execute(() -> work(processed));
+            }
+        }
+        return processed.get();
+    }
+
+    private void work(AtomicInteger processed) {
+        try {
+            int attempted;
+            while (rateLimiter.acquirePermission()
+                    && (attempted = emailOutboxService.sendNext(rateLimiter::acquirePermission)) > 0) {
+                processed.addAndGet(attempted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Email outbox worker failed, retrying on next poll", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.service.util.EmailTemplate;
+import dev.solace.twiggle.service.util.EmailTemplate.Escaping;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Email templates of the application, read from {@code templates/email} on the classpath and
+ * compiled once at startup. A template has a subject ({@code name.subject}), an HTML body
+ * ({@code name.html}) and an optional plain-text body ({@code name.txt}). Locale variants add
+ * the language tag to the name, such as {@code reminder_es.html}; a missing variant falls back
+ * to the language, then to the default template.
+ */
+@Component
+@Slf4j
+public class EmailTemplates {
+
+    static final String LOCATION = "classpath*:templates/email/*";
+
+    private static final String SUBJECT = "subject";
+    private static final String HTML = "html";
+    private static final String TEXT = "txt";
+
+    // Compiled templates by file name, such as "reminder_es.html"
+    private final Map<String, EmailTemplate> templates;
+    // Resolved templates by name, locale and part
+    private final Map<String, EmailTemplate> resolved = new ConcurrentHashMap<>();
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public EmailTemplates(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.templates = load();
+        log.info("Compiled {} email templates", templates.size());
+    }
+
+    /**
+     * Render a template in a locale.
+     *
+     * @param name the template name, such as "reminder"
+     * @param locale the locale, or null for the default template
+     * @param values the value of each placeholder, or null for none; a section may also be given
+     *     a list of maps
+     * @return the rendered email; its text is null if the template has no plain-text body
+     * @throws IllegalArgumentException if there is no such template
+     */
+    public RenderedEmail render(String name, Locale locale, Function<String, ?> values) {
+        EmailTemplate subject = resolve(name, locale, SUBJECT);
+        EmailTemplate html = resolve(name, locale, HTML);
+        if (subject == null || html == null) {
+            throw new IllegalArgumentException("No email template named " + name);
+        }
+        EmailTemplate text = resolve(name, locale, TEXT);
+        long start = System.nanoTime();
+        RenderedEmail email = new RenderedEmail(
+                subject.render(values).strip(), html.render(values), text != null ? text.render(values) : null);
+        renderTimers
+                .computeIfAbsent(name, template -> Timer.builder("email.templates.render")
+                        .description("Time to render one email")
+                        .tag("template", template)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return email;
+    }
+
+    /**
+     * A rendered email.
+     *
+     * @param subject the subject
+     * @param html the HTML body
+     * @param text the plain-text body, or null
+     */
+    public record RenderedEmail(String subject, String html, String text) {}
+
+    private EmailTemplate resolve(String name, Locale locale, String part) {
+        String key = name + '|' + (locale != null ? locale.toLanguageTag() : "") + '|' + part;
+        EmailTemplate template = resolved.get(key);
+        if (template == null) {
+            for (String candidate : candidates(name, locale)) {
+                template = templates.get(candidate + '.' + part);
+                if (template != null) {
+                    resolved.put(key, template);
+                    break;
+                }
+            }
+        }
+        return template;
+    }
+
+    static List<String> candidates(String name, Locale locale) {
+        if (locale == null || locale.getLanguage().isEmpty()) {
+            return List.of(name);
+        }
+        String language = name + '_' + locale.getLanguage();
+        if (locale.getCountry().isEmpty()) {
+            return List.of(language, name);
+        }
+        return List.of(language + '_' + locale.getCountry(), language, name);
+    }
+
+    private static Map<String, EmailTemplate> load() {
+        Map<String, EmailTemplate> loaded = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String fileName = resource.getFilename();
+                Escaping escaping = escaping(fileName);
+                if (escaping == null) {
+                    continue;
+                }
+                try (InputStream in = resource.getInputStream()) {
+                    String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    loaded.put(fileName, EmailTemplate.compile(source, escaping));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read email templates", e);
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static Escaping escaping(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        if (fileName.endsWith('.' + HTML)) {
+            return Escaping.HTML;
+        }
+        if (fileName.endsWith('.' + TEXT)) {
+            return Escaping.TEXT;
+        }
+        if (fileName.endsWith('.' + SUBJECT)) {
+            return Escaping.HEADER;
+        }
+        return null;
+    }
+}
@@ -1,12 +1,20 @@
 package dev.solace.twiggle.service;
 
 import dev.solace.twiggle.dto.GardenImageDTO;
+import dev.solace.twiggle.dto.ImageEngagementDTO;
 import dev.solace.twiggle.mapper.GardenImageMapper;
 import dev.solace.twiggle.model.GardenImage;
 import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.service.ImageEngagementCounterService.Counts;
+import dev.solace.twiggle.service.ImageStorageService.StagedImage;
+import dev.solace.twiggle.service.util.TransactionUtils;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Service class for managing garden images.
@@ -25,6 +34,11 @@ public class GardenImageService {
 
     private final GardenImageRepository gardenImageRepository;
     private final GardenImageMapper gardenImageMapper;
+    private final UnifiedSearchService unifiedSearchService;
+    private final ImageEngagementCounterService imageEngagementCounterService;
+    private final LikedImageCache likedImageCache;
+    private final ImageStorageService imageStorageService;
+    private final ThumbnailService thumbnailService;
 
     /**
      * Find all garden images with pagination and sorting.
@@ -107,6 +121,31 @@ public class GardenImageService {
                 .map(gardenImageMapper::toDto);
     }
 
+    /**
+     * Get the like and comment counts of many garden images, with one query, and which of them
+     * a user liked, from the liked image cache.
+     *
+     * @param imageIds the garden image IDs; duplicates are returned once
+     * @param userId the user viewing the images, null for anonymous users who liked nothing
+     * @return the engagement of every requested image, in request order
+     */
+    public List<ImageEngagementDTO> getEngagement(Collection<UUID> imageIds, UUID userId) {
+        Set<UUID> ids = new LinkedHashSet<>(imageIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Counts> counts = imageEngagementCounterService.getCounts(ids);
+        Set<UUID> liked = userId == null ? Set.of() : likedImageCache.filterLiked(userId, ids);
+        return ids.stream()
+                .map(imageId -> ImageEngagementDTO.builder()
+                        .imageId(imageId)
+                        .likeCount(counts.get(imageId).likeCount())
+                        .commentCount(counts.get(imageId).commentCount())
+                        .likedByUser(liked.contains(imageId))
+                        .build())
+                .toList();
+    }
+
     /**
      * Create a new garden image.
      *
@@ -119,12 +158,55 @@ public class GardenImageService {
 
         GardenImage gardenImage = gardenImageMapper.toEntity(gardenImageDTO);
         GardenImage savedImage = gardenImageRepository.save(gardenImage);
+        unifiedSearchService.indexGardenImage(savedImage);
 
         return gardenImageMapper.toDto(savedImage);
     }
 
     /**
-     * Update an existing garden image.
+     * Upload a new garden image. The file is written to image storage without being held in
+     * memory, and its thumbnails are generated in the background once the image is saved.
+     *
+     * @param file the uploaded image file
+     * @param gardenPlanId the garden plan ID
+     * @param title the image title
+     * @return the created garden image DTO, without thumbnail URLs until they are generated
+     */
+    @Transactional
+    public GardenImageDTO upload(MultipartFile file, UUID gardenPlanId, String title) {
+        StagedImage staged = imageStorageService.stage(file);
+        GardenImage savedImage;
+        try {
+            GardenImage gardenImage = new GardenImage();
+            gardenImage.setGardenPlanId(gardenPlanId);
+            gardenImage.setTitle(title);
+            // The URL contains the generated ID, so it is set once the image has one
+            gardenImage.setImageUrl("");
+            gardenImage.setCreatedAt(OffsetDateTime.now());
+            savedImage = gardenImageRepository.save(gardenImage);
+            savedImage.setImageUrl(ImageStorageService.originalUrl(savedImage.getId()));
+            imageStorageService.commit(staged, savedImage.getId());
+        } catch (RuntimeException e) {
+            imageStorageService.discard(staged);
+            throw e;
+        }
+
+        UUID id = savedImage.getId();
+        TransactionUtils.afterRollback(() -> imageStorageService.delete(id));
+        thumbnailService.generateAfterCommit(id);
+        unifiedSearchService.indexGardenImage(savedImage);
+        log.info(
+                "Uploaded garden image {} ({}x{} {})",
+                id,
+                staged.width(),
+                staged.height(),
+                staged.format().extension());
+        return gardenImageMapper.toDto(savedImage);
+    }
+
+    /**
+     * Update an existing garden image. Replacing the URL of an uploaded image deletes its
+     * stored files once the update commits.
      *
      * @param id the garden image ID
      * @param gardenImageDTO the updated garden image details
@@ -133,23 +215,33 @@ public class GardenImageService {
     @Transactional
     public Optional<GardenImageDTO> update(UUID id, GardenImageDTO gardenImageDTO) {
         return gardenImageRepository.findById(id).map(existingImage -> {
+            String uploadedUrl = ImageStorageService.originalUrl(id);
+            if (uploadedUrl.equals(existingImage.getImageUrl()) && !uploadedUrl.equals(gardenImageDTO.getImageUrl())) {
+                existingImage.setThumbnailWidths(null);
+                TransactionUtils.afterCommit(() -> imageStorageService.delete(id));
+            }
+
             // Update fields from the DTO
             existingImage.setGardenPlanId(gardenImageDTO.getGardenPlanId());
             existingImage.setImageUrl(gardenImageDTO.getImageUrl());
             existingImage.setTitle(gardenImageDTO.getTitle());
 
             // Save and convert back to DTO
-            return gardenImageMapper.toDto(gardenImageRepository.save(existingImage));
+            GardenImage savedImage = gardenImageRepository.save(existingImage);
+            unifiedSearchService.indexGardenImage(savedImage);
+            return gardenImageMapper.toDto(savedImage);
         });
     }
 
     /**
-     * Delete a garden image by ID.
+     * Delete a garden image by ID, and its stored files once the deletion commits.
      *
      * @param id the garden image ID
      */
     @Transactional
     public void delete(UUID id) {
         gardenImageRepository.deleteById(id);
+        unifiedSearchService.removeGardenImage(id);
+        TransactionUtils.afterCommit(() -> imageStorageService.delete(id));
     }
 }
@@ -0,0 +1,230 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenLayoutConfig;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.repository.PlantPositionView;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-garden layout indexes, loaded from one position query on first use and then kept in
+ * sync with plant writes, so placement, collision and region queries never touch the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GardenOccupancyCache {
+
+    private final PlantRepository plantRepository;
+    private final GardenLayoutConfig gardenLayoutConfig;
+
+    private final Map<UUID, GardenOccupancyGrid> grids = new ConcurrentHashMap<>();
+
+    /**
+     * Claim the next free cells of a garden plan in row-major order. If the surrounding
+     * transaction rolls back, the cells are released again.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param count the number of cells to claim
+     * @return the claimed cells
+     * @throws CustomException if the garden plan does not have enough free cells
+     */
+    public List<Cell> claim(UUID gardenPlanId, int count) {
+        GardenOccupancyGrid grid = getOrLoad(gardenPlanId);
+        List<Cell> claimed;
+        synchronized (grid) {
+            claimed = grid.claim(count);
+        }
+        if (claimed.isEmpty() && count > 0) {
+            throw new CustomException(
+                    "Garden plan " + gardenPlanId + " does not have " + count + " free positions",
+                    HttpStatus.CONFLICT,
+                    ErrorCode.GARDEN_PLAN_FULL);
+        }
+        TransactionUtils.afterRollback(() -> grids.computeIfPresent(gardenPlanId, (id, current) -> {
+            // A reloaded grid never saw these cells, so only release them on the claiming grid
+            if (current == grid) {
+                synchronized (grid) {
+                    claimed.forEach(cell -> grid.release(cell.x(), cell.y()));
+                }
+            }
+            return current;
+        }));
+        return claimed;
+    }
+
+    /**
+     * Record that a plant now occupies a position, once the current transaction commits.
+     * A plant without a position is taken out of the grid.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param plantId the plant ID
+     * @param x the column, may be null
+     * @param y the row, may be null
+     */
+    public void place(UUID gardenPlanId, UUID plantId, Integer x, Integer y) {
+        if (x == null || y == null) {
+            remove(gardenPlanId, plantId);
+            return;
+        }
+        TransactionUtils.afterCommit(() -> update(gardenPlanId, grid -> grid.place(plantId, x, y)));
+    }
+
+    /**
+     * Record that a plant was removed from a garden plan, once the current transaction commits.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param plantId the plant ID
+     */
+    public void remove(UUID gardenPlanId, UUID plantId) {
+        TransactionUtils.afterCommit(() -> update(gardenPlanId, grid -> grid.remove(plantId)));
+    }
+
+    /**
+     * Move plants to new cells as one change. The moves are checked against each other and
+     * the current layout, applied right away so concurrent edits see them, and reverted if
+     * the surrounding transaction rolls back.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param targets the new cell of each moved plant
+     * @throws CustomException if a target cell would hold more than one plant
+     */
+    public void move(UUID gardenPlanId, Map<UUID, Cell> targets) {
+        GardenOccupancyGrid grid = getOrLoad(gardenPlanId);
+        Map<UUID, Cell> previous;
+        synchronized (grid) {
+            Set<Cell> collisions = grid.collisions(targets);
+            if (!collisions.isEmpty()) {
+                throw new CustomException(
+                        "Positions already occupied in garden plan " + gardenPlanId + ": " + describe(collisions),
+                        HttpStatus.CONFLICT,
+                        ErrorCode.POSITION_OCCUPIED);
+            }
+            previous = grid.moveAll(targets);
+        }
+        TransactionUtils.afterRollback(() -> grids.computeIfPresent(gardenPlanId, (id, current) -> {
+            if (current == grid) {
+                synchronized (grid) {
+                    previous.forEach((plantId, cell) -> {
+                        if (cell == null) {
+                            grid.remove(plantId);
+                        } else {
+                            grid.place(plantId, cell.x(), cell.y());
+                        }
+                    });
+                }
+            }
+            return current;
+        }));
+    }
+
+    /**
+     * Whether a position lies inside the configured garden grid.
+     *
+     * @param x the column
+     * @param y the row
+     * @return true if the position is on the grid
+     */
+    public boolean isOnGrid(int x, int y) {
+        return x >= 0 && y >= 0 && x < gardenLayoutConfig.getGridWidth() && y < gardenLayoutConfig.getGridHeight();
+    }
+
+    /**
+     * Find the plants inside a rectangle of a garden plan, bounds inclusive.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @return the plants and their cells, in row-major order
+     */
+    public Map<UUID, Cell> findInRegion(UUID gardenPlanId, int minX, int minY, int maxX, int maxY) {
+        GardenOccupancyGrid grid = getOrLoad(gardenPlanId);
+        synchronized (grid) {
+            return grid.findInRegion(minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Find the free cell of a garden plan closest to a position.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param x the column
+     * @param y the row
+     * @return the nearest free cell, empty if the garden plan is full
+     */
+    public Optional<Cell> findNearestFree(UUID gardenPlanId, int x, int y) {
+        GardenOccupancyGrid grid = getOrLoad(gardenPlanId);
+        synchronized (grid) {
+            return Optional.ofNullable(grid.nearestFree(x, y));
+        }
+    }
+
+    /**
+     * Drop the cached grid of a garden plan so it is reloaded on next use.
+     *
+     * @param gardenPlanId the garden plan ID
+     */
+    public void evict(UUID gardenPlanId) {
+        grids.remove(gardenPlanId);
+    }
+
+    GardenOccupancyGrid getOrLoad(UUID gardenPlanId) {
+        GardenOccupancyGrid grid = grids.computeIfAbsent(gardenPlanId, this::load);
+        if (grids.size() > gardenLayoutConfig.getMaxCachedGardens()) {
+            trim(gardenPlanId);
+        }
+        return grid;
+    }
+
+    /**
+     * Apply a change to a cached grid. Runs inside computeIfPresent so it cannot interleave
+     * with a concurrent load of the same garden; uncached gardens are left to load fresh.
+     */
+    private void update(UUID gardenPlanId, Consumer<GardenOccupancyGrid> change) {
+        grids.computeIfPresent(gardenPlanId, (id, grid) -> {
+            synchronized (grid) {
+                change.accept(grid);
+            }
+            return grid;
+        });
+    }
+
+    private GardenOccupancyGrid load(UUID gardenPlanId) {
+        GardenOccupancyGrid grid =
+                new GardenOccupancyGrid(gardenLayoutConfig.getGridWidth(), gardenLayoutConfig.getGridHeight());
+        List<PlantPositionView> positions = plantRepository.findPositionsByGardenPlanId(gardenPlanId);
+        for (PlantPositionView position : positions) {
+            grid.place(position.getId(), position.getPositionX(), position.getPositionY());
+        }
+        log.debug("Loaded occupancy for garden plan {}: {} positioned plants", gardenPlanId, positions.size());
+        return grid;
+    }
+
+    private static String describe(Set<Cell> cells) {
+        return cells.stream()
+                .map(cell -> "(" + cell.x() + ", " + cell.y() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private void trim(UUID keep) {
+        Iterator<UUID> iterator = grids.keySet().iterator();
+        while (grids.size() > gardenLayoutConfig.getMaxCachedGardens() && iterator.hasNext()) {
+            if (!iterator.next().equals(keep)) {
+                iterator.remove();
+            }
+        }
+    }
+}
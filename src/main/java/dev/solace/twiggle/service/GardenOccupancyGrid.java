@@ -0,0 +1,300 @@
+package dev.solace.twiggle.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spatial index of a garden plan layout.
+ * A bitmap of the grid cells answers free-cell queries; cells are numbered row by row
+ * ({@code y * width + x}), so the next free cell is the same one the original row-major scan
+ * would have found. Plants are also kept in per-cell buckets, which answer collision and
+ * region queries, including for plants placed outside the grid. A bit can be set without a
+ * plant in its bucket while an add that claimed the cell has not committed yet.
+ * Callers must synchronize on the grid.
+ */
+public final class GardenOccupancyGrid {
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+    private int occupiedCount;
+    private int firstCandidateWord;
+
+    private final Map<Cell, Set<UUID>> plantsByCell = new HashMap<>();
+    private final Map<UUID, Cell> cellByPlant = new HashMap<>();
+
+    GardenOccupancyGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.words = new long[(width * height + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+
+    boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Whether a cell holds a plant or is claimed by a pending add.
+     */
+    boolean isOccupied(int x, int y) {
+        if (!contains(x, y)) {
+            return plantsByCell.containsKey(new Cell(x, y));
+        }
+        int index = y * width + x;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Mark a cell as occupied. Positions outside the grid are ignored.
+     *
+     * @return true if the cell was free and is now occupied
+     */
+    boolean occupy(int x, int y) {
+        if (!contains(x, y) || isOccupied(x, y)) {
+            return false;
+        }
+        int index = y * width + x;
+        words[index >>> 6] |= 1L << index;
+        occupiedCount++;
+        return true;
+    }
+
+    /**
+     * Mark a cell as free. Cells that still hold a plant and positions outside the grid
+     * are left as they are.
+     *
+     * @return true if the cell was occupied and is now free
+     */
+    boolean release(int x, int y) {
+        if (!contains(x, y) || !isOccupied(x, y) || plantsByCell.containsKey(new Cell(x, y))) {
+            return false;
+        }
+        int index = y * width + x;
+        words[index >>> 6] &= ~(1L << index);
+        occupiedCount--;
+        firstCandidateWord = Math.min(firstCandidateWord, index >>> 6);
+        return true;
+    }
+
+    int freeCells() {
+        return width * height - occupiedCount;
+    }
+
+    /**
+     * Put a plant in a cell, moving it out of its previous cell if it had one.
+     *
+     * @return the previous cell of the plant, or null if it was not placed
+     */
+    Cell place(UUID plantId, int x, int y) {
+        Cell previous = remove(plantId);
+        Cell cell = new Cell(x, y);
+        plantsByCell.computeIfAbsent(cell, c -> new LinkedHashSet<>()).add(plantId);
+        cellByPlant.put(plantId, cell);
+        occupy(x, y);
+        return previous;
+    }
+
+    /**
+     * Take a plant out of the grid, freeing its cell if no other plant shares it.
+     *
+     * @return the cell the plant was in, or null if it was not placed
+     */
+    Cell remove(UUID plantId) {
+        Cell cell = cellByPlant.remove(plantId);
+        if (cell == null) {
+            return null;
+        }
+        Set<UUID> bucket = plantsByCell.get(cell);
+        bucket.remove(plantId);
+        if (bucket.isEmpty()) {
+            plantsByCell.remove(cell);
+            release(cell.x(), cell.y());
+        }
+        return cell;
+    }
+
+    Cell cellOf(UUID plantId) {
+        return cellByPlant.get(plantId);
+    }
+
+    /**
+     * Find the cells that a set of simultaneous moves would leave with more than one plant.
+     * Plants that are moved away free their cells for the other moves, so swaps are allowed.
+     *
+     * @param targets the new cell of each moved plant
+     * @return the conflicting target cells, empty if the moves can be applied
+     */
+    Set<Cell> collisions(Map<UUID, Cell> targets) {
+        Set<Cell> seen = new LinkedHashSet<>();
+        Set<Cell> conflicts = new LinkedHashSet<>();
+        for (Cell target : targets.values()) {
+            if (!seen.add(target) || isTakenByOthers(target, targets)) {
+                conflicts.add(target);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Apply a set of simultaneous moves.
+     *
+     * @param targets the new cell of each moved plant
+     * @return the previous cell of each moved plant, null for plants that were not placed
+     */
+    Map<UUID, Cell> moveAll(Map<UUID, Cell> targets) {
+        Map<UUID, Cell> previous = new LinkedHashMap<>();
+        for (UUID plantId : targets.keySet()) {
+            previous.put(plantId, remove(plantId));
+        }
+        targets.forEach((plantId, cell) -> place(plantId, cell.x(), cell.y()));
+        return previous;
+    }
+
+    /**
+     * Find the plants inside a rectangle, bounds inclusive, in row-major order.
+     *
+     * @return the plants and their cells
+     */
+    Map<UUID, Cell> findInRegion(int minX, int minY, int maxX, int maxY) {
+        Map<UUID, Cell> result = new LinkedHashMap<>();
+        long area = ((long) maxX - minX + 1) * ((long) maxY - minY + 1);
+        if (area <= plantsByCell.size()) {
+            // Small regions: probe each cell of the rectangle
+            for (int y = minY; y <= maxY; y++) {
+                for (int x = minX; x <= maxX; x++) {
+                    Cell cell = new Cell(x, y);
+                    plantsByCell.getOrDefault(cell, Set.of()).forEach(plantId -> result.put(plantId, cell));
+                }
+            }
+            return result;
+        }
+        // Large regions: scan the occupied buckets instead
+        List<Cell> cells = new ArrayList<>();
+        for (Cell cell : plantsByCell.keySet()) {
+            if (cell.x() >= minX && cell.x() <= maxX && cell.y() >= minY && cell.y() <= maxY) {
+                cells.add(cell);
+            }
+        }
+        cells.sort(Comparator.comparingInt(Cell::y).thenComparingInt(Cell::x));
+        for (Cell cell : cells) {
+            plantsByCell.get(cell).forEach(plantId -> result.put(plantId, cell));
+        }
+        return result;
+    }
+
+    /**
+     * Find the first free cell in row-major order without occupying it.
+     *
+     * @return the free cell, or null if the grid is full
+     */
+    Cell nextFree() {
+        int cells = width * height;
+        for (int w = firstCandidateWord; w < words.length; w++) {
+            long free = ~words[w];
+            if (free != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(free);
+                if (index >= cells) {
+                    break;
+                }
+                firstCandidateWord = w;
+                return new Cell(index % width, index / width);
+            }
+        }
+        firstCandidateWord = words.length;
+        return null;
+    }
+
+    /**
+     * Find the free cell closest to a position by straight-line distance, searching outward
+     * ring by ring. Ties go to the first cell in row-major order.
+     *
+     * @return the nearest free cell, or null if the grid is full
+     */
+    Cell nearestFree(int x, int y) {
+        if (freeCells() == 0) {
+            return null;
+        }
+        int maxRing = Math.max(
+                Math.max(Math.abs(x), Math.abs(width - 1 - x)), Math.max(Math.abs(y), Math.abs(height - 1 - y)));
+        Cell best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing && (long) ring * ring <= bestDistance; ring++) {
+            for (int cy = Math.max(0, y - ring); cy <= Math.min(height - 1, y + ring); cy++) {
+                boolean edgeRow = Math.abs(cy - y) == ring;
+                for (int cx = Math.max(0, x - ring); cx <= Math.min(width - 1, x + ring); cx++) {
+                    if (!edgeRow && Math.abs(cx - x) != ring) {
+                        continue;
+                    }
+                    long distance = (long) (cx - x) * (cx - x) + (long) (cy - y) * (cy - y);
+                    if (!isOccupied(cx, cy) && isCloser(cx, cy, distance, best, bestDistance)) {
+                        best = new Cell(cx, cy);
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Occupy the first {@code count} free cells in row-major order.
+     *
+     * @return the claimed cells, or an empty list if fewer than {@code count} are free
+     */
+    List<Cell> claim(int count) {
+        if (count > freeCells()) {
+            return List.of();
+        }
+        List<Cell> claimed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Cell cell = nextFree();
+            occupy(cell.x(), cell.y());
+            claimed.add(cell);
+        }
+        return claimed;
+    }
+
+    private boolean isTakenByOthers(Cell target, Map<UUID, Cell> targets) {
+        Set<UUID> occupants = plantsByCell.get(target);
+        if (occupants == null) {
+            // A set bit with an empty bucket is a cell claimed by a pending add
+            return contains(target.x(), target.y()) && isOccupied(target.x(), target.y());
+        }
+        for (UUID occupant : occupants) {
+            if (!targets.containsKey(occupant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCloser(int x, int y, long distance, Cell best, long bestDistance) {
+        if (best == null || distance < bestDistance) {
+            return true;
+        }
+        return distance == bestDistance && (y < best.y() || (y == best.y() && x < best.x()));
+    }
+
+    /**
+     * A cell in the garden grid.
+     */
+    public record Cell(int x, int y) {}
+}
@@ -0,0 +1,170 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.AsyncConfig;
+import dev.solace.twiggle.dto.GardenImageOverviewDTO;
+import dev.solace.twiggle.dto.GardenPlanDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO.Section;
+import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantReminderDTO;
+import dev.solace.twiggle.mapper.GardenPlanMapper;
+import dev.solace.twiggle.mapper.PlantMapper;
+import dev.solace.twiggle.mapper.PlantReminderMapper;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.ImageEngagementCounterService.Counts;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Assembles a garden plan with its plants, pending reminders and images in one call.
+ * The plan and each requested section are loaded with one query each, in parallel, and
+ * like and comment counts for all images are read from the engagement counters with one
+ * query, so the number of queries does not grow with the number of images.
+ */
+@Service
+@Slf4j
+public class GardenPlanOverviewService {
+
+    private final GardenPlanRepository gardenPlanRepository;
+    private final PlantRepository plantRepository;
+    private final PlantReminderRepository plantReminderRepository;
+    private final GardenImageRepository gardenImageRepository;
+    private final ImageEngagementCounterService imageEngagementCounterService;
+    private final GardenPlanMapper gardenPlanMapper;
+    private final PlantMapper plantMapper;
+    private final PlantReminderMapper plantReminderMapper;
+    private final Executor queryExecutor;
+
+    public GardenPlanOverviewService(
+            GardenPlanRepository gardenPlanRepository,
+            PlantRepository plantRepository,
+            PlantReminderRepository plantReminderRepository,
+            GardenImageRepository gardenImageRepository,
+            ImageEngagementCounterService imageEngagementCounterService,
+            GardenPlanMapper gardenPlanMapper,
+            PlantMapper plantMapper,
+            PlantReminderMapper plantReminderMapper,
+            @Qualifier(AsyncConfig.QUERY_EXECUTOR) Executor queryExecutor) {
+        this.gardenPlanRepository = gardenPlanRepository;
+        this.plantRepository = plantRepository;
+        this.plantReminderRepository = plantReminderRepository;
+        this.gardenImageRepository = gardenImageRepository;
+        this.imageEngagementCounterService = imageEngagementCounterService;
+        this.gardenPlanMapper = gardenPlanMapper;
+        this.plantMapper = plantMapper;
+        this.plantReminderMapper = plantReminderMapper;
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * Load a garden plan overview.
+     * The queries run outside a shared transaction, so the sections are each consistent but
+     * may reflect writes that committed between them.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param sections the optional sections to include; counts apply only when images are included
+     * @return the overview if the garden plan exists
+     */
+    public Optional<GardenPlanOverviewDTO> getOverview(UUID gardenPlanId, Set<Section> sections) {
+        CompletableFuture<Optional<GardenPlanDTO>> plan =
+                async(() -> gardenPlanRepository.findById(gardenPlanId).map(gardenPlanMapper::toDto));
+        CompletableFuture<List<PlantDTO>> plants = sections.contains(Section.PLANTS)
+                ? async(() -> plantRepository.findByGardenPlanId(gardenPlanId).stream()
+                        .map(plantMapper::toDto)
+                        .toList())
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<PlantReminderDTO>> reminders = sections.contains(Section.REMINDERS)
+                ? async(() ->
+                        plantReminderRepository
+                                .findByGardenPlanIdAndIsCompletedOrderByReminderDateAsc(gardenPlanId, false)
+                                .stream()
+                                .map(plantReminderMapper::toDto)
+                                .toList())
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<GardenImageOverviewDTO>> images = sections.contains(Section.IMAGES)
+                ? async(() -> gardenImageRepository.findByGardenPlanId(gardenPlanId))
+                        .thenCompose(found -> withCounts(found, sections.contains(Section.COUNTS)))
+                : CompletableFuture.completedFuture(null);
+
+        return join(plan).map(gardenPlan -> GardenPlanOverviewDTO.builder()
+                .id(gardenPlanId)
+                .gardenPlan(gardenPlan)
+                .plants(join(plants))
+                .pendingReminders(join(reminders))
+                .images(join(images))
+                .build());
+    }
+
+    /**
+     * Parse a comma-separated list of section names; null or blank selects every section.
+     *
+     * @param include the section names
+     * @return the selected sections
+     * @throws IllegalArgumentException if a name is not a section
+     */
+    public static Set<Section> parseSections(String include) {
+        if (include == null || include.isBlank()) {
+            return Set.of(Section.values());
+        }
+        return Arrays.stream(include.split(","))
+                .filter(name -> !name.isBlank())
+                .map(Section::from)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private CompletableFuture<List<GardenImageOverviewDTO>> withCounts(List<GardenImage> images, boolean counts) {
+        if (!counts || images.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    images.stream().map(image -> toOverview(image, null, null)).toList());
+        }
+        List<UUID> imageIds = images.stream().map(GardenImage::getId).toList();
+        return async(() -> imageEngagementCounterService.getCounts(imageIds)).thenApply(countsById -> images.stream()
+                .map(image -> {
+                    Counts imageCounts = countsById.get(image.getId());
+                    return toOverview(image, imageCounts.likeCount(), imageCounts.commentCount());
+                })
+                .toList());
+    }
+
+    private static GardenImageOverviewDTO toOverview(GardenImage image, Long likeCount, Long commentCount) {
+        return GardenImageOverviewDTO.builder()
+                .id(image.getId())
+                .imageUrl(image.getImageUrl())
+                .title(image.getTitle())
+                .createdAt(image.getCreatedAt())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .build();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, queryExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Surface the query's own exception rather than the wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
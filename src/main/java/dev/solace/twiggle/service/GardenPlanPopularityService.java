@@ -0,0 +1,424 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenPopularityConfig;
+import dev.solace.twiggle.dto.GardenPlanFeedDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedItemDTO;
+import dev.solace.twiggle.mapper.GardenPlanMapper;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.model.GardenPlan;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlanCreationView;
+import dev.solace.twiggle.repository.PlanEngagementView;
+import dev.solace.twiggle.service.PopularityRanking.Entry;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Feed of public garden plans, most popular first.
+ * Popularity is the weighted sum of a plan's creation and of the likes and comments on its
+ * images and the activities recorded on it, each counting half as much per configured
+ * half-life of age. The ranking is built from the database on first use, kept current by the
+ * services that write those events once their transactions commit, and rebuilt periodically
+ * to drop events that have decayed away and to correct any drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GardenPlanPopularityService {
+
+    private static final double LN_2 = Math.log(2);
+    private static final char CURSOR_SEPARATOR = ':';
+
+    private final GardenPlanRepository gardenPlanRepository;
+    private final GardenImageRepository gardenImageRepository;
+    private final GardenPlanMapper gardenPlanMapper;
+    private final GardenPopularityConfig gardenPopularityConfig;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object();
+    private PopularityRanking ranking = new PopularityRanking();
+    private boolean loaded;
+    // While a rebuild runs: the changes it may have missed, replayed onto the new ranking
+    private List<Consumer<PopularityRanking>> pendingChanges;
+    private OffsetDateTime rebuildStartedAt;
+    private boolean readingEngagement;
+
+    /**
+     * Read a page of the feed.
+     *
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param size the maximum number of plans
+     * @return the plans of the page and the cursor of the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public GardenPlanFeedDTO getFeed(String cursor, int size) {
+        Entry after = parseCursor(cursor);
+        ensureLoaded();
+        List<Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = ranking.page(after, size + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+        boolean hasMore = entries.size() > size;
+        if (hasMore) {
+            entries = entries.subList(0, size);
+        }
+
+        Map<UUID, GardenPlan> plans =
+                gardenPlanRepository
+                        .findAllById(entries.stream().map(Entry::planId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(GardenPlan::getId, Function.identity()));
+        double now = logTime(OffsetDateTime.now());
+        List<GardenPlanFeedItemDTO> items = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            GardenPlan plan = plans.get(entry.planId());
+            // Skip plans deleted or made private since the page was read
+            if (plan != null && Boolean.TRUE.equals(plan.getIsPublic())) {
+                items.add(GardenPlanFeedItemDTO.builder()
+                        .gardenPlan(gardenPlanMapper.toDto(plan))
+                        .popularity(Math.pow(2, entry.score() - now))
+                        .build());
+            }
+        }
+        return GardenPlanFeedDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? formatCursor(entries.get(entries.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Count a new garden plan once the current transaction commits.
+     *
+     * @param gardenPlan the created garden plan
+     */
+    public void planCreated(GardenPlan gardenPlan) {
+        UUID planId = gardenPlan.getId();
+        boolean isPublic = Boolean.TRUE.equals(gardenPlan.getIsPublic());
+        double weight = gardenPopularityConfig.getCreationWeight();
+        double logWeight = weight > 0 ? logWeight(weight, gardenPlan.getCreatedAt()) : 0;
+        TransactionUtils.afterCommit(() -> update(gardenPlan.getCreatedAt(), false, ranking -> {
+            if (weight > 0) {
+                ranking.add(planId, logWeight);
+            }
+            ranking.setPublic(planId, isPublic);
+        }));
+    }
+
+    /**
+     * Show or hide an updated garden plan once the current transaction commits.
+     *
+     * @param gardenPlan the updated garden plan
+     */
+    public void planUpdated(GardenPlan gardenPlan) {
+        UUID planId = gardenPlan.getId();
+        boolean isPublic = Boolean.TRUE.equals(gardenPlan.getIsPublic());
+        TransactionUtils.afterCommit(() -> update(null, false, ranking -> ranking.setPublic(planId, isPublic)));
+    }
+
+    /**
+     * Remove a garden plan once the current transaction commits.
+     *
+     * @param gardenPlanId the garden plan ID
+     */
+    public void planDeleted(UUID gardenPlanId) {
+        TransactionUtils.afterCommit(() -> update(null, false, ranking -> ranking.remove(gardenPlanId)));
+    }
+
+    /**
+     * Count a like on a garden image once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     * @param likedAt when the like was created
+     */
+    public void recordLike(UUID imageId, OffsetDateTime likedAt) {
+        recordImageEvent(imageId, likedAt, gardenPopularityConfig.getLikeWeight(), true);
+    }
+
+    /**
+     * Take back a like on a garden image once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     * @param likedAt when the removed like was created
+     */
+    public void retractLike(UUID imageId, OffsetDateTime likedAt) {
+        recordImageEvent(imageId, likedAt, gardenPopularityConfig.getLikeWeight(), false);
+    }
+
+    /**
+     * Count a comment on a garden image once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     * @param commentedAt when the comment was created
+     */
+    public void recordComment(UUID imageId, OffsetDateTime commentedAt) {
+        recordImageEvent(imageId, commentedAt, gardenPopularityConfig.getCommentWeight(), true);
+    }
+
+    /**
+     * Take back a comment on a garden image once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     * @param commentedAt when the removed comment was created
+     */
+    public void retractComment(UUID imageId, OffsetDateTime commentedAt) {
+        recordImageEvent(imageId, commentedAt, gardenPopularityConfig.getCommentWeight(), false);
+    }
+
+    /**
+     * Count an activity on a garden plan once the current transaction commits.
+     *
+     * @param gardenPlanId the garden plan ID, may be null for activities outside any plan
+     * @param createdAt when the activity was recorded
+     */
+    public void recordActivity(UUID gardenPlanId, OffsetDateTime createdAt) {
+        recordPlanEvent(gardenPlanId, createdAt, gardenPopularityConfig.getActivityWeight(), true);
+    }
+
+    /**
+     * Take back an activity on a garden plan once the current transaction commits.
+     *
+     * @param gardenPlanId the garden plan ID, may be null for activities outside any plan
+     * @param createdAt when the removed activity was recorded
+     */
+    public void retractActivity(UUID gardenPlanId, OffsetDateTime createdAt) {
+        recordPlanEvent(gardenPlanId, createdAt, gardenPopularityConfig.getActivityWeight(), false);
+    }
+
+    /**
+     * Recompute the ranking from the database, if it has been loaded. Events written while
+     * the rebuild runs are replayed onto the new ranking before it replaces the old one.
+     */
+    @Scheduled(
+            fixedDelayString = "${garden.popularity.rebuild-interval:PT1H}",
+            initialDelayString = "${garden.popularity.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        if (isLoaded()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Decode a feed cursor.
+     *
+     * @param cursor the cursor, may be null or blank
+     * @return the last entry of the previous page, null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static Entry parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        double score = Double.longBitsToDouble(Long.parseUnsignedLong(decoded.substring(0, separator), 16));
+        if (Double.isNaN(score)) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        return new Entry(score, UUID.fromString(decoded.substring(separator + 1)));
+    }
+
+    /**
+     * Encode the position after an entry as an opaque cursor.
+     */
+    static String formatCursor(Entry entry) {
+        String raw = Long.toHexString(Double.doubleToLongBits(entry.score())) + CURSOR_SEPARATOR + entry.planId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void recordImageEvent(UUID imageId, OffsetDateTime createdAt, double weight, boolean added) {
+        TransactionUtils.afterCommit(() -> {
+            if (!isTracking()) {
+                return;
+            }
+            gardenImageRepository
+                    .findById(imageId)
+                    .map(GardenImage::getGardenPlanId)
+                    .ifPresent(planId -> applyEvent(planId, createdAt, weight, added));
+        });
+    }
+
+    private void recordPlanEvent(UUID gardenPlanId, OffsetDateTime createdAt, double weight, boolean added) {
+        if (gardenPlanId != null) {
+            TransactionUtils.afterCommit(() -> applyEvent(gardenPlanId, createdAt, weight, added));
+        }
+    }
+
+    private void applyEvent(UUID planId, OffsetDateTime createdAt, double weight, boolean added) {
+        if (weight <= 0) {
+            return;
+        }
+        double logWeight = logWeight(weight, createdAt);
+        update(createdAt, !added, ranking -> {
+            if (added) {
+                ranking.add(planId, logWeight);
+            } else {
+                ranking.subtract(planId, logWeight);
+            }
+        });
+    }
+
+    /**
+     * Apply a change to the ranking. Before the first load there is nothing to change: the
+     * load reads the committed state, which already includes it. During a rebuild the change
+     * is also kept for the new ranking, unless it is an event the rebuild has already read.
+     * The rebuild reads events created before it started, so it never reads newer ones; once
+     * it is reading, it may still have read an older event that is being taken back.
+     *
+     * @param eventTime the time of the event, null for changes that must always be replayed
+     * @param retraction whether the change takes an event back
+     */
+    private void update(OffsetDateTime eventTime, boolean retraction, Consumer<PopularityRanking> change) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                change.accept(ranking);
+            }
+            if (pendingChanges != null
+                    && (eventTime == null
+                            || !eventTime.isBefore(rebuildStartedAt)
+                            || (retraction && readingEngagement))) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isTracking() {
+        lock.readLock().lock();
+        try {
+            return loaded || pendingChanges != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!isLoaded()) {
+            synchronized (rebuildMonitor) {
+                if (!isLoaded()) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        synchronized (rebuildMonitor) {
+            OffsetDateTime now = OffsetDateTime.now();
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+                rebuildStartedAt = now;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                PopularityRanking rebuilt = load(now);
+                lock.writeLock().lock();
+                try {
+                    pendingChanges.forEach(change -> change.accept(rebuilt));
+                    ranking = rebuilt;
+                    loaded = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                    rebuildStartedAt = null;
+                    readingEngagement = false;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private PopularityRanking load(OffsetDateTime now) {
+        PopularityRanking rebuilt = new PopularityRanking();
+        List<PlanCreationView> plans = gardenPlanRepository.findCreationTimes();
+        for (PlanCreationView plan : plans) {
+            if (gardenPopularityConfig.getCreationWeight() > 0) {
+                rebuilt.add(plan.getId(), logWeight(gardenPopularityConfig.getCreationWeight(), plan.getCreatedAt()));
+            }
+            rebuilt.setPublic(plan.getId(), Boolean.TRUE.equals(plan.getIsPublic()));
+        }
+        lock.writeLock().lock();
+        try {
+            // Retractions from now on may take back events this read still sees
+            readingEngagement = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        double halfLifeSeconds = halfLifeSeconds();
+        OffsetDateTime since =
+                now.minusSeconds((long) (halfLifeSeconds * gardenPopularityConfig.getRebuildHalfLives()));
+        List<PlanEngagementView> engagement = gardenPlanRepository.sumDecayedEngagement(
+                since,
+                now,
+                halfLifeSeconds,
+                gardenPopularityConfig.getLikeWeight(),
+                gardenPopularityConfig.getCommentWeight(),
+                gardenPopularityConfig.getActivityWeight());
+        double logNow = logTime(now);
+        for (PlanEngagementView view : engagement) {
+            if (view.getDecayedWeight() != null && view.getDecayedWeight() > 0) {
+                rebuilt.add(view.getGardenPlanId(), Math.log(view.getDecayedWeight()) / LN_2 + logNow);
+            }
+        }
+        log.info(
+                "Built garden plan popularity ranking: {} public of {} garden plans, {} with engagement",
+                rebuilt.size(),
+                plans.size(),
+                engagement.size());
+        return rebuilt;
+    }
+
+    /**
+     * The base-2 logarithm of an event's weight, grown for every half-life since the epoch.
+     */
+    private double logWeight(double weight, OffsetDateTime createdAt) {
+        return Math.log(weight) / LN_2 + logTime(createdAt);
+    }
+
+    private double logTime(OffsetDateTime time) {
+        return time.toInstant().toEpochMilli() / 1000.0 / halfLifeSeconds();
+    }
+
+    private double halfLifeSeconds() {
+        return gardenPopularityConfig.getHalfLife().toMillis() / 1000.0;
+    }
+}
@@ -25,6 +25,8 @@ public class GardenPlanService {
 
     private final GardenPlanRepository gardenPlanRepository;
     private final GardenPlanMapper gardenPlanMapper;
+    private final UnifiedSearchService unifiedSearchService;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
 
     /**
      * Find all garden plans with pagination and sorting.
@@ -131,18 +133,9 @@ public class GardenPlanService {
      */
     public Page<GardenPlanDTO> searchGardenPlansWithRelevance(
             String name, String type, String location, String query, UUID userId, Boolean isPublic, Pageable pageable) {
-        try {
-            return gardenPlanRepository
-                    .searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable)
-                    .map(gardenPlanMapper::toDto);
-        } catch (Exception e) {
-            // If the enhanced search fails (e.g., due to database compatibility issues),
-            // fall back to the simpler search method
-            log.warn("Enhanced search failed, falling back to simple search: {}", e.getMessage());
-            return gardenPlanRepository
-                    .searchGardenPlans(query, userId, isPublic, pageable)
-                    .map(gardenPlanMapper::toDto);
-        }
+        return gardenPlanRepository
+                .searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable)
+                .map(gardenPlanMapper::toDto);
     }
 
     /**
@@ -159,6 +152,8 @@ public class GardenPlanService {
 
         GardenPlan gardenPlan = gardenPlanMapper.toEntity(gardenPlanDTO);
         GardenPlan savedGardenPlan = gardenPlanRepository.save(gardenPlan);
+        unifiedSearchService.indexGardenPlan(savedGardenPlan);
+        gardenPlanPopularityService.planCreated(savedGardenPlan);
 
         return gardenPlanMapper.toDto(savedGardenPlan);
     }
@@ -183,7 +178,10 @@ public class GardenPlanService {
             existingPlan.setUpdatedAt(OffsetDateTime.now());
 
             // Save and convert back to DTO
-            return gardenPlanMapper.toDto(gardenPlanRepository.save(existingPlan));
+            GardenPlan savedPlan = gardenPlanRepository.save(existingPlan);
+            unifiedSearchService.indexGardenPlan(savedPlan);
+            gardenPlanPopularityService.planUpdated(savedPlan);
+            return gardenPlanMapper.toDto(savedPlan);
         });
     }
 
@@ -195,5 +193,7 @@ public class GardenPlanService {
     @Transactional
     public void delete(UUID id) {
         gardenPlanRepository.deleteById(id);
+        unifiedSearchService.removeGardenPlan(id);
+        gardenPlanPopularityService.planDeleted(id);
     }
 }
@@ -1,15 +1,23 @@
 package dev.solace.twiggle.service;
 
+import dev.solace.twiggle.dto.CommentAuthorDTO;
 import dev.solace.twiggle.dto.ImageCommentDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedItemDTO;
 import dev.solace.twiggle.mapper.ImageCommentMapper;
 import dev.solace.twiggle.model.ImageComment;
 import dev.solace.twiggle.repository.ImageCommentRepository;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,8 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ImageCommentService {
 
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final ImageCommentRepository imageCommentRepository;
     private final ImageCommentMapper imageCommentMapper;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
+    private final ImageEngagementCounterService imageEngagementCounterService;
+    private final CommentAuthorCache commentAuthorCache;
 
     /**
      * Find all image comments with pagination and sorting.
@@ -86,7 +99,45 @@ public class ImageCommentService {
      * @return the number of comments
      */
     public long countByImageId(UUID imageId) {
-        return imageCommentRepository.countByImageId(imageId);
+        return imageEngagementCounterService.getCommentCount(imageId);
+    }
+
+    /**
+     * Get one page of an image's comments, newest first, with the name and avatar of each
+     * author. Pages are read by seeking past the last comment of the previous page, and the
+     * authors come from a shared cache that loads the missing ones with one query.
+     *
+     * @param imageId the image ID
+     * @param cursor the nextCursor of the previous page, null or blank for the first page
+     * @param size the maximum number of comments
+     * @return the page of comments
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ImageCommentFeedDTO getFeed(UUID imageId, String cursor, int size) {
+        FeedCursor after = parseCursor(cursor);
+        // One extra row tells whether another page follows
+        Limit limit = Limit.of(size + 1);
+        List<ImageComment> comments = after == null
+                ? imageCommentRepository.findFeedByImageId(imageId, limit)
+                : imageCommentRepository.findFeedByImageIdAfter(imageId, after.createdAt(), after.id(), limit);
+        boolean hasMore = comments.size() > size;
+        List<ImageComment> page = hasMore ? comments.subList(0, size) : comments;
+
+        Map<UUID, CommentAuthorDTO> authors = commentAuthorCache.getAuthors(
+                page.stream().map(ImageComment::getUserId).distinct().toList());
+        List<ImageCommentFeedItemDTO> items = page.stream()
+                .map(comment -> ImageCommentFeedItemDTO.builder()
+                        .id(comment.getId())
+                        .imageId(comment.getImageId())
+                        .comment(comment.getComment())
+                        .createdAt(comment.getCreatedAt())
+                        .author(authors.get(comment.getUserId()))
+                        .build())
+                .toList();
+        return ImageCommentFeedDTO.builder()
+                .items(items)
+                .nextCursor(hasMore ? formatCursor(page.getLast()) : null)
+                .build();
     }
 
     /**
@@ -101,6 +152,8 @@ public class ImageCommentService {
 
         ImageComment imageComment = imageCommentMapper.toEntity(imageCommentDTO);
         ImageComment savedComment = imageCommentRepository.save(imageComment);
+        gardenPlanPopularityService.recordComment(savedComment.getImageId(), savedComment.getCreatedAt());
+        imageEngagementCounterService.commentAdded(savedComment.getImageId());
 
         return imageCommentMapper.toDto(savedComment);
     }
@@ -131,6 +184,38 @@ public class ImageCommentService {
      */
     @Transactional
     public void delete(UUID id) {
-        imageCommentRepository.deleteById(id);
+        imageCommentRepository.findById(id).ifPresent(comment -> {
+            imageCommentRepository.delete(comment);
+            gardenPlanPopularityService.retractComment(comment.getImageId(), comment.getCreatedAt());
+            imageEngagementCounterService.commentRemoved(comment.getImageId());
+        });
+    }
+
+    static FeedCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        try {
+            return new FeedCursor(
+                    OffsetDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+
+    static String formatCursor(ImageComment comment) {
+        String raw = comment.getCreatedAt() + CURSOR_SEPARATOR + comment.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * The position after the last comment of a page.
+     */
+    record FeedCursor(OffsetDateTime createdAt, UUID id) {}
 }
@@ -0,0 +1,286 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.model.ImageEngagementCount;
+import dev.solace.twiggle.repository.ImageEngagementCountRepository;
+import dev.solace.twiggle.repository.ImageEngagementView;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Like and comment counts of garden images, read from the image_engagement_counts table
+ * instead of counting image_likes and image_comments.
+ * Changes are buffered in memory per image, so a burst of likes on one image costs a few
+ * uncontended additions, and written to the table in batched upserts on a short interval.
+ * Reads add the buffered changes to the stored counts, so writers see their own changes
+ * right away. A periodic reconciliation corrects counts that drifted from the source tables.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageEngagementCounterService {
+
+    private final ImageEngagementCountRepository imageEngagementCountRepository;
+    private final GardenEngagementConfig gardenEngagementConfig;
+
+    // Writers share the read lock; the flush takes the write lock only to swap the maps
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object flushMonitor = new Object();
+    private volatile Map<UUID, Delta> pending = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Delta> flushing = Map.of();
+
+    /**
+     * Count a new like once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     */
+    public void likeAdded(UUID imageId) {
+        change(imageId, 1, 0);
+    }
+
+    /**
+     * Count a removed like once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     */
+    public void likeRemoved(UUID imageId) {
+        change(imageId, -1, 0);
+    }
+
+    /**
+     * Count a new comment once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     */
+    public void commentAdded(UUID imageId) {
+        change(imageId, 0, 1);
+    }
+
+    /**
+     * Count a removed comment once the current transaction commits.
+     *
+     * @param imageId the garden image ID
+     */
+    public void commentRemoved(UUID imageId) {
+        change(imageId, 0, -1);
+    }
+
+    /**
+     * Get the number of likes of an image.
+     *
+     * @param imageId the garden image ID
+     * @return the number of likes
+     */
+    public long getLikeCount(UUID imageId) {
+        return getCounts(imageId).likeCount();
+    }
+
+    /**
+     * Get the number of comments of an image.
+     *
+     * @param imageId the garden image ID
+     * @return the number of comments
+     */
+    public long getCommentCount(UUID imageId) {
+        return getCounts(imageId).commentCount();
+    }
+
+    /**
+     * Get the like and comment counts of an image.
+     *
+     * @param imageId the garden image ID
+     * @return the counts, zero for images without likes or comments
+     */
+    public Counts getCounts(UUID imageId) {
+        Counts stored = imageEngagementCountRepository
+                .findById(imageId)
+                .map(ImageEngagementCounterService::toCounts)
+                .orElse(Counts.ZERO);
+        return withBuffered(imageId, stored);
+    }
+
+    /**
+     * Get the like and comment counts of many images with one query.
+     *
+     * @param imageIds the garden image IDs
+     * @return the counts of every requested image, zero for images without likes or comments
+     */
+    public Map<UUID, Counts> getCounts(Collection<UUID> imageIds) {
+        Map<UUID, Counts> counts = new HashMap<>();
+        imageEngagementCountRepository
+                .findAllById(imageIds)
+                .forEach(row -> counts.put(row.getImageId(), toCounts(row)));
+        for (UUID imageId : imageIds) {
+            counts.put(imageId, withBuffered(imageId, counts.getOrDefault(imageId, Counts.ZERO)));
+        }
+        return counts;
+    }
+
+    /**
+     * Write the buffered changes in batched upserts. Changes that could not be written are
+     * buffered again for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${garden.engagement.flush-interval:PT2S}")
+    @PreDestroy
+    public void flush() {
+        synchronized (flushMonitor) {
+            Map<UUID, Delta> batch;
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ConcurrentHashMap<>();
+                flushing = batch;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            // No writer holds the swapped-out map any more, so its sums are final
+            List<Change> changes = new ArrayList<>(batch.size());
+            batch.forEach((imageId, delta) -> {
+                Change change = new Change(imageId, delta.likes.sum(), delta.comments.sum());
+                if (change.getLikeCount() != 0 || change.getCommentCount() != 0) {
+                    changes.add(change);
+                }
+            });
+            int written = 0;
+            try {
+                for (List<Change> chunk : chunks(changes)) {
+                    imageEngagementCountRepository.addCounts(chunk);
+                    written += chunk.size();
+                }
+                log.debug("Flushed engagement count changes of {} images", written);
+            } catch (RuntimeException e) {
+                log.warn(
+                        "Failed to flush engagement counts of {} images, retrying on next flush: {}",
+                        changes.size() - written,
+                        e.getMessage());
+                changes.subList(written, changes.size())
+                        .forEach(
+                                change -> buffer(change.getImageId(), change.getLikeCount(), change.getCommentCount()));
+            } finally {
+                flushing = Map.of();
+            }
+        }
+    }
+
+    /**
+     * Check the stored counts against image_likes and image_comments and correct the ones
+     * that drifted, such as after a crash lost buffered changes. Counts of deleted images are
+     * removed. Images with buffered changes are left for the next run, since those changes may
+     * already be part of the source rows that were counted; they are checked again right before
+     * each batch is written, so a change that arrives during the run is never overwritten.
+     */
+    @Scheduled(
+            fixedDelayString = "${garden.engagement.reconcile-interval:PT1H}",
+            initialDelayString = "${garden.engagement.reconcile-interval:PT1H}")
+    public void reconcile() {
+        synchronized (flushMonitor) {
+            flush();
+            int orphans = imageEngagementCountRepository.deleteOrphans();
+            List<ImageEngagementView> mismatched = imageEngagementCountRepository.findMismatchedCounts();
+            int corrected = 0;
+            for (List<ImageEngagementView> chunk : chunks(mismatched)) {
+                List<ImageEngagementView> corrections = chunk.stream()
+                        .filter(counts -> !hasBufferedChanges(counts.getImageId()))
+                        .toList();
+                if (!corrections.isEmpty()) {
+                    imageEngagementCountRepository.setCounts(corrections);
+                    corrected += corrections.size();
+                }
+            }
+            log.info(
+                    "Reconciled image engagement counts: {} corrected, {} deferred, {} orphans removed",
+                    corrected,
+                    mismatched.size() - corrected,
+                    orphans);
+        }
+    }
+
+    private void change(UUID imageId, long likes, long comments) {
+        TransactionUtils.afterCommit(() -> buffer(imageId, likes, comments));
+    }
+
+    private void buffer(UUID imageId, long likes, long comments) {
+        swapLock.readLock().lock();
+        try {
+            Delta delta = pending.computeIfAbsent(imageId, id -> new Delta());
+            delta.likes.add(likes);
+            delta.comments.add(comments);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private boolean hasBufferedChanges(UUID imageId) {
+        return flushing.containsKey(imageId) || pending.containsKey(imageId);
+    }
+
+    /**
+     * Add the buffered changes of an image to its stored counts. While a flush writes them,
+     * a read may briefly see them twice or not at all.
+     */
+    private Counts withBuffered(UUID imageId, Counts stored) {
+        long likes = stored.likeCount();
+        long comments = stored.commentCount();
+        for (Map<UUID, Delta> buffered : List.of(flushing, pending)) {
+            Delta delta = buffered.get(imageId);
+            if (delta != null) {
+                likes += delta.likes.sum();
+                comments += delta.comments.sum();
+            }
+        }
+        return new Counts(Math.max(likes, 0), Math.max(comments, 0));
+    }
+
+    private <T> List<List<T>> chunks(List<T> rows) {
+        int size = Math.max(1, gardenEngagementConfig.getFlushBatchSize());
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += size) {
+            chunks.add(rows.subList(start, Math.min(start + size, rows.size())));
+        }
+        return chunks;
+    }
+
+    private static Counts toCounts(ImageEngagementCount row) {
+        return new Counts(
+                row.getLikeCount() == null ? 0 : row.getLikeCount(),
+                row.getCommentCount() == null ? 0 : row.getCommentCount());
+    }
+
+    /**
+     * Like and comment counts of one image.
+     */
+    public record Counts(long likeCount, long commentCount) {
+        static final Counts ZERO = new Counts(0, 0);
+    }
+
+    /**
+     * Buffered changes to the counts of one image.
+     */
+    private static final class Delta {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+    }
+
+    /**
+     * A change to the counts of one image, as written by a flush.
+     */
+    private record Change(UUID getImageId, Long getLikeCount, Long getCommentCount) implements ImageEngagementView {}
+}
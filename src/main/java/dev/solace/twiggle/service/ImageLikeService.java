@@ -1,9 +1,12 @@
 package dev.solace.twiggle.service;
 
 import dev.solace.twiggle.dto.ImageLikeDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.mapper.ImageLikeMapper;
 import dev.solace.twiggle.model.ImageLike;
 import dev.solace.twiggle.repository.ImageLikeRepository;
+import dev.solace.twiggle.repository.ImageLikeUpdateRepository.Toggle;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ImageLikeService {
 
+    // A toggle only finds nothing to change when it races a concurrent toggle of the same like
+    private static final int MAX_TOGGLE_ATTEMPTS = 3;
+
     private final ImageLikeRepository imageLikeRepository;
     private final ImageLikeMapper imageLikeMapper;
+    private final GardenPlanPopularityService gardenPlanPopularityService;
+    private final ImageEngagementCounterService imageEngagementCounterService;
+    private final LikedImageCache likedImageCache;
 
     /**
      * Find all image likes with pagination and sorting.
@@ -98,7 +108,7 @@ public class ImageLikeService {
      * @return true if the user has liked the image, false otherwise
      */
     public boolean hasUserLikedImage(UUID imageId, UUID userId) {
-        return imageLikeRepository.existsByImageIdAndUserId(imageId, userId);
+        return likedImageCache.hasLiked(userId, imageId);
     }
 
     /**
@@ -108,7 +118,7 @@ public class ImageLikeService {
      * @return the number of likes
      */
     public long countByImageId(UUID imageId) {
-        return imageLikeRepository.countByImageId(imageId);
+        return imageEngagementCounterService.getLikeCount(imageId);
     }
 
     /**
@@ -119,45 +129,51 @@ public class ImageLikeService {
      */
     @Transactional
     public ImageLikeDTO create(ImageLikeDTO imageLikeDTO) {
-        // Check if the user has already liked the image
-        if (imageLikeRepository.existsByImageIdAndUserId(imageLikeDTO.getImageId(), imageLikeDTO.getUserId())) {
-            throw new IllegalStateException("User has already liked this image");
-        }
-
         imageLikeDTO.setCreatedAt(OffsetDateTime.now());
 
         ImageLike imageLike = imageLikeMapper.toEntity(imageLikeDTO);
-        ImageLike savedLike = imageLikeRepository.save(imageLike);
+        imageLike.setId(UUID.randomUUID());
+        // A single insert, so concurrent requests cannot both create the like
+        if (!imageLikeRepository.insertIfAbsent(imageLike)) {
+            throw new IllegalStateException("User has already liked this image");
+        }
+        likeAdded(imageLike.getImageId(), imageLike.getUserId(), imageLike.getCreatedAt());
 
-        return imageLikeMapper.toDto(savedLike);
+        return imageLikeMapper.toDto(imageLike);
     }
 
     /**
      * Toggle like for an image by a user.
      * If the user has already liked the image, the like is removed.
      * If the user has not liked the image, a new like is created.
+     * Both happen in one statement, so concurrent toggles of a user alternate the like
+     * instead of creating duplicates.
      *
      * @param imageId the image ID
      * @param userId the user ID
      * @return true if a like was created, false if a like was removed
+     * @throws CustomException if concurrent toggles kept changing the like, so nothing was toggled
      */
     @Transactional
     public boolean toggleLike(UUID imageId, UUID userId) {
-        Optional<ImageLike> existingLike = imageLikeRepository.findByImageIdAndUserId(imageId, userId);
-
-        if (existingLike.isPresent()) {
-            // Unlike: remove the existing like
-            imageLikeRepository.delete(existingLike.get());
-            return false;
-        } else {
-            // Like: create a new like
-            ImageLike newLike = new ImageLike();
-            newLike.setImageId(imageId);
-            newLike.setUserId(userId);
-            newLike.setCreatedAt(OffsetDateTime.now());
-            imageLikeRepository.save(newLike);
-            return true;
+        for (int attempt = 0; attempt < MAX_TOGGLE_ATTEMPTS; attempt++) {
+            Optional<Toggle> toggle =
+                    imageLikeRepository.toggle(imageId, userId, UUID.randomUUID(), OffsetDateTime.now());
+            if (toggle.isPresent()) {
+                if (toggle.get().liked()) {
+                    likeAdded(imageId, userId, toggle.get().createdAt());
+                } else {
+                    likeRemoved(imageId, userId, toggle.get().createdAt());
+                }
+                return toggle.get().liked();
+            }
+            // A concurrent toggle inserted the like first; toggling again removes it
         }
+        log.warn("Gave up toggling like of image {} by user {} after concurrent changes", imageId, userId);
+        throw new CustomException(
+                "The like was changed concurrently, please try again",
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ErrorCode.SERVICE_UNAVAILABLE);
     }
 
     /**
@@ -167,7 +183,7 @@ public class ImageLikeService {
      */
     @Transactional
     public void delete(UUID id) {
-        imageLikeRepository.deleteById(id);
+        imageLikeRepository.findById(id).ifPresent(this::deleteLike);
     }
 
     /**
@@ -179,10 +195,25 @@ public class ImageLikeService {
      */
     @Transactional
     public boolean unlikeImage(UUID imageId, UUID userId) {
-        if (imageLikeRepository.existsByImageIdAndUserId(imageId, userId)) {
-            imageLikeRepository.deleteByImageIdAndUserId(imageId, userId);
-            return true;
-        }
-        return false;
+        Optional<OffsetDateTime> deleted = imageLikeRepository.deleteLike(imageId, userId);
+        deleted.ifPresent(createdAt -> likeRemoved(imageId, userId, createdAt));
+        return deleted.isPresent();
+    }
+
+    private void deleteLike(ImageLike imageLike) {
+        imageLikeRepository.delete(imageLike);
+        likeRemoved(imageLike.getImageId(), imageLike.getUserId(), imageLike.getCreatedAt());
+    }
+
+    private void likeAdded(UUID imageId, UUID userId, OffsetDateTime createdAt) {
+        gardenPlanPopularityService.recordLike(imageId, createdAt);
+        imageEngagementCounterService.likeAdded(imageId);
+        likedImageCache.likeAdded(userId, imageId);
+    }
+
+    private void likeRemoved(UUID imageId, UUID userId, OffsetDateTime createdAt) {
+        gardenPlanPopularityService.retractLike(imageId, createdAt);
+        imageEngagementCounterService.likeRemoved(imageId);
+        likedImageCache.likeRemoved(userId, imageId);
     }
 }
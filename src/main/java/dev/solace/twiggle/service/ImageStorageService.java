@@ -0,0 +1,254 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenImageStorageConfig;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Local storage of uploaded garden images and their thumbnails. Every image has its own
+ * directory, named by its ID, holding the original file and one JPEG per thumbnail width.
+ * Stored files never change, so they can be cached by clients for as long as they exist.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageStorageService {
+
+    private static final String INCOMING_DIRECTORY = ".incoming";
+    private static final String ORIGINAL_NAME = "original";
+    private static final ImageFormat THUMBNAIL_FORMAT = new ImageFormat("jpg", "image/jpeg");
+    // Upload formats that browsers display, by ImageIO format name
+    private static final Map<String, ImageFormat> FORMATS = Map.of(
+            "jpeg", THUMBNAIL_FORMAT,
+            "png", new ImageFormat("png", "image/png"),
+            "gif", new ImageFormat("gif", "image/gif"),
+            "bmp", new ImageFormat("bmp", "image/bmp"));
+
+    private final GardenImageStorageConfig gardenImageStorageConfig;
+
+    /**
+     * Get the URL the original file of an uploaded image is served at.
+     *
+     * @param imageId the garden image ID
+     * @return the relative URL
+     */
+    public static String originalUrl(UUID imageId) {
+        return "/api/garden-images/" + imageId + "/original";
+    }
+
+    /**
+     * Get the URL a thumbnail of an uploaded image is served at.
+     *
+     * @param imageId the garden image ID
+     * @param width the thumbnail width in pixels
+     * @return the relative URL
+     */
+    public static String thumbnailUrl(UUID imageId, int width) {
+        return "/api/garden-images/" + imageId + "/thumbnails/" + width;
+    }
+
+    /**
+     * Write an uploaded file to storage and check that it is a supported image. Only the image
+     * header is read; the pixels are not decoded. The file is moved from where the servlet
+     * container spooled it while receiving the request, or copied in small chunks, and is never
+     * held in memory as a whole.
+     *
+     * @param file the uploaded file
+     * @return the staged image, to be committed to an image ID or discarded
+     * @throws CustomException if the file is not a supported image or has too many pixels
+     */
+    public StagedImage stage(MultipartFile file) {
+        Path path = root().resolve(INCOMING_DIRECTORY).resolve(UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(path.getParent());
+            // An absolute file lets the container move its spooled part instead of copying it
+            file.transferTo(path.toFile());
+            return inspect(path);
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new UncheckedIOException("Failed to store uploaded image", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+    }
+
+    /**
+     * Move a staged image to the directory of an image.
+     *
+     * @param staged the staged image
+     * @param imageId the garden image ID
+     */
+    public void commit(StagedImage staged, UUID imageId) {
+        Path target = imageDirectory(imageId)
+                .resolve(ORIGINAL_NAME + "." + staged.format().extension());
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(staged.path(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store image " + imageId, e);
+        }
+    }
+
+    /**
+     * Delete a staged image that will not be committed.
+     *
+     * @param staged the staged image
+     */
+    public void discard(StagedImage staged) {
+        deleteQuietly(staged.path());
+    }
+
+    /**
+     * Delete the original file and thumbnails of an image, if it has any.
+     *
+     * @param imageId the garden image ID
+     */
+    public void delete(UUID imageId) {
+        Path directory = imageDirectory(imageId);
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(ImageStorageService::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Failed to delete stored files of image {}: {}", imageId, e.getMessage());
+        }
+    }
+
+    /**
+     * Find the original file of an uploaded image.
+     *
+     * @param imageId the garden image ID
+     * @return the stored file, empty if the image was not uploaded
+     */
+    public Optional<StoredFile> findOriginal(UUID imageId) {
+        Path directory = imageDirectory(imageId);
+        return FORMATS.values().stream()
+                .distinct()
+                .map(format -> stored(directory.resolve(ORIGINAL_NAME + "." + format.extension()), format))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    /**
+     * Find a thumbnail of an uploaded image.
+     *
+     * @param imageId the garden image ID
+     * @param width the thumbnail width in pixels
+     * @return the stored file, empty if the thumbnail was not generated
+     */
+    public Optional<StoredFile> findThumbnail(UUID imageId, int width) {
+        return stored(thumbnailPath(imageId, width), THUMBNAIL_FORMAT);
+    }
+
+    /**
+     * Get the path a thumbnail of an image is written to.
+     *
+     * @param imageId the garden image ID
+     * @param width the thumbnail width in pixels
+     * @return the thumbnail path
+     */
+    public Path thumbnailPath(UUID imageId, int width) {
+        return imageDirectory(imageId).resolve("w" + width + "." + THUMBNAIL_FORMAT.extension());
+    }
+
+    private StagedImage inspect(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers =
+                    input == null ? List.<ImageReader>of().iterator() : ImageIO.getImageReaders(input);
+            ImageFormat format = null;
+            ImageReader reader = null;
+            while (format == null && readers.hasNext()) {
+                reader = readers.next();
+                format = FORMATS.get(reader.getFormatName().toLowerCase(Locale.ROOT));
+            }
+            if (format == null) {
+                throw new CustomException(
+                        "The uploaded file must be a JPEG, PNG, GIF or BMP image",
+                        HttpStatus.BAD_REQUEST,
+                        ErrorCode.INVALID_REQUEST);
+            }
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > gardenImageStorageConfig.getMaxImagePixels()) {
+                    throw new CustomException(
+                            "The uploaded image must have at most " + gardenImageStorageConfig.getMaxImagePixels()
+                                    + " pixels",
+                            HttpStatus.BAD_REQUEST,
+                            ErrorCode.INVALID_REQUEST);
+                }
+                return new StagedImage(path, format, width, height);
+            } catch (IOException e) {
+                throw new CustomException(
+                        "The uploaded image could not be read", HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Path root() {
+        return Path.of(gardenImageStorageConfig.getStorageDirectory())
+                .toAbsolutePath()
+                .normalize();
+    }
+
+    private Path imageDirectory(UUID imageId) {
+        return root().resolve(imageId.toString());
+    }
+
+    private static Optional<StoredFile> stored(Path path, ImageFormat format) {
+        try {
+            return Optional.of(new StoredFile(path, format.mediaType(), Files.size(path)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete stored file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * A stored image format: the file extension it is stored with and the media type it is served as.
+     */
+    public record ImageFormat(String extension, String mediaType) {}
+
+    /**
+     * An uploaded image written to storage but not yet assigned to an image ID.
+     */
+    public record StagedImage(Path path, ImageFormat format, int width, int height) {}
+
+    /**
+     * A stored file ready to be served.
+     */
+    public record StoredFile(Path path, String mediaType, long size) {}
+}
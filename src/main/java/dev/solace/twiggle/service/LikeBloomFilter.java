@@ -0,0 +1,109 @@
+package dev.solace.twiggle.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over (user, image) like pairs. A pair that was never added is reported as absent
+ * with certainty; a pair that was added is always reported as possibly present, as are a
+ * configurable fraction of pairs that were not. Pairs cannot be removed, so an unliked pair
+ * stays possibly present until the filter is rebuilt.
+ * Adds and lookups are lock-free and may run concurrently.
+ */
+public final class LikeBloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Create an empty filter sized for an expected number of pairs.
+     *
+     * @param expectedPairs the number of pairs the filter should hold at the target error rate
+     * @param falsePositiveRate the target fraction of absent pairs reported as possibly present
+     */
+    LikeBloomFilter(long expectedPairs, double falsePositiveRate) {
+        long pairs = Math.max(1, expectedPairs);
+        double rate = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long bits = (long) Math.ceil(-pairs * Math.log(rate) / (LN_2 * LN_2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / pairs * LN_2));
+    }
+
+    /**
+     * Add a pair.
+     *
+     * @param userId the user ID
+     * @param imageId the image ID
+     */
+    void add(UUID userId, UUID imageId) {
+        long hash1 = hash1(userId, imageId);
+        long hash2 = hash2(userId, imageId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * Check whether a pair may have been added.
+     *
+     * @param userId the user ID
+     * @param imageId the image ID
+     * @return false if the pair was certainly never added
+     */
+    boolean mightContain(UUID userId, UUID imageId) {
+        long hash1 = hash1(userId, imageId);
+        long hash2 = hash2(userId, imageId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // Two independent hashes combined as h1 + i * h2 give the k probe positions (Kirsch-Mitzenmacher)
+    private static long hash1(UUID userId, UUID imageId) {
+        return mix(userId.getMostSignificantBits() ^ mix(imageId.getLeastSignificantBits()))
+                ^ mix(userId.getLeastSignificantBits() + imageId.getMostSignificantBits());
+    }
+
+    private static long hash2(UUID userId, UUID imageId) {
+        // Odd, so the probes of one pair never collapse onto a single position
+        return mix(imageId.getMostSignificantBits()
+                        ^ mix(userId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L)
+                        ^ imageId.getLeastSignificantBits()
+                        ^ userId.getMostSignificantBits())
+                | 1;
+    }
+
+    // Finalizer of MurmurHash3 (fmix64)
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec8b9L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
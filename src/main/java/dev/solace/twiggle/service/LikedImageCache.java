@@ -0,0 +1,264 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.repository.ImageLikePairView;
+import dev.solace.twiggle.repository.ImageLikeRepository;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Which images each user liked, so rendering an image for a logged-in user does not query
+ * image_likes. A Bloom filter over every (user, image) like answers most "not liked" checks
+ * without any lookup; the rest are answered from the user's liked images, loaded with one
+ * query on first use and then kept in sync with like writes once their transactions commit.
+ * Liked sets are held through soft references, so the JVM drops them under memory pressure,
+ * and sets that were not used for a while are dropped by a periodic sweep.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikedImageCache {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    // The filter holds at least this many likes, so a small database does not outgrow it right away
+    private static final long MIN_FILTER_CAPACITY = 100_000;
+
+    private final ImageLikeRepository imageLikeRepository;
+    private final GardenEngagementConfig gardenEngagementConfig;
+
+    private final Map<UUID, LikedSet> likedSets = new ConcurrentHashMap<>();
+    private final Object filterMonitor = new Object();
+    private volatile LikeBloomFilter filter;
+    // While a filter is built, new likes are added to it as well as to the current one
+    private volatile LikeBloomFilter building;
+
+    /**
+     * Check whether a user liked an image.
+     *
+     * @param userId the user ID
+     * @param imageId the image ID
+     * @return true if the user liked the image
+     */
+    public boolean hasLiked(UUID userId, UUID imageId) {
+        return filter().mightContain(userId, imageId) && likedImages(userId).contains(imageId);
+    }
+
+    /**
+     * Find which of the given images a user liked.
+     *
+     * @param userId the user ID
+     * @param imageIds the image IDs
+     * @return the IDs of the images the user liked
+     */
+    public Set<UUID> filterLiked(UUID userId, Collection<UUID> imageIds) {
+        LikeBloomFilter current = filter();
+        List<UUID> candidates = imageIds.stream()
+                .filter(imageId -> current.mightContain(userId, imageId))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> liked = likedImages(userId);
+        return candidates.stream().filter(liked::contains).collect(Collectors.toSet());
+    }
+
+    /**
+     * Record a new like once the current transaction commits.
+     *
+     * @param userId the user ID
+     * @param imageId the image ID
+     */
+    public void likeAdded(UUID userId, UUID imageId) {
+        TransactionUtils.afterCommit(() -> {
+            // Read the filter being built first: once it is cleared, it is already the current filter
+            LikeBloomFilter next = building;
+            LikeBloomFilter current = filter;
+            if (next != null) {
+                next.add(userId, imageId);
+            }
+            if (current != null) {
+                current.add(userId, imageId);
+            }
+            update(userId, images -> images.add(imageId));
+        });
+    }
+
+    /**
+     * Record a removed like once the current transaction commits. The pair stays in the
+     * Bloom filter until its next rebuild, which only costs a liked-set lookup.
+     *
+     * @param userId the user ID
+     * @param imageId the image ID
+     */
+    public void likeRemoved(UUID userId, UUID imageId) {
+        TransactionUtils.afterCommit(() -> update(userId, images -> images.remove(imageId)));
+    }
+
+    /**
+     * Rebuild the Bloom filter from image_likes, dropping unliked pairs and resizing it to the
+     * current number of likes. Does nothing before the filter is first used.
+     */
+    @Scheduled(
+            fixedDelayString = "${garden.engagement.liked-filter-rebuild-interval:PT6H}",
+            initialDelayString = "${garden.engagement.liked-filter-rebuild-interval:PT6H}")
+    public void rebuildFilter() {
+        if (filter != null) {
+            synchronized (filterMonitor) {
+                buildFilter();
+            }
+        }
+    }
+
+    /**
+     * Drop the liked sets that were not used within the idle timeout, then the least recently
+     * used ones beyond the configured maximum.
+     */
+    @Scheduled(
+            fixedDelayString = "${garden.engagement.liked-set-idle-timeout:PT30M}",
+            initialDelayString = "${garden.engagement.liked-set-idle-timeout:PT30M}")
+    public void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    void evictIdle(long now) {
+        long idleNanos = gardenEngagementConfig.getLikedSetIdleTimeout().toNanos();
+        int before = likedSets.size();
+        likedSets
+                .entrySet()
+                .removeIf(entry -> entry.getValue().images() == null || now - entry.getValue().lastAccess > idleNanos);
+        trim(gardenEngagementConfig.getMaxCachedLikedSets());
+        log.debug("Evicted {} liked image sets, {} cached", before - likedSets.size(), likedSets.size());
+    }
+
+    int cachedUsers() {
+        return likedSets.size();
+    }
+
+    private LikeBloomFilter filter() {
+        LikeBloomFilter current = filter;
+        if (current == null) {
+            synchronized (filterMonitor) {
+                if (filter == null) {
+                    buildFilter();
+                }
+                current = filter;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Build a filter from every like. The filter receives new likes before the scan starts, so
+     * a like committed during the scan is either read by it or added directly.
+     */
+    private void buildFilter() {
+        long likes = imageLikeRepository.count();
+        LikeBloomFilter next = new LikeBloomFilter(
+                Math.max(MIN_FILTER_CAPACITY, likes * 2), gardenEngagementConfig.getLikedFilterFalsePositiveRate());
+        building = next;
+        try {
+            UUID after = MIN_ID;
+            List<ImageLikePairView> batch;
+            do {
+                batch = imageLikeRepository.findPairsAfter(after, Limit.of(LOAD_BATCH_SIZE));
+                for (ImageLikePairView pair : batch) {
+                    next.add(pair.getUserId(), pair.getImageId());
+                }
+                if (!batch.isEmpty()) {
+                    after = batch.getLast().getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            filter = next;
+        } finally {
+            building = null;
+        }
+        log.info("Built liked image filter: {} likes, {} bits, {} hashes", likes, next.bitCount(), next.hashCount());
+    }
+
+    private Set<UUID> likedImages(UUID userId) {
+        LikedSet cached = likedSets.get(userId);
+        Set<UUID> images = cached == null ? null : cached.images();
+        if (images == null) {
+            // Hold the set strongly until it is returned, so it cannot be collected in between
+            AtomicReference<Set<UUID>> loaded = new AtomicReference<>();
+            cached = likedSets.compute(userId, (id, current) -> {
+                Set<UUID> existing = current == null ? null : current.images();
+                loaded.set(existing != null ? existing : load(id));
+                return existing != null ? current : new LikedSet(loaded.get());
+            });
+            images = loaded.get();
+            if (likedSets.size() > gardenEngagementConfig.getMaxCachedLikedSets()) {
+                // Trim below the maximum so the next few loads do not trim again
+                trim(gardenEngagementConfig.getMaxCachedLikedSets() * 9 / 10);
+            }
+        }
+        cached.lastAccess = System.nanoTime();
+        return images;
+    }
+
+    private Set<UUID> load(UUID userId) {
+        Set<UUID> images = ConcurrentHashMap.newKeySet();
+        images.addAll(imageLikeRepository.findImageIdsByUserId(userId));
+        return images;
+    }
+
+    /**
+     * Apply a change to a cached liked set. Runs inside computeIfPresent so it cannot interleave
+     * with a concurrent load of the same user; uncached users are left to load fresh.
+     */
+    private void update(UUID userId, Consumer<Set<UUID>> change) {
+        likedSets.computeIfPresent(userId, (id, cached) -> {
+            Set<UUID> images = cached.images();
+            if (images == null) {
+                return null;
+            }
+            change.accept(images);
+            return cached;
+        });
+    }
+
+    private void trim(int maxUsers) {
+        int excess = likedSets.size() - Math.max(0, maxUsers);
+        if (excess <= 0) {
+            return;
+        }
+        likedSets.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(likedSets::remove);
+    }
+
+    /**
+     * The liked images of one user and when they were last read.
+     */
+    private static final class LikedSet {
+        private final SoftReference<Set<UUID>> images;
+        private volatile long lastAccess = System.nanoTime();
+
+        private LikedSet(Set<UUID> images) {
+            this.images = new SoftReference<>(images);
+        }
+
+        private Set<UUID> images() {
+            return images.get();
+        }
+    }
+}
@@ -2,14 +2,9 @@ package dev.solace.twiggle.service;
 
 import dev.solace.twiggle.dto.PlantDiseaseDTO;
 import dev.solace.twiggle.mapper.PlantDiseaseMapper;
-import dev.solace.twiggle.model.PlantsLibrary;
 import dev.solace.twiggle.repository.PlantDiseaseRepository;
-import dev.solace.twiggle.repository.PlantsLibraryRepository;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,8 +13,8 @@ import org.springframework.stereotype.Service;
 public class PlantDiseaseService {
 
     private final PlantDiseaseRepository diseaseRepository;
-    private final PlantsLibraryRepository plantsLibraryRepository;
     private final PlantDiseaseMapper plantDiseaseMapper;
+    private final PlantHealthIndex plantHealthIndex;
 
     public List<PlantDiseaseDTO> findAll() {
         return diseaseRepository.findAll().stream()
@@ -28,15 +23,6 @@ public class PlantDiseaseService {
     }
 
     public List<PlantDiseaseDTO> findByPlantLibraryId(UUID plantLibraryId) {
-        Optional<PlantsLibrary> optionalPlant = plantsLibraryRepository.findById(plantLibraryId);
-        if (optionalPlant.isEmpty()) return List.of();
-
-        Set<String> diseaseNames = optionalPlant.get().getCommonDiseases().stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-
-        return diseaseRepository.findByCommonNameIgnoreCaseIn(diseaseNames).stream()
-                .map(plantDiseaseMapper::toDto)
-                .toList();
+        return plantHealthIndex.findDiseases(plantLibraryId);
     }
 }
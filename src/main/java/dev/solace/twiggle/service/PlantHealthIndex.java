@@ -0,0 +1,171 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.dto.PestDTO;
+import dev.solace.twiggle.dto.PlantDiseaseDTO;
+import dev.solace.twiggle.dto.PlantHealthDTO;
+import dev.solace.twiggle.mapper.PestMapper;
+import dev.solace.twiggle.mapper.PlantDiseaseMapper;
+import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.repository.PestRepository;
+import dev.solace.twiggle.repository.PlantDiseaseRepository;
+import dev.solace.twiggle.repository.PlantsLibraryRepository;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cross-reference from plants library entries to their pests and diseases.
+ * The library stores pests and diseases as free-text names, so the join is resolved once
+ * into an immutable snapshot and rebuilt lazily after any library change.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlantHealthIndex {
+
+    private final PlantsLibraryRepository plantsLibraryRepository;
+    private final PestRepository pestRepository;
+    private final PlantDiseaseRepository plantDiseaseRepository;
+    private final PestMapper pestMapper;
+    private final PlantDiseaseMapper plantDiseaseMapper;
+
+    private volatile Map<UUID, PlantHealthDTO> snapshot;
+
+    /**
+     * Get the pests associated with a plants library entry.
+     *
+     * @param plantLibraryId the plants library ID
+     * @return list of pest DTOs, empty if the entry does not exist
+     */
+    public List<PestDTO> findPests(UUID plantLibraryId) {
+        PlantHealthDTO health = getSnapshot().get(plantLibraryId);
+        return health == null ? List.of() : health.getPests();
+    }
+
+    /**
+     * Get the diseases associated with a plants library entry.
+     *
+     * @param plantLibraryId the plants library ID
+     * @return list of disease DTOs, empty if the entry does not exist
+     */
+    public List<PlantDiseaseDTO> findDiseases(UUID plantLibraryId) {
+        PlantHealthDTO health = getSnapshot().get(plantLibraryId);
+        return health == null ? List.of() : health.getDiseases();
+    }
+
+    /**
+     * Resolve pests and diseases for many plants library entries at once.
+     * Unknown IDs are skipped and duplicates are collapsed.
+     *
+     * @param plantLibraryIds the plants library IDs
+     * @return pests and diseases per entry, in request order
+     */
+    public List<PlantHealthDTO> findAll(Collection<UUID> plantLibraryIds) {
+        Map<UUID, PlantHealthDTO> current = getSnapshot();
+        return new LinkedHashSet<>(plantLibraryIds)
+                .stream().map(current::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Discard the current snapshot so the next lookup rebuilds it. When called inside a
+     * transaction the snapshot is discarded after commit, so readers never rebuild from
+     * uncommitted state.
+     */
+    public void invalidate() {
+        TransactionUtils.afterCommit(this::clear);
+    }
+
+    /**
+     * Takes the same lock as the rebuild, so a rebuild that started before the change
+     * cannot publish its stale result after the snapshot has been cleared.
+     */
+    private synchronized void clear() {
+        snapshot = null;
+    }
+
+    private Map<UUID, PlantHealthDTO> getSnapshot() {
+        Map<UUID, PlantHealthDTO> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<UUID, PlantHealthDTO> build() {
+        Map<String, PestDTO> pestsByName = indexByName(
+                pestRepository.findAll().stream().map(pestMapper::toDto).toList(), PestDTO::getCommonName);
+        Map<String, PlantDiseaseDTO> diseasesByName = indexByName(
+                plantDiseaseRepository.findAll().stream()
+                        .map(plantDiseaseMapper::toDto)
+                        .toList(),
+                PlantDiseaseDTO::getCommonName);
+
+        List<PlantsLibrary> plants = plantsLibraryRepository.findAll();
+        Map<UUID, PlantHealthDTO> result = new HashMap<>(plants.size() * 2);
+        for (PlantsLibrary plant : plants) {
+            result.put(
+                    plant.getId(),
+                    new PlantHealthDTO(
+                            plant.getId(),
+                            resolve(plant.getCommonPests(), pestsByName),
+                            resolve(plant.getCommonDiseases(), diseasesByName)));
+        }
+
+        log.info(
+                "Built plant health index: {} plants, {} pests, {} diseases",
+                result.size(),
+                pestsByName.size(),
+                diseasesByName.size());
+        return Map.copyOf(result);
+    }
+
+    private static <T> Map<String, T> indexByName(List<T> items, Function<T, String> nameExtractor) {
+        Map<String, T> byName = new HashMap<>(items.size() * 2);
+        for (T item : items) {
+            String name = nameExtractor.apply(item);
+            if (name != null) {
+                byName.putIfAbsent(normalize(name), item);
+            }
+        }
+        return byName;
+    }
+
+    private static <T> List<T> resolve(List<String> names, Map<String, T> byName) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, T> matches = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name == null) {
+                continue;
+            }
+            String key = normalize(name);
+            T item = byName.get(key);
+            if (item != null) {
+                matches.putIfAbsent(key, item);
+            }
+        }
+        return List.copyOf(matches.values());
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -17,7 +17,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Service class for managing plant reminders.
+ * Service class for managing plant reminders. Changes are passed on to the
+ * {@link ReminderScheduler}, so reminders are emailed at their current due time.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +27,7 @@ public class PlantReminderService {
 
     private final PlantReminderRepository plantReminderRepository;
     private final PlantReminderMapper plantReminderMapper;
+    private final ReminderScheduler reminderScheduler;
 
     /**
      * Find all plant reminders with pagination and sorting.
@@ -147,6 +149,7 @@ public class PlantReminderService {
 
         PlantReminder reminder = plantReminderMapper.toEntity(reminderDTO);
         PlantReminder savedReminder = plantReminderRepository.save(reminder);
+        reminderScheduler.reschedule(savedReminder);
 
         return plantReminderMapper.toDto(savedReminder);
     }
@@ -166,11 +169,14 @@ public class PlantReminderService {
             existingReminder.setGardenPlanId(reminderDTO.getGardenPlanId());
             existingReminder.setReminderType(reminderDTO.getReminderType());
             existingReminder.setReminderDate(reminderDTO.getReminderDate());
+            existingReminder.setReminderTime(reminderDTO.getReminderTime());
             existingReminder.setNotes(reminderDTO.getNotes());
             existingReminder.setIsCompleted(reminderDTO.getIsCompleted());
 
-            // Save and convert back to DTO
-            return plantReminderMapper.toDto(plantReminderRepository.save(existingReminder));
+            // Save, move its email to the new due time and convert back to DTO
+            PlantReminder savedReminder = plantReminderRepository.save(existingReminder);
+            reminderScheduler.reschedule(savedReminder);
+            return plantReminderMapper.toDto(savedReminder);
         });
     }
 
@@ -184,6 +190,7 @@ public class PlantReminderService {
     public Optional<PlantReminderDTO> markAsCompleted(UUID id) {
         return plantReminderRepository.findById(id).map(existingReminder -> {
             existingReminder.setIsCompleted(true);
+            reminderScheduler.cancel(id);
             return plantReminderMapper.toDto(plantReminderRepository.save(existingReminder));
         });
     }
@@ -196,5 +203,6 @@ public class PlantReminderService {
     @Transactional
     public void delete(UUID id) {
         plantReminderRepository.deleteById(id);
+        reminderScheduler.cancel(id);
     }
 }
@@ -1,17 +1,26 @@
 package dev.solace.twiggle.service;
 
+import dev.solace.twiggle.dto.LayoutPatchDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantPositionDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.mapper.PlantMapper;
 import dev.solace.twiggle.model.Plant;
 import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +34,8 @@ public class PlantService {
 
     private final PlantRepository plantRepository;
     private final PlantMapper plantMapper;
+    private final GardenOccupancyCache gardenOccupancyCache;
+    private final UnifiedSearchService unifiedSearchService;
 
     /**
      * Find all plants with pagination and sorting.
@@ -131,16 +142,10 @@ public class PlantService {
             String query,
             UUID gardenPlanId,
             Pageable pageable) {
-        try {
-            return plantRepository
-                    .searchPlantsWithRelevance(
-                            name, type, wateringFrequency, sunlightRequirements, query, gardenPlanId, pageable)
-                    .map(plantMapper::toDto);
-        } catch (Exception e) {
-            // If the enhanced search fails, fall back to the simpler search method
-            log.warn("Enhanced plant search failed, falling back to simple search: {}", e.getMessage());
-            return plantRepository.searchPlants(query, gardenPlanId, pageable).map(plantMapper::toDto);
-        }
+        return plantRepository
+                .searchPlantsWithRelevance(
+                        name, type, wateringFrequency, sunlightRequirements, query, gardenPlanId, pageable)
+                .map(plantMapper::toDto);
     }
 
     /**
@@ -157,6 +162,9 @@ public class PlantService {
 
         Plant plant = plantMapper.toEntity(plantDTO);
         Plant savedPlant = plantRepository.save(plant);
+        unifiedSearchService.indexPlant(savedPlant);
+        updateLayout(
+                savedPlant.getGardenPlanId(), savedPlant.getId(), savedPlant.getPositionX(), savedPlant.getPositionY());
 
         return plantMapper.toDto(savedPlant);
     }
@@ -171,6 +179,11 @@ public class PlantService {
     @Transactional
     public Optional<PlantDTO> update(UUID id, PlantDTO plantDTO) {
         return plantRepository.findById(id).map(existingPlant -> {
+            if (!Objects.equals(existingPlant.getPositionX(), plantDTO.getPositionX())
+                    || !Objects.equals(existingPlant.getPositionY(), plantDTO.getPositionY())) {
+                updateLayout(existingPlant.getGardenPlanId(), id, plantDTO.getPositionX(), plantDTO.getPositionY());
+            }
+
             // Update fields from the DTO
             existingPlant.setName(plantDTO.getName());
             existingPlant.setType(plantDTO.getType());
@@ -183,7 +196,9 @@ public class PlantService {
             existingPlant.setUpdatedAt(OffsetDateTime.now());
 
             // Save and convert back to DTO
-            return plantMapper.toDto(plantRepository.save(existingPlant));
+            Plant savedPlant = plantRepository.save(existingPlant);
+            unifiedSearchService.indexPlant(savedPlant);
+            return plantMapper.toDto(savedPlant);
         });
     }
 
@@ -194,6 +209,104 @@ public class PlantService {
      */
     @Transactional
     public void delete(UUID id) {
+        plantRepository.findById(id).ifPresent(plant -> gardenOccupancyCache.remove(plant.getGardenPlanId(), id));
         plantRepository.deleteById(id);
+        unifiedSearchService.removePlant(id);
+    }
+
+    /**
+     * Move many plants of a garden plan in one statement. Target cells must be on the grid
+     * and free once all moves are applied, so plants may swap places.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param layoutPatch the moves to apply
+     * @return the applied positions
+     * @throws CustomException if a move is invalid, collides, or names an unknown plant
+     */
+    @Transactional
+    public List<PlantPositionDTO> applyLayoutPatch(UUID gardenPlanId, LayoutPatchDTO layoutPatch) {
+        List<PlantPositionDTO> moves = layoutPatch.getMoves();
+        Map<UUID, Cell> targets = new LinkedHashMap<>();
+        for (PlantPositionDTO move : moves) {
+            if (!gardenOccupancyCache.isOnGrid(move.getPositionX(), move.getPositionY())) {
+                throw new CustomException(
+                        "Position (" + move.getPositionX() + ", " + move.getPositionY()
+                                + ") is outside the garden grid",
+                        HttpStatus.BAD_REQUEST,
+                        ErrorCode.INVALID_REQUEST);
+            }
+            if (targets.put(move.getId(), new Cell(move.getPositionX(), move.getPositionY())) != null) {
+                throw new CustomException(
+                        "Plant " + move.getId() + " is moved more than once",
+                        HttpStatus.BAD_REQUEST,
+                        ErrorCode.INVALID_REQUEST);
+            }
+        }
+
+        gardenOccupancyCache.move(gardenPlanId, targets);
+        int updated = plantRepository.updatePositions(gardenPlanId, moves);
+        if (updated != moves.size()) {
+            // Rolling back also reverts the moves in the layout index
+            throw new CustomException(
+                    (moves.size() - updated) + " of the moved plants were not found in garden plan " + gardenPlanId,
+                    HttpStatus.NOT_FOUND,
+                    ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        log.debug("Moved {} plants in garden plan {}", updated, gardenPlanId);
+        return moves;
+    }
+
+    /**
+     * Find the plants inside a rectangle of a garden plan layout, bounds inclusive.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param minX the left column
+     * @param minY the top row
+     * @param maxX the right column
+     * @param maxY the bottom row
+     * @return the plant positions, in row-major order
+     */
+    public List<PlantPositionDTO> findPlantsInRegion(UUID gardenPlanId, int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new CustomException("Region bounds are inverted", HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+        return gardenOccupancyCache.findInRegion(gardenPlanId, minX, minY, maxX, maxY).entrySet().stream()
+                .map(entry -> new PlantPositionDTO(
+                        entry.getKey(), entry.getValue().x(), entry.getValue().y()))
+                .toList();
+    }
+
+    /**
+     * Find the free cell of a garden plan closest to a position.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param x the column
+     * @param y the row
+     * @return the nearest free position, without a plant ID, or empty if the garden plan is full
+     * @throws CustomException if the position is outside the garden grid
+     */
+    public Optional<PlantPositionDTO> findNearestFreePosition(UUID gardenPlanId, int x, int y) {
+        if (!gardenOccupancyCache.isOnGrid(x, y)) {
+            throw new CustomException(
+                    "Position (" + x + ", " + y + ") is outside the garden grid",
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_REQUEST);
+        }
+        return gardenOccupancyCache.findNearestFree(gardenPlanId, x, y).map(cell -> PlantPositionDTO.builder()
+                .positionX(cell.x())
+                .positionY(cell.y())
+                .build());
+    }
+
+    /**
+     * Keep the layout index in step with a plant's position. Moving onto an occupied cell
+     * is rejected; clearing the position takes the plant off the grid.
+     */
+    private void updateLayout(UUID gardenPlanId, UUID plantId, Integer x, Integer y) {
+        if (x != null && y != null) {
+            gardenOccupancyCache.move(gardenPlanId, Map.of(plantId, new Cell(x, y)));
+        } else {
+            gardenOccupancyCache.remove(gardenPlanId, plantId);
+        }
     }
 }
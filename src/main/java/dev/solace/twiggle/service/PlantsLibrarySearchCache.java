@@ -0,0 +1,226 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.dto.PlantsLibraryDTO;
+import dev.solace.twiggle.dto.PlantsLibrarySearchCriteria;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded result cache for plants library searches.
+ * Entries are stamped with a global library version; bumping the version on any library
+ * write makes every older entry stale in O(1) without scanning keys. When full, the least
+ * frequently used entry is evicted (oldest first among equal frequencies).
+ */
+@Component
+public class PlantsLibrarySearchCache {
+
+    private static final String METRIC_PREFIX = "plants_library.search.cache";
+
+    private final int maxEntries;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<SearchKey, Entry> entries = new HashMap<>();
+    private final Map<Integer, LinkedHashSet<SearchKey>> frequencies = new HashMap<>();
+    private int minFrequency;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Timer loadTimer;
+    private final LongAdder savedNanos = new LongAdder();
+
+    public PlantsLibrarySearchCache(
+            MeterRegistry meterRegistry, @Value("${plants-library.search-cache.max-entries:500}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        this.loadTimer = Timer.builder(METRIC_PREFIX + ".load").register(meterRegistry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + ".latency.saved",
+                        savedNanos,
+                        adder -> adder.doubleValue() / TimeUnit.SECONDS.toNanos(1))
+                .baseUnit("seconds")
+                .description("Total search time avoided by serving results from the cache")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, PlantsLibrarySearchCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, PlantsLibrarySearchCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build a cache key for a free-text search. Matching is case-insensitive, so the query
+     * is lower-cased; blank queries share one key because they return the whole library.
+     *
+     * @param query the search query
+     * @param pageable pagination and sorting parameters
+     * @return the cache key
+     */
+    public static SearchKey queryKey(String query, Pageable pageable) {
+        String normalized = query == null || query.isBlank() ? "" : query.toLowerCase(Locale.ROOT);
+        return new SearchKey("query", normalized, pageable);
+    }
+
+    /**
+     * Build a cache key for an advanced search.
+     *
+     * @param criteria the search criteria
+     * @param pageable pagination and sorting parameters
+     * @return the cache key
+     */
+    public static SearchKey criteriaKey(PlantsLibrarySearchCriteria criteria, Pageable pageable) {
+        return new SearchKey("criteria", criteria.toString().toLowerCase(Locale.ROOT), pageable);
+    }
+
+    /**
+     * Return the cached page for the key, or load, cache and return it.
+     * A result loaded while the library changed is returned but not cached.
+     *
+     * @param key the cache key
+     * @param loader the search to run on a miss
+     * @return the search result page
+     */
+    public Page<PlantsLibraryDTO> get(SearchKey key, Supplier<Page<PlantsLibraryDTO>> loader) {
+        long currentVersion = version.get();
+        Entry cached = lookup(key, currentVersion);
+        if (cached != null) {
+            hits.increment();
+            savedNanos.add(cached.loadNanos);
+            return cached.page;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        Page<PlantsLibraryDTO> page = loader.get();
+        long loadNanos = System.nanoTime() - start;
+        loadTimer.record(loadNanos, TimeUnit.NANOSECONDS);
+
+        store(key, new Entry(page, currentVersion, loadNanos));
+        return page;
+    }
+
+    /**
+     * Mark every cached result as stale once the current transaction commits.
+     */
+    public void invalidate() {
+        TransactionUtils.afterCommit(version::incrementAndGet);
+    }
+
+    double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry lookup(SearchKey key, long currentVersion) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != currentVersion) {
+            remove(key, entry);
+            return null;
+        }
+        touch(key, entry);
+        return entry;
+    }
+
+    private synchronized void store(SearchKey key, Entry entry) {
+        if (entry.version != version.get()) {
+            return;
+        }
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            remove(key, existing);
+        } else if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, entry);
+        frequencies.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(key);
+        minFrequency = 1;
+    }
+
+    private void touch(SearchKey key, Entry entry) {
+        LinkedHashSet<SearchKey> bucket = frequencies.get(entry.frequency);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            frequencies.remove(entry.frequency);
+            if (minFrequency == entry.frequency) {
+                minFrequency++;
+            }
+        }
+        entry.frequency++;
+        frequencies.computeIfAbsent(entry.frequency, f -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void remove(SearchKey key, Entry entry) {
+        entries.remove(key);
+        LinkedHashSet<SearchKey> bucket = frequencies.get(entry.frequency);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            frequencies.remove(entry.frequency);
+        }
+    }
+
+    private void evict() {
+        LinkedHashSet<SearchKey> bucket = frequencies.get(minFrequency);
+        if (bucket == null) {
+            // minFrequency can lag after removals; fall back to the lowest live bucket
+            minFrequency = frequencies.keySet().stream()
+                    .mapToInt(Integer::intValue)
+                    .min()
+                    .orElse(1);
+            bucket = frequencies.get(minFrequency);
+            if (bucket == null) {
+                return;
+            }
+        }
+        SearchKey victim = bucket.iterator().next();
+        remove(victim, entries.get(victim));
+        evictions.increment();
+    }
+
+    /**
+     * Cache key: the kind of search, its normalized input and the requested page.
+     */
+    public record SearchKey(String kind, String input, Pageable pageable) {}
+
+    private static final class Entry {
+        private final Page<PlantsLibraryDTO> page;
+        private final long version;
+        private final long loadNanos;
+        private int frequency = 1;
+
+        private Entry(Page<PlantsLibraryDTO> page, long version, long loadNanos) {
+            this.page = page;
+            this.version = version;
+            this.loadNanos = loadNanos;
+        }
+    }
+}
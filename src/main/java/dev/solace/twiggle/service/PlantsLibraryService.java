@@ -2,6 +2,7 @@ package dev.solace.twiggle.service;
 
 import static org.springframework.data.jpa.domain.Specification.where;
 
+import dev.solace.twiggle.dto.PlantHealthDTO;
 import dev.solace.twiggle.dto.PlantsLibraryDTO;
 import dev.solace.twiggle.dto.PlantsLibrarySearchCriteria;
 import dev.solace.twiggle.mapper.PlantsLibraryMapper;
@@ -30,6 +31,9 @@ public class PlantsLibraryService {
 
     private final PlantsLibraryRepository plantsLibraryRepository;
     private final PlantsLibraryMapper plantsLibraryMapper;
+    private final PlantHealthIndex plantHealthIndex;
+    private final PlantsLibrarySearchCache searchCache;
+    private final CareScheduleGenerator careScheduleGenerator;
 
     /**
      * Find all plants with pagination and sorting.
@@ -107,6 +111,11 @@ public class PlantsLibraryService {
      * @return page of matching plant library DTOs
      */
     public Page<PlantsLibraryDTO> searchPlants(String query, Pageable pageable) {
+        return searchCache.get(
+                PlantsLibrarySearchCache.queryKey(query, pageable), () -> runSearchPlants(query, pageable));
+    }
+
+    private Page<PlantsLibraryDTO> runSearchPlants(String query, Pageable pageable) {
         Specification<PlantsLibrary> spec = null;
 
         if (StringUtils.hasText(query)) {
@@ -136,8 +145,10 @@ public class PlantsLibraryService {
      * @return page of matching plant library DTOs
      */
     public Page<PlantsLibraryDTO> searchPlantsAdvanced(PlantsLibrarySearchCriteria criteria, Pageable pageable) {
-        Specification<PlantsLibrary> spec = buildSearchSpecification(criteria);
-        return plantsLibraryRepository.findAll(spec, pageable).map(plantsLibraryMapper::toDto);
+        return searchCache.get(PlantsLibrarySearchCache.criteriaKey(criteria, pageable), () -> {
+            Specification<PlantsLibrary> spec = buildSearchSpecification(criteria);
+            return plantsLibraryRepository.findAll(spec, pageable).map(plantsLibraryMapper::toDto);
+        });
     }
 
     /**
@@ -251,6 +262,8 @@ public class PlantsLibraryService {
 
         PlantsLibrary plantsLibrary = plantsLibraryMapper.toEntity(plantsLibraryDTO);
         PlantsLibrary savedPlantsLibrary = plantsLibraryRepository.save(plantsLibrary);
+        plantHealthIndex.invalidate();
+        searchCache.invalidate();
 
         return plantsLibraryMapper.toDto(savedPlantsLibrary);
     }
@@ -311,7 +324,11 @@ public class PlantsLibraryService {
             existingPlant.setUpdatedAt(OffsetDateTime.now());
 
             // Save and convert back to DTO
-            return plantsLibraryMapper.toDto(plantsLibraryRepository.save(existingPlant));
+            PlantsLibrary savedPlant = plantsLibraryRepository.save(existingPlant);
+            plantHealthIndex.invalidate();
+            searchCache.invalidate();
+            careScheduleGenerator.invalidate(id);
+            return plantsLibraryMapper.toDto(savedPlant);
         });
     }
 
@@ -323,6 +340,19 @@ public class PlantsLibraryService {
     @Transactional
     public void delete(UUID id) {
         plantsLibraryRepository.deleteById(id);
+        plantHealthIndex.invalidate();
+        searchCache.invalidate();
+        careScheduleGenerator.invalidate(id);
+    }
+
+    /**
+     * Resolve pests and diseases for many plants in a single call.
+     *
+     * @param ids the plant IDs
+     * @return pests and diseases per known plant, in request order
+     */
+    public List<PlantHealthDTO> findPestsAndDiseases(List<UUID> ids) {
+        return plantHealthIndex.findAll(ids);
     }
 
     /**
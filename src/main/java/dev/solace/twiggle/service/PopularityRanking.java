@@ -0,0 +1,157 @@
+package dev.solace.twiggle.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Garden plans ordered by time-decayed popularity.
+ * An event of weight w at time t adds {@code w * 2^(t / halfLife)} to its plan's score, with t
+ * counted from a fixed epoch instead of from now. Decaying every score by the same factor does
+ * not change their order, so scores only move when events arrive and never have to be aged.
+ * Scores are held as base-2 logarithms so they stay finite however large t grows.
+ * Every plan with events keeps a score, but only public plans are ranked. Callers must
+ * synchronize access.
+ */
+public final class PopularityRanking {
+
+    private static final double LN_2 = Math.log(2);
+    // Rounding a score may pick up in log space while its events are added and taken back
+    private static final double TOLERANCE = 1e-9;
+
+    static final Comparator<Entry> ORDER =
+            Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::planId);
+
+    private final Map<UUID, Double> scores = new HashMap<>();
+    private final Set<UUID> publicPlans = new HashSet<>();
+    private final NavigableSet<Entry> ranked = new TreeSet<>(ORDER);
+
+    /**
+     * Add an event to a plan's score.
+     *
+     * @param planId the garden plan ID
+     * @param logWeight the base-2 logarithm of the event's weight at the epoch
+     */
+    void add(UUID planId, double logWeight) {
+        Double current = scores.get(planId);
+        setScore(planId, current == null ? logWeight : logAdd(current, logWeight));
+    }
+
+    /**
+     * Take an event back out of a plan's score. Taking back the only event left in a score
+     * leaves the plan without one, and unranked until its next event. An event larger than the
+     * score was never counted, and the score is left alone.
+     *
+     * @param planId the garden plan ID
+     * @param logWeight the base-2 logarithm of the event's weight at the epoch
+     * @return true if the score changed
+     */
+    boolean subtract(UUID planId, double logWeight) {
+        Double current = scores.get(planId);
+        if (current == null || logWeight > current + TOLERANCE) {
+            return false;
+        }
+        if (logWeight >= current - TOLERANCE) {
+            scores.remove(planId);
+            if (publicPlans.contains(planId)) {
+                ranked.remove(new Entry(current, planId));
+            }
+            return true;
+        }
+        setScore(planId, current + Math.log1p(-Math.pow(2, logWeight - current)) / LN_2);
+        return true;
+    }
+
+    /**
+     * Include a plan in the ranking or leave it out, keeping its score either way.
+     *
+     * @param planId the garden plan ID
+     * @param isPublic whether the plan is public
+     */
+    void setPublic(UUID planId, boolean isPublic) {
+        Double score = scores.get(planId);
+        if (isPublic) {
+            if (publicPlans.add(planId) && score != null) {
+                ranked.add(new Entry(score, planId));
+            }
+        } else if (publicPlans.remove(planId) && score != null) {
+            ranked.remove(new Entry(score, planId));
+        }
+    }
+
+    /**
+     * Forget a plan entirely.
+     *
+     * @param planId the garden plan ID
+     */
+    void remove(UUID planId) {
+        setPublic(planId, false);
+        scores.remove(planId);
+    }
+
+    /**
+     * The current score of a plan.
+     *
+     * @param planId the garden plan ID
+     * @return the base-2 logarithm of the score, null if the plan has no events
+     */
+    Double score(UUID planId) {
+        return scores.get(planId);
+    }
+
+    /**
+     * The number of ranked plans.
+     */
+    int size() {
+        return ranked.size();
+    }
+
+    /**
+     * Read ranked plans starting after a position. Seeking to the position is logarithmic in
+     * the number of plans and each returned plan costs constant time, however deep the page.
+     *
+     * @param after the last entry of the previous page, null for the first page
+     * @param limit the maximum number of entries
+     * @return the next entries, most popular first
+     */
+    List<Entry> page(Entry after, int limit) {
+        NavigableSet<Entry> remaining = after == null ? ranked : ranked.tailSet(after, false);
+        List<Entry> page = new ArrayList<>(Math.min(limit, remaining.size()));
+        Iterator<Entry> iterator = remaining.iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    private void setScore(UUID planId, double score) {
+        Double previous = scores.put(planId, score);
+        if (publicPlans.contains(planId)) {
+            if (previous != null) {
+                ranked.remove(new Entry(previous, planId));
+            }
+            ranked.add(new Entry(score, planId));
+        }
+    }
+
+    /**
+     * {@code log2(2^a + 2^b)}, computed without leaving log space.
+     */
+    static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.pow(2, Math.min(a, b) - max)) / LN_2;
+    }
+
+    /**
+     * A ranked plan and its score, as the base-2 logarithm of the score.
+     */
+    public record Entry(double score, UUID planId) {}
+}
@@ -25,6 +25,8 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final ProfileMapper profileMapper;
+    private final UnifiedSearchService unifiedSearchService;
+    private final CommentAuthorCache commentAuthorCache;
 
     /**
      * Find all profiles with pagination and sorting.
@@ -100,15 +102,9 @@ public class ProfileService {
      * @return page of matching profile DTOs ordered by relevance
      */
     public Page<ProfileDTO> searchProfilesWithRelevance(String fullName, String query, Pageable pageable) {
-        try {
-            return profileRepository
-                    .searchProfilesWithRelevance(fullName, query, pageable)
-                    .map(profileMapper::toDto);
-        } catch (Exception e) {
-            // If the enhanced search fails, fall back to the simpler search method
-            log.warn("Enhanced profile search failed, falling back to simple search: {}", e.getMessage());
-            return profileRepository.searchProfiles(query, pageable).map(profileMapper::toDto);
-        }
+        return profileRepository
+                .searchProfilesWithRelevance(fullName, query, pageable)
+                .map(profileMapper::toDto);
     }
 
     /**
@@ -125,6 +121,8 @@ public class ProfileService {
 
         Profile profile = profileMapper.toEntity(profileDTO);
         Profile savedProfile = profileRepository.save(profile);
+        unifiedSearchService.indexProfile(savedProfile);
+        commentAuthorCache.evict(savedProfile.getId());
 
         return profileMapper.toDto(savedProfile);
     }
@@ -145,7 +143,10 @@ public class ProfileService {
             existingProfile.setUpdatedAt(OffsetDateTime.now());
 
             // Save and convert back to DTO
-            return profileMapper.toDto(profileRepository.save(existingProfile));
+            Profile savedProfile = profileRepository.save(existingProfile);
+            unifiedSearchService.indexProfile(savedProfile);
+            commentAuthorCache.evict(id);
+            return profileMapper.toDto(savedProfile);
         });
     }
 
@@ -157,5 +158,7 @@ public class ProfileService {
     @Transactional
     public void delete(UUID id) {
         profileRepository.deleteById(id);
+        unifiedSearchService.removeProfile(id);
+        commentAuthorCache.evict(id);
     }
 }
@@ -0,0 +1,626 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.ReminderDispatchConfig;
+import dev.solace.twiggle.config.ReminderSchedulerConfig;
+import dev.solace.twiggle.config.ReminderWeatherConfig;
+import dev.solace.twiggle.dto.ReminderEmailRequest;
+import dev.solace.twiggle.repository.DueReminderView;
+import dev.solace.twiggle.repository.DueSeriesView;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.repository.WeatherCheckView;
+import dev.solace.twiggle.service.ReminderSeriesService.DueOccurrence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Emails due, incomplete plant reminders on a schedule.
+ * Due reminders are read page by page, and each is claimed with a conditional update and its
+ * email queued in the email outbox in the same transaction, so no two runs or instances email
+ * a reminder twice and a restart never queues it again. The outbox workers then send the
+ * emails within the email provider's rate limit, retrying failed ones.
+ * In digest mode, the due reminders and series are instead read for a page of users at a time
+ * and each user gets one email listing all of them.
+ * Reminder series are found due by their next occurrence, and each is claimed by moving that
+ * occurrence forward in the transaction that queues its email.
+ * While {@link ReminderScheduler} emails reminders at their exact time, the scheduled run only
+ * catches up on reminders due before today.
+ * Before a page of reminders is emailed, {@link ReminderWeatherCheck} looks up the forecast of
+ * their gardens once per location; watering reminders for a garden expecting heavy rain today
+ * are moved to tomorrow, or emailed with a note about the rain. Due series are checked the same
+ * way, and a rainy occurrence is skipped rather than moved.
+ */
+@Service
+@Slf4j
+public class ReminderDispatcher {
+
+    private static final String METRIC_PREFIX = "reminders.dispatch";
+    // Keyset position before the first due reminder
+    private static final LocalDate FIRST_DATE = LocalDate.EPOCH;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final DateTimeFormatter REMINDER_TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final PlantReminderRepository plantReminderRepository;
+    private final ReminderSeriesRepository reminderSeriesRepository;
+    private final ReminderSeriesService reminderSeriesService;
+    private final EmailOutboxService emailOutboxService;
+    private final ReminderDispatchConfig reminderDispatchConfig;
+    private final ReminderSchedulerConfig reminderSchedulerConfig;
+    private final ReminderWeatherCheck reminderWeatherCheck;
+    private final ReminderWeatherConfig reminderWeatherConfig;
+
+    private final Counter queued;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Counter deferred;
+    private final Timer lagTimer;
+    private final Timer runTimer;
+
+    public ReminderDispatcher(
+            PlantReminderRepository plantReminderRepository,
+            ReminderSeriesRepository reminderSeriesRepository,
+            ReminderSeriesService reminderSeriesService,
+            EmailOutboxService emailOutboxService,
+            ReminderDispatchConfig reminderDispatchConfig,
+            ReminderSchedulerConfig reminderSchedulerConfig,
+            ReminderWeatherCheck reminderWeatherCheck,
+            ReminderWeatherConfig reminderWeatherConfig,
+            MeterRegistry meterRegistry) {
+        this.plantReminderRepository = plantReminderRepository;
+        this.reminderSeriesRepository = reminderSeriesRepository;
+        this.reminderSeriesService = reminderSeriesService;
+        this.emailOutboxService = emailOutboxService;
+        this.reminderDispatchConfig = reminderDispatchConfig;
+        this.reminderSchedulerConfig = reminderSchedulerConfig;
+        this.reminderWeatherCheck = reminderWeatherCheck;
+        this.reminderWeatherConfig = reminderWeatherConfig;
+        this.queued = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "queued")
+                .register(meterRegistry);
+        this.skipped = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "skipped")
+                .description("Due reminders or digests whose reminders were all claimed or completed meanwhile")
+                .register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "failed")
+                .description("Due reminders that could not be queued, retried on the next run")
+                .register(meterRegistry);
+        this.deferred = Counter.builder(METRIC_PREFIX + ".emails")
+                .tag("result", "deferred")
+                .description("Watering reminders moved to the next day, or series occurrences skipped,"
+                        + " because heavy rain is expected")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .description("Time from the start of a reminder's due day (UTC) until its email was queued")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder(METRIC_PREFIX + ".run")
+                .description("Time to queue the emails of every due reminder and reminder series")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Email every reminder due today (UTC) or earlier, if dispatching is enabled.
+     */
+    @Scheduled(fixedDelayString = "${reminders.dispatch.interval:PT1M}")
+    public void dispatchDue() {
+        if (!reminderDispatchConfig.isEnabled()) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            // Reminders due from today on are emailed at their time by the reminder scheduler
+            LocalDate reminderDate = ReminderScheduler.isActive(reminderSchedulerConfig, reminderDispatchConfig)
+                    ? today.minusDays(1)
+                    : today;
+            int count = dispatch(reminderDate, today);
+            if (count > 0) {
+                log.info("Queued {} reminder emails", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to dispatch reminder emails, retrying on next run", e);
+        }
+    }
+
+    /**
+     * Queue the email of every incomplete reminder due on or before a date that was not emailed
+     * yet, and of the latest pending occurrence of every due reminder series.
+     *
+     * @param date the due date
+     * @return the number of emails queued
+     */
+    public int dispatch(LocalDate date) {
+        return dispatch(date, date);
+    }
+
+    /**
+     * Queue the email of every incomplete reminder due on or before a date that was not emailed
+     * yet, and of the latest pending occurrence of every reminder series due on or before
+     * another date.
+     *
+     * @param reminderDate the due date of plant reminders
+     * @param seriesDate the due date of reminder series
+     * @return the number of emails queued
+     */
+    int dispatch(LocalDate reminderDate, LocalDate seriesDate) {
+        long start = System.nanoTime();
+        try {
+            if (reminderDispatchConfig.isDigest()) {
+                return dispatchDigests(reminderDate, seriesDate);
+            }
+            return dispatchReminders(reminderDate) + dispatchSeries(seriesDate);
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Queue the email of each of the given reminders that is incomplete, was not emailed yet and
+     * is due now (UTC).
+     *
+     * @param reminderIds the IDs of the reminders
+     * @return the number of emails queued
+     */
+    public int dispatchByIds(Collection<UUID> reminderIds) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        return enqueueAll(plantReminderRepository.findDueForEmailByIds(
+                reminderIds,
+                now.toLocalDate(),
+                now.toLocalTime(),
+                LocalTime.parse(reminderDispatchConfig.getReminderTime())));
+    }
+
+    private int dispatchReminders(LocalDate date) {
+        int pageSize = Math.max(1, reminderDispatchConfig.getPageSize());
+        int count = 0;
+        LocalDate afterDate = FIRST_DATE;
+        UUID afterId = FIRST_ID;
+        List<DueReminderView> page;
+        do {
+            page = plantReminderRepository.findDueForEmail(date, afterDate, afterId, PageRequest.of(0, pageSize));
+            count += enqueueAll(page);
+            if (!page.isEmpty()) {
+                DueReminderView last = page.getLast();
+                afterDate = last.getReminderDate();
+                afterId = last.getId();
+            }
+        } while (page.size() == pageSize);
+        return count;
+    }
+
+    /**
+     * Queue the email of the latest pending occurrence of every reminder series due on or
+     * before a date, and move each series to its next occurrence after that date. Occurrences
+     * are expanded from the recurrence rule only for the series found due.
+     *
+     * @param date the due date
+     * @return the number of emails queued
+     */
+    int dispatchSeries(LocalDate date) {
+        int pageSize = Math.max(1, reminderDispatchConfig.getPageSize());
+        int count = 0;
+        LocalDate afterDate = FIRST_DATE;
+        UUID afterId = FIRST_ID;
+        List<DueSeriesView> page;
+        do {
+            page = reminderSeriesRepository.findDueForEmail(date, afterDate, afterId, PageRequest.of(0, pageSize));
+            for (PendingOccurrence occurrence : resolveAll(page, date)) {
+                if (enqueue(occurrence)) {
+                    count++;
+                }
+            }
+            if (!page.isEmpty()) {
+                DueSeriesView last = page.getLast();
+                afterDate = last.getNextDueDate();
+                afterId = last.getId();
+            }
+        } while (page.size() == pageSize);
+        return count;
+    }
+
+    /**
+     * Queue one digest email per user listing every incomplete reminder of theirs due on or
+     * before a date that was not emailed yet, and the latest pending occurrence of every series
+     * of theirs due on or before another date. The reminders and series of a page of users are
+     * read with one query each. Users with due reminders are found first; a second pass then
+     * finds those with only due series, as the first pass claimed the series of everyone else.
+     *
+     * @param reminderDate the due date of plant reminders
+     * @param seriesDate the due date of reminder series
+     * @return the number of emails queued
+     */
+    int dispatchDigests(LocalDate reminderDate, LocalDate seriesDate) {
+        return dispatchDigests(
+                        reminderDate,
+                        seriesDate,
+                        (afterUserId, page) ->
+                                plantReminderRepository.findUserIdsWithDueForEmail(reminderDate, afterUserId, page))
+                + dispatchDigests(
+                        reminderDate,
+                        seriesDate,
+                        (afterUserId, page) ->
+                                reminderSeriesRepository.findUserIdsWithDueForEmail(seriesDate, afterUserId, page));
+    }
+
+    private int dispatchDigests(
+            LocalDate reminderDate, LocalDate seriesDate, BiFunction<UUID, Pageable, List<UUID>> findUserIds) {
+        int pageSize = Math.max(1, reminderDispatchConfig.getPageSize());
+        int count = 0;
+        UUID afterUserId = FIRST_ID;
+        List<UUID> userIds;
+        do {
+            userIds = findUserIds.apply(afterUserId, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            List<DueReminderView> due = plantReminderRepository.findDueForDigest(reminderDate, userIds);
+            Map<UUID, Double> rainy = findRainy(due);
+            Set<UUID> deferredIds = deferRainy(rainy);
+            Map<UUID, List<DueReminderView>> reminders = new HashMap<>();
+            for (DueReminderView reminder : due) {
+                if (!deferredIds.contains(reminder.getId())) {
+                    reminders
+                            .computeIfAbsent(reminder.getUserId(), userId -> new ArrayList<>())
+                            .add(reminder);
+                }
+            }
+            Map<UUID, List<PendingOccurrence>> occurrences = new HashMap<>();
+            for (PendingOccurrence occurrence :
+                    resolveAll(reminderSeriesRepository.findDueForDigest(seriesDate, userIds), seriesDate)) {
+                occurrences
+                        .computeIfAbsent(occurrence.series().getUserId(), userId -> new ArrayList<>())
+                        .add(occurrence);
+            }
+            for (UUID userId : userIds) {
+                if (enqueueDigest(
+                        userId,
+                        reminders.getOrDefault(userId, List.of()),
+                        occurrences.getOrDefault(userId, List.of()),
+                        rainy)) {
+                    count++;
+                }
+            }
+            afterUserId = userIds.getLast();
+        } while (userIds.size() == pageSize);
+        return count;
+    }
+
+    private boolean enqueueDigest(
+            UUID userId,
+            List<DueReminderView> reminders,
+            List<PendingOccurrence> occurrences,
+            Map<UUID, Double> rainy) {
+        if (reminders.size() + occurrences.size() <= 1) {
+            if (!reminders.isEmpty()) {
+                DueReminderView reminder = reminders.getFirst();
+                return enqueue(reminder, rainy.get(reminder.getId()));
+            }
+            return !occurrences.isEmpty() && enqueue(occurrences.getFirst());
+        }
+        Map<UUID, ReminderEmailRequest> requests = new LinkedHashMap<>();
+        for (DueReminderView reminder : reminders) {
+            requests.put(reminder.getId(), toEmailRequest(reminder, rainy.get(reminder.getId())));
+        }
+        try {
+            if (emailOutboxService
+                    .enqueueDigest(
+                            requests,
+                            occurrences.stream().map(PendingOccurrence::claim).toList())
+                    .isEmpty()) {
+                skipped.increment();
+                return false;
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to queue digest email for user {}: {}", userId, e.getMessage());
+            return false;
+        }
+        queued.increment();
+        // Reminders and occurrences are sorted by due date, so the first ones waited the longest
+        LocalDate oldest = null;
+        if (!reminders.isEmpty()) {
+            oldest = reminders.getFirst().getReminderDate();
+        }
+        if (!occurrences.isEmpty()
+                && (oldest == null || occurrences.getFirst().date().isBefore(oldest))) {
+            oldest = occurrences.getFirst().date();
+        }
+        recordLag(oldest);
+        return true;
+    }
+
+    /**
+     * Find the latest pending occurrence of each of a page of due series, and check the weather
+     * for them. Rainy occurrences are skipped, if so configured, or get a note about the rain.
+     *
+     * @param series the due series
+     * @param date the due date
+     * @return the occurrences to email
+     */
+    private List<PendingOccurrence> resolveAll(List<DueSeriesView> series, LocalDate date) {
+        List<PendingOccurrence> occurrences = new ArrayList<>();
+        for (DueSeriesView one : series) {
+            PendingOccurrence occurrence = resolve(one, date);
+            if (occurrence != null) {
+                occurrences.add(occurrence);
+            }
+        }
+        Map<UUID, Double> rainy =
+                findRainy(occurrences.stream().map(PendingOccurrence::series).toList());
+        if (rainy.isEmpty()) {
+            return occurrences;
+        }
+        boolean skip = reminderWeatherConfig.getAction() == ReminderWeatherConfig.Action.DEFER;
+        List<PendingOccurrence> remaining = new ArrayList<>();
+        for (PendingOccurrence occurrence : occurrences) {
+            Double rainMm = rainy.get(occurrence.series().getId());
+            if (rainMm == null) {
+                remaining.add(occurrence);
+            } else if (!skip || !skipRainy(occurrence)) {
+                ReminderEmailRequest request = occurrence.request();
+                request.setNotes(withRainNote(request.getNotes(), rainMm));
+                remaining.add(occurrence);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Skip a rainy series occurrence and move the series to its next occurrence.
+     *
+     * @param occurrence the rainy occurrence
+     * @return false if it could not be skipped and should be emailed after all
+     */
+    private boolean skipRainy(PendingOccurrence occurrence) {
+        DueSeriesView series = occurrence.series();
+        try {
+            if (reminderSeriesService.skipDue(
+                    series.getId(), occurrence.date(), series.getNextDueDate(), occurrence.next())) {
+                deferred.increment();
+            } else {
+                skipped.increment();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // Email it as usual, with a note about the rain
+            log.warn("Failed to skip reminder series {} for rain: {}", series.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Find the latest pending occurrence of a due series. A series whose due occurrences were
+     * all completed or skipped ahead of time is moved to its next occurrence right away.
+     *
+     * @param series the due series
+     * @param date the due date
+     * @return the occurrence to email, or null if there is none or it could not be found
+     */
+    private PendingOccurrence resolve(DueSeriesView series, LocalDate date) {
+        try {
+            DueOccurrence due = reminderSeriesService.resolveDue(series, date);
+            if (due.occurrence() == null) {
+                reminderSeriesRepository.advanceNextDueDate(series.getId(), series.getNextDueDate(), due.next());
+                skipped.increment();
+                return null;
+            }
+            return new PendingOccurrence(
+                    series,
+                    due.occurrence(),
+                    due.next(),
+                    toEmailRequest(series, due.occurrence(), reminderDispatchConfig.getReminderTime()));
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to queue email for reminder series {}: {}", series.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean enqueue(PendingOccurrence occurrence) {
+        UUID seriesId = occurrence.series().getId();
+        try {
+            if (emailOutboxService
+                    .enqueueSeriesOccurrence(
+                            occurrence.request(), seriesId, occurrence.series().getNextDueDate(), occurrence.next())
+                    .isEmpty()) {
+                skipped.increment();
+                return false;
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to queue email for reminder series {}: {}", seriesId, e.getMessage());
+            return false;
+        }
+        queued.increment();
+        recordLag(occurrence.date());
+        return true;
+    }
+
+    /**
+     * Queue the email of each of a page of due reminders, unless heavy rain defers it.
+     *
+     * @param reminders the due reminders
+     * @return the number of emails queued
+     */
+    private int enqueueAll(List<DueReminderView> reminders) {
+        Map<UUID, Double> rainy = findRainy(reminders);
+        Set<UUID> deferredIds = deferRainy(rainy);
+        int count = 0;
+        for (DueReminderView reminder : reminders) {
+            if (!deferredIds.contains(reminder.getId()) && enqueue(reminder, rainy.get(reminder.getId()))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the watering reminders or series for whose garden heavy rain is expected today
+     * (UTC). They are emailed as usual if the forecasts cannot be checked.
+     *
+     * @param reminders the due reminders or series
+     * @return the expected precipitation in mm by ID of the rainy reminders or series
+     */
+    private Map<UUID, Double> findRainy(List<? extends WeatherCheckView> reminders) {
+        if (reminders.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return reminderWeatherCheck.findRainy(reminders, LocalDate.now(ZoneOffset.UTC));
+        } catch (RuntimeException e) {
+            log.warn("Failed to check the weather for {} due reminders: {}", reminders.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Move rainy reminders to tomorrow (UTC), if so configured. Reminders claimed or completed
+     * meanwhile are left as they are, and are not emailed either.
+     *
+     * @param rainy the expected precipitation by ID of the rainy reminders
+     * @return the IDs of the reminders not to email now
+     */
+    private Set<UUID> deferRainy(Map<UUID, Double> rainy) {
+        if (rainy.isEmpty() || reminderWeatherConfig.getAction() != ReminderWeatherConfig.Action.DEFER) {
+            return Set.of();
+        }
+        try {
+            deferred.increment(plantReminderRepository.deferUnclaimed(
+                    rainy.keySet(), LocalDate.now(ZoneOffset.UTC).plusDays(1)));
+        } catch (RuntimeException e) {
+            // Email them as usual, with a note about the rain
+            log.warn("Failed to defer {} reminders for rain: {}", rainy.size(), e.getMessage());
+            return Set.of();
+        }
+        return rainy.keySet();
+    }
+
+    private boolean enqueue(DueReminderView reminder, Double rainMm) {
+        try {
+            if (emailOutboxService
+                    .enqueuePlantReminder(toEmailRequest(reminder, rainMm), reminder.getId())
+                    .isEmpty()) {
+                skipped.increment();
+                return false;
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to queue email for reminder {}: {}", reminder.getId(), e.getMessage());
+            return false;
+        }
+        queued.increment();
+        recordLag(reminder.getReminderDate());
+        return true;
+    }
+
+    private void recordLag(LocalDate dueDate) {
+        lagTimer.record(
+                Duration.between(dueDate.atStartOfDay().atOffset(ZoneOffset.UTC), OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    private ReminderEmailRequest toEmailRequest(DueReminderView reminder, Double rainMm) {
+        ReminderEmailRequest request = toEmailRequest(reminder, reminderDispatchConfig.getReminderTime());
+        if (rainMm != null) {
+            request.setNotes(withRainNote(request.getNotes(), rainMm));
+        }
+        return request;
+    }
+
+    /**
+     * Add a note about the rain expected today to the notes of a reminder email.
+     *
+     * @param notes the notes of the reminder, or null for none
+     * @param rainMm the expected precipitation in mm
+     * @return the notes with the rain note
+     */
+    static String withRainNote(String notes, double rainMm) {
+        String note = String.format(
+                Locale.ROOT, "Heavy rain is expected today (%.1f mm), so watering may not be needed.", rainMm);
+        return notes == null || notes.isBlank() ? note : notes + " " + note;
+    }
+
+    /**
+     * Build the email of a due reminder.
+     *
+     * @param reminder the reminder
+     * @param reminderTime the time of day shown in the email if the reminder has none
+     * @return the email request
+     */
+    static ReminderEmailRequest toEmailRequest(DueReminderView reminder, String reminderTime) {
+        return ReminderEmailRequest.builder()
+                .plantName(reminder.getPlantName())
+                .reminderType(reminder.getReminderType())
+                .reminderDate(reminder.getReminderDate().toString())
+                .reminderTime(
+                        reminder.getReminderTime() != null
+                                ? reminder.getReminderTime().format(REMINDER_TIME)
+                                : reminderTime)
+                .notes(reminder.getNotes())
+                .userEmail(reminder.getUserEmail())
+                .imageUrl(reminder.getPlantImageUrl())
+                .gardenSpaceName(reminder.getGardenPlanName())
+                .gardenSpaceId(reminder.getGardenPlanId().toString())
+                .build();
+    }
+
+    /**
+     * Build the email of an occurrence of a due reminder series.
+     *
+     * @param series the series
+     * @param occurrence the occurrence date
+     * @param reminderTime the time of day shown in the email
+     * @return the email request
+     */
+    static ReminderEmailRequest toEmailRequest(DueSeriesView series, LocalDate occurrence, String reminderTime) {
+        return ReminderEmailRequest.builder()
+                .plantName(series.getPlantName())
+                .reminderType(series.getReminderType())
+                .reminderDate(occurrence.toString())
+                .reminderTime(reminderTime)
+                .notes(series.getNotes())
+                .userEmail(series.getUserEmail())
+                .imageUrl(series.getPlantImageUrl())
+                .gardenSpaceName(series.getGardenPlanName())
+                .gardenSpaceId(series.getGardenPlanId().toString())
+                .build();
+    }
+
+    /**
+     * The latest pending occurrence of a due series and its email.
+     *
+     * @param series the series
+     * @param date the occurrence date
+     * @param next the occurrence after it, or null if the series ends
+     * @param request the email of the occurrence
+     */
+    private record PendingOccurrence(
+            DueSeriesView series, LocalDate date, LocalDate next, ReminderEmailRequest request) {
+
+        EmailOutboxService.SeriesOccurrence claim() {
+            return new EmailOutboxService.SeriesOccurrence(series.getId(), series.getNextDueDate(), next, request);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.ReminderDispatchConfig;
+import dev.solace.twiggle.config.ReminderSchedulerConfig;
+import dev.solace.twiggle.model.PlantReminder;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderTimeView;
+import dev.solace.twiggle.service.util.TimingWheel;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Emails plant reminders at their exact due time (UTC). The incomplete reminders due within the
+ * horizon are held in a hierarchical timing wheel, loaded from the database at startup and
+ * reloaded periodically to extend the horizon, and kept in sync by {@link PlantReminderService}
+ * as reminders are created, updated, completed or deleted. Every tick, the reminders whose time
+ * came are handed to a dedicated thread, which queues them through {@link ReminderDispatcher},
+ * so database queries and forecast lookups never delay the next tick. The dispatcher's periodic
+ * run then only catches up on reminders due before today, such as those missed while the
+ * application was down.
+ * The wheel holds only reminder IDs; the email is built from the database when a timer fires, so
+ * a stale timer at worst finds its reminder completed, already claimed or not due yet.
+ * Inactive in digest mode, where all reminders of a day are emailed together.
+ */
+@Service
+@Slf4j
+public class ReminderScheduler {
+
+    private static final String METRIC_PREFIX = "reminders.scheduler";
+    private static final LocalDate FIRST_DATE = LocalDate.EPOCH;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    // 4 levels of 64 slots span 194 days of 1 s ticks
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final PlantReminderRepository plantReminderRepository;
+    private final ReminderDispatcher reminderDispatcher;
+    private final ReminderSchedulerConfig reminderSchedulerConfig;
+    private final ReminderDispatchConfig reminderDispatchConfig;
+
+    // Guarded by itself
+    private final TimingWheel<UUID> wheel;
+    // Queues the emails of expired timers in order, one batch at a time
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("reminder-scheduler-dispatch").daemon().factory());
+
+    private final Counter fired;
+    private final Counter loaded;
+
+    public ReminderScheduler(
+            PlantReminderRepository plantReminderRepository,
+            ReminderDispatcher reminderDispatcher,
+            ReminderSchedulerConfig reminderSchedulerConfig,
+            ReminderDispatchConfig reminderDispatchConfig,
+            MeterRegistry meterRegistry) {
+        this.plantReminderRepository = plantReminderRepository;
+        this.reminderDispatcher = reminderDispatcher;
+        this.reminderSchedulerConfig = reminderSchedulerConfig;
+        this.reminderDispatchConfig = reminderDispatchConfig;
+        this.wheel = new TimingWheel<>(
+                Math.max(1, reminderSchedulerConfig.getTick().toMillis()),
+                WHEEL_BITS,
+                WHEEL_LEVELS,
+                System.currentTimeMillis());
+        this.fired = Counter.builder(METRIC_PREFIX + ".timers.fired")
+                .description("Reminders whose due time came")
+                .register(meterRegistry);
+        this.loaded = Counter.builder(METRIC_PREFIX + ".timers.loaded")
+                .description("Reminders scheduled when loading the horizon from the database")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".timers", this, ReminderScheduler::size)
+                .description("Reminders waiting for their due time")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether reminders are emailed at their exact time with the given configuration.
+     *
+     * @param reminderSchedulerConfig the scheduler configuration
+     * @param reminderDispatchConfig the dispatch configuration
+     * @return true if the scheduler is enabled and digest mode is off
+     */
+    static boolean isActive(
+            ReminderSchedulerConfig reminderSchedulerConfig, ReminderDispatchConfig reminderDispatchConfig) {
+        return reminderSchedulerConfig.isEnabled() && !reminderDispatchConfig.isDigest();
+    }
+
+    /**
+     * Hand the reminders whose time came to the dispatch thread, if the scheduler is active.
+     */
+    @Scheduled(fixedRateString = "${reminders.scheduler.tick:PT1S}")
+    public void tick() {
+        if (!isActive(reminderSchedulerConfig, reminderDispatchConfig)) {
+            return;
+        }
+        List<UUID> expired = expire(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> dispatchExpired(expired));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the reminders stay unclaimed, so the next start schedules them again
+            log.warn("Dropped {} expired reminder timers during shutdown", expired.size());
+        }
+    }
+
+    /**
+     * Stop the dispatch thread after the emails it was handed are queued.
+     */
+    @PreDestroy
+    public void stop() {
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * Load the reminders due within the horizon, if the scheduler is active. Runs at startup,
+     * then periodically to extend the horizon.
+     */
+    @Scheduled(fixedDelayString = "${reminders.scheduler.refill-interval:PT1H}")
+    public void refill() {
+        if (!isActive(reminderSchedulerConfig, reminderDispatchConfig)) {
+            return;
+        }
+        try {
+            int count = load(System.currentTimeMillis());
+            log.info("Scheduled {} reminders due within {}", count, reminderSchedulerConfig.getHorizon());
+        } catch (RuntimeException e) {
+            log.error("Failed to load reminders due within the horizon, retrying on next run", e);
+        }
+    }
+
+    /**
+     * Schedule the email of a reminder at its due time once the current transaction commits, or
+     * cancel it if the reminder is completed, was already claimed for an email or is not due
+     * within the horizon.
+     *
+     * @param reminder the saved reminder
+     */
+    public void reschedule(PlantReminder reminder) {
+        if (!isActive(reminderSchedulerConfig, reminderDispatchConfig)) {
+            return;
+        }
+        UUID id = reminder.getId();
+        boolean pending = !Boolean.TRUE.equals(reminder.getIsCompleted()) && reminder.getEmailClaimedAt() == null;
+        long dueAt = dueAt(reminder.getReminderDate(), reminder.getReminderTime());
+        TransactionUtils.afterCommit(() -> {
+            long horizonEnd = System.currentTimeMillis()
+                    + reminderSchedulerConfig.getHorizon().toMillis();
+            synchronized (wheel) {
+                if (pending && dueAt <= horizonEnd) {
+                    wheel.schedule(id, dueAt);
+                } else {
+                    wheel.cancel(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Cancel the email of a reminder once the current transaction commits.
+     *
+     * @param id the ID of the reminder
+     */
+    public void cancel(UUID id) {
+        if (!isActive(reminderSchedulerConfig, reminderDispatchConfig)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.cancel(id);
+            }
+        });
+    }
+
+    /**
+     * Queue the emails of the reminders due at or before a time on the calling thread.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the number of emails queued
+     */
+    int fire(long nowMillis) {
+        return dispatch(expire(nowMillis));
+    }
+
+    private List<UUID> expire(long nowMillis) {
+        List<UUID> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(nowMillis, expired::add);
+        }
+        fired.increment(expired.size());
+        return expired;
+    }
+
+    private void dispatchExpired(List<UUID> expired) {
+        try {
+            int count = dispatch(expired);
+            if (count > 0) {
+                log.info("Queued {} reminder emails at their due time", count);
+            }
+        } catch (RuntimeException e) {
+            // The reminders stay unclaimed, so the next reload schedules them again
+            log.error("Failed to queue reminder emails at their due time", e);
+        }
+    }
+
+    private int dispatch(List<UUID> expired) {
+        int pageSize = Math.max(1, reminderSchedulerConfig.getPageSize());
+        int count = 0;
+        for (int from = 0; from < expired.size(); from += pageSize) {
+            count += reminderDispatcher.dispatchByIds(expired.subList(from, Math.min(from + pageSize, expired.size())));
+        }
+        return count;
+    }
+
+    /**
+     * Schedule every incomplete, unclaimed reminder due from today (UTC) until the end of the
+     * horizon. Reminders already scheduled are moved to their current due time, or cancelled if
+     * it is now beyond the horizon, and those whose time has passed fire on the next tick.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the number of reminders scheduled
+     */
+    int load(long nowMillis) {
+        int pageSize = Math.max(1, reminderSchedulerConfig.getPageSize());
+        long horizonEnd = nowMillis + reminderSchedulerConfig.getHorizon().toMillis();
+        LocalDate from = LocalDate.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC);
+        LocalDate to = LocalDate.ofInstant(Instant.ofEpochMilli(horizonEnd), ZoneOffset.UTC);
+        int count = 0;
+        LocalDate afterDate = FIRST_DATE;
+        UUID afterId = FIRST_ID;
+        List<ReminderTimeView> page;
+        do {
+            page = plantReminderRepository.findUnclaimedBetween(
+                    from, to, afterDate, afterId, PageRequest.of(0, pageSize));
+            synchronized (wheel) {
+                for (ReminderTimeView reminder : page) {
+                    long dueAt = dueAt(reminder.getReminderDate(), reminder.getReminderTime());
+                    if (dueAt <= horizonEnd) {
+                        wheel.schedule(reminder.getId(), dueAt);
+                        count++;
+                    } else {
+                        wheel.cancel(reminder.getId());
+                    }
+                }
+            }
+            if (!page.isEmpty()) {
+                ReminderTimeView last = page.getLast();
+                afterDate = last.getReminderDate();
+                afterId = last.getId();
+            }
+        } while (page.size() == pageSize);
+        loaded.increment(count);
+        return count;
+    }
+
+    /**
+     * Get the number of reminders waiting for their due time.
+     *
+     * @return the number of scheduled reminders
+     */
+    int size() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Check whether a reminder is waiting for its due time.
+     *
+     * @param id the ID of the reminder
+     * @return true if the reminder is scheduled
+     */
+    boolean isScheduled(UUID id) {
+        synchronized (wheel) {
+            return wheel.contains(id);
+        }
+    }
+
+    private long dueAt(LocalDate date, LocalTime time) {
+        LocalTime dueTime = time != null ? time : LocalTime.parse(reminderDispatchConfig.getReminderTime());
+        return date.atTime(dueTime).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
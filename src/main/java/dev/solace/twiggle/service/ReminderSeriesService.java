@@ -0,0 +1,328 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.dto.ReminderOccurrenceDTO;
+import dev.solace.twiggle.dto.ReminderSeriesDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.mapper.ReminderSeriesMapper;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.model.ReminderSeriesException;
+import dev.solace.twiggle.repository.DueSeriesView;
+import dev.solace.twiggle.repository.ReminderSeriesExceptionRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.util.ReminderRecurrence;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for managing recurring plant reminders. A series is stored once with its
+ * recurrence rule; its occurrences are expanded on demand, and only completed or skipped
+ * occurrences are stored, as exceptions. The series keeps its next occurrence that was not
+ * emailed yet, so finding due series is an index lookup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderSeriesService {
+
+    // Longest date range expanded in one request
+    static final int MAX_RANGE_DAYS = 366;
+    private static final String PENDING = "PENDING";
+
+    private final ReminderSeriesRepository reminderSeriesRepository;
+    private final ReminderSeriesExceptionRepository reminderSeriesExceptionRepository;
+    private final ReminderSeriesMapper reminderSeriesMapper;
+
+    /**
+     * Find a reminder series by ID.
+     *
+     * @param id the series ID
+     * @return optional containing the series DTO if found
+     */
+    public Optional<ReminderSeriesDTO> findById(UUID id) {
+        return reminderSeriesRepository.findById(id).map(reminderSeriesMapper::toDto);
+    }
+
+    /**
+     * Find reminder series by garden plan ID with pagination.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param pageable pagination and sorting parameters
+     * @return page of series DTOs for the garden plan
+     */
+    public Page<ReminderSeriesDTO> findByGardenPlanId(UUID gardenPlanId, Pageable pageable) {
+        return reminderSeriesRepository
+                .findByGardenPlanId(gardenPlanId, pageable)
+                .map(reminderSeriesMapper::toDto);
+    }
+
+    /**
+     * Create a new reminder series. Its first occurrence is today or later.
+     *
+     * @param seriesDTO the series DTO to create
+     * @return the created series DTO
+     * @throws CustomException if the recurrence rule is invalid
+     */
+    @Transactional
+    public ReminderSeriesDTO create(ReminderSeriesDTO seriesDTO) {
+        ReminderSeries series = reminderSeriesMapper.toEntity(seriesDTO);
+        series.setCreatedAt(OffsetDateTime.now());
+        series.setNextDueDate(firstDue(recurrence(series)));
+        return reminderSeriesMapper.toDto(reminderSeriesRepository.save(series));
+    }
+
+    /**
+     * Update an existing reminder series. Its next occurrence is recomputed from today, or from
+     * tomorrow once today's occurrence was emailed, so an edit never emails an occurrence twice.
+     *
+     * @param id the series ID
+     * @param seriesDTO the updated series details
+     * @return the updated series DTO if found
+     * @throws CustomException if the recurrence rule is invalid
+     */
+    @Transactional
+    public Optional<ReminderSeriesDTO> update(UUID id, ReminderSeriesDTO seriesDTO) {
+        return reminderSeriesRepository.findById(id).map(existing -> {
+            ReminderSeries updated = reminderSeriesMapper.toEntity(seriesDTO);
+            existing.setPlantId(updated.getPlantId());
+            existing.setGardenPlanId(updated.getGardenPlanId());
+            existing.setReminderType(updated.getReminderType());
+            existing.setNotes(updated.getNotes());
+            existing.setStartDate(updated.getStartDate());
+            existing.setEndDate(updated.getEndDate());
+            existing.setIntervalDays(updated.getIntervalDays());
+            existing.setWeekdays(updated.getWeekdays());
+            existing.setSeasonStartMonth(updated.getSeasonStartMonth());
+            existing.setSeasonEndMonth(updated.getSeasonEndMonth());
+            existing.setNextDueDate(nextDue(recurrence(existing), existing.getNextDueDate()));
+            return reminderSeriesMapper.toDto(reminderSeriesRepository.save(existing));
+        });
+    }
+
+    /**
+     * Delete a reminder series and its exceptions.
+     *
+     * @param id the series ID
+     */
+    @Transactional
+    public void delete(UUID id) {
+        reminderSeriesExceptionRepository.deleteBySeriesId(id);
+        reminderSeriesRepository.deleteById(id);
+    }
+
+    /**
+     * Expand the occurrences of a series in a date range.
+     *
+     * @param id the series ID
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return the occurrences in order if the series exists
+     * @throws CustomException if the range is invalid or too long
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<ReminderOccurrenceDTO>> findOccurrences(UUID id, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return reminderSeriesRepository.findById(id).map(series -> expand(List.of(series), from, to));
+    }
+
+    /**
+     * Expand the occurrences of every series of a garden plan in a date range.
+     *
+     * @param gardenPlanId the garden plan ID
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return the occurrences ordered by date
+     * @throws CustomException if the range is invalid or too long
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderOccurrenceDTO> findOccurrencesByGardenPlanId(UUID gardenPlanId, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return expand(reminderSeriesRepository.findByGardenPlanId(gardenPlanId), from, to);
+    }
+
+    /**
+     * Mark an occurrence of a series as completed or skipped.
+     *
+     * @param id the series ID
+     * @param date the occurrence date
+     * @param kind whether the occurrence was completed or skipped
+     * @return the updated occurrence if the series exists
+     * @throws CustomException if the date is not an occurrence of the series
+     */
+    @Transactional
+    public Optional<ReminderOccurrenceDTO> markOccurrence(UUID id, LocalDate date, ReminderSeriesException.Kind kind) {
+        return reminderSeriesRepository.findById(id).map(series -> {
+            if (!recurrence(series).occursOn(date)) {
+                throw new CustomException(
+                        "The series has no occurrence on " + date, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+            }
+            reminderSeriesExceptionRepository.save(
+                    new ReminderSeriesException(id, date, kind, OffsetDateTime.now(ZoneOffset.UTC)));
+            return toOccurrence(series, date, kind.name());
+        });
+    }
+
+    /**
+     * Resolve what to email for a due series: the latest occurrence up to a date that is still
+     * pending, and the first occurrence after that date. Earlier missed occurrences are not
+     * emailed separately.
+     *
+     * @param series the due series
+     * @param date the due date
+     * @return the occurrence to email, if any, and the new next occurrence
+     */
+    @Transactional(readOnly = true)
+    public DueOccurrence resolveDue(DueSeriesView series, LocalDate date) {
+        ReminderRecurrence recurrence = recurrence(series);
+        List<LocalDate> closed =
+                reminderSeriesExceptionRepository
+                        .findInRange(List.of(series.getId()), series.getNextDueDate(), date)
+                        .stream()
+                        .map(ReminderSeriesException::getOccurrenceDate)
+                        .toList();
+        LocalDate occurrence = recurrence
+                .occurrences(series.getNextDueDate(), date)
+                .filter(day -> !closed.contains(day))
+                .reduce((first, second) -> second)
+                .orElse(null);
+        return new DueOccurrence(occurrence, recurrence.next(date.plusDays(1)));
+    }
+
+    /**
+     * Skip a due occurrence of a series instead of emailing it, such as when rain makes
+     * watering unnecessary, and move the series to its next occurrence, unless another run
+     * moved it meanwhile.
+     *
+     * @param id the series ID
+     * @param occurrence the occurrence date
+     * @param dueDate the next occurrence of the series read by the caller
+     * @param nextDueDate the new next occurrence, or null if the series has ended
+     * @return true if the occurrence was skipped, false if another run claimed it
+     */
+    @Transactional
+    public boolean skipDue(UUID id, LocalDate occurrence, LocalDate dueDate, LocalDate nextDueDate) {
+        if (reminderSeriesRepository.advanceNextDueDate(id, dueDate, nextDueDate) == 0) {
+            return false;
+        }
+        reminderSeriesExceptionRepository.save(new ReminderSeriesException(
+                id, occurrence, ReminderSeriesException.Kind.SKIPPED, OffsetDateTime.now(ZoneOffset.UTC)));
+        return true;
+    }
+
+    /**
+     * What to email for a due series.
+     *
+     * @param occurrence the occurrence to email, or null if none is pending
+     * @param next the new next occurrence, or null if the series has ended
+     */
+    public record DueOccurrence(LocalDate occurrence, LocalDate next) {}
+
+    private List<ReminderOccurrenceDTO> expand(List<ReminderSeries> series, LocalDate from, LocalDate to) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+        Map<ReminderSeriesException.Key, String> statuses = new HashMap<>();
+        for (ReminderSeriesException exception : reminderSeriesExceptionRepository.findInRange(
+                series.stream().map(ReminderSeries::getId).toList(), from, to)) {
+            statuses.put(
+                    new ReminderSeriesException.Key(exception.getSeriesId(), exception.getOccurrenceDate()),
+                    exception.getKind().name());
+        }
+        List<ReminderOccurrenceDTO> occurrences = new ArrayList<>();
+        for (ReminderSeries one : series) {
+            recurrence(one)
+                    .occurrences(from, to)
+                    .forEach(date -> occurrences.add(toOccurrence(
+                            one,
+                            date,
+                            statuses.getOrDefault(new ReminderSeriesException.Key(one.getId(), date), PENDING))));
+        }
+        occurrences.sort(Comparator.comparing(ReminderOccurrenceDTO::getReminderDate));
+        return occurrences;
+    }
+
+    private static ReminderOccurrenceDTO toOccurrence(ReminderSeries series, LocalDate date, String status) {
+        return ReminderOccurrenceDTO.builder()
+                .seriesId(series.getId())
+                .plantId(series.getPlantId())
+                .gardenPlanId(series.getGardenPlanId())
+                .reminderType(series.getReminderType())
+                .notes(series.getNotes())
+                .reminderDate(date)
+                .status(status)
+                .build();
+    }
+
+    private static LocalDate firstDue(ReminderRecurrence recurrence) {
+        return recurrence.next(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    private static LocalDate nextDue(ReminderRecurrence recurrence, LocalDate storedNextDueDate) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        // Every occurrence before the stored next one was emailed; an ended series has none left
+        if (storedNextDueDate == null || storedNextDueDate.isAfter(today)) {
+            return recurrence.next(today.plusDays(1));
+        }
+        return recurrence.next(today);
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(
+                    "The date range must end on or after its start and span at most " + MAX_RANGE_DAYS + " days",
+                    HttpStatus.BAD_REQUEST,
+                    ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private static ReminderRecurrence recurrence(ReminderSeries series) {
+        return recurrence(
+                series.getStartDate(),
+                series.getEndDate(),
+                series.getIntervalDays(),
+                series.getWeekdays(),
+                series.getSeasonStartMonth(),
+                series.getSeasonEndMonth());
+    }
+
+    private static ReminderRecurrence recurrence(DueSeriesView series) {
+        return recurrence(
+                series.getStartDate(),
+                series.getEndDate(),
+                series.getIntervalDays(),
+                series.getWeekdays(),
+                series.getSeasonStartMonth(),
+                series.getSeasonEndMonth());
+    }
+
+    private static ReminderRecurrence recurrence(
+            LocalDate start,
+            LocalDate end,
+            Integer intervalDays,
+            Integer weekdays,
+            Integer seasonStartMonth,
+            Integer seasonEndMonth) {
+        try {
+            return new ReminderRecurrence(
+                    start, end, intervalDays, weekdays != null ? weekdays : 0, seasonStartMonth, seasonEndMonth);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(e.getMessage(), HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
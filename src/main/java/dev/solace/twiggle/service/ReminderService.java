@@ -2,12 +2,18 @@ package dev.solace.twiggle.service;
 
 import com.resend.Resend;
 import com.resend.core.exception.ResendException;
+import com.resend.services.batch.model.BatchEmail;
+import com.resend.services.batch.model.CreateBatchEmailsResponse;
 import com.resend.services.emails.model.CreateEmailOptions;
 import com.resend.services.emails.model.CreateEmailResponse;
 import dev.solace.twiggle.dto.ReminderEmailRequest;
+import dev.solace.twiggle.service.EmailTemplates.RenderedEmail;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -21,12 +27,17 @@ public class ReminderService {
     private final Resend resend;
     private final String fromEmail; // Configure this in your application properties
     private final String supabaseUrl;
+    private final EmailTemplates emailTemplates;
     private static final String SUCCESS_KEY = "success";
+    private static final String REMINDER_TEMPLATE = "reminder";
+    private static final String DIGEST_TEMPLATE = "digest";
+    private static final Locale DEFAULT_LOCALE = Locale.US;
 
     public ReminderService(
             @Value("${RESEND_API_KEY}") String apiKey, // Store your API key securely
             @Value("${RESEND_FROM_EMAIL}") String fromEmail,
-            @Value("${SUPABASE_API_URL:https://ffihsfsyumfbvvrujxba.supabase.co}") String supabaseUrl) {
+            @Value("${SUPABASE_API_URL:https://ffihsfsyumfbvvrujxba.supabase.co}") String supabaseUrl,
+            EmailTemplates emailTemplates) {
         // It's better practice to handle potential null/empty apiKey here
         if (apiKey == null || apiKey.isBlank() || apiKey.equals("YOUR_RESEND_API_KEY_HERE")) {
             log.warn("Resend API Key is not configured. Email sending will fail.");
@@ -38,6 +49,7 @@ public class ReminderService {
         }
         this.fromEmail = fromEmail;
         this.supabaseUrl = supabaseUrl;
+        this.emailTemplates = emailTemplates;
     }
 
     /**
@@ -66,24 +78,14 @@ public class ReminderService {
             return result;
         }
 
-        String subject =
-                String.format("🌿 Plant Care Reminder: %s for %s", request.getReminderType(), request.getPlantName());
-        String htmlBody = generateHtmlEmail(request);
-
-        CreateEmailOptions params = CreateEmailOptions.builder()
-                .from(this.fromEmail) // Use the configured 'from' email
-                .to(request.getUserEmail())
-                .subject(subject)
-                .html(htmlBody)
-                .build();
+        ReminderEmail email = buildReminderEmail(request);
 
         try {
             log.info(
                     "Attempting to send reminder email to {} for plant {}",
                     request.getUserEmail(),
                     request.getPlantName());
-            CreateEmailResponse data = resend.emails().send(params);
-            String emailId = data.getId();
+            String emailId = sendEmail(email);
             log.info("Reminder email sent successfully. ID: {}", emailId);
 
             result.put(SUCCESS_KEY, true);
@@ -103,13 +105,126 @@ public class ReminderService {
         }
     }
 
+    /**
+     * Builds the reminder email without sending it, from the reminder template in the
+     * requested locale.
+     *
+     * @param request the reminder details
+     * @return the recipient, subject, HTML body and plain-text body
+     */
+    public ReminderEmail buildReminderEmail(ReminderEmailRequest request) {
+        Locale locale = locale(request.getLocale());
+        RenderedEmail email = emailTemplates.render(REMINDER_TEMPLATE, locale, reminderValues(request, locale)::get);
+        return new ReminderEmail(request.getUserEmail(), email.subject(), email.html(), email.text());
+    }
+
+    /**
+     * Builds one digest email listing several reminders of the same user, from the digest
+     * template in the locale of the first reminder.
+     *
+     * @param requests the reminder details, all addressed to the same user
+     * @return the recipient, subject, HTML body and plain-text body
+     * @throws IllegalArgumentException if there are no reminders
+     */
+    public ReminderEmail buildDigestEmail(List<ReminderEmailRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("A digest needs at least one reminder");
+        }
+        ReminderEmailRequest first = requests.getFirst();
+        Locale locale = locale(first.getLocale());
+        List<Map<String, String>> reminders = new ArrayList<>(requests.size());
+        for (ReminderEmailRequest request : requests) {
+            reminders.add(reminderValues(request, locale));
+        }
+        Map<String, Object> values = Map.of("reminderCount", Integer.toString(requests.size()), "reminders", reminders);
+        RenderedEmail email = emailTemplates.render(DIGEST_TEMPLATE, locale, values::get);
+        return new ReminderEmail(first.getUserEmail(), email.subject(), email.html(), email.text());
+    }
+
+    /**
+     * Sends an already built email through Resend.
+     *
+     * @param email the email
+     * @return the Resend ID of the email
+     * @throws ResendException if Resend rejects the email or cannot be reached
+     * @throws IllegalStateException if no Resend API key is configured
+     */
+    public String sendEmail(ReminderEmail email) throws ResendException {
+        if (this.resend == null) {
+            throw new IllegalStateException("Resend client is not initialized");
+        }
+        CreateEmailResponse data = resend.emails().send(toOptions(email));
+        return data.getId();
+    }
+
+    /**
+     * Sends already built emails through Resend in one batch request, which either accepts or
+     * rejects them all.
+     *
+     * @param emails the emails, at most 100
+     * @return the Resend IDs of the emails, in order
+     * @throws ResendException if Resend rejects the batch or cannot be reached
+     * @throws IllegalStateException if no Resend API key is configured
+     */
+    public List<String> sendEmails(List<ReminderEmail> emails) throws ResendException {
+        if (this.resend == null) {
+            throw new IllegalStateException("Resend client is not initialized");
+        }
+        List<CreateEmailOptions> params = new ArrayList<>(emails.size());
+        for (ReminderEmail email : emails) {
+            params.add(toOptions(email));
+        }
+        CreateBatchEmailsResponse data = resend.batch().send(params);
+        return data.getData().stream().map(BatchEmail::getId).toList();
+    }
+
+    /**
+     * A built email.
+     *
+     * @param to the recipient address
+     * @param subject the subject
+     * @param html the HTML body
+     * @param text the plain-text body, or null
+     */
+    public record ReminderEmail(String to, String subject, String html, String text) {}
+
+    private CreateEmailOptions toOptions(ReminderEmail email) {
+        CreateEmailOptions.Builder params = CreateEmailOptions.builder()
+                .from(this.fromEmail) // Use the configured 'from' email
+                .to(email.to())
+                .subject(email.subject())
+                .html(email.html());
+        if (hasValue(email.text())) {
+            params.text(email.text());
+        }
+        return params.build();
+    }
+
+    private Map<String, String> reminderValues(ReminderEmailRequest request, Locale locale) {
+        Map<String, String> values = new HashMap<>();
+        values.put("plantName", request.getPlantName());
+        values.put("reminderType", request.getReminderType());
+        values.put("reminderAction", request.getReminderType().toLowerCase(locale));
+        values.put("reminderDate", formatDate(request.getReminderDate(), locale));
+        values.put("reminderTime", request.getReminderTime());
+        values.put("gardenSpaceName", request.getGardenSpaceName());
+        values.put("gardenSpaceUrl", supabaseUrl + "/garden-spaces/" + request.getGardenSpaceId());
+        values.put("notes", request.getNotes());
+        // Only web images are shown, so an image URL cannot run script in the email client
+        values.put("imageUrl", isHttpUrl(request.getImageUrl()) ? request.getImageUrl() : null);
+        return values;
+    }
+
     private void logEmailDetails(ReminderEmailRequest request) {
         log.info(
                 "Intended subject: 🌿 Plant Care Reminder: {} for {}",
                 request.getReminderType(),
                 request.getPlantName());
         log.info("Garden Space: {}", request.getGardenSpaceName());
-        log.info("Intended time: {} at {}", formatDate(request.getReminderDate()), request.getReminderTime());
+        log.info(
+                "Intended time: {} at {}",
+                formatDate(request.getReminderDate(), DEFAULT_LOCALE),
+                request.getReminderTime());
         if (request.getImageUrl() != null && !request.getImageUrl().isBlank()) {
             log.info("Image URL included: {}", request.getImageUrl());
         }
@@ -118,85 +233,34 @@ public class ReminderService {
         }
     }
 
-    private String formatDate(String dateStr) {
+    private String formatDate(String dateStr, Locale locale) {
         try {
             LocalDate date = LocalDate.parse(dateStr);
-            return date.format(DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.US));
+            return date.format(
+                    DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(locale));
         } catch (Exception e) {
             log.warn("Error formatting date: " + dateStr, e);
             return dateStr; // Return original string if parsing fails
         }
     }
 
-    private String generateHtmlEmail(ReminderEmailRequest request) {
-        String formattedDate = formatDate(request.getReminderDate());
-
-        // Build the HTML email template
-        return "<!DOCTYPE html>\n" + "<html>\n"
-                + "  <head>\n"
-                + "    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n"
-                + "    <style>\n"
-                + "      body { margin: 0; padding: 0; font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, 'Helvetica Neue', Arial, sans-serif; }\n"
-                + "      .container { max-width: 600px; margin: 0 auto; padding: 20px; background-color: #f5f5f5; }\n"
-                + "      .header { background-color: #2D3648; color: white; padding: 20px; border-radius: 8px 8px 0 0; text-align: center; }\n"
-                + "      .content { background-color: #ffffff; padding: 30px; border-radius: 0 0 8px 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); }\n"
-                + "      .plant-image-container { width: 100%; height: 300px; overflow: hidden; border-radius: 8px; margin: 20px 0; text-align: center; background-color: #f8f9fa; }\n"
-                + "      .plant-image { width: 100%; height: 100%; object-fit: contain; }\n"
-                + "      .reminder-box { background-color: #F3F4F6; padding: 20px; border-radius: 8px; margin: 20px 0; }\n"
-                + "      .button { display: inline-block; background-color: #4F46E5; color: white; padding: 12px 24px; border-radius: 6px; text-decoration: none; margin-top: 20px; }\n"
-                + "      .footer { text-align: center; margin-top: 20px; color: #6B7280; font-size: 14px; }\n"
-                + "      .icon { font-size: 24px; margin-right: 8px; }\n"
-                + "      .highlight { color: #4F46E5; font-weight: 600; }\n"
-                + "      @media (max-width: 600px) {\n"
-                + "        .container { padding: 10px; }\n"
-                + "        .content { padding: 20px; }\n"
-                + "      }\n"
-                + "    </style>\n"
-                + "  </head>\n"
-                + "  <body>\n"
-                + "    <div class=\"container\">\n"
-                + "      <div class=\"header\">\n"
-                + "        <h1>Time for Plant Care! 🌱</h1>\n"
-                + "      </div>\n"
-                + "      <div class=\"content\">\n"
-                + (hasValue(request.getImageUrl())
-                        ? "        <div class=\"plant-image-container\">\n" + "          <img src=\""
-                                + request.getImageUrl() + "\" alt=\"" + request.getPlantName()
-                                + "\" class=\"plant-image\"/>\n" + "        </div>\n"
-                        : "")
-                + "        \n"
-                + "        <div class=\"reminder-box\">\n"
-                + "          <h2>Reminder Details</h2>\n"
-                + "          <p><strong>Plant:</strong> "
-                + request.getPlantName() + "</p>\n" + "          <p><strong>Action:</strong> "
-                + request.getReminderType() + "</p>\n" + "          <p><strong>When:</strong> "
-                + formattedDate + " at " + request.getReminderTime() + "</p>\n"
-                + "          <p><strong>Garden Space:</strong> "
-                + request.getGardenSpaceName() + "</p>\n"
-                + (hasValue(request.getNotes())
-                        ? "          <p><strong>Notes:</strong> " + request.getNotes() + "</p>\n"
-                        : "")
-                + "        </div>\n"
-                + "\n"
-                + "        <p>Your plant is waiting for some care and attention! Don't forget to "
-                + request.getReminderType().toLowerCase() + " your " + request.getPlantName()
-                + " at the scheduled time.</p>\n" + "\n"
-                + "        <a href=\""
-                + supabaseUrl + "/garden-spaces/" + request.getGardenSpaceId() + "\" class=\"button\">\n"
-                + "          View in Garden Space\n"
-                + "        </a>\n"
-                + "\n"
-                + "        <div class=\"footer\">\n"
-                + "          <p>Happy Gardening! 🌿</p>\n"
-                + "          <p>This is an automated reminder from your Urban Garden Dashboard</p>\n"
-                + "        </div>\n"
-                + "      </div>\n"
-                + "    </div>\n"
-                + "  </body>\n"
-                + "</html>";
+    private static Locale locale(String languageTag) {
+        if (!hasValue(languageTag)) {
+            return DEFAULT_LOCALE;
+        }
+        Locale locale = Locale.forLanguageTag(languageTag.strip());
+        return locale.getLanguage().isEmpty() ? DEFAULT_LOCALE : locale;
+    }
+
+    private static boolean isHttpUrl(String url) {
+        if (!hasValue(url)) {
+            return false;
+        }
+        String lower = url.strip().toLowerCase(Locale.ROOT);
+        return lower.startsWith("https://") || lower.startsWith("http://");
     }
 
-    private boolean hasValue(String str) {
+    private static boolean hasValue(String str) {
         return str != null && !str.trim().isEmpty();
     }
 }
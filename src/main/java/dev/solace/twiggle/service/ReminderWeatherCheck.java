@@ -0,0 +1,239 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.ReminderWeatherConfig;
+import dev.solace.twiggle.dto.WeatherDTO;
+import dev.solace.twiggle.repository.WeatherCheckView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Checks the forecast before watering reminders are emailed. The reminders of a dispatch page
+ * are grouped by the location of their garden plan, normalized into buckets so that nearby
+ * coordinates and differently written place names share one forecast. The forecast of each
+ * bucket is fetched once, in parallel on virtual threads, and reused for the configured time,
+ * so the weather API is called once per location rather than once per reminder.
+ * A location whose forecast cannot be fetched counts as dry until its entry expires, so a
+ * weather outage never holds reminders back.
+ */
+@Service
+@Slf4j
+public class ReminderWeatherCheck {
+
+    private static final String METRIC_PREFIX = "reminders.weather";
+    // Today and tomorrow, so a reminder deferred to tomorrow is checked from the same forecast
+    private static final int FORECAST_DAYS = 2;
+    // "lat,lng" in decimal degrees, as stored for plans placed on a map
+    private static final Pattern COORDINATES =
+            Pattern.compile("(-?\\d{1,3}(?:\\.\\d+)?)\\s*,\\s*(-?\\d{1,3}(?:\\.\\d+)?)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final WeatherService weatherService;
+    private final ReminderWeatherConfig reminderWeatherConfig;
+
+    // Daily precipitation (mm) by location bucket
+    private final Map<String, Forecast> forecasts = new ConcurrentHashMap<>();
+
+    private final Counter cached;
+    private final Counter fetched;
+    private final Counter failed;
+
+    public ReminderWeatherCheck(
+            WeatherService weatherService, ReminderWeatherConfig reminderWeatherConfig, MeterRegistry meterRegistry) {
+        this.weatherService = weatherService;
+        this.reminderWeatherConfig = reminderWeatherConfig;
+        this.cached = Counter.builder(METRIC_PREFIX + ".forecasts")
+                .tag("result", "cached")
+                .description("Location forecasts reused from an earlier lookup")
+                .register(meterRegistry);
+        this.fetched = Counter.builder(METRIC_PREFIX + ".forecasts")
+                .tag("result", "fetched")
+                .register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PREFIX + ".forecasts")
+                .tag("result", "failed")
+                .description("Location forecasts that could not be fetched; their reminders are emailed as usual")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find the watering reminders or series for whose garden more precipitation than the
+     * threshold is expected on a date.
+     *
+     * @param reminders the due reminders or series
+     * @param date the day to check, normally today (UTC)
+     * @return the expected precipitation in mm by ID of the rainy reminders or series
+     */
+    public Map<UUID, Double> findRainy(Collection<? extends WeatherCheckView> reminders, LocalDate date) {
+        if (!reminderWeatherConfig.isEnabled()) {
+            return Map.of();
+        }
+        Map<String, List<WeatherCheckView>> byBucket = new HashMap<>();
+        for (WeatherCheckView reminder : reminders) {
+            String bucket = bucket(reminder.getGardenPlanLocation());
+            if (bucket != null && isChecked(reminder.getReminderType())) {
+                byBucket.computeIfAbsent(bucket, key -> new ArrayList<>()).add(reminder);
+            }
+        }
+        if (byBucket.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Map<LocalDate, Double>> precipitation = lookup(byBucket.keySet());
+        Map<UUID, Double> rainy = new HashMap<>();
+        byBucket.forEach((bucket, bucketReminders) -> {
+            Double millimetres = precipitation.getOrDefault(bucket, Map.of()).get(date);
+            if (millimetres != null && millimetres > reminderWeatherConfig.getPrecipitationThresholdMm()) {
+                bucketReminders.forEach(reminder -> rainy.put(reminder.getId(), millimetres));
+            }
+        });
+        return rainy;
+    }
+
+    /**
+     * Normalize a garden location into the bucket whose forecast it shares. Coordinates are
+     * rounded to 0.1° (about 11 km); place names are trimmed and lower-cased.
+     *
+     * @param location the location of a garden plan
+     * @return the bucket, or null if the location is blank
+     */
+    static String bucket(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(location.strip()).replaceAll(" ");
+        Matcher coordinates = COORDINATES.matcher(normalized);
+        if (coordinates.matches()) {
+            double latitude = Double.parseDouble(coordinates.group(1));
+            double longitude = Double.parseDouble(coordinates.group(2));
+            if (Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180) {
+                return String.format(Locale.ROOT, "%.1f,%.1f", round(latitude), round(longitude));
+            }
+        }
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Add up the forecast precipitation of each day.
+     *
+     * @param forecast the forecast
+     * @return the precipitation in mm by day
+     */
+    static Map<LocalDate, Double> dailyPrecipitation(WeatherDTO forecast) {
+        Map<LocalDate, Double> daily = new HashMap<>();
+        if (forecast == null || forecast.getForecast() == null) {
+            return daily;
+        }
+        for (WeatherDTO.ForecastItem item : forecast.getForecast()) {
+            if (item.getForecastTime() != null && item.getPrecipitation() != null) {
+                daily.merge(item.getForecastTime().toLocalDate(), item.getPrecipitation(), Double::sum);
+            }
+        }
+        return daily;
+    }
+
+    /**
+     * Get the number of locations whose forecast is held.
+     *
+     * @return the number of cached forecasts
+     */
+    int size() {
+        return forecasts.size();
+    }
+
+    private boolean isChecked(String reminderType) {
+        return reminderType != null
+                && reminderWeatherConfig.getReminderTypes().stream().anyMatch(reminderType.strip()::equalsIgnoreCase);
+    }
+
+    private Map<String, Map<LocalDate, Double>> lookup(Collection<String> buckets) {
+        long now = System.currentTimeMillis();
+        forecasts.values().removeIf(forecast -> forecast.expiresAt() <= now);
+        Map<String, Map<LocalDate, Double>> precipitation = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String bucket : buckets) {
+            Forecast forecast = forecasts.get(bucket);
+            if (forecast != null) {
+                cached.increment();
+                precipitation.put(bucket, forecast.precipitation());
+            } else {
+                missing.add(bucket);
+            }
+        }
+        if (!missing.isEmpty()) {
+            precipitation.putAll(fetchAll(missing));
+            long expiresAt = System.currentTimeMillis()
+                    + reminderWeatherConfig.getForecastTtl().toMillis();
+            for (String bucket : missing) {
+                forecasts.put(bucket, new Forecast(precipitation.getOrDefault(bucket, Map.of()), expiresAt));
+            }
+        }
+        return precipitation;
+    }
+
+    private Map<String, Map<LocalDate, Double>> fetchAll(List<String> buckets) {
+        Map<String, Map<LocalDate, Double>> precipitation = new HashMap<>();
+        List<Callable<Map<LocalDate, Double>>> lookups = new ArrayList<>();
+        for (String bucket : buckets) {
+            lookups.add(() -> dailyPrecipitation(fetch(bucket)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(reminderWeatherConfig.getMaxConcurrentLookups(), buckets.size())),
+                Thread.ofVirtual().name("reminder-weather-", 0).factory());
+        try {
+            // Lookups still running at the timeout are cancelled and count as failed
+            List<Future<Map<LocalDate, Double>>> results = executor.invokeAll(
+                    lookups, reminderWeatherConfig.getLookupTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            for (int i = 0; i < buckets.size(); i++) {
+                try {
+                    precipitation.put(buckets.get(i), results.get(i).get());
+                    fetched.increment();
+                } catch (ExecutionException | RuntimeException e) {
+                    failed.increment();
+                    log.warn(
+                            "Failed to fetch the forecast for {}: {}",
+                            buckets.get(i),
+                            e.getCause() != null ? e.getCause().getMessage() : e.toString());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment(buckets.size() - precipitation.size());
+        } finally {
+            // Do not wait for cancelled lookups blocked on the network
+            executor.shutdownNow();
+        }
+        return precipitation;
+    }
+
+    private WeatherDTO fetch(String bucket) {
+        Matcher coordinates = COORDINATES.matcher(bucket);
+        if (coordinates.matches()) {
+            return weatherService.getWeatherForecastByCoordinates(
+                    Double.parseDouble(coordinates.group(1)), Double.parseDouble(coordinates.group(2)), FORECAST_DAYS);
+        }
+        return weatherService.getWeatherForecast(bucket, FORECAST_DAYS);
+    }
+
+    private static double round(double degrees) {
+        return Math.round(degrees * 10) / 10.0;
+    }
+
+    private record Forecast(Map<LocalDate, Double> precipitation, long expiresAt) {}
+}
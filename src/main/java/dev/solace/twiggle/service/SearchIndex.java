@@ -0,0 +1,193 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.dto.SearchResultDTO.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over documents of several entity types.
+ * Text is split into lower-cased words; each word maps to the documents containing it and
+ * the weight of the fields it appeared in. Words are kept sorted, so a query word also
+ * matches the indexed words it is a prefix of, at a lower score than an exact match.
+ * Callers must synchronize access.
+ */
+public final class SearchIndex {
+
+    static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final NavigableMap<String, Map<Key, Float>> postings = new TreeMap<>();
+    private final Map<Key, Document> documents = new HashMap<>();
+    private final Map<UUID, Set<Key>> keysByGardenPlan = new HashMap<>();
+
+    /**
+     * Add a document, replacing any previous version of it.
+     */
+    void put(Document document) {
+        remove(document.key());
+        documents.put(document.key(), document);
+        document.terms().forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                .put(document.key(), weight));
+        if (document.gardenPlanId() != null && document.key().type() != Type.GARDEN_PLAN) {
+            keysByGardenPlan
+                    .computeIfAbsent(document.gardenPlanId(), id -> new HashSet<>())
+                    .add(document.key());
+        }
+    }
+
+    /**
+     * Remove a document.
+     *
+     * @return the removed document, or null if it was not indexed
+     */
+    Document remove(Key key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return null;
+        }
+        for (String term : document.terms().keySet()) {
+            Map<Key, Float> posting = postings.get(term);
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        if (document.gardenPlanId() != null) {
+            Set<Key> siblings = keysByGardenPlan.get(document.gardenPlanId());
+            if (siblings != null) {
+                siblings.remove(key);
+                if (siblings.isEmpty()) {
+                    keysByGardenPlan.remove(document.gardenPlanId());
+                }
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Remove the plants and images that belong to a garden plan.
+     *
+     * @return the number of removed documents
+     */
+    int removeByGardenPlan(UUID gardenPlanId) {
+        Set<Key> keys = keysByGardenPlan.get(gardenPlanId);
+        if (keys == null) {
+            return 0;
+        }
+        List<Key> removed = List.copyOf(keys);
+        removed.forEach(this::remove);
+        return removed.size();
+    }
+
+    Document get(Key key) {
+        return documents.get(key);
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * Find the documents that match every word of a query. Each query word contributes the
+     * weight of its best matching indexed word.
+     *
+     * @param query the query text
+     * @return the score of each matching document, empty if the query has no words
+     */
+    Map<Key, Double> match(String query) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) {
+            return Map.of();
+        }
+        List<Map<Key, Double>> perWord = new ArrayList<>(words.size());
+        for (String word : new LinkedHashSet<>(words)) {
+            Map<Key, Double> scores = matchWord(word);
+            if (scores.isEmpty()) {
+                return Map.of();
+            }
+            perWord.add(scores);
+        }
+        // Intersect starting from the most selective word
+        perWord.sort(Comparator.comparingInt(Map::size));
+        Map<Key, Double> result = new HashMap<>(perWord.get(0));
+        for (int i = 1; i < perWord.size() && !result.isEmpty(); i++) {
+            Map<Key, Double> scores = perWord.get(i);
+            result.entrySet().removeIf(entry -> !scores.containsKey(entry.getKey()));
+            result.replaceAll((key, score) -> score + scores.get(key));
+        }
+        return result;
+    }
+
+    private Map<Key, Double> matchWord(String word) {
+        Map<Key, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Map<Key, Float>> entry :
+                postings.subMap(word, true, word + Character.MAX_VALUE, false).entrySet()) {
+            double factor = entry.getKey().equals(word) ? 1.0 : PREFIX_MATCH_FACTOR;
+            entry.getValue().forEach((key, weight) -> scores.merge(key, weight * factor, Math::max));
+        }
+        return scores;
+    }
+
+    /**
+     * Split text into lower-cased words.
+     *
+     * @param text the text, may be null
+     * @return the words, empty for null or blank text
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Identity of an indexed document.
+     */
+    public record Key(Type type, UUID id) {}
+
+    /**
+     * An indexed entity: what is shown for a hit and the weighted words it is found by.
+     * Plants and images carry the garden plan that decides who may see them.
+     */
+    public record Document(
+            Key key, String title, String snippet, String imageUrl, UUID gardenPlanId, Map<String, Float> terms) {}
+
+    /**
+     * Collects the words of an entity's fields. A word found in several fields gets the sum
+     * of their weights; repeating it within one field does not add more.
+     */
+    static final class Terms {
+
+        private final Map<String, Float> weights = new HashMap<>();
+
+        Terms add(String text, float weight) {
+            for (String word : new LinkedHashSet<>(tokenize(text))) {
+                weights.merge(word, weight, Float::sum);
+            }
+            return this;
+        }
+
+        Map<String, Float> build() {
+            return Map.copyOf(weights);
+        }
+    }
+}
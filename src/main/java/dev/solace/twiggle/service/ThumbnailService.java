@@ -0,0 +1,198 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.config.AsyncConfig;
+import dev.solace.twiggle.config.GardenImageStorageConfig;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.service.ImageStorageService.StoredFile;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Generates the thumbnails of uploaded garden images on a small dedicated pool, so galleries can
+ * show images at the size they are displayed instead of downloading full-resolution photos.
+ */
+@Service
+@Slf4j
+public class ThumbnailService {
+
+    private static final String THUMBNAIL_FORMAT = "jpeg";
+
+    private final ImageStorageService imageStorageService;
+    private final GardenImageRepository gardenImageRepository;
+    private final GardenImageStorageConfig gardenImageStorageConfig;
+    private final Executor thumbnailExecutor;
+
+    public ThumbnailService(
+            ImageStorageService imageStorageService,
+            GardenImageRepository gardenImageRepository,
+            GardenImageStorageConfig gardenImageStorageConfig,
+            @Qualifier(AsyncConfig.THUMBNAIL_EXECUTOR) Executor thumbnailExecutor) {
+        this.imageStorageService = imageStorageService;
+        this.gardenImageRepository = gardenImageRepository;
+        this.gardenImageStorageConfig = gardenImageStorageConfig;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    /**
+     * Generate the thumbnails of an uploaded image in the background once the current
+     * transaction commits.
+     *
+     * @param imageId the garden image ID
+     */
+    public void generateAfterCommit(UUID imageId) {
+        TransactionUtils.afterCommit(() -> thumbnailExecutor.execute(() -> generate(imageId)));
+    }
+
+    /**
+     * Generate the thumbnails of an uploaded image at every configured width and record them on
+     * the image. Images are never scaled up, so thumbnails wider than the original have its size.
+     * If the image was deleted meanwhile, its files are deleted again.
+     *
+     * @param imageId the garden image ID
+     * @return true if the thumbnails were generated and recorded
+     */
+    public boolean generate(UUID imageId) {
+        Optional<StoredFile> original = imageStorageService.findOriginal(imageId);
+        List<Integer> widths = gardenImageStorageConfig.getThumbnailWidths().stream()
+                .filter(width -> width > 0)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (original.isEmpty() || widths.isEmpty()) {
+            log.warn("Skipping thumbnails of image {}: no stored original or thumbnail widths", imageId);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            BufferedImage current = read(original.get().path(), widths.getFirst());
+            // Largest first, so every thumbnail is resized from the next larger one
+            for (int width : widths) {
+                current = resize(current, width);
+                write(current, imageStorageService.thumbnailPath(imageId, width));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate thumbnails of image {}: {}", imageId, e.getMessage());
+            return false;
+        }
+
+        String recorded = widths.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        if (gardenImageRepository.updateThumbnailWidths(imageId, recorded) == 0) {
+            imageStorageService.delete(imageId);
+            return false;
+        }
+        log.debug("Generated thumbnails of image {} in {} ms", imageId, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Scale an image down to a width, keeping its aspect ratio, as an opaque RGB image.
+     * Large reductions halve the image in steps first, since a single bilinear step from far
+     * above the target width would skip most source pixels.
+     *
+     * @param image the image
+     * @param width the target width in pixels
+     * @return the scaled image, or an RGB copy of the same size if it is not wider than the target
+     */
+    static BufferedImage resize(BufferedImage image, int width) {
+        if (image.getWidth() <= width) {
+            return image.getType() == BufferedImage.TYPE_INT_RGB
+                    ? image
+                    : draw(image, image.getWidth(), image.getHeight());
+        }
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage current = image;
+        do {
+            int stepWidth = Math.max(width, current.getWidth() / 2);
+            int stepHeight = stepWidth == width ? height : Math.max(height, current.getHeight() / 2);
+            current = draw(current, stepWidth, stepHeight);
+        } while (current.getWidth() > width);
+        return current;
+    }
+
+    /**
+     * Decode an image, skipping pixels of images much wider than the largest thumbnail so
+     * a large photo never occupies its full size in memory.
+     */
+    private static BufferedImage read(Path path, int maxWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + path);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                // Keep at least twice the largest width, so the halving steps still smooth out the result
+                int step = Math.max(1, reader.getWidth(0) / (2 * maxWidth));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Write a thumbnail to a temporary file first, so it is never served half-written.
+     */
+    private void write(BufferedImage image, Path path) throws IOException {
+        Path temporary =
+                Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        ImageWriter writer =
+                ImageIO.getImageWritersByFormatName(THUMBNAIL_FORMAT).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(gardenImageStorageConfig.getThumbnailQuality());
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha channel, so transparent areas become white
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
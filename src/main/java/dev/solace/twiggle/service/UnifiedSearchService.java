@@ -0,0 +1,335 @@
+package dev.solace.twiggle.service;
+
+import dev.solace.twiggle.dto.SearchResultDTO;
+import dev.solace.twiggle.dto.SearchResultDTO.Type;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.model.GardenPlan;
+import dev.solace.twiggle.model.Plant;
+import dev.solace.twiggle.model.Profile;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.repository.ProfileRepository;
+import dev.solace.twiggle.service.SearchIndex.Document;
+import dev.solace.twiggle.service.SearchIndex.Key;
+import dev.solace.twiggle.service.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * One search over garden plans, plants, garden images and profiles.
+ * All four are held in a single {@link SearchIndex}, built from the database on first use
+ * and then kept current by the services that write them, once their transactions commit.
+ * Plants and images are visible to whoever may see their garden plan: its owner, or
+ * everyone if the plan is public. Profiles are visible to everyone.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnifiedSearchService {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TAG_WEIGHT = 2f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .reversed()
+            .thenComparing(hit -> normalize(hit.document().title()))
+            .thenComparing(hit -> hit.document().key().id());
+
+    private final GardenPlanRepository gardenPlanRepository;
+    private final PlantRepository plantRepository;
+    private final GardenImageRepository gardenImageRepository;
+    private final ProfileRepository profileRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SearchIndex index = new SearchIndex();
+    private final Map<UUID, PlanAccess> planAccess = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * Search all entity types at once.
+     *
+     * @param query the search text; every word must match a whole word or the start of one
+     * @param viewerId the user searching, null for anonymous users who only see public plans
+     * @param types the entity types to include, all types if empty
+     * @param limit the maximum number of results
+     * @return the visible matches, best first
+     */
+    public List<SearchResultDTO> search(String query, UUID viewerId, Set<Type> types, int limit) {
+        ensureLoaded();
+        // Keep only the best hits seen so far; the worst of them sits at the head of the queue
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            index.match(query).forEach((key, score) -> {
+                if (!types.isEmpty() && !types.contains(key.type())) {
+                    return;
+                }
+                Document document = index.get(key);
+                if (!isVisible(document, viewerId)) {
+                    return;
+                }
+                best.add(new Hit(document, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return hits.stream().map(UnifiedSearchService::toResult).toList();
+    }
+
+    /**
+     * Parse a comma-separated list of entity type names; null or blank selects every type.
+     *
+     * @param types the type names
+     * @return the selected types, empty for all types
+     * @throws IllegalArgumentException if a name is not a type
+     */
+    public static Set<Type> parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(types.split(","))
+                .filter(name -> !name.isBlank())
+                .map(Type::from)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Index a garden plan once the current transaction commits.
+     *
+     * @param gardenPlan the saved garden plan
+     */
+    public void indexGardenPlan(GardenPlan gardenPlan) {
+        Document document = toDocument(gardenPlan);
+        PlanAccess access = new PlanAccess(gardenPlan.getUserId(), Boolean.TRUE.equals(gardenPlan.getIsPublic()));
+        TransactionUtils.afterCommit(() -> update(index -> {
+            planAccess.put(gardenPlan.getId(), access);
+            index.put(document);
+        }));
+    }
+
+    /**
+     * Remove a garden plan, and the plants and images in it, once the current transaction commits.
+     *
+     * @param gardenPlanId the garden plan ID
+     */
+    public void removeGardenPlan(UUID gardenPlanId) {
+        TransactionUtils.afterCommit(() -> update(index -> {
+            planAccess.remove(gardenPlanId);
+            index.remove(new Key(Type.GARDEN_PLAN, gardenPlanId));
+            index.removeByGardenPlan(gardenPlanId);
+        }));
+    }
+
+    /**
+     * Index a plant once the current transaction commits.
+     *
+     * @param plant the saved plant
+     */
+    public void indexPlant(Plant plant) {
+        Document document = toDocument(plant);
+        TransactionUtils.afterCommit(() -> update(index -> index.put(document)));
+    }
+
+    /**
+     * Remove a plant once the current transaction commits.
+     *
+     * @param plantId the plant ID
+     */
+    public void removePlant(UUID plantId) {
+        remove(new Key(Type.PLANT, plantId));
+    }
+
+    /**
+     * Index a garden image once the current transaction commits.
+     *
+     * @param gardenImage the saved garden image
+     */
+    public void indexGardenImage(GardenImage gardenImage) {
+        Document document = toDocument(gardenImage);
+        TransactionUtils.afterCommit(() -> update(index -> index.put(document)));
+    }
+
+    /**
+     * Remove a garden image once the current transaction commits.
+     *
+     * @param gardenImageId the garden image ID
+     */
+    public void removeGardenImage(UUID gardenImageId) {
+        remove(new Key(Type.GARDEN_IMAGE, gardenImageId));
+    }
+
+    /**
+     * Index a profile once the current transaction commits.
+     *
+     * @param profile the saved profile
+     */
+    public void indexProfile(Profile profile) {
+        Document document = toDocument(profile);
+        TransactionUtils.afterCommit(() -> update(index -> index.put(document)));
+    }
+
+    /**
+     * Remove a profile once the current transaction commits.
+     *
+     * @param profileId the profile ID
+     */
+    public void removeProfile(UUID profileId) {
+        remove(new Key(Type.PROFILE, profileId));
+    }
+
+    private void remove(Key key) {
+        TransactionUtils.afterCommit(() -> update(index -> index.remove(key)));
+    }
+
+    /**
+     * Apply a change to a loaded index. Before the first load there is nothing to change:
+     * the load reads the committed state, which already includes it.
+     */
+    private void update(Consumer<SearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                change.accept(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() {
+        List<GardenPlan> gardenPlans = gardenPlanRepository.findAll();
+        for (GardenPlan gardenPlan : gardenPlans) {
+            planAccess.put(
+                    gardenPlan.getId(),
+                    new PlanAccess(gardenPlan.getUserId(), Boolean.TRUE.equals(gardenPlan.getIsPublic())));
+            index.put(toDocument(gardenPlan));
+        }
+        plantRepository.findAll().forEach(plant -> index.put(toDocument(plant)));
+        gardenImageRepository.findAll().forEach(image -> index.put(toDocument(image)));
+        profileRepository.findAll().forEach(profile -> index.put(toDocument(profile)));
+        log.info("Built unified search index: {} documents, {} garden plans", index.size(), gardenPlans.size());
+    }
+
+    private boolean isVisible(Document document, UUID viewerId) {
+        if (document.key().type() == Type.PROFILE) {
+            return true;
+        }
+        PlanAccess access = document.gardenPlanId() == null ? null : planAccess.get(document.gardenPlanId());
+        return access != null && (access.isPublic() || (viewerId != null && viewerId.equals(access.ownerId())));
+    }
+
+    private static Document toDocument(GardenPlan gardenPlan) {
+        return new Document(
+                new Key(Type.GARDEN_PLAN, gardenPlan.getId()),
+                gardenPlan.getName(),
+                gardenPlan.getDescription(),
+                gardenPlan.getThumbnailUrl(),
+                gardenPlan.getId(),
+                new SearchIndex.Terms()
+                        .add(gardenPlan.getName(), TITLE_WEIGHT)
+                        .add(gardenPlan.getType(), TAG_WEIGHT)
+                        .add(gardenPlan.getLocation(), TAG_WEIGHT)
+                        .add(gardenPlan.getDescription(), TEXT_WEIGHT)
+                        .build());
+    }
+
+    private static Document toDocument(Plant plant) {
+        return new Document(
+                new Key(Type.PLANT, plant.getId()),
+                plant.getName(),
+                plant.getDescription(),
+                plant.getImageUrl(),
+                plant.getGardenPlanId(),
+                new SearchIndex.Terms()
+                        .add(plant.getName(), TITLE_WEIGHT)
+                        .add(plant.getType(), TAG_WEIGHT)
+                        .add(plant.getDescription(), TEXT_WEIGHT)
+                        .build());
+    }
+
+    private static Document toDocument(GardenImage gardenImage) {
+        return new Document(
+                new Key(Type.GARDEN_IMAGE, gardenImage.getId()),
+                gardenImage.getTitle(),
+                null,
+                gardenImage.getImageUrl(),
+                gardenImage.getGardenPlanId(),
+                new SearchIndex.Terms()
+                        .add(gardenImage.getTitle(), TITLE_WEIGHT)
+                        .build());
+    }
+
+    private static Document toDocument(Profile profile) {
+        return new Document(
+                new Key(Type.PROFILE, profile.getId()),
+                profile.getFullName(),
+                null,
+                profile.getAvatarUrl(),
+                null,
+                new SearchIndex.Terms().add(profile.getFullName(), TITLE_WEIGHT).build());
+    }
+
+    private static SearchResultDTO toResult(Hit hit) {
+        Document document = hit.document();
+        return SearchResultDTO.builder()
+                .type(document.key().type())
+                .id(document.key().id())
+                .title(document.title())
+                .snippet(document.snippet())
+                .imageUrl(document.imageUrl())
+                .gardenPlanId(document.key().type() == Type.PROFILE ? null : document.gardenPlanId())
+                .score(hit.score())
+                .build();
+    }
+
+    private static String normalize(String title) {
+        return Objects.requireNonNullElse(title, "").toLowerCase(Locale.ROOT);
+    }
+
+    private record PlanAccess(UUID ownerId, boolean isPublic) {}
+
+    private record Hit(Document document, double score) {}
+}
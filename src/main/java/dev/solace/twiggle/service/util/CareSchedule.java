@@ -0,0 +1,156 @@
+package dev.solace.twiggle.service.util;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Care intervals of a plants library entry, parsed from its free-text and numeric fields.
+ * Watering frequencies such as "Moderate", "Daily", "Twice a week" or "Every 3 days" become a
+ * number of days between waterings, and planting seasons such as "Spring/Fall" become the months
+ * in which the plant is best sown. Fields that cannot be understood are left empty, so no
+ * reminder is made up for them.
+ *
+ * @param wateringIntervalDays the days between two waterings, or null if unknown
+ * @param plantingMonths the months of the planting season as a bit mask from January (bit 0), or
+ *     0 for any month
+ * @param germinationDays the days from sowing to germination, or null if unknown
+ * @param harvestDays the days from sowing to harvest, or null if unknown
+ */
+public record CareSchedule(
+        Integer wateringIntervalDays, int plantingMonths, Integer germinationDays, Integer harvestDays) {
+
+    public static final int ALL_MONTHS = 0xFFF;
+    // Longest germination or harvest time kept, about five years
+    public static final int MAX_DAYS = ReminderRecurrence.MAX_INTERVAL_DAYS * 5;
+
+    private static final Map<String, Integer> WATERING_DAYS = Map.ofEntries(
+            Map.entry("high", 2),
+            Map.entry("frequent", 2),
+            Map.entry("moderate", 3),
+            Map.entry("medium", 3),
+            Map.entry("average", 3),
+            Map.entry("regular", 3),
+            Map.entry("low", 7),
+            Map.entry("minimal", 14),
+            Map.entry("daily", 1),
+            Map.entry("every day", 1),
+            Map.entry("every other day", 2),
+            Map.entry("twice a week", 4),
+            Map.entry("weekly", 7),
+            Map.entry("once a week", 7),
+            Map.entry("every week", 7),
+            Map.entry("fortnightly", 14),
+            Map.entry("every two weeks", 14),
+            Map.entry("monthly", 30),
+            Map.entry("once a month", 30));
+    private static final Pattern EVERY_DAYS = Pattern.compile("every (\\d{1,3}) days?");
+    private static final Pattern TIMES_A_WEEK = Pattern.compile("(\\d) times (?:a|per) week");
+    private static final Pattern SEASON_SEPARATOR = Pattern.compile("\\s*(?:/|,|&|\\band\\b|\\bor\\b)\\s*");
+
+    /**
+     * Parse the care intervals of a plants library entry.
+     *
+     * @param wateringFrequency the watering frequency, such as "Moderate" or "Every 3 days"
+     * @param bestPlantingSeason the planting season, such as "Spring" or "Spring/Fall"
+     * @param germinationTime the days from sowing to germination, 0 or null if unknown
+     * @param timeToHarvest the days from sowing to harvest, 0 or null if unknown
+     * @return the care intervals
+     */
+    public static CareSchedule parse(
+            String wateringFrequency, String bestPlantingSeason, Double germinationTime, Double timeToHarvest) {
+        return new CareSchedule(
+                wateringDays(wateringFrequency),
+                plantingMonths(bestPlantingSeason),
+                days(germinationTime),
+                days(timeToHarvest));
+    }
+
+    /**
+     * Get the day a plant added on a date is sown: that date if it falls in the planting
+     * season, otherwise the first day of the next planting season.
+     *
+     * @param today the date the plant is added
+     * @return the sowing date
+     */
+    public LocalDate sowingDate(LocalDate today) {
+        if (plantingMonths == 0 || plantingMonths == ALL_MONTHS) {
+            return today;
+        }
+        LocalDate month = today.withDayOfMonth(1);
+        for (int i = 0; i < 12; i++) {
+            if ((plantingMonths & bit(month.getMonthValue())) != 0) {
+                return i == 0 ? today : month;
+            }
+            month = month.plusMonths(1);
+        }
+        return today;
+    }
+
+    private static Integer wateringDays(String wateringFrequency) {
+        if (wateringFrequency == null || wateringFrequency.isBlank()) {
+            return null;
+        }
+        String frequency = normalize(wateringFrequency);
+        Integer days = WATERING_DAYS.get(frequency);
+        if (days != null) {
+            return days;
+        }
+        Matcher every = EVERY_DAYS.matcher(frequency);
+        if (every.matches()) {
+            int interval = Integer.parseInt(every.group(1));
+            return interval >= 1 && interval <= ReminderRecurrence.MAX_INTERVAL_DAYS ? interval : null;
+        }
+        Matcher timesAWeek = TIMES_A_WEEK.matcher(frequency);
+        if (timesAWeek.matches()) {
+            int times = Integer.parseInt(timesAWeek.group(1));
+            return times >= 1 ? Math.max(1, Math.round(7f / times)) : null;
+        }
+        return null;
+    }
+
+    private static int plantingMonths(String bestPlantingSeason) {
+        if (bestPlantingSeason == null || bestPlantingSeason.isBlank()) {
+            return 0;
+        }
+        int months = 0;
+        for (String season : SEASON_SEPARATOR.split(normalize(bestPlantingSeason))) {
+            months |= switch (season) {
+                case "spring" -> months(3, 5);
+                case "summer" -> months(6, 8);
+                case "fall", "autumn" -> months(9, 11);
+                case "winter" -> months(12, 2);
+                case "rainy", "monsoon", "rainy season" -> months(6, 9);
+                case "year-round", "all year", "any" -> ALL_MONTHS;
+                default -> 0;};
+        }
+        return months;
+    }
+
+    private static Integer days(Double value) {
+        if (value == null || value.isNaN() || value < 1) {
+            return null;
+        }
+        return (int) Math.min(Math.round(value), MAX_DAYS);
+    }
+
+    private static int months(int first, int last) {
+        int mask = 0;
+        for (int month = first; ; month = month % 12 + 1) {
+            mask |= bit(month);
+            if (month == last) {
+                return mask;
+            }
+        }
+    }
+
+    private static int bit(int month) {
+        return 1 << (month - 1);
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,198 @@
+package dev.solace.twiggle.service.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Email template compiled once into literal segments and placeholders, so rendering only
+ * appends the literals and the escaped values to a reused per-thread buffer.
+ * {@code {{name}}} inserts a value, and {@code {{#name}}...{{/name}}} renders the enclosed part
+ * only when the value is not blank, or once per item when the value is a list of maps; inside
+ * the section, names are looked up in the item first. Values are escaped for the template's
+ * output, so user input cannot inject markup into an HTML body or extra lines into a subject.
+ */
+public final class EmailTemplate {
+
+    /**
+     * How inserted values are escaped.
+     */
+    public enum Escaping {
+        HTML, // Markup characters become entities
+        TEXT, // Values are inserted as they are
+        HEADER // Line breaks become spaces, for single-line headers such as the subject
+    }
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    // Buffers that grew beyond this are not kept for the next render
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final Segment[] segments;
+    private final Escaping escaping;
+
+    private EmailTemplate(Segment[] segments, Escaping escaping) {
+        this.segments = segments;
+        this.escaping = escaping;
+    }
+
+    /**
+     * Compile a template.
+     *
+     * @param source the template source
+     * @param escaping how inserted values are escaped
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is malformed or a section is not closed
+     */
+    public static EmailTemplate compile(String source, Escaping escaping) {
+        Deque<String> open = new ArrayDeque<>();
+        Deque<List<Segment>> bodies = new ArrayDeque<>();
+        bodies.push(new ArrayList<>());
+        int position = 0;
+        while (position < source.length()) {
+            int start = source.indexOf(OPEN, position);
+            if (start < 0) {
+                bodies.peek().add(new Literal(source.substring(position)));
+                break;
+            }
+            if (start > position) {
+                bodies.peek().add(new Literal(source.substring(position, start)));
+            }
+            int end = source.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + start);
+            }
+            String tag = source.substring(start + OPEN.length(), end).trim();
+            if (tag.startsWith("#")) {
+                open.push(name(tag.substring(1)));
+                bodies.push(new ArrayList<>());
+            } else if (tag.startsWith("/")) {
+                String name = name(tag.substring(1));
+                if (open.isEmpty() || !open.peek().equals(name)) {
+                    throw new IllegalArgumentException("Unexpected end of section " + name + " at offset " + start);
+                }
+                Segment[] body = bodies.pop().toArray(Segment[]::new);
+                bodies.peek().add(new Section(open.pop(), body));
+            } else {
+                bodies.peek().add(new Value(name(tag)));
+            }
+            position = end + CLOSE.length();
+        }
+        if (!open.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed section " + open.peek());
+        }
+        return new EmailTemplate(bodies.pop().toArray(Segment[]::new), escaping);
+    }
+
+    /**
+     * Render the template.
+     *
+     * @param values the value of each placeholder, or null for none; a section may also be given
+     *     a list of maps
+     * @return the rendered text
+     * @throws IllegalArgumentException if a list item is not a map
+     */
+    public String render(Function<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        render(segments, values, buffer);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    private void render(Segment[] body, Function<String, ?> values, StringBuilder out) {
+        for (Segment segment : body) {
+            switch (segment) {
+                case Literal literal -> out.append(literal.text());
+                case Value value -> append(out, values.apply(value.name()));
+                case Section section -> {
+                    Object value = values.apply(section.name());
+                    if (value instanceof Collection<?> items) {
+                        for (Object item : items) {
+                            render(section.body(), scope(item, values), out);
+                        }
+                    } else if (value != null && !value.toString().isBlank()) {
+                        render(section.body(), values, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Function<String, ?> scope(Object item, Function<String, ?> outer) {
+        if (!(item instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("List items must be maps, got " + item);
+        }
+        return name -> map.containsKey(name) ? map.get(name) : outer.apply(name);
+    }
+
+    private void append(StringBuilder out, Object rendered) {
+        if (rendered == null) {
+            return;
+        }
+        String value = rendered.toString();
+        switch (escaping) {
+            case TEXT -> out.append(value);
+            case HTML -> escapeHtml(out, value);
+            case HEADER -> {
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    out.append(c == '\r' || c == '\n' ? ' ' : c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a value with the characters that are significant in HTML text and attribute
+     * values replaced by entities.
+     *
+     * @param out the buffer
+     * @param value the value
+     */
+    static void escapeHtml(StringBuilder out, String value) {
+        int copied = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity =
+                    switch (value.charAt(i)) {
+                        case '&' -> "&amp;";
+                        case '<' -> "&lt;";
+                        case '>' -> "&gt;";
+                        case '"' -> "&quot;";
+                        case '\'' -> "&#39;";
+                        default -> null;
+                    };
+            if (entity != null) {
+                out.append(value, copied, i).append(entity);
+                copied = i + 1;
+            }
+        }
+        out.append(value, copied, value.length());
+    }
+
+    private static String name(String name) {
+        String trimmed = name.trim();
+        if (!NAME.matcher(trimmed).matches()) {
+            throw new IllegalArgumentException("Invalid placeholder name: " + trimmed);
+        }
+        return trimmed;
+    }
+
+    private sealed interface Segment permits Literal, Value, Section {}
+
+    private record Literal(String text) implements Segment {}
+
+    private record Value(String name) implements Segment {}
+
+    private record Section(String name, Segment[] body) implements Segment {}
+}
@@ -0,0 +1,174 @@
+package dev.solace.twiggle.service.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Recurrence rule of a reminder series. Occurrences fall on or after the start date and on or
+ * before the optional end date, every {@code intervalDays} days counted from the start date
+ * and/or on the given days of the week, and only in the optional seasonal window of months.
+ * Occurrences are computed on demand, so a series never needs to be materialized.
+ *
+ * @param start the first possible occurrence
+ * @param end the last possible occurrence, or null for none
+ * @param intervalDays the days between two occurrences, or null for every matching day
+ * @param weekdays the days of the week as a bit mask from Monday (bit 0), or 0 for any day
+ * @param seasonStartMonth the first month of the seasonal window, or null for all year
+ * @param seasonEndMonth the last month of the seasonal window, or null for all year
+ */
+public record ReminderRecurrence(
+        LocalDate start,
+        LocalDate end,
+        Integer intervalDays,
+        int weekdays,
+        Integer seasonStartMonth,
+        Integer seasonEndMonth) {
+
+    public static final int ALL_WEEKDAYS = 0x7F;
+    public static final int MAX_INTERVAL_DAYS = 366;
+
+    // Upper bound on the candidate dates tried for one occurrence, far above what any valid
+    // rule needs
+    private static final int MAX_STEPS = 1000;
+
+    /**
+     * Create a rule, checking that it is valid.
+     *
+     * @throws IllegalArgumentException if the rule is invalid or can never occur
+     */
+    public ReminderRecurrence {
+        if (start == null) {
+            throw new IllegalArgumentException("Start date is required");
+        }
+        if (end != null && end.isBefore(start)) {
+            throw new IllegalArgumentException("End date must not be before the start date");
+        }
+        if (intervalDays == null && weekdays == 0) {
+            throw new IllegalArgumentException("Either an interval or weekdays are required");
+        }
+        if (intervalDays != null && (intervalDays < 1 || intervalDays > MAX_INTERVAL_DAYS)) {
+            throw new IllegalArgumentException("Interval must be between 1 and " + MAX_INTERVAL_DAYS + " days");
+        }
+        if ((weekdays & ~ALL_WEEKDAYS) != 0) {
+            throw new IllegalArgumentException("Invalid weekdays: " + weekdays);
+        }
+        if ((seasonStartMonth == null) != (seasonEndMonth == null)) {
+            throw new IllegalArgumentException("A seasonal window needs both a start and an end month");
+        }
+        if (seasonStartMonth != null
+                && (seasonStartMonth < 1 || seasonStartMonth > 12 || seasonEndMonth < 1 || seasonEndMonth > 12)) {
+            throw new IllegalArgumentException("Season months must be between 1 and 12");
+        }
+    }
+
+    /**
+     * Convert days of the week to a bit mask.
+     *
+     * @param days the days, or null for none
+     * @return the bit mask, 0 for none
+     */
+    public static int toWeekdays(Collection<DayOfWeek> days) {
+        int mask = 0;
+        if (days != null) {
+            for (DayOfWeek day : days) {
+                mask |= bit(day);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Convert a bit mask to days of the week.
+     *
+     * @param weekdays the bit mask, or null for none
+     * @return the days
+     */
+    public static Set<DayOfWeek> fromWeekdays(Integer weekdays) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (weekdays != null) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if ((weekdays & bit(day)) != 0) {
+                    days.add(day);
+                }
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Check whether a date is an occurrence.
+     *
+     * @param date the date
+     * @return true if the rule occurs on the date
+     */
+    public boolean occursOn(LocalDate date) {
+        return date.equals(next(date));
+    }
+
+    /**
+     * Get the first occurrence on or after a date.
+     *
+     * @param from the date
+     * @return the occurrence, or null if the rule does not occur anymore
+     */
+    public LocalDate next(LocalDate from) {
+        LocalDate date = from.isBefore(start) ? start : from;
+        for (int step = 0; step < MAX_STEPS; step++) {
+            if (end != null && date.isAfter(end)) {
+                return null;
+            }
+            if (!inSeason(date)) {
+                date = nextSeasonStart(date);
+                continue;
+            }
+            if (intervalDays != null) {
+                int offset = (int) Math.floorMod(ChronoUnit.DAYS.between(start, date), (long) intervalDays);
+                if (offset != 0) {
+                    date = date.plusDays(intervalDays - offset);
+                    continue;
+                }
+            }
+            if (weekdays != 0 && (weekdays & bit(date.getDayOfWeek())) == 0) {
+                date = date.plusDays(intervalDays != null ? intervalDays : 1);
+                continue;
+            }
+            return date;
+        }
+        return null;
+    }
+
+    /**
+     * Get the occurrences in a date range, computed lazily.
+     *
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return the occurrences in order
+     */
+    public Stream<LocalDate> occurrences(LocalDate from, LocalDate to) {
+        return Stream.iterate(next(from), date -> date != null && !date.isAfter(to), date -> next(date.plusDays(1)));
+    }
+
+    private boolean inSeason(LocalDate date) {
+        if (seasonStartMonth == null) {
+            return true;
+        }
+        int month = date.getMonthValue();
+        return seasonStartMonth <= seasonEndMonth
+                ? month >= seasonStartMonth && month <= seasonEndMonth
+                : month >= seasonStartMonth || month <= seasonEndMonth;
+    }
+
+    private LocalDate nextSeasonStart(LocalDate date) {
+        LocalDate seasonStart = LocalDate.of(date.getYear(), seasonStartMonth, 1);
+        return seasonStart.isAfter(date) ? seasonStart : seasonStart.plusYears(1);
+    }
+
+    private static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+}
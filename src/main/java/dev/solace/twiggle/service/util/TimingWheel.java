@@ -0,0 +1,202 @@
+package dev.solace.twiggle.service.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding one timer per key. Each level is a ring of slots, and a slot
+ * of level {@code n} covers {@code slots^n} ticks, so a few small levels span months of ticks.
+ * Scheduling and cancelling a timer are O(1): a timer is linked into the slot of its level, and
+ * found again through a map by key. Timers move down one level when their slot comes round
+ * ({@code cascading}) and expire from level 0 at their exact tick, never before their deadline.
+ * Not thread-safe.
+ *
+ * @param <K> the timer key
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int levels;
+    private final long mask;
+    // Ticks covered by all levels; later deadlines wait in the last slot of the top level
+    private final long range;
+    private final Node<K>[][] slots;
+    private final Map<K, Node<K>> timers = new HashMap<>();
+    // Last tick whose timers expired
+    private long currentTick;
+
+    /**
+     * Create an empty wheel.
+     *
+     * @param tickMillis the length of a tick in milliseconds
+     * @param bits the slots per level as a power of two, such as 6 for 64 slots
+     * @param levels the number of levels
+     * @param startMillis the current time in milliseconds
+     * @throws IllegalArgumentException if the tick, slots or levels are out of range
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int bits, int levels, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms");
+        }
+        if (bits < 1 || levels < 1 || bits * levels > 62) {
+            throw new IllegalArgumentException("Invalid wheel size: " + levels + " levels of 2^" + bits + " slots");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.levels = levels;
+        this.mask = (1L << bits) - 1;
+        this.range = 1L << (bits * levels);
+        this.slots = (Node<K>[][]) new Node<?>[levels][1 << bits];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedule a timer, replacing the timer of the same key. A deadline that has passed expires
+     * on the next advance.
+     *
+     * @param key the key
+     * @param deadlineMillis the deadline in milliseconds
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Node<K> node = new Node<>(key, Math.ceilDiv(deadlineMillis, tickMillis));
+        timers.put(key, node);
+        insert(node, currentTick + 1);
+    }
+
+    /**
+     * Cancel a timer.
+     *
+     * @param key the key
+     * @return true if the timer was scheduled
+     */
+    public boolean cancel(K key) {
+        Node<K> node = timers.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Check whether a timer is scheduled.
+     *
+     * @param key the key
+     * @return true if the timer is scheduled and has not expired
+     */
+    public boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    /**
+     * Get the number of scheduled timers.
+     *
+     * @return the number of timers
+     */
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * Expire every timer whose deadline is at or before a time, tick by tick.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param expired receives the key of each expired timer; it must not schedule or cancel timers
+     * @return the number of expired timers
+     */
+    public int advance(long nowMillis, Consumer<K> expired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        int count = 0;
+        while (currentTick < target) {
+            if (timers.isEmpty()) {
+                currentTick = target;
+                break;
+            }
+            currentTick++;
+            cascade();
+            Node<K> node = detach(0, (int) (currentTick & mask));
+            while (node != null) {
+                Node<K> next = node.next;
+                timers.remove(node.key);
+                expired.accept(node.key);
+                count++;
+                node = next;
+            }
+        }
+        return count;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            // A slot of this level comes round only when every lower level wrapped
+            if ((currentTick & ((1L << (level * bits)) - 1)) != 0) {
+                return;
+            }
+            Node<K> node = detach(level, (int) ((currentTick >>> (level * bits)) & mask));
+            while (node != null) {
+                Node<K> next = node.next;
+                insert(node, currentTick);
+                node = next;
+            }
+        }
+    }
+
+    private void insert(Node<K> node, long earliestTick) {
+        long expires = Math.max(node.deadlineTick, earliestTick);
+        long delta = expires - currentTick;
+        if (delta >= range) {
+            expires = currentTick + range - 1;
+            delta = range - 1;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << ((level + 1) * bits)) {
+            level++;
+        }
+        int index = (int) ((expires >>> (level * bits)) & mask);
+        node.level = level;
+        node.index = index;
+        node.prev = null;
+        node.next = slots[level][index];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        slots[level][index] = node;
+    }
+
+    private void unlink(Node<K> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.level][node.index] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private Node<K> detach(int level, int index) {
+        Node<K> head = slots[level][index];
+        slots[level][index] = null;
+        return head;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final long deadlineTick;
+        private int level;
+        private int index;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
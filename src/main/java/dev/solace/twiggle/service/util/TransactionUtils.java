@@ -0,0 +1,53 @@
+package dev.solace.twiggle.service.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for running side effects relative to the surrounding transaction.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Run an action once the current transaction commits, or immediately when no
+     * transaction is active. Used to invalidate in-memory state only after the database
+     * change it reflects is visible to other readers.
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run an action if the current transaction rolls back. Does nothing when no
+     * transaction is active, since there is then nothing to roll back.
+     *
+     * @param action the action to run
+     */
+    public static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -32,4 +32,9 @@ public final class ResponseUtil {
         ApiResponse<T> response = buildResponse(message, data, HttpStatus.CREATED);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    public static <T> ResponseEntity<ApiResponse<T>> accepted(String message, T data) {
+        ApiResponse<T> response = buildResponse(message, data, HttpStatus.ACCEPTED);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
 }
@@ -9,9 +9,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.TestSecurityConfig;
 import dev.solace.twiggle.dto.ActivityDTO;
+import dev.solace.twiggle.dto.ActivityDailyCountDTO;
+import dev.solace.twiggle.dto.ActivityStreakDTO;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.ActivityRollupService;
 import dev.solace.twiggle.service.ActivityService;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +46,12 @@ class ActivityControllerTest {
         public ActivityService activityService() {
             return Mockito.mock(ActivityService.class);
         }
+
+        @Bean
+        @Primary
+        public ActivityRollupService activityRollupService() {
+            return Mockito.mock(ActivityRollupService.class);
+        }
     }
 
     @Autowired
@@ -50,6 +60,9 @@ class ActivityControllerTest {
     @Autowired
     private ActivityService activityService;
 
+    @Autowired
+    private ActivityRollupService activityRollupService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -122,7 +135,7 @@ class ActivityControllerTest {
     void testGetActivitiesByUserId() throws Exception {
         UUID userId = UUID.randomUUID();
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByUserId(eq(userId), any(Pageable.class)))
+        Mockito.when(activityService.findByUserId(eq(userId), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request =
@@ -138,7 +151,7 @@ class ActivityControllerTest {
     void testGetActivitiesByGardenPlanId() throws Exception {
         UUID gardenPlanId = UUID.randomUUID();
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(Pageable.class)))
+        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request = get("/api/activities/garden-plan/{gardenPlanId}", gardenPlanId)
@@ -156,7 +169,8 @@ class ActivityControllerTest {
         UUID userId = UUID.randomUUID();
         String activityType = ACTIVITY_TYPE;
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByUserIdAndActivityType(eq(userId), eq(activityType), any(Pageable.class)))
+        Mockito.when(activityService.findByUserIdAndActivityType(
+                        eq(userId), eq(activityType), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request = get(
@@ -184,6 +198,94 @@ class ActivityControllerTest {
                 .andExpect(jsonPath("$.message").value("Activity created successfully"));
     }
 
+    @Test
+    void testRecordActivityAsync() throws Exception {
+        Mockito.when(activityService.record(any())).thenReturn(true);
+
+        mockMvc.perform(post("/api/activities/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("Activity accepted for recording"));
+    }
+
+    @Test
+    void testRecordActivityAsyncWhenWriterIsSaturated() throws Exception {
+        Mockito.when(activityService.record(any())).thenReturn(false);
+
+        mockMvc.perform(post("/api/activities/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    void testGetActivitiesByUserIdSinceGivenTime() throws Exception {
+        UUID userId = UUID.randomUUID();
+        OffsetDateTime since = OffsetDateTime.parse("2023-01-01T00:00:00Z");
+        Mockito.when(activityService.findByUserId(eq(userId), eq(since), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(dto)));
+
+        mockMvc.perform(get("/api/activities/user/{userId}", userId).param("since", "2023-01-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].activityType").value(ACTIVITY_TYPE));
+    }
+
+    @Test
+    void testGetUserDailyCounts() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2025, 4, 15);
+        Mockito.when(activityRollupService.getUserDailyCounts(userId, null, ACTIVITY_TYPE, day, day))
+                .thenReturn(List.of(new ActivityDailyCountDTO(day, ACTIVITY_TYPE, 3L)));
+
+        mockMvc.perform(get("/api/activities/user/{userId}/daily", userId)
+                        .param("activityType", ACTIVITY_TYPE)
+                        .param("from", "2025-04-15")
+                        .param("to", "2025-04-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].day").value("2025-04-15"))
+                .andExpect(jsonPath("$.data[0].count").value(3));
+    }
+
+    @Test
+    void testGetUserDailyCountsWithInvalidRange() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Mockito.when(activityRollupService.getUserDailyCounts(eq(userId), any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("The first day must not be after the last day"));
+
+        mockMvc.perform(get("/api/activities/user/{userId}/daily", userId)
+                        .param("from", "2025-04-16")
+                        .param("to", "2025-04-15"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_PARAMETER_TYPE"));
+    }
+
+    @Test
+    void testGetGardenPlanDailyCounts() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(2025, 4, 15);
+        Mockito.when(activityRollupService.getGardenPlanDailyCounts(gardenPlanId, null, null, null))
+                .thenReturn(List.of(new ActivityDailyCountDTO(day, ACTIVITY_TYPE, 5L)));
+
+        mockMvc.perform(get("/api/activities/garden-plan/{gardenPlanId}/daily", gardenPlanId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].activityType").value(ACTIVITY_TYPE))
+                .andExpect(jsonPath("$.data[0].count").value(5));
+    }
+
+    @Test
+    void testGetUserStreak() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Mockito.when(activityRollupService.getStreak(userId, ACTIVITY_TYPE))
+                .thenReturn(new ActivityStreakDTO(ACTIVITY_TYPE, 4, 9, LocalDate.of(2025, 4, 15)));
+
+        mockMvc.perform(get("/api/activities/user/{userId}/streak", userId).param("activityType", ACTIVITY_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.currentStreak").value(4))
+                .andExpect(jsonPath("$.data.longestStreak").value(9));
+    }
+
     @Test
     void testUpdateActivity_found() throws Exception {
         UUID id = UUID.randomUUID();
@@ -252,7 +354,7 @@ class ActivityControllerTest {
     void testGetActivitiesByUserIdWithCustomSorting() throws Exception {
         UUID userId = UUID.randomUUID();
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByUserId(eq(userId), any(Pageable.class)))
+        Mockito.when(activityService.findByUserId(eq(userId), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request = get("/api/activities/user/{userId}", userId)
@@ -270,7 +372,7 @@ class ActivityControllerTest {
     void testGetActivitiesByGardenPlanIdWithCustomSorting() throws Exception {
         UUID gardenPlanId = UUID.randomUUID();
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(Pageable.class)))
+        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request = get("/api/activities/garden-plan/{gardenPlanId}", gardenPlanId)
@@ -289,7 +391,8 @@ class ActivityControllerTest {
         UUID userId = UUID.randomUUID();
         String activityType = ACTIVITY_TYPE;
         Page<ActivityDTO> page = new PageImpl<>(List.of(dto));
-        Mockito.when(activityService.findByUserIdAndActivityType(eq(userId), eq(activityType), any(Pageable.class)))
+        Mockito.when(activityService.findByUserIdAndActivityType(
+                        eq(userId), eq(activityType), any(), any(Pageable.class)))
                 .thenReturn(page);
 
         MockHttpServletRequestBuilder request = get(
@@ -365,7 +468,7 @@ class ActivityControllerTest {
     @Test
     void testGetActivitiesByUserIdWithServiceError() throws Exception {
         UUID userId = UUID.randomUUID();
-        Mockito.when(activityService.findByUserId(eq(userId), any(Pageable.class)))
+        Mockito.when(activityService.findByUserId(eq(userId), any(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Service error"));
 
         MockHttpServletRequestBuilder request =
@@ -377,7 +480,7 @@ class ActivityControllerTest {
     @Test
     void testGetActivitiesByGardenPlanIdWithServiceError() throws Exception {
         UUID gardenPlanId = UUID.randomUUID();
-        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(Pageable.class)))
+        Mockito.when(activityService.findByGardenPlanId(eq(gardenPlanId), any(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Service error"));
 
         MockHttpServletRequestBuilder request = get("/api/activities/garden-plan/{gardenPlanId}", gardenPlanId)
@@ -391,7 +494,8 @@ class ActivityControllerTest {
     void testGetActivitiesByUserIdAndTypeWithServiceError() throws Exception {
         UUID userId = UUID.randomUUID();
         String activityType = ACTIVITY_TYPE;
-        Mockito.when(activityService.findByUserIdAndActivityType(eq(userId), eq(activityType), any(Pageable.class)))
+        Mockito.when(activityService.findByUserIdAndActivityType(
+                        eq(userId), eq(activityType), any(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("Service error"));
 
         MockHttpServletRequestBuilder request = get(
@@ -10,9 +10,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.RateLimiterConfiguration;
 import dev.solace.twiggle.config.TestSecurityConfig;
 import dev.solace.twiggle.dto.AddPlantDTO;
+import dev.solace.twiggle.dto.BatchAddPlantDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.service.AddPlantService;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +27,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -140,4 +145,66 @@ class AddPlantControllerTest {
                 .andExpect(jsonPath("$.message").value("Failed to add plant"))
                 .andExpect(jsonPath("$.code").value("INTERNAL_ERROR"));
     }
+
+    @Test
+    @DisplayName("addPlant should return conflict when the garden plan is full")
+    void addPlant_ShouldReturnConflict_WhenGardenPlanIsFull() throws Exception {
+        when(addPlantService.addFromLibrary(any(AddPlantDTO.class)))
+                .thenThrow(new CustomException("Garden plan is full", HttpStatus.CONFLICT, ErrorCode.GARDEN_PLAN_FULL));
+
+        mockMvc.perform(post("/api/plants/from-library")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(addPlantDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("GARDEN_PLAN_FULL"));
+    }
+
+    @Test
+    @DisplayName("addPlants should add a batch of plants from library")
+    void addPlants_ShouldAddBatchFromLibrary() throws Exception {
+        BatchAddPlantDTO batch = BatchAddPlantDTO.builder()
+                .gardenPlanId(gardenPlanId)
+                .plantsLibraryIds(List.of(plantsLibraryId, plantsLibraryId))
+                .build();
+        when(addPlantService.addFromLibraryBatch(any(BatchAddPlantDTO.class))).thenReturn(List.of(plantDTO, plantDTO));
+
+        mockMvc.perform(post("/api/plants/from-library/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Plants added successfully"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].name").value("Basil"));
+    }
+
+    @Test
+    @DisplayName("addPlants should return bad request when the batch is empty")
+    void addPlants_ShouldReturnBadRequest_WhenBatchIsEmpty() throws Exception {
+        BatchAddPlantDTO batch = BatchAddPlantDTO.builder()
+                .gardenPlanId(gardenPlanId)
+                .plantsLibraryIds(List.of())
+                .build();
+
+        mockMvc.perform(post("/api/plants/from-library/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("addPlants should return internal server error when service throws exception")
+    void addPlants_ShouldReturnInternalServerError_WhenServiceThrowsException() throws Exception {
+        BatchAddPlantDTO batch = BatchAddPlantDTO.builder()
+                .gardenPlanId(gardenPlanId)
+                .plantsLibraryIds(List.of(plantsLibraryId))
+                .build();
+        when(addPlantService.addFromLibraryBatch(any(BatchAddPlantDTO.class)))
+                .thenThrow(new RuntimeException("Service error"));
+
+        mockMvc.perform(post("/api/plants/from-library/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("Failed to add plants"));
+    }
 }
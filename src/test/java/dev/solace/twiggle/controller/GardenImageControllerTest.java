@@ -7,13 +7,20 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.solace.twiggle.config.GardenImageStorageConfig;
 import dev.solace.twiggle.config.TestSecurityConfig;
 import dev.solace.twiggle.dto.GardenImageDTO;
+import dev.solace.twiggle.dto.ImageEngagementDTO;
 import dev.solace.twiggle.service.GardenImageService;
+import dev.solace.twiggle.service.ImageStorageService;
+import dev.solace.twiggle.service.ImageStorageService.StoredFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -23,6 +30,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(GardenImageController.class)
@@ -36,6 +44,17 @@ class GardenImageControllerTest {
         public GardenImageService gardenImageService() {
             return Mockito.mock(GardenImageService.class);
         }
+
+        @Bean
+        @Primary
+        public ImageStorageService imageStorageService() {
+            return Mockito.mock(ImageStorageService.class);
+        }
+
+        @Bean
+        public GardenImageStorageConfig gardenImageStorageConfig() {
+            return new GardenImageStorageConfig();
+        }
     }
 
     @Autowired
@@ -44,15 +63,21 @@ class GardenImageControllerTest {
     @Autowired
     private GardenImageService gardenImageService;
 
+    @Autowired
+    private ImageStorageService imageStorageService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @TempDir
+    private Path tempDir;
+
     private GardenImageDTO dto;
 
     @BeforeEach
     void setUp() {
         // make sure no stubbing from a previous test survives
-        reset(gardenImageService);
+        reset(gardenImageService, imageStorageService);
 
         UUID gardenPlanId = UUID.randomUUID();
         dto = GardenImageDTO.builder()
@@ -278,4 +303,84 @@ class GardenImageControllerTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void testGetImageEngagement() throws Exception {
+        UUID imageId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Mockito.when(gardenImageService.getEngagement(List.of(imageId, otherId), userId))
+                .thenReturn(List.of(
+                        new ImageEngagementDTO(imageId, 4L, 2L, true), new ImageEngagementDTO(otherId, 0L, 0L, false)));
+
+        mockMvc.perform(get("/api/garden-images/engagement")
+                        .param("imageIds", imageId + "," + otherId)
+                        .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].imageId").value(imageId.toString()))
+                .andExpect(jsonPath("$.data[0].likeCount").value(4))
+                .andExpect(jsonPath("$.data[0].commentCount").value(2))
+                .andExpect(jsonPath("$.data[0].likedByUser").value(true))
+                .andExpect(jsonPath("$.data[1].likedByUser").value(false));
+    }
+
+    @Test
+    void testGetImageEngagementRejectsTooManyImages() throws Exception {
+        String imageIds =
+                String.join(",", Collections.nCopies(101, UUID.randomUUID().toString()));
+
+        mockMvc.perform(get("/api/garden-images/engagement").param("imageIds", imageIds))
+                .andExpect(status().isBadRequest());
+        Mockito.verify(gardenImageService, Mockito.never()).getEngagement(any(), any());
+    }
+
+    @Test
+    void testUploadGardenImage() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", new byte[] {1, 2, 3});
+        dto.setImageUrl("/api/garden-images/" + UUID.randomUUID() + "/original");
+        Mockito.when(gardenImageService.upload(any(), Mockito.eq(gardenPlanId), Mockito.eq("Roses")))
+                .thenReturn(dto);
+
+        mockMvc.perform(multipart("/api/garden-images/upload")
+                        .file(file)
+                        .param("gardenPlanId", gardenPlanId.toString())
+                        .param("title", "Roses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imageUrl").value(dto.getImageUrl()))
+                .andExpect(jsonPath("$.data.thumbnailUrls").doesNotExist());
+    }
+
+    @Test
+    void testUploadGardenImageRejectsEmptyFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", new byte[0]);
+
+        mockMvc.perform(multipart("/api/garden-images/upload").file(file)).andExpect(status().isBadRequest());
+        Mockito.verify(gardenImageService, Mockito.never()).upload(any(), any(), any());
+    }
+
+    @Test
+    void testGetThumbnailServesFileWithLongLivedCacheHeaders() throws Exception {
+        UUID id = UUID.randomUUID();
+        Path thumbnail = tempDir.resolve("w160.jpg");
+        byte[] content = {10, 20, 30, 40};
+        Files.write(thumbnail, content);
+        Mockito.when(imageStorageService.findThumbnail(id, 160))
+                .thenReturn(Optional.of(new StoredFile(thumbnail, "image/jpeg", content.length)));
+
+        mockMvc.perform(get("/api/garden-images/" + id + "/thumbnails/160"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().longValue("Content-Length", content.length))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    void testGetOriginalImageNotFound() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(imageStorageService.findOriginal(id)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/garden-images/" + id + "/original")).andExpect(status().isNotFound());
+    }
 }
@@ -8,7 +8,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.GardenImageOverviewDTO;
 import dev.solace.twiggle.dto.GardenPlanDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedItemDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO;
+import dev.solace.twiggle.service.GardenPlanOverviewService;
+import dev.solace.twiggle.service.GardenPlanPopularityService;
 import dev.solace.twiggle.service.GardenPlanService;
 import java.time.OffsetDateTime;
 import java.util.*;
@@ -38,6 +44,18 @@ class GardenPlanControllerTest {
         public GardenPlanService gardenPlanService() {
             return Mockito.mock(GardenPlanService.class);
         }
+
+        @Bean
+        @Primary
+        public GardenPlanOverviewService gardenPlanOverviewService() {
+            return Mockito.mock(GardenPlanOverviewService.class);
+        }
+
+        @Bean
+        @Primary
+        public GardenPlanPopularityService gardenPlanPopularityService() {
+            return Mockito.mock(GardenPlanPopularityService.class);
+        }
     }
 
     @Autowired
@@ -49,12 +67,18 @@ class GardenPlanControllerTest {
     @Autowired
     private GardenPlanService gardenPlanService;
 
+    @Autowired
+    private GardenPlanOverviewService gardenPlanOverviewService;
+
+    @Autowired
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
     private GardenPlanDTO dto;
 
     @BeforeEach
     void setUp() {
         // clear any stubbing from previous tests
-        reset(gardenPlanService);
+        reset(gardenPlanService, gardenPlanOverviewService, gardenPlanPopularityService);
 
         dto = GardenPlanDTO.builder()
                 .userId(UUID.randomUUID())
@@ -99,6 +123,44 @@ class GardenPlanControllerTest {
                 .andExpect(jsonPath("$.data.name").value("Urban Garden"));
     }
 
+    @Test
+    void testGetGardenPlanOverview_selectedSections() throws Exception {
+        UUID id = UUID.randomUUID();
+        GardenPlanOverviewDTO overview = GardenPlanOverviewDTO.builder()
+                .id(id)
+                .gardenPlan(dto)
+                .images(List.of(GardenImageOverviewDTO.builder()
+                        .id(UUID.randomUUID())
+                        .likeCount(3L)
+                        .commentCount(1L)
+                        .build()))
+                .build();
+        Mockito.when(gardenPlanOverviewService.getOverview(
+                        id, Set.of(GardenPlanOverviewDTO.Section.IMAGES, GardenPlanOverviewDTO.Section.COUNTS)))
+                .thenReturn(Optional.of(overview));
+
+        mockMvc.perform(get("/api/garden-plans/{id}/overview", id).param("include", "images, counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.gardenPlan.name").value("Urban Garden"))
+                .andExpect(jsonPath("$.data.images[0].likeCount").value(3))
+                .andExpect(jsonPath("$.data.plants").doesNotExist());
+    }
+
+    @Test
+    void testGetGardenPlanOverview_notFound() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(gardenPlanOverviewService.getOverview(any(), any())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/garden-plans/{id}/overview", id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetGardenPlanOverview_invalidSection() throws Exception {
+        mockMvc.perform(get("/api/garden-plans/{id}/overview", UUID.randomUUID())
+                        .param("include", "plants,weather"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetGardenPlanById_notFound() throws Exception {
         UUID id = UUID.randomUUID();
@@ -221,6 +283,55 @@ class GardenPlanControllerTest {
                 .andExpect(jsonPath("$.data[0].type").value("Balcony"));
     }
 
+    @Test
+    void testGetTrendingGardenPlans() throws Exception {
+        GardenPlanFeedDTO feed = GardenPlanFeedDTO.builder()
+                .items(List.of(GardenPlanFeedItemDTO.builder()
+                        .gardenPlan(dto)
+                        .popularity(4.5)
+                        .build()))
+                .nextCursor("next")
+                .build();
+        Mockito.when(gardenPlanPopularityService.getFeed("abc", 5)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/garden-plans/public/trending")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].gardenPlan.name").value("Urban Garden"))
+                .andExpect(jsonPath("$.data.items[0].popularity").value(4.5))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetTrendingGardenPlans_lastPageOmitsCursor() throws Exception {
+        Mockito.when(gardenPlanPopularityService.getFeed(null, 20))
+                .thenReturn(GardenPlanFeedDTO.builder().items(List.of()).build());
+
+        mockMvc.perform(get("/api/garden-plans/public/trending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isEmpty())
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetTrendingGardenPlans_invalidCursor() throws Exception {
+        Mockito.when(gardenPlanPopularityService.getFeed("bogus", 20))
+                .thenThrow(new IllegalArgumentException("Malformed cursor"));
+
+        mockMvc.perform(get("/api/garden-plans/public/trending").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid cursor")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "101"})
+    void testGetTrendingGardenPlans_invalidSize(String size) throws Exception {
+        mockMvc.perform(get("/api/garden-plans/public/trending").param("size", size))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(gardenPlanPopularityService);
+    }
+
     /* ---------- Validation & error-path tests ---------- */
 
     @Test
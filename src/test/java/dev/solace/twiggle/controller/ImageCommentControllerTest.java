@@ -6,7 +6,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.CommentAuthorDTO;
 import dev.solace.twiggle.dto.ImageCommentDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedItemDTO;
 import dev.solace.twiggle.service.ImageCommentService;
 import java.time.OffsetDateTime;
 import java.util.*;
@@ -336,4 +339,56 @@ class ImageCommentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.content[0].comment").value("Great image!"));
     }
+
+    @Test
+    void testGetCommentFeed() throws Exception {
+        UUID imageId = dto.getImageId();
+        ImageCommentFeedItemDTO item = ImageCommentFeedItemDTO.builder()
+                .id(UUID.randomUUID())
+                .imageId(imageId)
+                .comment("Great image!")
+                .createdAt(OffsetDateTime.now())
+                .author(new CommentAuthorDTO(dto.getUserId(), "Ada", "https://example.com/ada.png"))
+                .build();
+        Mockito.when(imageCommentService.getFeed(imageId, "abc", 5))
+                .thenReturn(new ImageCommentFeedDTO(List.of(item), "next"));
+
+        mockMvc.perform(get("/api/image-comments/image/" + imageId + "/feed")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].comment").value("Great image!"))
+                .andExpect(jsonPath("$.data.items[0].author.fullName").value("Ada"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetCommentFeed_lastPageOmitsCursor() throws Exception {
+        UUID imageId = dto.getImageId();
+        Mockito.when(imageCommentService.getFeed(imageId, null, 20))
+                .thenReturn(new ImageCommentFeedDTO(List.of(), null));
+
+        mockMvc.perform(get("/api/image-comments/image/" + imageId + "/feed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isEmpty())
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetCommentFeed_invalidSize() throws Exception {
+        mockMvc.perform(get("/api/image-comments/image/" + dto.getImageId() + "/feed")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(imageCommentService);
+    }
+
+    @Test
+    void testGetCommentFeed_invalidCursor() throws Exception {
+        UUID imageId = dto.getImageId();
+        Mockito.when(imageCommentService.getFeed(imageId, "broken", 20))
+                .thenThrow(new IllegalArgumentException("Malformed cursor: broken"));
+
+        mockMvc.perform(get("/api/image-comments/image/" + imageId + "/feed").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
 }
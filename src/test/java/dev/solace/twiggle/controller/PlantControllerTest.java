@@ -6,7 +6,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.LayoutPatchDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantPositionDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.service.PlantService;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -23,6 +27,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -130,6 +135,88 @@ class PlantControllerTest {
                 .andExpect(jsonPath("$.message").value("Plant not found"));
     }
 
+    @Test
+    void testPatchLayout() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        List<PlantPositionDTO> moves = List.of(new PlantPositionDTO(UUID.randomUUID(), 2, 3));
+        Mockito.when(service.applyLayoutPatch(eq(gardenPlanId), any())).thenReturn(moves);
+
+        mockMvc.perform(patch("/api/plants/garden-plan/" + gardenPlanId + "/layout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LayoutPatchDTO(moves))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].positionX").value(2))
+                .andExpect(jsonPath("$.data[0].positionY").value(3));
+    }
+
+    @Test
+    void testPatchLayoutRejectsMoveWithoutPosition() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        PlantPositionDTO move =
+                PlantPositionDTO.builder().id(UUID.randomUUID()).positionX(1).build();
+
+        mockMvc.perform(patch("/api/plants/garden-plan/" + gardenPlanId + "/layout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LayoutPatchDTO(List.of(move)))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPatchLayoutCollision() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        List<PlantPositionDTO> moves = List.of(new PlantPositionDTO(UUID.randomUUID(), 0, 0));
+        Mockito.when(service.applyLayoutPatch(eq(gardenPlanId), any()))
+                .thenThrow(new CustomException("Occupied", HttpStatus.CONFLICT, ErrorCode.POSITION_OCCUPIED));
+
+        mockMvc.perform(patch("/api/plants/garden-plan/" + gardenPlanId + "/layout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LayoutPatchDTO(moves))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("POSITION_OCCUPIED"));
+    }
+
+    @Test
+    void testGetPlantsInRegion() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        UUID plantId = UUID.randomUUID();
+        Mockito.when(service.findPlantsInRegion(gardenPlanId, 0, 0, 4, 4))
+                .thenReturn(List.of(new PlantPositionDTO(plantId, 1, 2)));
+
+        mockMvc.perform(get("/api/plants/garden-plan/" + gardenPlanId + "/layout/region")
+                        .param("minX", "0")
+                        .param("minY", "0")
+                        .param("maxX", "4")
+                        .param("maxY", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(plantId.toString()));
+    }
+
+    @Test
+    void testGetNearestFreePosition() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        Mockito.when(service.findNearestFreePosition(gardenPlanId, 3, 3))
+                .thenReturn(Optional.of(
+                        PlantPositionDTO.builder().positionX(3).positionY(4).build()));
+
+        mockMvc.perform(get("/api/plants/garden-plan/" + gardenPlanId + "/layout/nearest-free")
+                        .param("x", "3")
+                        .param("y", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.positionY").value(4));
+    }
+
+    @Test
+    void testGetNearestFreePositionWhenFull() throws Exception {
+        UUID gardenPlanId = UUID.randomUUID();
+        Mockito.when(service.findNearestFreePosition(gardenPlanId, 0, 0)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/plants/garden-plan/" + gardenPlanId + "/layout/nearest-free")
+                        .param("x", "0")
+                        .param("y", "0"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("GARDEN_PLAN_FULL"));
+    }
+
     @Test
     void testDeletePlant() throws Exception {
         UUID id = UUID.randomUUID();
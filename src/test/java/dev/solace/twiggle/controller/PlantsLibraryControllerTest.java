@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.PestDTO;
+import dev.solace.twiggle.dto.PlantHealthDTO;
 import dev.solace.twiggle.dto.PlantsLibraryDTO;
 import dev.solace.twiggle.service.PlantsLibraryService;
 import java.util.List;
@@ -592,4 +594,34 @@ class PlantsLibraryControllerTest {
                                 && Boolean.TRUE.equals(criteria.getMedicinal())),
                         any(Pageable.class));
     }
+
+    /* ---------- POST /api/plants-library/pests-diseases/batch ---------- */
+
+    @Test
+    void getPestsAndDiseasesBatch_returnsHealthPerPlant() throws Exception {
+        UUID id = UUID.randomUUID();
+        PlantHealthDTO health = PlantHealthDTO.builder()
+                .plantLibraryId(id)
+                .pests(List.of(PestDTO.builder().commonName("Aphid").build()))
+                .diseases(List.of())
+                .build();
+        given(service.findPestsAndDiseases(List.of(id))).willReturn(List.of(health));
+
+        mockMvc.perform(post("/api/plants-library/pests-diseases/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(id))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].plantLibraryId").value(id.toString()))
+                .andExpect(jsonPath("$.data[0].pests[0].commonName").value("Aphid"));
+    }
+
+    @Test
+    void getPestsAndDiseasesBatch_withEmptyList_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/plants-library/pests-diseases/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findPestsAndDiseases(any());
+    }
 }
@@ -10,12 +10,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.solace.twiggle.config.RateLimiterConfiguration;
 import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.EmailOutboxDTO;
 import dev.solace.twiggle.dto.ReminderEmailRequest;
 import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.service.EmailOutboxService;
 import dev.solace.twiggle.service.ReminderService;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +50,9 @@ class ReminderControllerTest {
     @Autowired
     private ReminderService reminderService;
 
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
     @TestConfiguration
     static class ReminderTestConfig {
         @Bean
@@ -53,10 +60,16 @@ class ReminderControllerTest {
         public ReminderService reminderService() {
             return org.mockito.Mockito.mock(ReminderService.class);
         }
+
+        @Bean
+        @Primary
+        public EmailOutboxService emailOutboxService() {
+            return org.mockito.Mockito.mock(EmailOutboxService.class);
+        }
     }
 
     @Test
-    void sendReminderEmail_WithValidRequest_ShouldReturnSuccess() throws Exception {
+    void sendReminderEmail_WithValidRequest_ShouldQueueEmailAndReturnAccepted() throws Exception {
         // Arrange
         ReminderEmailRequest request = ReminderEmailRequest.builder()
                 .plantName("Tomato")
@@ -68,22 +81,24 @@ class ReminderControllerTest {
                 .gardenSpaceId(UUID.randomUUID().toString())
                 .build();
 
-        Map<String, Object> mockServiceResult = new HashMap<>();
-        mockServiceResult.put("success", true);
-        mockServiceResult.put("id", "some-mock-id");
-
-        when(reminderService.sendReminderEmailWithId(any(ReminderEmailRequest.class)))
-                .thenReturn(mockServiceResult);
+        UUID trackingId = UUID.randomUUID();
+        when(emailOutboxService.enqueueReminder(any(ReminderEmailRequest.class)))
+                .thenReturn(EmailOutboxDTO.builder()
+                        .id(trackingId)
+                        .status("PENDING")
+                        .attempts(0)
+                        .createdAt(OffsetDateTime.now())
+                        .build());
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/reminders/send")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value(200))
-                .andExpect(jsonPath("$.message").value("Reminder email sent successfully"))
-                .andExpect(jsonPath("$.data.success").value(true))
-                .andExpect(jsonPath("$.data.id").value("some-mock-id"));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(202))
+                .andExpect(jsonPath("$.message").value("Reminder email queued"))
+                .andExpect(jsonPath("$.data.id").value(trackingId.toString()))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
     }
 
     @Test
@@ -102,29 +117,31 @@ class ReminderControllerTest {
     }
 
     @Test
-    void sendReminderEmail_WhenServiceFails_ShouldReturnInternalServerError() throws Exception {
+    void getEmailStatus_WhenEmailExists_ShouldReturnDeliveryState() throws Exception {
         // Arrange
-        ReminderEmailRequest request = ReminderEmailRequest.builder()
-                .userEmail("user@example.com")
-                .plantName("Tomato")
-                .reminderType("Watering")
-                .reminderDate("2024-07-20")
-                .reminderTime("09:00")
-                .gardenSpaceName("Backyard Patch")
-                .gardenSpaceId(UUID.randomUUID().toString())
-                .build();
+        UUID trackingId = UUID.randomUUID();
+        when(emailOutboxService.findById(trackingId))
+                .thenReturn(Optional.of(EmailOutboxDTO.builder()
+                        .id(trackingId)
+                        .status("SENT")
+                        .attempts(2)
+                        .build()));
 
-        Map<String, Object> failureResult = new HashMap<>();
-        failureResult.put("success", false);
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/reminders/emails/{id}", trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("SENT"))
+                .andExpect(jsonPath("$.data.attempts").value(2));
+    }
 
-        when(reminderService.sendReminderEmailWithId(any(ReminderEmailRequest.class)))
-                .thenReturn(failureResult);
+    @Test
+    void getEmailStatus_WhenEmailDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        UUID trackingId = UUID.randomUUID();
+        when(emailOutboxService.findById(trackingId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        mockMvc.perform(post("/api/v1/reminders/send")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isInternalServerError());
+        mockMvc.perform(get("/api/v1/reminders/emails/{id}", trackingId)).andExpect(status().isNotFound());
     }
 
     @Test
@@ -175,7 +192,7 @@ class ReminderControllerTest {
                 .gardenSpaceId(UUID.randomUUID().toString())
                 .build();
 
-        when(reminderService.sendReminderEmailWithId(any(ReminderEmailRequest.class)))
+        when(emailOutboxService.enqueueReminder(any(ReminderEmailRequest.class)))
                 .thenThrow(new CustomException("Custom error", HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST));
 
         // Act & Assert
@@ -198,7 +215,7 @@ class ReminderControllerTest {
                 .gardenSpaceId(UUID.randomUUID().toString())
                 .build();
 
-        when(reminderService.sendReminderEmailWithId(any(ReminderEmailRequest.class)))
+        when(emailOutboxService.enqueueReminder(any(ReminderEmailRequest.class)))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
         // Act & Assert
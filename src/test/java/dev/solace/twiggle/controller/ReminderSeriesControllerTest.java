@@ -0,0 +1,201 @@
+package dev.solace.twiggle.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.ReminderOccurrenceDTO;
+import dev.solace.twiggle.dto.ReminderSeriesDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.model.ReminderSeriesException;
+import dev.solace.twiggle.service.ReminderSeriesService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@WebMvcTest(ReminderSeriesController.class)
+@Import({ReminderSeriesControllerTest.ReminderSeriesTestConfig.class, TestSecurityConfig.class})
+class ReminderSeriesControllerTest {
+
+    @TestConfiguration
+    static class ReminderSeriesTestConfig {
+        @Bean
+        @Primary
+        public ReminderSeriesService reminderSeriesService() {
+            return mock(ReminderSeriesService.class);
+        }
+    }
+
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReminderSeriesService reminderSeriesService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ReminderSeriesDTO seriesDTO;
+    private UUID seriesId;
+
+    @BeforeEach
+    void setUp() {
+        reset(reminderSeriesService);
+
+        seriesId = UUID.randomUUID();
+        seriesDTO = ReminderSeriesDTO.builder()
+                .plantId(UUID.randomUUID())
+                .gardenPlanId(UUID.randomUUID())
+                .reminderType("Watering")
+                .startDate(START)
+                .weekdays(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                .seasonStartMonth(4)
+                .seasonEndMonth(9)
+                .build();
+    }
+
+    @Test
+    void testGetReminderSeriesById() throws Exception {
+        when(reminderSeriesService.findById(seriesId)).thenReturn(Optional.of(seriesDTO));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reminder-series/" + seriesId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Successfully retrieved reminder series"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.weekdays.length()")
+                        .value(2));
+    }
+
+    @Test
+    void testGetReminderSeriesByIdNotFound() throws Exception {
+        when(reminderSeriesService.findById(seriesId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reminder-series/" + seriesId))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Reminder series not found"));
+    }
+
+    @Test
+    void testGetReminderSeriesByGardenPlanId() throws Exception {
+        when(reminderSeriesService.findByGardenPlanId(eq(seriesDTO.getGardenPlanId()), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(seriesDTO)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reminder-series/garden-plan/" + seriesDTO.getGardenPlanId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content.length()")
+                        .value(1));
+    }
+
+    @Test
+    void testCreateReminderSeries() throws Exception {
+        when(reminderSeriesService.create(any(ReminderSeriesDTO.class))).thenReturn(seriesDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reminder-series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seriesDTO)))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Reminder series created successfully"));
+    }
+
+    @Test
+    void testCreateReminderSeriesValidationError() throws Exception {
+        seriesDTO.setIntervalDays(0);
+        seriesDTO.setSeasonEndMonth(13);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/reminder-series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seriesDTO)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        verify(reminderSeriesService, never()).create(any());
+    }
+
+    @Test
+    void testUpdateReminderSeriesNotFound() throws Exception {
+        when(reminderSeriesService.update(eq(seriesId), any(ReminderSeriesDTO.class)))
+                .thenReturn(Optional.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/reminder-series/" + seriesId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(seriesDTO)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    void testGetOccurrences() throws Exception {
+        ReminderOccurrenceDTO occurrence = ReminderOccurrenceDTO.builder()
+                .seriesId(seriesId)
+                .reminderType("Watering")
+                .reminderDate(START)
+                .status("PENDING")
+                .build();
+        when(reminderSeriesService.findOccurrences(seriesId, START, START.plusDays(30)))
+                .thenReturn(Optional.of(List.of(occurrence)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/reminder-series/" + seriesId + "/occurrences")
+                        .param("from", START.toString())
+                        .param("to", START.plusDays(30).toString()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(
+                        MockMvcResultMatchers.jsonPath("$.data[0].reminderDate").value(START.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].status").value("PENDING"));
+    }
+
+    @Test
+    void testCompleteOccurrence() throws Exception {
+        ReminderOccurrenceDTO occurrence = ReminderOccurrenceDTO.builder()
+                .seriesId(seriesId)
+                .reminderDate(START)
+                .status("COMPLETED")
+                .build();
+        when(reminderSeriesService.markOccurrence(seriesId, START, ReminderSeriesException.Kind.COMPLETED))
+                .thenReturn(Optional.of(occurrence));
+
+        mockMvc.perform(MockMvcRequestBuilders.put(
+                        "/api/reminder-series/" + seriesId + "/occurrences/" + START + "/complete"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Occurrence marked as completed"));
+    }
+
+    @Test
+    void testSkipOccurrenceOnDateWithoutOccurrence() throws Exception {
+        when(reminderSeriesService.markOccurrence(seriesId, START, ReminderSeriesException.Kind.SKIPPED))
+                .thenThrow(new CustomException(
+                        "The series has no occurrence on " + START, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REQUEST));
+
+        mockMvc.perform(MockMvcRequestBuilders.put(
+                        "/api/reminder-series/" + seriesId + "/occurrences/" + START + "/skip"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void testDeleteReminderSeries() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/reminder-series/" + seriesId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Reminder series deleted successfully"));
+
+        verify(reminderSeriesService).delete(seriesId);
+    }
+}
@@ -0,0 +1,115 @@
+package dev.solace.twiggle.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import dev.solace.twiggle.config.TestSecurityConfig;
+import dev.solace.twiggle.dto.SearchResultDTO;
+import dev.solace.twiggle.service.UnifiedSearchService;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SearchController.class)
+@Import({SearchControllerTest.SearchTestConfig.class, TestSecurityConfig.class})
+class SearchControllerTest {
+
+    @TestConfiguration
+    static class SearchTestConfig {
+        @Bean
+        @Primary
+        public UnifiedSearchService unifiedSearchService() {
+            return Mockito.mock(UnifiedSearchService.class);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UnifiedSearchService unifiedSearchService;
+
+    @BeforeEach
+    void setUp() {
+        reset(unifiedSearchService);
+    }
+
+    @Test
+    void search_returnsMergedResults() throws Exception {
+        UUID viewerId = UUID.randomUUID();
+        UUID planId = UUID.randomUUID();
+        List<SearchResultDTO> results = List.of(
+                SearchResultDTO.builder()
+                        .type(SearchResultDTO.Type.GARDEN_PLAN)
+                        .id(planId)
+                        .title("Tomato Patch")
+                        .gardenPlanId(planId)
+                        .score(3)
+                        .build(),
+                SearchResultDTO.builder()
+                        .type(SearchResultDTO.Type.PROFILE)
+                        .id(UUID.randomUUID())
+                        .title("Tom Gardener")
+                        .score(1.5)
+                        .build());
+        Mockito.when(unifiedSearchService.search(
+                        "tom", viewerId, Set.of(SearchResultDTO.Type.GARDEN_PLAN, SearchResultDTO.Type.PROFILE), 5))
+                .thenReturn(results);
+
+        mockMvc.perform(get("/api/search")
+                        .param("query", "tom")
+                        .param("viewerId", viewerId.toString())
+                        .param("types", "garden-plan, profile")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value("GARDEN_PLAN"))
+                .andExpect(jsonPath("$.data[0].title").value("Tomato Patch"))
+                .andExpect(jsonPath("$.data[1].type").value("PROFILE"))
+                .andExpect(jsonPath("$.data[1].gardenPlanId").doesNotExist());
+    }
+
+    @Test
+    void search_defaultsToAllTypes() throws Exception {
+        Mockito.when(unifiedSearchService.search("basil", null, Set.of(), 20)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/search").param("query", "basil"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    void search_rejectsBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/search").param("query", " ")).andExpect(status().isBadRequest());
+
+        verify(unifiedSearchService, never()).search(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void search_rejectsUnknownType() throws Exception {
+        mockMvc.perform(get("/api/search").param("query", "basil").param("types", "plant,weather"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void search_rejectsLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/search").param("query", "basil").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/search").param("query", "basil").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+}
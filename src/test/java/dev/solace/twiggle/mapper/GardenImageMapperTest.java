@@ -0,0 +1,60 @@
+package dev.solace.twiggle.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import dev.solace.twiggle.dto.GardenImageDTO;
+import dev.solace.twiggle.model.GardenImage;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+class GardenImageMapperTest {
+
+    private GardenImageMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = Mappers.getMapper(GardenImageMapper.class);
+    }
+
+    @Test
+    void toDto_shouldBuildThumbnailUrlsFromGeneratedWidths() {
+        UUID id = UUID.randomUUID();
+        GardenImage image = new GardenImage(
+                id,
+                UUID.randomUUID(),
+                "/api/garden-images/" + id + "/original",
+                "Roses",
+                OffsetDateTime.now(),
+                "160,480");
+
+        GardenImageDTO dto = mapper.toDto(image);
+
+        assertThat(dto.getThumbnailUrls())
+                .containsExactly(
+                        entry(160, "/api/garden-images/" + id + "/thumbnails/160"),
+                        entry(480, "/api/garden-images/" + id + "/thumbnails/480"));
+    }
+
+    @Test
+    void toDto_shouldHaveNoThumbnailUrlsBeforeThumbnailsAreGenerated() {
+        GardenImage image = new GardenImage(
+                UUID.randomUUID(), null, "https://example.com/roses.jpg", "Roses", OffsetDateTime.now(), null);
+
+        assertThat(mapper.toDto(image).getThumbnailUrls()).isEmpty();
+    }
+
+    @Test
+    void toEntity_shouldNotTakeThumbnailsFromRequest() {
+        GardenImageDTO dto = GardenImageDTO.builder()
+                .imageUrl("https://example.com/roses.jpg")
+                .thumbnailUrls(Map.of(160, "https://example.com/fake.jpg"))
+                .build();
+
+        assertThat(mapper.toEntity(dto).getThumbnailWidths()).isNull();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ActivityDailyCountUpdateRepositoryImplTest {
+
+    @Test
+    void buildUpsertSql_shouldNumberParametersAcrossRowsAndAddToExistingCounts() {
+        String sql = ActivityDailyCountUpdateRepositoryImpl.buildUpsertSql(2);
+
+        assertThat(sql)
+                .startsWith("INSERT INTO activity_daily_counts "
+                        + "(user_id, garden_plan_id, activity_type, activity_day, activity_count, updated_at) VALUES ")
+                .contains("(CAST(?1 AS uuid), CAST(?2 AS uuid), ?3, CAST(?4 AS date), CAST(?5 AS bigint), ?11)")
+                .contains("(CAST(?6 AS uuid), CAST(?7 AS uuid), ?8, CAST(?9 AS date), CAST(?10 AS bigint), ?11)")
+                .endsWith("ON CONFLICT (user_id, garden_plan_id, activity_type, activity_day) DO UPDATE "
+                        + "SET activity_count = activity_daily_counts.activity_count + EXCLUDED.activity_count, "
+                        + "updated_at = EXCLUDED.updated_at");
+    }
+}
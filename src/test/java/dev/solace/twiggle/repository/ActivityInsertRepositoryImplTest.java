@@ -0,0 +1,55 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.model.Activity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ActivityInsertRepositoryImplTest {
+
+    @Test
+    void insertAll_shouldBindMissingGardenPlanAsTypedUuid() {
+        EntityManager entityManager = mock(EntityManager.class);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(1);
+        ActivityInsertRepositoryImpl repository = new ActivityInsertRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+        Activity activity =
+                new Activity(UUID.randomUUID(), UUID.randomUUID(), null, "LOGIN", "Logged in", OffsetDateTime.now());
+
+        assertThat(repository.insertAll(List.of(activity))).isEqualTo(1);
+
+        ArgumentCaptor<Object> gardenPlanId = ArgumentCaptor.forClass(Object.class);
+        verify(query).setParameter(eq(3), gardenPlanId.capture());
+        assertThat(gardenPlanId.getValue()).isInstanceOfSatisfying(TypedParameterValue.class, typed -> {
+            assertThat(typed.getType()).isEqualTo(StandardBasicTypes.UUID);
+            assertThat(typed.getValue()).isNull();
+        });
+    }
+
+    @Test
+    void buildInsertSql_shouldNumberParametersAcrossRows() {
+        String sql = ActivityInsertRepositoryImpl.buildInsertSql(2);
+
+        assertThat(sql)
+                .startsWith(
+                        "INSERT INTO activities (id, user_id, garden_plan_id, activity_type, description, created_at)")
+                .contains("(CAST(?1 AS uuid), CAST(?2 AS uuid), CAST(?3 AS uuid), ?4, ?5, ?6)")
+                .endsWith("(CAST(?7 AS uuid), CAST(?8 AS uuid), CAST(?9 AS uuid), ?10, ?11, ?12)");
+    }
+}
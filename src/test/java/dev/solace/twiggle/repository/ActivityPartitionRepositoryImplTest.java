@@ -0,0 +1,34 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class ActivityPartitionRepositoryImplTest {
+
+    @Test
+    void buildCreateSql_shouldUseUtcMonthBounds() {
+        OffsetDateTime from = OffsetDateTime.of(2025, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        String sql = ActivityPartitionRepositoryImpl.buildCreateSql("activities_p202504", from, from.plusMonths(1));
+
+        assertThat(sql)
+                .isEqualTo("CREATE TABLE IF NOT EXISTS activities_p202504 PARTITION OF activities "
+                        + "FOR VALUES FROM ('2025-04-01 00:00:00+00:00') TO ('2025-05-01 00:00:00+00:00')");
+    }
+
+    @Test
+    void buildCreateSql_shouldRejectNamesOutsideThePartitionPattern() {
+        OffsetDateTime from = OffsetDateTime.now();
+
+        assertThatThrownBy(() -> ActivityPartitionRepositoryImpl.buildCreateSql(
+                        "activities; DROP TABLE profiles", from, from.plusMonths(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() ->
+                        ActivityPartitionRepositoryImpl.buildCreateSql("activities_default", from, from.plusMonths(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
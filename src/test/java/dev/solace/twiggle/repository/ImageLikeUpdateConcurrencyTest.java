@@ -0,0 +1,230 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Hammers the like, unlike and toggle statements of {@link ImageLikeUpdateRepositoryImpl} from
+ * many connections at once, with the unique index from {@code db/image-likes-unique.sql}, and
+ * checks that the reported changes add up to the rows left. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ImageLikeUpdateConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Container
+    private static final GenericContainer<?> POSTGRES = new GenericContainer<>(
+                    DockerImageName.parse("postgres:16-alpine"))
+            .withEnv("POSTGRES_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 2));
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createTable() throws Exception {
+        connection = connect();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE image_likes (id uuid PRIMARY KEY, image_id uuid NOT NULL,"
+                    + " user_id uuid NOT NULL, created_at timestamptz NOT NULL)");
+            for (String sql : scriptStatements()) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void clear() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE image_likes");
+        }
+    }
+
+    @Test
+    void concurrentToggles_reportExactlyTheChangesMade() throws Exception {
+        List<UUID> images = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> users = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Map<UUID, AtomicInteger> reported = new ConcurrentHashMap<>();
+        images.forEach(imageId -> reported.put(imageId, new AtomicInteger()));
+
+        hammer(thread -> () -> {
+            try (Connection own = connect();
+                    Statement statement = own.createStatement()) {
+                for (int i = 0; i < 300; i++) {
+                    UUID imageId = images.get((thread + i) % images.size());
+                    UUID userId = users.get(i % users.size());
+                    // Retried like ImageLikeService.toggleLike when a concurrent toggle inserted first
+                    for (int attempt = 0; attempt < 3; attempt++) {
+                        try (ResultSet result = statement.executeQuery(toggle(imageId, userId))) {
+                            if (result.next()) {
+                                reported.get(imageId).addAndGet(result.getBoolean("liked") ? 1 : -1);
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+
+        for (UUID imageId : images) {
+            assertThat(countLikes(imageId)).isEqualTo(reported.get(imageId).get());
+        }
+        assertThat(duplicateCount()).isZero();
+    }
+
+    @Test
+    void concurrentLikes_insertOnce() throws Exception {
+        UUID imageId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        AtomicInteger inserted = new AtomicInteger();
+
+        hammer(thread -> () -> {
+            try (Connection own = connect();
+                    Statement statement = own.createStatement()) {
+                inserted.addAndGet(statement.executeUpdate(insert(imageId, userId)));
+            }
+            return null;
+        });
+
+        assertThat(inserted.get()).isEqualTo(1);
+        assertThat(countLikes(imageId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentUnlikes_deleteOnce() throws Exception {
+        UUID imageId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(insert(imageId, userId));
+        }
+        AtomicInteger deleted = new AtomicInteger();
+
+        hammer(thread -> () -> {
+            try (Connection own = connect();
+                    Statement statement = own.createStatement();
+                    ResultSet result = statement.executeQuery(delete(imageId, userId))) {
+                while (result.next()) {
+                    deleted.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        assertThat(deleted.get()).isEqualTo(1);
+        assertThat(countLikes(imageId)).isZero();
+    }
+
+    private static void hammer(IntFunction<Callable<Void>> work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<Void> task = work.apply(thread);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int countLikes(UUID imageId) throws SQLException {
+        return queryInt("SELECT COUNT(*) FROM image_likes WHERE image_id = '" + imageId + "'");
+    }
+
+    private static int duplicateCount() throws SQLException {
+        return queryInt("SELECT COUNT(*) FROM (SELECT 1 FROM image_likes"
+                + " GROUP BY image_id, user_id HAVING COUNT(*) > 1) AS duplicates");
+    }
+
+    private static int queryInt(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+
+    private static String insert(UUID imageId, UUID userId) {
+        return inline(ImageLikeUpdateRepositoryImpl.INSERT_SQL, imageId, userId);
+    }
+
+    private static String delete(UUID imageId, UUID userId) {
+        return inline(ImageLikeUpdateRepositoryImpl.DELETE_SQL, imageId, userId);
+    }
+
+    private static String toggle(UUID imageId, UUID userId) {
+        return inline(ImageLikeUpdateRepositoryImpl.TOGGLE_SQL, imageId, userId);
+    }
+
+    private static String inline(String sql, UUID imageId, UUID userId) {
+        return sql.replace(":imageId", "'" + imageId + "'")
+                .replace(":userId", "'" + userId + "'")
+                .replace(":createdAt", "'" + OffsetDateTime.now() + "'")
+                .replace(":id", "'" + UUID.randomUUID() + "'");
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+                "postgres",
+                "test");
+    }
+
+    private static List<String> scriptStatements() throws Exception {
+        String script = Files.readString(Path.of("db", "image-likes-unique.sql"));
+        List<String> statements = new ArrayList<>();
+        for (String statement : script.replaceAll("(?m)^--.*$", "").split(";")) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,145 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Checks the plans of the generated search SQL against a million seeded garden plans and the
+ * indexes from {@code db/search-trigram-indexes.sql}. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TrigramSearchIndexTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Container
+    private static final GenericContainer<?> POSTGRES = new GenericContainer<>(
+                    DockerImageName.parse("postgres:16-alpine"))
+            .withEnv("POSTGRES_PASSWORD", "test")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 2));
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void seed() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+                "postgres",
+                "test");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE garden_plans (id uuid PRIMARY KEY DEFAULT gen_random_uuid(),"
+                    + " user_id uuid NOT NULL, name text NOT NULL, type text NOT NULL, description text,"
+                    + " location text, is_public boolean)");
+            statement.execute("CREATE TABLE plants (id uuid PRIMARY KEY, garden_plan_id uuid, name text, type text,"
+                    + " description text, watering_frequency text, sunlight_requirements text)");
+            statement.execute("CREATE TABLE profiles (id uuid PRIMARY KEY, full_name text)");
+            // One plan in ten thousand is a tomato plan; the rest have random names
+            statement.execute("INSERT INTO garden_plans (user_id, name, type, description, location, is_public)"
+                    + " SELECT gen_random_uuid(),"
+                    + " CASE WHEN i % 10000 = 0 THEN 'Tomato patch ' || i ELSE 'Plot ' || md5(i::text) END,"
+                    + " (ARRAY['balcony', 'backyard', 'rooftop', 'allotment'])[i % 4 + 1],"
+                    + " md5((i * 7)::text), 'Zone ' || (i % 500), i % 2 = 0"
+                    + " FROM generate_series(1, " + ROWS + ") AS i");
+            for (String sql : indexStatements()) {
+                statement.execute(sql);
+            }
+            statement.execute("ANALYZE garden_plans");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void nameSearch_usesTrigramIndex() throws SQLException {
+        TrigramSearchQuery query = new TrigramSearchQuery("garden_plans", "g").field("name", "tomato", 100);
+
+        assertThat(explain(query.selectSql(), query.parameters())).contains("garden_plans_name_trgm_idx");
+        assertThat(explain(query.countSql(), query.parameters()))
+                .contains("garden_plans_name_trgm_idx")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void generalQuery_combinesColumnIndexes() throws SQLException {
+        TrigramSearchQuery query = new TrigramSearchQuery("garden_plans", "g")
+                .anyField(List.of("name", "description", "type", "location"), "tomato", 10)
+                .equal("is_public", true);
+
+        String plan = explain(query.selectSql(), query.parameters());
+
+        assertThat(plan)
+                .contains("BitmapOr")
+                .contains("garden_plans_name_trgm_idx")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void misspelledName_isFoundThroughTheIndex() throws SQLException {
+        TrigramSearchQuery query = new TrigramSearchQuery("garden_plans", "g").field("name", "tomatto", 100);
+
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(inline(query.countSql(), query.parameters()))) {
+            result.next();
+            assertThat(result.getLong(1)).isEqualTo(ROWS / 10000);
+        }
+    }
+
+    private static String explain(String sql, Map<String, Object> parameters) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("EXPLAIN " + inline(sql, parameters) + " LIMIT 10")) {
+            while (result.next()) {
+                plan.append(result.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static String inline(String sql, Map<String, Object> parameters) {
+        String inlined = sql;
+        // Longest names first so :t0 does not replace the start of :t0_like
+        List<String> names = new ArrayList<>(parameters.keySet());
+        names.sort((a, b) -> b.length() - a.length());
+        for (String name : names) {
+            Object value = parameters.get(name);
+            String literal = value instanceof String text ? "'" + text.replace("'", "''") + "'" : value.toString();
+            inlined = inlined.replace(":" + name, literal);
+        }
+        return inlined;
+    }
+
+    private static List<String> indexStatements() throws Exception {
+        String script = Files.readString(Path.of("db", "search-trigram-indexes.sql"));
+        List<String> statements = new ArrayList<>();
+        for (String statement : script.replaceAll("(?m)^--.*$", "").split(";")) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.solace.twiggle.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TrigramSearchQueryTest {
+
+    @Test
+    void selectSql_ranksByScoreThenId() {
+        TrigramSearchQuery query = new TrigramSearchQuery("garden_plans", "g").field("name", "tomato", 100);
+
+        assertThat(query.selectSql())
+                .isEqualTo("SELECT g.* FROM garden_plans g WHERE (g.name ILIKE :t0_like OR :t0 <% g.name)"
+                        + " ORDER BY (100 * COALESCE(word_similarity(:t0, g.name) + similarity(:t0, g.name), 0))"
+                        + " DESC, g.id");
+        assertThat(query.parameters()).containsEntry("t0", "tomato").containsEntry("t0_like", "%tomato%");
+    }
+
+    @Test
+    void anyField_matchesAnyColumnAndScoresBestColumn() {
+        TrigramSearchQuery query = new TrigramSearchQuery("plants", "p").anyField(List.of("name", "type"), "herb", 10);
+
+        assertThat(query.selectSql())
+                .contains("WHERE (p.name ILIKE :t0_like OR :t0 <% p.name OR p.type ILIKE :t0_like OR :t0 <% p.type)")
+                .contains("ORDER BY (10 * GREATEST(COALESCE(word_similarity(:t0, p.name)")
+                .endsWith("DESC, p.id");
+    }
+
+    @Test
+    void absentTermsAndFilters_areLeftOutOfTheSql() {
+        TrigramSearchQuery query = new TrigramSearchQuery("profiles", "p")
+                .field("full_name", null, 100)
+                .field("full_name", "  ", 10)
+                .equal("user_id", null);
+
+        assertThat(query.selectSql()).isEqualTo("SELECT p.* FROM profiles p ORDER BY p.id");
+        assertThat(query.countSql()).isEqualTo("SELECT COUNT(*) FROM profiles p");
+        assertThat(query.parameters()).isEmpty();
+    }
+
+    @Test
+    void countSql_keepsFiltersButNotScores() {
+        UUID userId = UUID.randomUUID();
+        TrigramSearchQuery query = new TrigramSearchQuery("garden_plans", "g")
+                .field("type", "balcony", 50)
+                .equal("user_id", userId)
+                .equal("is_public", true);
+
+        assertThat(query.countSql())
+                .isEqualTo("SELECT COUNT(*) FROM garden_plans g WHERE (g.type ILIKE :t0_like OR :t0 <% g.type)"
+                        + " AND g.user_id = :e2 AND g.is_public = :e3");
+        assertThat(query.parameters()).containsEntry("e2", userId).containsEntry("e3", true);
+    }
+
+    @Test
+    void likeWildcardsInTerms_areEscaped() {
+        TrigramSearchQuery query = new TrigramSearchQuery("plants", "p").field("name", "50%_off\\", 100);
+
+        assertThat(query.parameters()).containsEntry("t0_like", "%50\\%\\_off\\\\%");
+    }
+}
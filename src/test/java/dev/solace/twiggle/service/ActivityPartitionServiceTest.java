@@ -0,0 +1,205 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.solace.twiggle.config.ActivityPartitionConfig;
+import dev.solace.twiggle.model.Activity;
+import dev.solace.twiggle.repository.ActivityPartitionRepository.ActivityPartition;
+import dev.solace.twiggle.repository.ActivityRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 4);
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private ActivityPartitionConfig config;
+    private ActivityPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new ActivityPartitionConfig();
+        config.setArchiveDirectory(archiveDirectory.toString());
+        config.setMonthsAhead(2);
+        config.setRetentionMonths(12);
+        service = new ActivityPartitionService(activityRepository, config, objectMapper);
+    }
+
+    @Test
+    void createPartitions_shouldCreateCurrentAndComingMonths() {
+        assertThat(service.createPartitions(CURRENT)).isEqualTo(3);
+
+        verify(activityRepository).createPartition("activities_p202504", monthStart(2025, 4), monthStart(2025, 5));
+        verify(activityRepository).createPartition("activities_p202505", monthStart(2025, 5), monthStart(2025, 6));
+        verify(activityRepository).createPartition("activities_p202506", monthStart(2025, 6), monthStart(2025, 7));
+    }
+
+    @Test
+    void createPartitions_shouldContinueAfterAFailedMonth() {
+        doThrow(new IllegalStateException("updated partition constraint for default partition would be violated"))
+                .when(activityRepository)
+                .createPartition(eq("activities_p202504"), any(), any());
+
+        assertThat(service.createPartitions(CURRENT)).isEqualTo(2);
+
+        verify(activityRepository).createPartition(eq("activities_p202506"), any(), any());
+    }
+
+    @Test
+    void expirePartitions_shouldDetachExportAndDropOnlyExpiredPartitions() throws IOException {
+        Activity activity = new Activity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                null,
+                "WATERING",
+                "Watered the roses",
+                OffsetDateTime.of(2024, 4, 3, 8, 30, 0, 0, ZoneOffset.UTC));
+        when(activityRepository.findPartitions())
+                .thenReturn(List.of(
+                        new ActivityPartition("activities_p202404", true),
+                        new ActivityPartition("activities_p202405", true),
+                        new ActivityPartition("activities_p202504", true)));
+        stream("activities_p202404", activity, activity);
+
+        assertThat(service.expirePartitions(CURRENT)).isEqualTo(1);
+
+        InOrder order = inOrder(activityRepository);
+        order.verify(activityRepository).detachPartition("activities_p202404");
+        order.verify(activityRepository).streamPartition(eq("activities_p202404"), any());
+        order.verify(activityRepository).dropPartition("activities_p202404");
+        verify(activityRepository, never()).detachPartition("activities_p202405");
+
+        List<String> lines = readArchive(archiveDirectory.resolve("activities_p202404.ndjson.gz"));
+        assertThat(lines).hasSize(2);
+        JsonNode row = objectMapper.readTree(lines.getFirst());
+        assertThat(row.get("id").asText()).isEqualTo(activity.getId().toString());
+        assertThat(row.get("activityType").asText()).isEqualTo("WATERING");
+        assertThat(OffsetDateTime.parse(row.get("createdAt").asText())).isEqualTo(activity.getCreatedAt());
+        assertThat(row.get("gardenPlanId").isNull()).isTrue();
+    }
+
+    @Test
+    void expirePartitions_shouldExportDetachedLeftoverWithoutDetachingAgain() {
+        when(activityRepository.findPartitions())
+                .thenReturn(List.of(new ActivityPartition("activities_p202301", false)));
+        stream("activities_p202301");
+
+        assertThat(service.expirePartitions(CURRENT)).isEqualTo(1);
+
+        verify(activityRepository, never()).detachPartition(anyString());
+        verify(activityRepository).dropPartition("activities_p202301");
+        assertThat(archiveDirectory.resolve("activities_p202301.ndjson.gz")).exists();
+    }
+
+    @Test
+    void expirePartitions_shouldKeepPartitionWhenExportFails() {
+        when(activityRepository.findPartitions())
+                .thenReturn(List.of(new ActivityPartition("activities_p202301", true)));
+        when(activityRepository.streamPartition(eq("activities_p202301"), any()))
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        assertThat(service.expirePartitions(CURRENT)).isZero();
+
+        verify(activityRepository, never()).dropPartition(anyString());
+        assertThat(archiveDirectory.resolve("activities_p202301.ndjson.gz")).doesNotExist();
+        assertThat(archiveDirectory.resolve("activities_p202301.ndjson.gz.tmp")).doesNotExist();
+    }
+
+    @Test
+    void expirePartitions_shouldKeepEverythingWithoutRetention() {
+        config.setRetentionMonths(0);
+
+        assertThat(service.expirePartitions(CURRENT)).isZero();
+
+        verifyNoInteractions(activityRepository);
+    }
+
+    @Test
+    void maintain_shouldDoNothingUnlessEnabled() {
+        service.maintain();
+
+        verifyNoInteractions(activityRepository);
+    }
+
+    @Test
+    void isExpired_shouldKeepRetentionMonthsIncludingCurrent() {
+        assertThat(ActivityPartitionService.isExpired(YearMonth.of(2024, 5), CURRENT, 12))
+                .isFalse();
+        assertThat(ActivityPartitionService.isExpired(YearMonth.of(2024, 4), CURRENT, 12))
+                .isTrue();
+        assertThat(ActivityPartitionService.isExpired(CURRENT, CURRENT, 1)).isFalse();
+    }
+
+    @Test
+    void parseMonth_shouldIgnoreOtherTables() {
+        assertThat(ActivityPartitionService.parseMonth("activities_p202412")).isEqualTo(YearMonth.of(2024, 12));
+        assertThat(ActivityPartitionService.parseMonth("activities_default")).isNull();
+        assertThat(ActivityPartitionService.parseMonth("activities_p202413")).isNull();
+        assertThat(ActivityPartitionService.partitionName(YearMonth.of(2024, 1)))
+                .isEqualTo("activities_p202401");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(String partitionName, Activity... activities) {
+        doAnswer(invocation -> {
+                    Consumer<Activity> consumer = invocation.getArgument(1);
+                    for (Activity activity : activities) {
+                        consumer.accept(activity);
+                    }
+                    return (long) activities.length;
+                })
+                .when(activityRepository)
+                .streamPartition(eq(partitionName), any(Consumer.class));
+    }
+
+    private static List<String> readArchive(Path archive) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new GZIPInputStream(Files.newInputStream(archive)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private static OffsetDateTime monthStart(int year, int month) {
+        return OffsetDateTime.of(year, month, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,265 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.ActivityRollupConfig;
+import dev.solace.twiggle.dto.ActivityDailyCountDTO;
+import dev.solace.twiggle.dto.ActivityStreakDTO;
+import dev.solace.twiggle.model.Activity;
+import dev.solace.twiggle.model.ActivityDailyCount;
+import dev.solace.twiggle.repository.ActivityDailyCountRepository;
+import dev.solace.twiggle.repository.ActivityDailyCountView;
+import dev.solace.twiggle.repository.ActivityDayTotalView;
+import dev.solace.twiggle.repository.ActivityRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRollupServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID GARDEN_PLAN_ID = UUID.randomUUID();
+    private static final LocalDate DAY = LocalDate.of(2025, 4, 15);
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private ActivityDailyCountRepository activityDailyCountRepository;
+
+    private ActivityRollupConfig config;
+    private ActivityRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new ActivityRollupConfig();
+        service = new ActivityRollupService(activityRepository, activityDailyCountRepository, config);
+    }
+
+    @Test
+    void activitiesAdded_shouldMergeActivitiesOfTheSameDayAndType() {
+        service.activitiesAdded(List.of(
+                activity(GARDEN_PLAN_ID, "WATERING", DAY.atTime(8, 0)),
+                activity(GARDEN_PLAN_ID, "WATERING", DAY.atTime(23, 59)),
+                activity(GARDEN_PLAN_ID, "PRUNING", DAY.atTime(9, 0)),
+                activity(null, "WATERING", DAY.atTime(10, 0))));
+
+        List<ActivityDailyCountView> changes = capturedChanges();
+        assertThat(changes).hasSize(3);
+        assertThat(changes)
+                .filteredOn(change -> change.getGardenPlanId().equals(GARDEN_PLAN_ID)
+                        && change.getActivityType().equals("WATERING"))
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getDay()).isEqualTo(DAY);
+                    assertThat(change.getActivityCount()).isEqualTo(2);
+                });
+        assertThat(changes)
+                .filteredOn(change -> change.getGardenPlanId().equals(ActivityDailyCount.NO_GARDEN_PLAN))
+                .singleElement()
+                .satisfies(change -> assertThat(change.getActivityCount()).isEqualTo(1));
+    }
+
+    @Test
+    void activitiesAdded_shouldCountByUtcDay() {
+        OffsetDateTime lateInAuckland = OffsetDateTime.of(DAY.atTime(9, 0), ZoneOffset.ofHours(12));
+        Activity activity = new Activity(
+                UUID.randomUUID(), USER_ID, GARDEN_PLAN_ID, "WATERING", "Watered the roses", lateInAuckland);
+
+        service.activitiesAdded(List.of(activity));
+
+        assertThat(capturedChanges()).singleElement().satisfies(change -> assertThat(change.getDay())
+                .isEqualTo(DAY.minusDays(1)));
+    }
+
+    @Test
+    void activityUpdated_shouldMoveCountToNewType() {
+        Activity previous = activity(GARDEN_PLAN_ID, "WATERING", DAY.atTime(8, 0));
+        Activity updated = activity(GARDEN_PLAN_ID, "PRUNING", DAY.atTime(8, 0));
+
+        service.activityUpdated(previous, updated);
+
+        assertThat(capturedChanges())
+                .extracting(ActivityDailyCountView::getActivityType, ActivityDailyCountView::getActivityCount)
+                .containsExactlyInAnyOrder(Tuple.tuple("WATERING", -1L), Tuple.tuple("PRUNING", 1L));
+    }
+
+    @Test
+    void activityUpdated_shouldWriteNothingWhenCountedFieldsAreUnchanged() {
+        Activity activity = activity(GARDEN_PLAN_ID, "WATERING", DAY.atTime(8, 0));
+
+        service.activityUpdated(activity, activity);
+
+        assertThat(capturedChanges()).isEmpty();
+    }
+
+    @Test
+    void insertAll_shouldInsertActivitiesBeforeCountingThem() {
+        List<Activity> activities = List.of(activity(GARDEN_PLAN_ID, "WATERING", DAY.atTime(8, 0)));
+
+        service.insertAll(activities);
+
+        InOrder order = inOrder(activityRepository, activityDailyCountRepository);
+        order.verify(activityRepository).insertAll(activities);
+        order.verify(activityDailyCountRepository).addCounts(anyList());
+    }
+
+    @Test
+    void getUserDailyCounts_shouldReadGivenRange() {
+        when(activityDailyCountRepository.sumByUserPerDay(USER_ID, null, "WATERING", DAY.minusDays(6), DAY))
+                .thenReturn(List.of(total(DAY, "WATERING", 3)));
+
+        List<ActivityDailyCountDTO> counts =
+                service.getUserDailyCounts(USER_ID, null, "WATERING", DAY.minusDays(6), DAY);
+
+        assertThat(counts).containsExactly(new ActivityDailyCountDTO(DAY, "WATERING", 3L));
+    }
+
+    @Test
+    void getUserDailyCounts_shouldDefaultToConfiguredNumberOfDays() {
+        config.setDefaultRangeDays(7);
+
+        service.getUserDailyCounts(USER_ID, null, null, null, DAY);
+
+        verify(activityDailyCountRepository).sumByUserPerDay(USER_ID, null, null, DAY.minusDays(6), DAY);
+    }
+
+    @Test
+    void getGardenPlanDailyCounts_shouldRejectRangesLongerThanAllowed() {
+        config.setMaxRangeDays(31);
+
+        assertThatThrownBy(() -> service.getGardenPlanDailyCounts(GARDEN_PLAN_ID, null, DAY.minusDays(31), DAY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("31 days");
+        assertThatThrownBy(() -> service.getGardenPlanDailyCounts(GARDEN_PLAN_ID, null, DAY.plusDays(1), DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(activityDailyCountRepository, never()).sumByGardenPlanPerDay(any(), any(), any(), any());
+    }
+
+    @Test
+    void backfill_shouldRebuildEveryDayOfTheRange() {
+        when(activityDailyCountRepository.rebuildDay(any())).thenReturn(2);
+
+        assertThat(service.backfill(DAY.minusDays(2), DAY)).isEqualTo(6);
+
+        verify(activityDailyCountRepository).rebuildDay(DAY.minusDays(2));
+        verify(activityDailyCountRepository).rebuildDay(DAY.minusDays(1));
+        verify(activityDailyCountRepository).rebuildDay(DAY);
+    }
+
+    @Test
+    void reconcile_shouldRebuildClosedDaysOnly() {
+        config.setReconcileDays(2);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        service.reconcile();
+
+        verify(activityDailyCountRepository).rebuildDay(today.minusDays(1));
+        verify(activityDailyCountRepository).rebuildDay(today.minusDays(2));
+        verify(activityDailyCountRepository, never()).rebuildDay(today);
+    }
+
+    @Test
+    void getStreak_shouldSearchConfiguredWindow() {
+        config.setStreakWindowDays(10);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(activityDailyCountRepository.findActiveDays(USER_ID, "WATERING", today.minusDays(9), today))
+                .thenReturn(List.of(today, today.minusDays(1)));
+
+        ActivityStreakDTO streak = service.getStreak(USER_ID, "WATERING");
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getLastActiveDay()).isEqualTo(today);
+    }
+
+    @Test
+    void streak_shouldCountCurrentRunFromYesterdayAndLongestRunAnywhere() {
+        List<LocalDate> days = List.of(
+                DAY.minusDays(1),
+                DAY.minusDays(2),
+                // Gap
+                DAY.minusDays(5),
+                DAY.minusDays(6),
+                DAY.minusDays(7),
+                DAY.minusDays(8));
+
+        ActivityStreakDTO streak = ActivityRollupService.streak(null, days, DAY);
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getLongestStreak()).isEqualTo(4);
+        assertThat(streak.getLastActiveDay()).isEqualTo(DAY.minusDays(1));
+    }
+
+    @Test
+    void streak_shouldHaveNoCurrentRunAfterAMissedDay() {
+        ActivityStreakDTO streak =
+                ActivityRollupService.streak("WATERING", List.of(DAY.minusDays(2), DAY.minusDays(3)), DAY);
+
+        assertThat(streak.getCurrentStreak()).isZero();
+        assertThat(streak.getLongestStreak()).isEqualTo(2);
+    }
+
+    @Test
+    void streak_shouldBeEmptyWithoutActiveDays() {
+        ActivityStreakDTO streak = ActivityRollupService.streak(null, List.of(), DAY);
+
+        assertThat(streak.getCurrentStreak()).isZero();
+        assertThat(streak.getLongestStreak()).isZero();
+        assertThat(streak.getLastActiveDay()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ActivityDailyCountView> capturedChanges() {
+        ArgumentCaptor<List<ActivityDailyCountView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityDailyCountRepository).addCounts(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Activity activity(UUID gardenPlanId, String activityType, LocalDateTime createdAt) {
+        return new Activity(
+                UUID.randomUUID(),
+                USER_ID,
+                gardenPlanId,
+                activityType,
+                "Looked after the garden",
+                createdAt.atOffset(ZoneOffset.UTC));
+    }
+
+    private static ActivityDayTotalView total(LocalDate day, String activityType, long count) {
+        return new ActivityDayTotalView() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public String getActivityType() {
+                return activityType;
+            }
+
+            @Override
+            public Long getActivityCount() {
+                return count;
+            }
+        };
+    }
+}
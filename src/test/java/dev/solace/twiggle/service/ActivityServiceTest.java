@@ -1,13 +1,16 @@
 package dev.solace.twiggle.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.*;
 
+import dev.solace.twiggle.config.ActivityPartitionConfig;
 import dev.solace.twiggle.dto.ActivityDTO;
 import dev.solace.twiggle.mapper.ActivityMapper;
 import dev.solace.twiggle.model.Activity;
 import dev.solace.twiggle.repository.ActivityRepository;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,18 @@ class ActivityServiceTest {
     @Mock
     private ActivityMapper activityMapper;
 
+    @Mock
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private ActivityWriter activityWriter;
+
+    @Spy
+    private ActivityPartitionConfig activityPartitionConfig = new ActivityPartitionConfig();
+
     @InjectMocks
     private ActivityService activityService;
 
@@ -74,30 +89,39 @@ class ActivityServiceTest {
     }
 
     @Test
-    void findByUserId_shouldReturnList() {
-        when(activityRepository.findByUserId(activity.getUserId())).thenReturn(List.of(activity));
+    void findByUserId_shouldReturnListWithinQueryWindow() {
+        when(activityRepository.findByUserIdAndCreatedAtGreaterThanEqual(eq(activity.getUserId()), any()))
+                .thenReturn(List.of(activity));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
         List<ActivityDTO> result = activityService.findByUserId(activity.getUserId());
 
         assertThat(result).hasSize(1);
+        ArgumentCaptor<OffsetDateTime> since = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(activityRepository).findByUserIdAndCreatedAtGreaterThanEqual(eq(activity.getUserId()), since.capture());
+        assertThat(since.getValue())
+                .isCloseTo(
+                        OffsetDateTime.now().minus(activityPartitionConfig.getQueryWindow()),
+                        within(1, ChronoUnit.MINUTES));
     }
 
     @Test
-    void findByUserId_withPageable_shouldReturnPage() {
+    void findByUserId_withPageable_shouldReadSinceGivenTime() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(activityRepository.findByUserId(activity.getUserId(), pageable))
+        OffsetDateTime since = OffsetDateTime.now().minusYears(3);
+        when(activityRepository.findByUserIdAndCreatedAtGreaterThanEqual(activity.getUserId(), since, pageable))
                 .thenReturn(new PageImpl<>(List.of(activity)));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
-        Page<ActivityDTO> result = activityService.findByUserId(activity.getUserId(), pageable);
+        Page<ActivityDTO> result = activityService.findByUserId(activity.getUserId(), since, pageable);
 
         assertThat(result).hasSize(1);
     }
 
     @Test
     void findByGardenPlanId_shouldReturnList() {
-        when(activityRepository.findByGardenPlanId(activity.getGardenPlanId())).thenReturn(List.of(activity));
+        when(activityRepository.findByGardenPlanIdAndCreatedAtGreaterThanEqual(eq(activity.getGardenPlanId()), any()))
+                .thenReturn(List.of(activity));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
         List<ActivityDTO> result = activityService.findByGardenPlanId(activity.getGardenPlanId());
@@ -108,11 +132,12 @@ class ActivityServiceTest {
     @Test
     void findByGardenPlanId_withPageable_shouldReturnPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(activityRepository.findByGardenPlanId(activity.getGardenPlanId(), pageable))
+        when(activityRepository.findByGardenPlanIdAndCreatedAtGreaterThanEqual(
+                        eq(activity.getGardenPlanId()), any(), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(activity)));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
-        Page<ActivityDTO> result = activityService.findByGardenPlanId(activity.getGardenPlanId(), pageable);
+        Page<ActivityDTO> result = activityService.findByGardenPlanId(activity.getGardenPlanId(), null, pageable);
 
         assertThat(result).hasSize(1);
     }
@@ -120,12 +145,13 @@ class ActivityServiceTest {
     @Test
     void findByUserIdAndActivityType_shouldReturnPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(activityRepository.findByUserIdAndActivityType(activity.getUserId(), "WATERING", pageable))
+        when(activityRepository.findByUserIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+                        eq(activity.getUserId()), eq("WATERING"), any(), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(activity)));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
         Page<ActivityDTO> result =
-                activityService.findByUserIdAndActivityType(activity.getUserId(), "WATERING", pageable);
+                activityService.findByUserIdAndActivityType(activity.getUserId(), "WATERING", null, pageable);
 
         assertThat(result).hasSize(1);
     }
@@ -133,12 +159,13 @@ class ActivityServiceTest {
     @Test
     void findByGardenPlanIdAndActivityType_shouldReturnPage() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(activityRepository.findByGardenPlanIdAndActivityType(activity.getGardenPlanId(), "WATERING", pageable))
+        when(activityRepository.findByGardenPlanIdAndActivityTypeAndCreatedAtGreaterThanEqual(
+                        eq(activity.getGardenPlanId()), eq("WATERING"), any(), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(activity)));
         when(activityMapper.toDto(activity)).thenReturn(dto);
 
-        Page<ActivityDTO> result =
-                activityService.findByGardenPlanIdAndActivityType(activity.getGardenPlanId(), "WATERING", pageable);
+        Page<ActivityDTO> result = activityService.findByGardenPlanIdAndActivityType(
+                activity.getGardenPlanId(), "WATERING", null, pageable);
 
         assertThat(result).hasSize(1);
     }
@@ -153,6 +180,29 @@ class ActivityServiceTest {
 
         assertThat(created).isNotNull();
         verify(activityRepository).save(any(Activity.class));
+        verify(activityRollupService).activitiesAdded(List.of(activity));
+        verify(gardenPlanPopularityService).recordActivity(activity.getGardenPlanId(), activity.getCreatedAt());
+    }
+
+    @Test
+    void record_shouldQueueActivityWithIdAndCreationTime() {
+        Activity mapped = new Activity();
+        when(activityMapper.toEntity(dto)).thenReturn(mapped);
+        when(activityWriter.enqueue(mapped)).thenReturn(true);
+
+        assertThat(activityService.record(dto)).isTrue();
+
+        assertThat(mapped.getId()).isNotNull();
+        assertThat(dto.getCreatedAt()).isNotNull();
+        verify(activityRepository, never()).save(any());
+    }
+
+    @Test
+    void record_shouldReportDroppedActivity() {
+        when(activityMapper.toEntity(dto)).thenReturn(new Activity());
+        when(activityWriter.enqueue(any())).thenReturn(false);
+
+        assertThat(activityService.record(dto)).isFalse();
     }
 
     @Test
@@ -162,10 +212,17 @@ class ActivityServiceTest {
         when(activityRepository.save(any())).thenReturn(activity);
         when(activityMapper.toDto(any())).thenReturn(dto);
 
+        String previousType = activity.getActivityType();
+        dto.setActivityType("PRUNING");
+
         Optional<ActivityDTO> updated = activityService.update(id, dto);
 
         assertThat(updated).isPresent();
         verify(activityRepository).save(any());
+        verify(activityRollupService)
+                .activityUpdated(
+                        argThat(previous -> previous.getActivityType().equals(previousType)),
+                        argThat(saved -> saved.getActivityType().equals("PRUNING")));
     }
 
     @Test
@@ -179,9 +236,25 @@ class ActivityServiceTest {
     }
 
     @Test
-    void delete_shouldCallRepositoryDeleteById() {
+    void delete_shouldDeleteActivityAndRetractIt() {
+        UUID id = activity.getId();
+        when(activityRepository.findById(id)).thenReturn(Optional.of(activity));
+
+        activityService.delete(id);
+
+        verify(activityRepository).delete(activity);
+        verify(activityRollupService).activityRemoved(activity);
+        verify(gardenPlanPopularityService).retractActivity(activity.getGardenPlanId(), activity.getCreatedAt());
+    }
+
+    @Test
+    void delete_shouldDoNothing_whenNotFound() {
         UUID id = UUID.randomUUID();
+        when(activityRepository.findById(id)).thenReturn(Optional.empty());
+
         activityService.delete(id);
-        verify(activityRepository).deleteById(id);
+
+        verify(activityRepository, never()).delete(any());
+        verifyNoInteractions(gardenPlanPopularityService, activityRollupService);
     }
 }
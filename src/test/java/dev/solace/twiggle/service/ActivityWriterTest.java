@@ -0,0 +1,191 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import dev.solace.twiggle.config.ActivityWriterConfig;
+import dev.solace.twiggle.model.Activity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityWriterTest {
+
+    @Mock
+    private ActivityRollupService activityRollupService;
+
+    @Mock
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
+    private ActivityWriterConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ActivityWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        config = new ActivityWriterConfig();
+        config.setBufferCapacity(8);
+        config.setBatchSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new ActivityWriter(activityRollupService, gardenPlanPopularityService, config, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_shouldInsertInBatchesAndRecordPopularity() {
+        for (int i = 0; i < 7; i++) {
+            assertThat(writer.enqueue(activity())).isTrue();
+        }
+
+        assertThat(writer.drain()).isEqualTo(7);
+
+        ArgumentCaptor<List<Activity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRollupService, times(3)).insertAll(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(3, 3, 1);
+        verify(gardenPlanPopularityService, times(7)).recordActivity(any(), any());
+        assertThat(counter("written")).isEqualTo(7);
+        assertThat(meterRegistry.get("activities.writer.batch").timer().count()).isEqualTo(3);
+        assertThat(writer.queueDepth()).isZero();
+    }
+
+    @Test
+    void enqueue_shouldDropWhenBufferIsFull() {
+        for (int i = 0; i < 8; i++) {
+            writer.enqueue(activity());
+        }
+
+        assertThat(writer.enqueue(activity())).isFalse();
+
+        assertThat(counter("dropped")).isEqualTo(1);
+        assertThat(meterRegistry.get("activities.writer.queue.depth").gauge().value())
+                .isEqualTo(8);
+    }
+
+    @Test
+    void drain_shouldInsertOneByOneWhenBatchFails() {
+        Activity bad = activity();
+        doAnswer(invocation -> {
+                    List<Activity> rows = invocation.getArgument(0);
+                    if (rows.contains(bad)) {
+                        throw new IllegalStateException("foreign key violation");
+                    }
+                    return null;
+                })
+                .when(activityRollupService)
+                .insertAll(anyList());
+        writer.enqueue(activity());
+        writer.enqueue(bad);
+        writer.enqueue(activity());
+
+        writer.drain();
+
+        // One failed batch, then three single inserts
+        verify(activityRollupService, times(4)).insertAll(anyList());
+        assertThat(counter("written")).isEqualTo(2);
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldNotInsertAgainWhenRecordingPopularityFails() {
+        doThrow(new IllegalStateException("ranking unavailable"))
+                .when(gardenPlanPopularityService)
+                .recordActivity(any(), any());
+        writer.enqueue(activity());
+        writer.enqueue(activity());
+
+        assertThat(writer.drain()).isEqualTo(2);
+
+        verify(activityRollupService, times(1)).insertAll(anyList());
+        assertThat(counter("written")).isEqualTo(2);
+        assertThat(counter("failed")).isZero();
+    }
+
+    @Test
+    void stop_shouldDrainBeforeStartAndRejectAfterwards() {
+        writer.enqueue(activity());
+
+        writer.stop();
+
+        verify(activityRollupService).insertAll(anyList());
+        assertThat(writer.enqueue(activity())).isFalse();
+    }
+
+    @Test
+    void writerThread_shouldFlushPartialBatchAfterInterval() throws Exception {
+        config.setBatchSize(100);
+        config.setFlushInterval(Duration.ofMillis(50));
+        Set<UUID> inserted = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+                    List<Activity> rows = invocation.getArgument(0);
+                    rows.forEach(row -> inserted.add(row.getId()));
+                    return null;
+                })
+                .when(activityRollupService)
+                .insertAll(anyList());
+        writer.start();
+        try {
+            Activity activity = activity();
+            writer.enqueue(activity);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!inserted.contains(activity.getId()) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(inserted).containsExactly(activity.getId());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void stop_shouldDrainEverythingQueuedWhileRunning() {
+        config.setBatchSize(2);
+        config.setFlushInterval(Duration.ofHours(1));
+        config.setBufferCapacity(1024);
+        writer = new ActivityWriter(activityRollupService, gardenPlanPopularityService, config, meterRegistry);
+        writer.start();
+        for (int i = 0; i < 500; i++) {
+            writer.enqueue(activity());
+        }
+
+        writer.stop();
+
+        assertThat(writer.queueDepth()).isZero();
+        assertThat(counter("written")).isEqualTo(500);
+    }
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("activities.writer.activities")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static Activity activity() {
+        return new Activity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "WATERING",
+                "Watered the roses",
+                OffsetDateTime.now());
+    }
+}
@@ -3,33 +3,44 @@ package dev.solace.twiggle.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.solace.twiggle.config.GardenLayoutConfig;
 import dev.solace.twiggle.dto.AddPlantDTO;
+import dev.solace.twiggle.dto.BatchAddPlantDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.mapper.PlantAddMapper;
 import dev.solace.twiggle.mapper.PlantMapper;
 import dev.solace.twiggle.model.Plant;
 import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.repository.PlantPositionView;
 import dev.solace.twiggle.repository.PlantRepository;
 import dev.solace.twiggle.repository.PlantsLibraryRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
 class AddPlantServiceTest {
@@ -46,7 +57,12 @@ class AddPlantServiceTest {
     @Mock
     private PlantAddMapper plantAddMapper;
 
-    @InjectMocks
+    @Mock
+    private UnifiedSearchService unifiedSearchService;
+
+    @Mock
+    private ReminderSeriesRepository reminderSeriesRepository;
+
     private AddPlantService addPlantService;
 
     private UUID gardenPlanId;
@@ -59,6 +75,17 @@ class AddPlantServiceTest {
 
     @BeforeEach
     void setUp() {
+        GardenOccupancyCache gardenOccupancyCache = new GardenOccupancyCache(plantRepository, new GardenLayoutConfig());
+        addPlantService = new AddPlantService(
+                plantRepository,
+                plantsLibraryRepository,
+                plantMapper,
+                plantAddMapper,
+                gardenOccupancyCache,
+                unifiedSearchService,
+                reminderSeriesRepository,
+                new CareScheduleGenerator());
+
         gardenPlanId = UUID.randomUUID();
         plantsLibraryId = UUID.randomUUID();
 
@@ -120,7 +147,7 @@ class AddPlantServiceTest {
         // Arrange
         when(plantsLibraryRepository.findById(plantsLibraryId)).thenReturn(Optional.of(plantsLibrary));
         when(plantAddMapper.toPlantEntity(plantsLibrary)).thenReturn(plant);
-        when(plantRepository.findByGardenPlanId(gardenPlanId)).thenReturn(new ArrayList<>());
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(new ArrayList<>());
         when(plantRepository.save(any(Plant.class))).thenReturn(savedPlant);
         when(plantMapper.toDto(savedPlant)).thenReturn(plantDTO);
 
@@ -145,6 +172,15 @@ class AddPlantServiceTest {
         Plant capturedPlant = plantCaptor.getValue();
         assertEquals(0, capturedPlant.getPositionX());
         assertEquals(0, capturedPlant.getPositionY());
+        verify(unifiedSearchService).indexPlant(savedPlant);
+
+        // Verify that its daily watering was scheduled
+        List<ReminderSeries> series = captureSavedSeries();
+        assertEquals(1, series.size());
+        assertEquals("Watering", series.get(0).getReminderType());
+        assertEquals(1, series.get(0).getIntervalDays());
+        assertEquals(savedPlant.getId(), series.get(0).getPlantId());
+        assertEquals(gardenPlanId, series.get(0).getGardenPlanId());
     }
 
     @Test
@@ -154,18 +190,9 @@ class AddPlantServiceTest {
         when(plantsLibraryRepository.findById(plantsLibraryId)).thenReturn(Optional.of(plantsLibrary));
         when(plantAddMapper.toPlantEntity(plantsLibrary)).thenReturn(plant);
 
-        // Create a list of existing plants with positions (0,0) and (0,1) occupied
-        List<Plant> existingPlants = new ArrayList<>();
-        Plant existingPlant1 = new Plant();
-        existingPlant1.setPositionX(0);
-        existingPlant1.setPositionY(0);
-        Plant existingPlant2 = new Plant();
-        existingPlant2.setPositionX(0);
-        existingPlant2.setPositionY(1);
-        existingPlants.add(existingPlant1);
-        existingPlants.add(existingPlant2);
-
-        when(plantRepository.findByGardenPlanId(gardenPlanId)).thenReturn(existingPlants);
+        // Existing plants occupy positions (0,0) and (0,1)
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId))
+                .thenReturn(List.of(position(0, 0), position(0, 1)));
 
         // Update saved plant to have position (1,0) which should be first available
         // since the search goes by y first then x (e.g. (0,0), (0,1), (0,2)... then (1,0), (1,1), etc.)
@@ -205,4 +232,132 @@ class AddPlantServiceTest {
                 assertThrows(EntityNotFoundException.class, () -> addPlantService.addFromLibrary(addPlantDTO));
         assertEquals("Plants library entry not found with ID: " + plantsLibraryId, exception.getMessage());
     }
+
+    @Test
+    @DisplayName("addFromLibrary should reuse the cached occupancy grid for later adds")
+    void addFromLibrary_ShouldReadOccupancyOnce_ForRepeatedAdds() {
+        when(plantsLibraryRepository.findById(plantsLibraryId)).thenReturn(Optional.of(plantsLibrary));
+        when(plantAddMapper.toPlantEntity(plantsLibrary)).thenAnswer(invocation -> new Plant());
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of(position(0, 0)));
+        when(plantRepository.save(any(Plant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        addPlantService.addFromLibrary(addPlantDTO);
+        addPlantService.addFromLibrary(addPlantDTO);
+
+        ArgumentCaptor<Plant> plantCaptor = forClass(Plant.class);
+        verify(plantRepository, times(2)).save(plantCaptor.capture());
+        assertEquals(1, plantCaptor.getAllValues().get(0).getPositionX());
+        assertEquals(2, plantCaptor.getAllValues().get(1).getPositionX());
+        verify(plantRepository, times(1)).findPositionsByGardenPlanId(gardenPlanId);
+    }
+
+    @Test
+    @DisplayName("addFromLibrary should reject the plant when the garden grid is full")
+    void addFromLibrary_ShouldThrowConflict_WhenGardenPlanIsFull() {
+        List<PlantPositionView> positions = new ArrayList<>();
+        for (int y = 0; y < 10; y++) {
+            for (int x = 0; x < 10; x++) {
+                positions.add(position(x, y));
+            }
+        }
+        when(plantsLibraryRepository.findById(plantsLibraryId)).thenReturn(Optional.of(plantsLibrary));
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(positions);
+
+        CustomException exception =
+                assertThrows(CustomException.class, () -> addPlantService.addFromLibrary(addPlantDTO));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        assertEquals(ErrorCode.GARDEN_PLAN_FULL, exception.getErrorCode());
+        verify(plantRepository, never()).save(any(Plant.class));
+    }
+
+    @Test
+    @DisplayName("addFromLibraryBatch should place and save all plants in one batch")
+    void addFromLibraryBatch_ShouldPlaceAndSaveAllPlants() {
+        UUID mintId = UUID.randomUUID();
+        PlantsLibrary mint =
+                PlantsLibrary.builder().id(mintId).commonName("Mint").build();
+        BatchAddPlantDTO batch = BatchAddPlantDTO.builder()
+                .gardenPlanId(gardenPlanId)
+                .plantsLibraryIds(List.of(plantsLibraryId, mintId, plantsLibraryId))
+                .build();
+
+        when(plantsLibraryRepository.findAllById(any())).thenReturn(List.of(plantsLibrary, mint));
+        when(plantAddMapper.toPlantEntity(any(PlantsLibrary.class))).thenAnswer(invocation -> {
+            Plant mapped = new Plant();
+            mapped.setName(invocation.<PlantsLibrary>getArgument(0).getCommonName());
+            return mapped;
+        });
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of(position(1, 0)));
+        when(plantRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(plantMapper.toDto(any(Plant.class))).thenAnswer(invocation -> {
+            Plant saved = invocation.getArgument(0);
+            return PlantDTO.builder()
+                    .name(saved.getName())
+                    .gardenPlanId(saved.getGardenPlanId())
+                    .positionX(saved.getPositionX())
+                    .positionY(saved.getPositionY())
+                    .build();
+        });
+
+        List<PlantDTO> result = addPlantService.addFromLibraryBatch(batch);
+
+        assertEquals(
+                List.of("Basil", "Mint", "Basil"),
+                result.stream().map(PlantDTO::getName).toList());
+        assertEquals(
+                List.of(0, 2, 3), result.stream().map(PlantDTO::getPositionX).toList());
+        assertTrue(result.stream().allMatch(dto -> gardenPlanId.equals(dto.getGardenPlanId())));
+        verify(plantsLibraryRepository).findAllById(Set.of(plantsLibraryId, mintId));
+        verify(plantRepository, times(1)).findPositionsByGardenPlanId(gardenPlanId);
+        verify(plantRepository, never()).save(any(Plant.class));
+
+        // Both basil plants get a watering series, mint has no care data; all in one insert
+        List<ReminderSeries> series = captureSavedSeries();
+        assertEquals(
+                List.of("Watering", "Watering"),
+                series.stream().map(ReminderSeries::getReminderType).toList());
+    }
+
+    @Test
+    @DisplayName("addFromLibraryBatch should throw EntityNotFoundException when any library entry is missing")
+    void addFromLibraryBatch_ShouldThrowEntityNotFoundException_WhenPlantsLibraryMissing() {
+        UUID missingId = UUID.randomUUID();
+        BatchAddPlantDTO batch = BatchAddPlantDTO.builder()
+                .gardenPlanId(gardenPlanId)
+                .plantsLibraryIds(List.of(plantsLibraryId, missingId))
+                .build();
+        when(plantsLibraryRepository.findAllById(any())).thenReturn(List.of(plantsLibrary));
+
+        EntityNotFoundException exception =
+                assertThrows(EntityNotFoundException.class, () -> addPlantService.addFromLibraryBatch(batch));
+        assertEquals("Plants library entry not found with ID: " + missingId, exception.getMessage());
+        verify(plantRepository, never()).findPositionsByGardenPlanId(any());
+        verify(plantRepository, never()).saveAll(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ReminderSeries> captureSavedSeries() {
+        ArgumentCaptor<List<ReminderSeries>> seriesCaptor = forClass(List.class);
+        verify(reminderSeriesRepository, times(1)).saveAll(seriesCaptor.capture());
+        return seriesCaptor.getValue();
+    }
+
+    private static PlantPositionView position(int x, int y) {
+        return new PlantPositionView() {
+            @Override
+            public UUID getId() {
+                return UUID.randomUUID();
+            }
+
+            @Override
+            public Integer getPositionX() {
+                return x;
+            }
+
+            @Override
+            public Integer getPositionY() {
+                return y;
+            }
+        };
+    }
 }
@@ -0,0 +1,115 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.solace.twiggle.model.Plant;
+import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.service.util.CareSchedule;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CareScheduleGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 17);
+
+    private CareScheduleGenerator generator;
+    private Plant plant;
+
+    @BeforeEach
+    void setUp() {
+        generator = new CareScheduleGenerator();
+        plant = new Plant();
+        plant.setId(UUID.randomUUID());
+        plant.setGardenPlanId(UUID.randomUUID());
+    }
+
+    @Test
+    void generate_inSeason_shouldScheduleWateringGerminationAndHarvestFromToday() {
+        List<ReminderSeries> series = generator.generate(basil("Spring"), plant, TODAY);
+
+        assertThat(series)
+                .extracting(ReminderSeries::getReminderType)
+                .containsExactly(
+                        CareScheduleGenerator.WATERING,
+                        CareScheduleGenerator.GERMINATION,
+                        CareScheduleGenerator.HARVEST);
+        ReminderSeries watering = series.get(0);
+        assertThat(watering.getIntervalDays()).isEqualTo(3);
+        assertThat(watering.getStartDate()).isEqualTo(TODAY);
+        assertThat(watering.getEndDate()).isEqualTo(TODAY.plusDays(60));
+        assertThat(watering.getNextDueDate()).isEqualTo(TODAY);
+        assertThat(series.get(1).getStartDate()).isEqualTo(TODAY.plusDays(7));
+        assertThat(series.get(1).getEndDate()).isEqualTo(TODAY.plusDays(7));
+        assertThat(series.get(2).getNextDueDate()).isEqualTo(TODAY.plusDays(60));
+        assertThat(series).allSatisfy(one -> {
+            assertThat(one.getPlantId()).isEqualTo(plant.getId());
+            assertThat(one.getGardenPlanId()).isEqualTo(plant.getGardenPlanId());
+            assertThat(one.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void generate_outOfSeason_shouldScheduleFromNextPlantingSeason() {
+        List<ReminderSeries> series = generator.generate(basil("Fall"), plant, TODAY);
+
+        LocalDate sowing = LocalDate.of(2025, 9, 1);
+        assertThat(series.get(0).getReminderType()).isEqualTo(CareScheduleGenerator.PLANTING);
+        assertThat(series.get(0).getNextDueDate()).isEqualTo(sowing);
+        assertThat(series.get(0).getNotes()).isEqualTo("Best planting season: Fall");
+        assertThat(series.get(1).getStartDate()).isEqualTo(sowing);
+        assertThat(series.get(3).getStartDate()).isEqualTo(sowing.plusDays(60));
+    }
+
+    @Test
+    void generate_withoutHarvestTime_shouldWaterWithoutEndDate() {
+        PlantsLibrary basil = basil("Spring");
+        basil.setTimeToHarvest(null);
+
+        List<ReminderSeries> series = generator.generate(basil, plant, TODAY);
+
+        assertThat(series)
+                .extracting(ReminderSeries::getReminderType)
+                .containsExactly(CareScheduleGenerator.WATERING, CareScheduleGenerator.GERMINATION);
+        assertThat(series.get(0).getEndDate()).isNull();
+    }
+
+    @Test
+    void generate_withoutCareData_shouldScheduleNothing() {
+        PlantsLibrary unknown = PlantsLibrary.builder()
+                .id(UUID.randomUUID())
+                .commonName("Mystery")
+                .build();
+
+        assertThat(generator.generate(unknown, plant, TODAY)).isEmpty();
+    }
+
+    @Test
+    void scheduleOf_shouldParseEachLibraryEntryOnce() {
+        PlantsLibrary basil = basil("Spring");
+
+        CareSchedule first = generator.scheduleOf(basil);
+        basil.setWateringFrequency("Daily");
+
+        assertThat(generator.scheduleOf(basil)).isSameAs(first);
+        assertThat(generator.size()).isEqualTo(1);
+
+        // Outside a transaction the entry is discarded at once
+        generator.invalidate(basil.getId());
+        assertThat(generator.scheduleOf(basil).wateringIntervalDays()).isEqualTo(1);
+    }
+
+    private static PlantsLibrary basil(String season) {
+        return PlantsLibrary.builder()
+                .id(UUID.randomUUID())
+                .commonName("Basil")
+                .wateringFrequency("Moderate")
+                .bestPlantingSeason(season)
+                .germinationTime(7.0)
+                .timeToHarvest(60.0)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.dto.CommentAuthorDTO;
+import dev.solace.twiggle.model.Profile;
+import dev.solace.twiggle.repository.ProfileRepository;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommentAuthorCacheTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    private GardenEngagementConfig config;
+    private CommentAuthorCache cache;
+    private Profile ada;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenEngagementConfig();
+        cache = new CommentAuthorCache(profileRepository, config);
+        OffsetDateTime now = OffsetDateTime.now();
+        ada = new Profile(UUID.randomUUID(), "Ada", "https://example.com/ada.png", now, now);
+    }
+
+    @Test
+    void getAuthors_shouldLoadMissingAuthorsWithOneQuery() {
+        UUID withoutProfile = UUID.randomUUID();
+        when(profileRepository.findAllById(Set.of(ada.getId(), withoutProfile))).thenReturn(List.of(ada));
+
+        Map<UUID, CommentAuthorDTO> authors = cache.getAuthors(List.of(ada.getId(), withoutProfile), 0);
+
+        assertThat(authors.get(ada.getId()))
+                .isEqualTo(new CommentAuthorDTO(ada.getId(), "Ada", "https://example.com/ada.png"));
+        assertThat(authors.get(withoutProfile)).isEqualTo(new CommentAuthorDTO(withoutProfile, null, null));
+        verify(profileRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getAuthors_shouldReuseAuthorsWithinTtl() {
+        when(profileRepository.findAllById(Set.of(ada.getId()))).thenReturn(List.of(ada));
+        long ttl = config.getAuthorCacheTtl().toNanos();
+
+        cache.getAuthors(List.of(ada.getId()), 0);
+        Map<UUID, CommentAuthorDTO> cached = cache.getAuthors(List.of(ada.getId()), ttl - 1);
+
+        assertThat(cached.get(ada.getId()).getFullName()).isEqualTo("Ada");
+        verify(profileRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getAuthors_shouldReloadExpiredAuthors() {
+        when(profileRepository.findAllById(Set.of(ada.getId()))).thenReturn(List.of(ada));
+        long ttl = config.getAuthorCacheTtl().toNanos();
+
+        cache.getAuthors(List.of(ada.getId()), 0);
+        cache.getAuthors(List.of(ada.getId()), ttl);
+
+        verify(profileRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void getAuthors_shouldNotQueryWhenAllCached() {
+        when(profileRepository.findAllById(Set.of(ada.getId()))).thenReturn(List.of(ada));
+        cache.getAuthors(List.of(ada.getId()), 0);
+
+        cache.getAuthors(List.of(ada.getId(), ada.getId()), 1);
+
+        verify(profileRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void evict_shouldReloadAuthorOnNextRead() {
+        when(profileRepository.findAllById(Set.of(ada.getId()))).thenReturn(List.of(ada));
+        cache.getAuthors(List.of(ada.getId()), 0);
+
+        cache.evict(ada.getId());
+        cache.getAuthors(List.of(ada.getId()), 1);
+
+        verify(profileRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void getAuthors_shouldKeepCacheBounded() {
+        config.setMaxCachedAuthors(5);
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            userIds.add(UUID.randomUUID());
+        }
+
+        Map<UUID, CommentAuthorDTO> authors = cache.getAuthors(userIds, 0);
+
+        assertThat(authors).hasSize(12);
+        assertThat(cache.size()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void getAuthors_shouldNotQueryForNoAuthors() {
+        assertThat(cache.getAuthors(List.of(), 0)).isEmpty();
+
+        verify(profileRepository, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,467 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.resend.core.exception.ResendException;
+import dev.solace.twiggle.config.EmailOutboxConfig;
+import dev.solace.twiggle.dto.EmailOutboxDTO;
+import dev.solace.twiggle.dto.ReminderEmailRequest;
+import dev.solace.twiggle.mapper.EmailOutboxMapper;
+import dev.solace.twiggle.model.EmailOutbox;
+import dev.solace.twiggle.repository.EmailOutboxRepository;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.ReminderService.ReminderEmail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    private static final ReminderEmail EMAIL =
+            new ReminderEmail("gardener@example.com", "Water the basil", "<p>Water the basil</p>", "Water the basil");
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private PlantReminderRepository plantReminderRepository;
+
+    @Mock
+    private ReminderSeriesRepository reminderSeriesRepository;
+
+    @Mock
+    private ReminderService reminderService;
+
+    private EmailOutboxConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new EmailOutboxConfig();
+        config.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new EmailOutboxService(
+                emailOutboxRepository,
+                plantReminderRepository,
+                reminderSeriesRepository,
+                reminderService,
+                Mappers.getMapper(EmailOutboxMapper.class),
+                config,
+                meterRegistry);
+    }
+
+    @Test
+    void enqueueReminder_shouldStorePendingEmailDueNow() {
+        ReminderEmailRequest request = new ReminderEmailRequest();
+        when(reminderService.buildReminderEmail(request)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        EmailOutboxDTO queued = service.enqueueReminder(request);
+
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutbox saved = captor.getValue();
+        assertThat(saved.getRecipient()).isEqualTo("gardener@example.com");
+        assertThat(saved.getSubject()).isEqualTo("Water the basil");
+        assertThat(saved.getHtmlBody()).isEqualTo("<p>Water the basil</p>");
+        assertThat(saved.getNextAttemptAt()).isEqualTo(saved.getCreatedAt());
+        assertThat(saved.getPlantReminderId()).isNull();
+        assertThat(queued.getId()).isEqualTo(saved.getId());
+        assertThat(queued.getStatus()).isEqualTo("PENDING");
+        assertThat(queued.getAttempts()).isZero();
+    }
+
+    @Test
+    void enqueuePlantReminder_shouldQueueNothingWhenReminderWasClaimedElsewhere() {
+        UUID reminderId = UUID.randomUUID();
+        when(plantReminderRepository.claimForEmail(eq(reminderId), any())).thenReturn(0);
+
+        assertThat(service.enqueuePlantReminder(new ReminderEmailRequest(), reminderId))
+                .isEmpty();
+
+        verify(emailOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueuePlantReminder_shouldLinkEmailToClaimedReminder() {
+        UUID reminderId = UUID.randomUUID();
+        ReminderEmailRequest request = new ReminderEmailRequest();
+        when(plantReminderRepository.claimForEmail(eq(reminderId), any())).thenReturn(1);
+        when(reminderService.buildReminderEmail(request)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueuePlantReminder(request, reminderId)).isPresent();
+
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getPlantReminderId()).isEqualTo(reminderId);
+    }
+
+    @Test
+    void enqueueSeriesOccurrence_shouldQueueNothingWhenSeriesWasAdvancedElsewhere() {
+        UUID seriesId = UUID.randomUUID();
+        LocalDate due = LocalDate.of(2025, 5, 10);
+        when(reminderSeriesRepository.advanceNextDueDate(seriesId, due, due.plusDays(7)))
+                .thenReturn(0);
+
+        assertThat(service.enqueueSeriesOccurrence(new ReminderEmailRequest(), seriesId, due, due.plusDays(7)))
+                .isEmpty();
+
+        verify(emailOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueueSeriesOccurrence_shouldQueueEmailOnceSeriesIsAdvanced() {
+        UUID seriesId = UUID.randomUUID();
+        LocalDate due = LocalDate.of(2025, 5, 10);
+        ReminderEmailRequest request = new ReminderEmailRequest();
+        when(reminderSeriesRepository.advanceNextDueDate(seriesId, due, null)).thenReturn(1);
+        when(reminderService.buildReminderEmail(request)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueSeriesOccurrence(request, seriesId, due, null))
+                .isPresent();
+
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getPlantReminderId()).isNull();
+        assertThat(captor.getValue().getReminderClaimId()).isNull();
+    }
+
+    @Test
+    void enqueueDigest_shouldQueueOneEmailForAllClaimedReminders() {
+        Map<UUID, ReminderEmailRequest> requests = digestRequests(3);
+        List<ReminderEmailRequest> all = List.copyOf(requests.values());
+        when(plantReminderRepository.claimAllForEmail(eq(requests.keySet()), any(), any()))
+                .thenReturn(3);
+        when(reminderService.buildDigestEmail(all)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueDigest(requests, List.of())).isPresent();
+
+        ArgumentCaptor<UUID> claimId = ArgumentCaptor.forClass(UUID.class);
+        verify(plantReminderRepository).claimAllForEmail(eq(requests.keySet()), claimId.capture(), any());
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getReminderClaimId()).isEqualTo(claimId.getValue());
+        assertThat(captor.getValue().getPlantReminderId()).isNull();
+        assertThat(counter("queued")).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueDigest_shouldLeaveOutRemindersClaimedElsewhere() {
+        Map<UUID, ReminderEmailRequest> requests = digestRequests(3);
+        List<UUID> ids = List.copyOf(requests.keySet());
+        when(plantReminderRepository.claimAllForEmail(any(), any(), any())).thenReturn(2);
+        when(plantReminderRepository.findIdsByEmailClaimId(any())).thenReturn(List.of(ids.get(0), ids.get(2)));
+        when(reminderService.buildDigestEmail(List.of(requests.get(ids.get(0)), requests.get(ids.get(2)))))
+                .thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueDigest(requests, List.of())).isPresent();
+    }
+
+    @Test
+    void enqueueDigest_shouldSendSingleReminderEmailWhenOnlyOneIsClaimed() {
+        Map<UUID, ReminderEmailRequest> requests = digestRequests(2);
+        UUID claimedId = requests.keySet().iterator().next();
+        when(plantReminderRepository.claimAllForEmail(any(), any(), any())).thenReturn(1);
+        when(plantReminderRepository.findIdsByEmailClaimId(any())).thenReturn(List.of(claimedId));
+        when(reminderService.buildReminderEmail(requests.get(claimedId))).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueDigest(requests, List.of())).isPresent();
+
+        verify(reminderService, never()).buildDigestEmail(any());
+    }
+
+    @Test
+    void enqueueDigest_shouldQueueNothingWhenAllRemindersWereClaimedElsewhere() {
+        when(plantReminderRepository.claimAllForEmail(any(), any(), any())).thenReturn(0);
+
+        assertThat(service.enqueueDigest(digestRequests(2), List.of())).isEmpty();
+
+        verify(emailOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueueDigest_shouldListClaimedSeriesOccurrences() {
+        Map<UUID, ReminderEmailRequest> requests = digestRequests(1);
+        UUID claimedSeriesId = UUID.randomUUID();
+        UUID movedSeriesId = UUID.randomUUID();
+        LocalDate due = LocalDate.of(2025, 5, 10);
+        ReminderEmailRequest claimed =
+                ReminderEmailRequest.builder().plantName("Tomato").build();
+        ReminderEmailRequest moved =
+                ReminderEmailRequest.builder().plantName("Mint").build();
+        when(plantReminderRepository.claimAllForEmail(any(), any(), any())).thenReturn(1);
+        when(reminderSeriesRepository.advanceNextDueDate(claimedSeriesId, due, due.plusDays(7)))
+                .thenReturn(1);
+        when(reminderSeriesRepository.advanceNextDueDate(movedSeriesId, due, due.plusDays(7)))
+                .thenReturn(0);
+        List<ReminderEmailRequest> listed = new ArrayList<>(requests.values());
+        listed.add(claimed);
+        when(reminderService.buildDigestEmail(listed)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueDigest(
+                        requests,
+                        List.of(
+                                new EmailOutboxService.SeriesOccurrence(claimedSeriesId, due, due.plusDays(7), claimed),
+                                new EmailOutboxService.SeriesOccurrence(movedSeriesId, due, due.plusDays(7), moved))))
+                .isPresent();
+    }
+
+    @Test
+    void enqueueDigest_shouldNotClaimRemindersForDigestOfOnlySeries() {
+        UUID seriesId = UUID.randomUUID();
+        LocalDate due = LocalDate.of(2025, 5, 10);
+        ReminderEmailRequest request = new ReminderEmailRequest();
+        when(reminderSeriesRepository.advanceNextDueDate(seriesId, due, null)).thenReturn(1);
+        when(reminderService.buildReminderEmail(request)).thenReturn(EMAIL);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> {
+            EmailOutbox saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+
+        assertThat(service.enqueueDigest(
+                        Map.of(), List.of(new EmailOutboxService.SeriesOccurrence(seriesId, due, null, request))))
+                .isPresent();
+
+        verify(plantReminderRepository, never()).claimAllForEmail(any(), any(), any());
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getReminderClaimId()).isNull();
+    }
+
+    @Test
+    void sendNext_shouldReturnZeroWhenNothingIsDue() {
+        when(emailOutboxRepository.lockDue(any(), eq(50))).thenReturn(List.of());
+
+        assertThat(service.sendNext(() -> true)).isZero();
+    }
+
+    @Test
+    void sendNext_shouldMarkEmailAndReminderSent() throws ResendException {
+        EmailOutbox email = pending(UUID.randomUUID(), 1);
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+        when(reminderService.sendEmail(EMAIL)).thenReturn("resend-1");
+
+        assertThat(service.sendNext(() -> true)).isEqualTo(1);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(email.getProviderId()).isEqualTo("resend-1");
+        assertThat(email.getSentAt()).isNotNull();
+        assertThat(email.getLastError()).isNull();
+        verify(emailOutboxRepository).saveAll(List.of(email));
+        verify(plantReminderRepository).markEmailSent(email.getPlantReminderId(), "resend-1", email.getSentAt());
+        assertThat(counter("sent")).isEqualTo(1);
+        assertThat(meterRegistry.get("email.outbox.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendNext_shouldSendDueEmailsInOneBatch() throws ResendException {
+        config.setBatchSize(500);
+        EmailOutbox single = pending(UUID.randomUUID(), 0);
+        EmailOutbox digest = pending(null, 0);
+        digest.setReminderClaimId(UUID.randomUUID());
+        when(emailOutboxRepository.lockDue(any(), eq(100))).thenReturn(List.of(single, digest));
+        when(reminderService.sendEmails(List.of(EMAIL, EMAIL))).thenReturn(List.of("resend-1", "resend-2"));
+
+        assertThat(service.sendNext(() -> true)).isEqualTo(2);
+
+        verify(reminderService, never()).sendEmail(any());
+        assertThat(single.getProviderId()).isEqualTo("resend-1");
+        assertThat(digest.getProviderId()).isEqualTo("resend-2");
+        verify(plantReminderRepository).markEmailSent(single.getPlantReminderId(), "resend-1", single.getSentAt());
+        verify(plantReminderRepository).markClaimEmailSent(digest.getReminderClaimId(), "resend-2", digest.getSentAt());
+        assertThat(counter("sent")).isEqualTo(2);
+        assertThat(meterRegistry.get("email.outbox.send").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendNext_shouldRetryFailedEmailWithBackoff() throws ResendException {
+        EmailOutbox email = pending(null, 1);
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+        when(reminderService.sendEmail(EMAIL)).thenThrow(new ResendException("rate limited"));
+
+        assertThat(service.sendNext(() -> true)).isEqualTo(1);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(email.getLastError()).isEqualTo("ResendException: rate limited");
+        // Second failed attempt waits twice the initial backoff
+        assertThat(email.getNextAttemptAt())
+                .isCloseTo(OffsetDateTime.now(ZoneOffset.UTC).plusSeconds(60), within(5, ChronoUnit.SECONDS));
+        verify(emailOutboxRepository).saveAll(List.of(email));
+        verify(plantReminderRepository, never()).markEmailSent(any(), any(), any());
+        assertThat(counter("retried")).isEqualTo(1);
+    }
+
+    @Test
+    void sendNext_shouldSendEmailsOfRejectedBatchOneByOne() throws ResendException {
+        EmailOutbox good = pending(UUID.randomUUID(), 0);
+        EmailOutbox bad = pending(null, 0);
+        bad.setRecipient("not-an-address");
+        ReminderEmail badEmail = new ReminderEmail("not-an-address", EMAIL.subject(), EMAIL.html(), EMAIL.text());
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(good, bad));
+        when(reminderService.sendEmails(any())).thenThrow(new ResendException("invalid recipient"));
+        when(reminderService.sendEmail(EMAIL)).thenReturn("resend-1");
+        when(reminderService.sendEmail(badEmail)).thenThrow(new ResendException("invalid recipient"));
+
+        assertThat(service.sendNext(() -> true)).isEqualTo(2);
+
+        assertThat(good.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+        assertThat(good.getProviderId()).isEqualTo("resend-1");
+        assertThat(good.getAttempts()).isEqualTo(1);
+        assertThat(bad.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(bad.getLastError()).isEqualTo("ResendException: invalid recipient");
+        assertThat(counter("sent")).isEqualTo(1);
+        assertThat(counter("retried")).isEqualTo(1);
+    }
+
+    @Test
+    void sendNext_shouldLeaveEmailsOfRejectedBatchDueWithoutPermit() throws ResendException {
+        List<EmailOutbox> due = List.of(pending(null, 0), pending(null, 0));
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(due);
+        when(reminderService.sendEmails(any())).thenThrow(new ResendException("rate limited"));
+
+        assertThat(service.sendNext(() -> false)).isEqualTo(2);
+
+        verify(reminderService, never()).sendEmail(any());
+        assertThat(due).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+            assertThat(email.getAttempts()).isZero();
+            assertThat(email.getNextAttemptAt()).isBeforeOrEqualTo(OffsetDateTime.now(ZoneOffset.UTC));
+        });
+        assertThat(counter("retried")).isZero();
+    }
+
+    @Test
+    void sendNext_shouldDeadLetterEmailAfterMaxAttempts() throws ResendException {
+        EmailOutbox email = pending(UUID.randomUUID(), 2);
+        OffsetDateTime nextAttemptAt = email.getNextAttemptAt();
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+        when(reminderService.sendEmail(EMAIL)).thenThrow(new IllegalStateException("Resend client is not initialized"));
+
+        assertThat(service.sendNext(() -> true)).isEqualTo(1);
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(3);
+        assertThat(email.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        assertThat(counter("dead")).isEqualTo(1);
+    }
+
+    @Test
+    void findById_shouldReturnDeliveryState() {
+        EmailOutbox email = pending(null, 0);
+        when(emailOutboxRepository.findById(email.getId())).thenReturn(Optional.of(email));
+
+        assertThat(service.findById(email.getId())).get().satisfies(dto -> {
+            assertThat(dto.getStatus()).isEqualTo("PENDING");
+            assertThat(dto.getCreatedAt()).isEqualTo(email.getCreatedAt());
+        });
+    }
+
+    @Test
+    void backoff_shouldDoubleAfterEveryAttemptUpToMaximum() {
+        Duration initial = Duration.ofSeconds(30);
+        Duration max = Duration.ofHours(1);
+
+        assertThat(EmailOutboxService.backoff(1, initial, max)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(EmailOutboxService.backoff(2, initial, max)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(EmailOutboxService.backoff(4, initial, max)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(EmailOutboxService.backoff(10, initial, max)).isEqualTo(max);
+        assertThat(EmailOutboxService.backoff(100, initial, max)).isEqualTo(max);
+    }
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("email.outbox.emails")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static Map<UUID, ReminderEmailRequest> digestRequests(int count) {
+        Map<UUID, ReminderEmailRequest> requests = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            requests.put(
+                    UUID.randomUUID(),
+                    ReminderEmailRequest.builder().plantName("Plant " + i).build());
+        }
+        return requests;
+    }
+
+    private static EmailOutbox pending(UUID plantReminderId, int attempts) {
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(5);
+        EmailOutbox email = new EmailOutbox();
+        email.setId(UUID.randomUUID());
+        email.setRecipient(EMAIL.to());
+        email.setSubject(EMAIL.subject());
+        email.setHtmlBody(EMAIL.html());
+        email.setTextBody(EMAIL.text());
+        email.setStatus(EmailOutbox.Status.PENDING);
+        email.setAttempts(attempts);
+        email.setNextAttemptAt(createdAt);
+        email.setPlantReminderId(plantReminderId);
+        email.setCreatedAt(createdAt);
+        return email;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.EmailOutboxConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxWorkerTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    private EmailOutboxConfig config;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        config = new EmailOutboxConfig();
+        config.setWorkers(3);
+        config.setSendsPerSecond(1000);
+        worker = new EmailOutboxWorker(emailOutboxService, config, RateLimiterRegistry.ofDefaults());
+    }
+
+    @Test
+    void drain_shouldSendBatchesUntilNoEmailIsDue() {
+        AtomicInteger batches = new AtomicInteger(10);
+        when(emailOutboxService.sendNext(any())).thenAnswer(invocation -> batches.getAndDecrement() > 0 ? 5 : 0);
+
+        assertThat(worker.drain()).isEqualTo(50);
+    }
+
+    @Test
+    void drain_shouldStopWorkerThatFails() {
+        when(emailOutboxService.sendNext(any())).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThat(worker.drain()).isZero();
+    }
+
+    @Test
+    void sendDue_shouldDoNothingWhenDisabled() {
+        config.setEnabled(false);
+
+        worker.sendDue();
+
+        verify(emailOutboxService, never()).sendNext(any());
+    }
+}
@@ -0,0 +1,73 @@
+package dev.solace.twiggle.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.solace.twiggle.service.EmailTemplates.RenderedEmail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmailTemplatesTest {
+
+    private static final Map<String, String> VALUES = Map.of(
+            "plantName", "Basil",
+            "reminderType", "Watering",
+            "reminderDate", "May 1, 2024",
+            "reminderTime", "09:00");
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailTemplates emailTemplates;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailTemplates = new EmailTemplates(meterRegistry);
+    }
+
+    @Test
+    void render_ShouldRenderSubjectHtmlAndText() {
+        RenderedEmail email = emailTemplates.render("reminder", Locale.US, VALUES::get);
+
+        assertEquals("🌿 Plant Care Reminder: Watering for Basil", email.subject());
+        assertTrue(email.html().startsWith("<!DOCTYPE html>"));
+        assertTrue(email.text().contains("When: May 1, 2024 at 09:00"));
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("email.templates.render")
+                        .tag("template", "reminder")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void render_ShouldFallBackToLanguageThenDefault() {
+        assertTrue(emailTemplates
+                .render("reminder", Locale.forLanguageTag("es-AR"), VALUES::get)
+                .subject()
+                .startsWith("🌿 Recordatorio"));
+        assertTrue(emailTemplates
+                .render("reminder", Locale.GERMAN, VALUES::get)
+                .subject()
+                .startsWith("🌿 Plant Care Reminder"));
+        assertTrue(
+                emailTemplates.render("reminder", null, VALUES::get).subject().startsWith("🌿 Plant Care Reminder"));
+    }
+
+    @Test
+    void render_WithUnknownTemplate_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> emailTemplates.render("missing", Locale.US, VALUES::get));
+    }
+
+    @Test
+    void candidates_ShouldListMostSpecificFirst() {
+        assertEquals(
+                List.of("reminder_es_MX", "reminder_es", "reminder"),
+                EmailTemplates.candidates("reminder", Locale.forLanguageTag("es-MX")));
+        assertEquals(List.of("reminder_es", "reminder"), EmailTemplates.candidates("reminder", Locale.of("es")));
+        assertEquals(List.of("reminder"), EmailTemplates.candidates("reminder", null));
+    }
+}
@@ -1,18 +1,26 @@
 package dev.solace.twiggle.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 import dev.solace.twiggle.dto.GardenImageDTO;
+import dev.solace.twiggle.dto.ImageEngagementDTO;
 import dev.solace.twiggle.mapper.GardenImageMapper;
 import dev.solace.twiggle.model.GardenImage;
 import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.service.ImageEngagementCounterService.Counts;
+import dev.solace.twiggle.service.ImageStorageService.ImageFormat;
+import dev.solace.twiggle.service.ImageStorageService.StagedImage;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.*;
+import org.springframework.mock.web.MockMultipartFile;
 
 class GardenImageServiceTest {
 
@@ -22,6 +30,21 @@ class GardenImageServiceTest {
     @Mock
     private GardenImageMapper gardenImageMapper;
 
+    @Mock
+    private UnifiedSearchService unifiedSearchService;
+
+    @Mock
+    private ImageEngagementCounterService imageEngagementCounterService;
+
+    @Mock
+    private LikedImageCache likedImageCache;
+
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
     @InjectMocks
     private GardenImageService gardenImageService;
 
@@ -34,8 +57,8 @@ class GardenImageServiceTest {
 
         UUID planId = UUID.randomUUID();
         image = new GardenImage(
-                UUID.randomUUID(), planId, "https://example.com/img.jpg", "My Garden", OffsetDateTime.now());
-        dto = new GardenImageDTO(planId, "https://example.com/img.jpg", "My Garden", OffsetDateTime.now());
+                UUID.randomUUID(), planId, "https://example.com/img.jpg", "My Garden", OffsetDateTime.now(), null);
+        dto = new GardenImageDTO(planId, "https://example.com/img.jpg", "My Garden", OffsetDateTime.now(), null);
     }
 
     @Test
@@ -140,6 +163,36 @@ class GardenImageServiceTest {
 
         assertThat(result).isPresent();
         verify(gardenImageRepository).save(image);
+        verify(unifiedSearchService).indexGardenImage(image);
+    }
+
+    @Test
+    void update_shouldDeleteStoredFiles_whenUploadedImageUrlIsReplaced() {
+        image.setImageUrl(ImageStorageService.originalUrl(image.getId()));
+        image.setThumbnailWidths("160,480");
+        when(gardenImageRepository.findById(image.getId())).thenReturn(Optional.of(image));
+        when(gardenImageRepository.save(image)).thenReturn(image);
+
+        gardenImageService.update(image.getId(), dto);
+
+        assertThat(image.getImageUrl()).isEqualTo(dto.getImageUrl());
+        assertThat(image.getThumbnailWidths()).isNull();
+        verify(imageStorageService).delete(image.getId());
+    }
+
+    @Test
+    void update_shouldKeepStoredFiles_whenUploadedImageUrlIsKept() {
+        String uploadedUrl = ImageStorageService.originalUrl(image.getId());
+        image.setImageUrl(uploadedUrl);
+        image.setThumbnailWidths("160,480");
+        dto.setImageUrl(uploadedUrl);
+        when(gardenImageRepository.findById(image.getId())).thenReturn(Optional.of(image));
+        when(gardenImageRepository.save(image)).thenReturn(image);
+
+        gardenImageService.update(image.getId(), dto);
+
+        assertThat(image.getThumbnailWidths()).isEqualTo("160,480");
+        verify(imageStorageService, never()).delete(any());
     }
 
     @Test
@@ -157,5 +210,92 @@ class GardenImageServiceTest {
         UUID id = UUID.randomUUID();
         gardenImageService.delete(id);
         verify(gardenImageRepository).deleteById(id);
+        verify(unifiedSearchService).removeGardenImage(id);
+        verify(imageStorageService).delete(id);
+    }
+
+    @Test
+    void upload_shouldStoreFileUnderSavedIdAndScheduleThumbnails() {
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", new byte[] {1});
+        StagedImage staged = new StagedImage(Path.of("staged.part"), new ImageFormat("png", "image/png"), 640, 480);
+        UUID planId = UUID.randomUUID();
+        UUID savedId = UUID.randomUUID();
+        when(imageStorageService.stage(file)).thenReturn(staged);
+        when(gardenImageRepository.save(any())).thenAnswer(invocation -> {
+            GardenImage saved = invocation.getArgument(0);
+            saved.setId(savedId);
+            return saved;
+        });
+        when(gardenImageMapper.toDto(any())).thenReturn(dto);
+
+        GardenImageDTO result = gardenImageService.upload(file, planId, "Roses");
+
+        assertThat(result).isSameAs(dto);
+        ArgumentCaptor<GardenImage> captor = ArgumentCaptor.forClass(GardenImage.class);
+        verify(gardenImageMapper).toDto(captor.capture());
+        assertThat(captor.getValue().getGardenPlanId()).isEqualTo(planId);
+        assertThat(captor.getValue().getTitle()).isEqualTo("Roses");
+        assertThat(captor.getValue().getImageUrl()).isEqualTo("/api/garden-images/" + savedId + "/original");
+        assertThat(captor.getValue().getCreatedAt()).isNotNull();
+        verify(imageStorageService).commit(staged, savedId);
+        verify(thumbnailService).generateAfterCommit(savedId);
+        verify(unifiedSearchService).indexGardenImage(captor.getValue());
+    }
+
+    @Test
+    void upload_shouldDiscardStagedFile_whenSaveFails() {
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", new byte[] {1});
+        StagedImage staged = new StagedImage(Path.of("staged.part"), new ImageFormat("png", "image/png"), 640, 480);
+        when(imageStorageService.stage(file)).thenReturn(staged);
+        when(gardenImageRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> gardenImageService.upload(file, null, null)).isInstanceOf(IllegalStateException.class);
+
+        verify(imageStorageService).discard(staged);
+        verify(imageStorageService, never()).commit(any(), any());
+        verify(thumbnailService, never()).generateAfterCommit(any());
+    }
+
+    @Test
+    void getEngagement_shouldCombineCountsAndUserLikesInRequestOrder() {
+        UUID liked = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Set<UUID> ids = new LinkedHashSet<>(List.of(other, liked));
+        when(imageEngagementCounterService.getCounts(ids))
+                .thenReturn(Map.of(other, new Counts(0, 2), liked, new Counts(5, 1)));
+        when(likedImageCache.filterLiked(userId, ids)).thenReturn(Set.of(liked));
+
+        List<ImageEngagementDTO> result = gardenImageService.getEngagement(List.of(other, liked, other), userId);
+
+        assertThat(result)
+                .extracting(
+                        ImageEngagementDTO::getImageId,
+                        ImageEngagementDTO::getLikeCount,
+                        ImageEngagementDTO::getCommentCount,
+                        ImageEngagementDTO::getLikedByUser)
+                .containsExactly(tuple(other, 0L, 2L, false), tuple(liked, 5L, 1L, true));
+    }
+
+    @Test
+    void getEngagement_shouldNotQueryLikesForAnonymousUser() {
+        UUID imageId = UUID.randomUUID();
+        when(imageEngagementCounterService.getCounts(Set.of(imageId))).thenReturn(Map.of(imageId, new Counts(3, 0)));
+
+        List<ImageEngagementDTO> result = gardenImageService.getEngagement(List.of(imageId), null);
+
+        assertThat(result).singleElement().satisfies(engagement -> {
+            assertThat(engagement.getLikeCount()).isEqualTo(3L);
+            assertThat(engagement.getLikedByUser()).isFalse();
+        });
+        verifyNoInteractions(likedImageCache);
+    }
+
+    @Test
+    void getEngagement_shouldReturnEmptyWithoutQueryingForNoImages() {
+        assertThat(gardenImageService.getEngagement(List.of(), UUID.randomUUID()))
+                .isEmpty();
+
+        verifyNoInteractions(imageEngagementCounterService, likedImageCache);
     }
 }
@@ -0,0 +1,166 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenLayoutConfig;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.repository.PlantPositionView;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GardenOccupancyCacheTest {
+
+    @Mock
+    private PlantRepository plantRepository;
+
+    private GardenLayoutConfig config;
+    private GardenOccupancyCache cache;
+    private UUID gardenPlanId;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenLayoutConfig();
+        config.setGridWidth(2);
+        config.setGridHeight(2);
+        cache = new GardenOccupancyCache(plantRepository, config);
+        gardenPlanId = UUID.randomUUID();
+    }
+
+    @Test
+    void claim_loadsOccupancyOnceAndSkipsTakenCells() {
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of(position(0, 0)));
+
+        assertThat(cache.claim(gardenPlanId, 1)).containsExactly(new Cell(1, 0));
+        assertThat(cache.claim(gardenPlanId, 2)).containsExactly(new Cell(0, 1), new Cell(1, 1));
+        verify(plantRepository, times(1)).findPositionsByGardenPlanId(gardenPlanId);
+    }
+
+    @Test
+    void claim_throwsConflictWhenGardenIsFull() {
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of());
+        cache.claim(gardenPlanId, 3);
+
+        assertThatThrownBy(() -> cache.claim(gardenPlanId, 2))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.GARDEN_PLAN_FULL);
+        assertThat(cache.claim(gardenPlanId, 1)).containsExactly(new Cell(1, 1));
+    }
+
+    @Test
+    void place_updatesCachedGrid() {
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of());
+        cache.claim(gardenPlanId, 1);
+
+        cache.place(gardenPlanId, UUID.randomUUID(), 1, 0);
+
+        assertThat(cache.claim(gardenPlanId, 1)).containsExactly(new Cell(0, 1));
+    }
+
+    @Test
+    void remove_freesCellOnlyWhenNoOtherPlantSharesIt() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId))
+                .thenReturn(List.of(position(first, 0, 0), position(second, 0, 0)));
+        assertThat(cache.findNearestFree(gardenPlanId, 0, 0)).contains(new Cell(1, 0));
+
+        cache.remove(gardenPlanId, first);
+        assertThat(cache.findNearestFree(gardenPlanId, 0, 0)).contains(new Cell(1, 0));
+
+        cache.remove(gardenPlanId, second);
+        assertThat(cache.findNearestFree(gardenPlanId, 0, 0)).contains(new Cell(0, 0));
+        verify(plantRepository, times(1)).findPositionsByGardenPlanId(gardenPlanId);
+    }
+
+    @Test
+    void move_allowsSwapsAndRejectsCollisions() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId))
+                .thenReturn(List.of(position(first, 0, 0), position(second, 1, 0), position(third, 0, 1)));
+
+        cache.move(gardenPlanId, Map.of(first, new Cell(1, 0), second, new Cell(0, 0)));
+        assertThat(cache.findInRegion(gardenPlanId, 0, 0, 1, 0))
+                .containsExactly(entry(second, new Cell(0, 0)), entry(first, new Cell(1, 0)));
+
+        assertThatThrownBy(() -> cache.move(gardenPlanId, Map.of(third, new Cell(0, 0))))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.POSITION_OCCUPIED);
+        assertThatThrownBy(() -> cache.move(gardenPlanId, Map.of(first, new Cell(1, 1), third, new Cell(1, 1))))
+                .isInstanceOf(CustomException.class);
+        assertThat(cache.findInRegion(gardenPlanId, 0, 1, 1, 1)).containsExactly(entry(third, new Cell(0, 1)));
+    }
+
+    @Test
+    void move_rejectsCellsClaimedByPendingAdds() {
+        UUID plantId = UUID.randomUUID();
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of(position(plantId, 1, 1)));
+        assertThat(cache.claim(gardenPlanId, 1)).containsExactly(new Cell(0, 0));
+
+        assertThatThrownBy(() -> cache.move(gardenPlanId, Map.of(plantId, new Cell(0, 0))))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void findNearestFree_returnsEmptyWhenFull() {
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of());
+        cache.claim(gardenPlanId, 4);
+
+        assertThat(cache.findNearestFree(gardenPlanId, 1, 1)).isEmpty();
+    }
+
+    @Test
+    void getOrLoad_keepsAtMostMaxCachedGardens() {
+        config.setMaxCachedGardens(1);
+        UUID otherGardenPlanId = UUID.randomUUID();
+        when(plantRepository.findPositionsByGardenPlanId(gardenPlanId)).thenReturn(List.of());
+        when(plantRepository.findPositionsByGardenPlanId(otherGardenPlanId)).thenReturn(List.of());
+
+        cache.claim(gardenPlanId, 1);
+        cache.claim(otherGardenPlanId, 1);
+        cache.claim(gardenPlanId, 1);
+
+        verify(plantRepository, times(2)).findPositionsByGardenPlanId(gardenPlanId);
+    }
+
+    private static PlantPositionView position(int x, int y) {
+        return position(UUID.randomUUID(), x, y);
+    }
+
+    private static PlantPositionView position(UUID id, int x, int y) {
+        return new PlantPositionView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getPositionX() {
+                return x;
+            }
+
+            @Override
+            public Integer getPositionY() {
+                return y;
+            }
+        };
+    }
+}
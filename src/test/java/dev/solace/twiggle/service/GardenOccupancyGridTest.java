@@ -0,0 +1,134 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class GardenOccupancyGridTest {
+
+    @Test
+    void nextFree_scansRowByRow() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(3, 2);
+        grid.occupy(0, 0);
+        grid.occupy(1, 0);
+
+        assertThat(grid.nextFree()).isEqualTo(new Cell(2, 0));
+        grid.occupy(2, 0);
+        assertThat(grid.nextFree()).isEqualTo(new Cell(0, 1));
+    }
+
+    @Test
+    void claim_spansWordsAndReturnsEmptyWhenNotEnoughFree() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(10, 10);
+        for (int i = 0; i < 70; i++) {
+            grid.occupy(i % 10, i / 10);
+        }
+
+        assertThat(grid.claim(2)).containsExactly(new Cell(0, 7), new Cell(1, 7));
+        assertThat(grid.freeCells()).isEqualTo(28);
+        assertThat(grid.claim(29)).isEmpty();
+        assertThat(grid.freeCells()).isEqualTo(28);
+        assertThat(grid.claim(28)).hasSize(28);
+        assertThat(grid.nextFree()).isNull();
+    }
+
+    @Test
+    void release_makesEarlierCellAvailableAgain() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(10, 10);
+        grid.claim(80);
+
+        assertThat(grid.release(3, 0)).isTrue();
+        assertThat(grid.release(3, 0)).isFalse();
+        assertThat(grid.nextFree()).isEqualTo(new Cell(3, 0));
+    }
+
+    @Test
+    void occupy_ignoresDuplicatesAndPositionsOutsideGrid() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(4, 4);
+
+        assertThat(grid.occupy(1, 1)).isTrue();
+        assertThat(grid.occupy(1, 1)).isFalse();
+        assertThat(grid.occupy(4, 0)).isFalse();
+        assertThat(grid.occupy(-1, 2)).isFalse();
+        assertThat(grid.freeCells()).isEqualTo(15);
+    }
+
+    @Test
+    void collisions_allowSwapsButNotSharedTargets() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(4, 4);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        grid.place(first, 0, 0);
+        grid.place(second, 1, 0);
+        grid.place(third, 2, 0);
+
+        assertThat(grid.collisions(Map.of(first, new Cell(1, 0), second, new Cell(0, 0))))
+                .isEmpty();
+        assertThat(grid.collisions(Map.of(first, new Cell(2, 0)))).containsExactly(new Cell(2, 0));
+        assertThat(grid.collisions(Map.of(first, new Cell(3, 3), second, new Cell(3, 3))))
+                .containsExactly(new Cell(3, 3));
+
+        Map<UUID, Cell> previous = grid.moveAll(Map.of(first, new Cell(1, 0), second, new Cell(0, 0)));
+        assertThat(previous).containsEntry(first, new Cell(0, 0)).containsEntry(second, new Cell(1, 0));
+        assertThat(grid.cellOf(first)).isEqualTo(new Cell(1, 0));
+        assertThat(grid.freeCells()).isEqualTo(13);
+    }
+
+    @Test
+    void findInRegion_returnsPlantsInRowMajorOrderForSmallAndLargeRegions() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(10, 10);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID outside = UUID.randomUUID();
+        grid.place(b, 5, 5);
+        grid.place(a, 6, 2);
+        grid.place(outside, 20, 20);
+
+        assertThat(grid.findInRegion(5, 2, 6, 5).keySet()).containsExactly(a, b);
+        assertThat(grid.findInRegion(0, 0, 9, 9).keySet()).containsExactly(a, b);
+        assertThat(grid.findInRegion(0, 0, 30, 30).keySet()).containsExactly(a, b, outside);
+        assertThat(grid.findInRegion(6, 6, 6, 6)).isEmpty();
+    }
+
+    @Test
+    void nearestFree_picksClosestCellWithRowMajorTieBreak() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(5, 5);
+        grid.place(UUID.randomUUID(), 2, 2);
+
+        assertThat(grid.nearestFree(0, 0)).isEqualTo(new Cell(0, 0));
+        assertThat(grid.nearestFree(2, 2)).isEqualTo(new Cell(2, 1));
+
+        grid.occupy(2, 1);
+        grid.occupy(1, 2);
+        grid.occupy(3, 2);
+        grid.occupy(2, 3);
+        assertThat(grid.nearestFree(2, 2)).isEqualTo(new Cell(1, 1));
+        assertThat(grid.nearestFree(-3, 1)).isEqualTo(new Cell(0, 1));
+    }
+
+    @Test
+    void remove_keepsCellOccupiedWhileAnotherPlantSharesIt() {
+        GardenOccupancyGrid grid = new GardenOccupancyGrid(3, 3);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        grid.place(first, 1, 1);
+        grid.place(second, 1, 1);
+
+        assertThat(grid.remove(first)).isEqualTo(new Cell(1, 1));
+        assertThat(grid.isOccupied(1, 1)).isTrue();
+        assertThat(grid.release(1, 1)).isFalse();
+        grid.remove(second);
+        assertThat(grid.isOccupied(1, 1)).isFalse();
+        assertThat(grid.remove(second)).isNull();
+    }
+
+    @Test
+    void constructor_rejectsEmptyGrid() {
+        assertThatThrownBy(() -> new GardenOccupancyGrid(0, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
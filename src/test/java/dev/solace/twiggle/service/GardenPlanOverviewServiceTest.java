@@ -0,0 +1,187 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.dto.GardenImageOverviewDTO;
+import dev.solace.twiggle.dto.GardenPlanDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO;
+import dev.solace.twiggle.dto.GardenPlanOverviewDTO.Section;
+import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantReminderDTO;
+import dev.solace.twiggle.mapper.GardenPlanMapper;
+import dev.solace.twiggle.mapper.PlantMapper;
+import dev.solace.twiggle.mapper.PlantReminderMapper;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.model.GardenPlan;
+import dev.solace.twiggle.model.Plant;
+import dev.solace.twiggle.model.PlantReminder;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.ImageEngagementCounterService.Counts;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GardenPlanOverviewServiceTest {
+
+    @Mock
+    private GardenPlanRepository gardenPlanRepository;
+
+    @Mock
+    private PlantRepository plantRepository;
+
+    @Mock
+    private PlantReminderRepository plantReminderRepository;
+
+    @Mock
+    private GardenImageRepository gardenImageRepository;
+
+    @Mock
+    private ImageEngagementCounterService imageEngagementCounterService;
+
+    @Mock
+    private GardenPlanMapper gardenPlanMapper;
+
+    @Mock
+    private PlantMapper plantMapper;
+
+    @Mock
+    private PlantReminderMapper plantReminderMapper;
+
+    private ExecutorService executor;
+    private GardenPlanOverviewService service;
+
+    private UUID gardenPlanId;
+    private GardenPlanDTO gardenPlanDTO;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new GardenPlanOverviewService(
+                gardenPlanRepository,
+                plantRepository,
+                plantReminderRepository,
+                gardenImageRepository,
+                imageEngagementCounterService,
+                gardenPlanMapper,
+                plantMapper,
+                plantReminderMapper,
+                executor);
+
+        gardenPlanId = UUID.randomUUID();
+        GardenPlan gardenPlan = new GardenPlan();
+        gardenPlan.setId(gardenPlanId);
+        gardenPlanDTO = GardenPlanDTO.builder().name("Urban Garden").build();
+        lenient().when(gardenPlanRepository.findById(gardenPlanId)).thenReturn(Optional.of(gardenPlan));
+        lenient().when(gardenPlanMapper.toDto(gardenPlan)).thenReturn(gardenPlanDTO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getOverview_loadsAllSectionsWithCounters() {
+        Plant plant = new Plant();
+        PlantDTO plantDTO = PlantDTO.builder().name("Basil").build();
+        PlantReminder reminder = new PlantReminder();
+        PlantReminderDTO reminderDTO =
+                PlantReminderDTO.builder().reminderType("Water").build();
+        GardenImage liked = image();
+        GardenImage quiet = image();
+        List<UUID> imageIds = List.of(liked.getId(), quiet.getId());
+
+        when(plantRepository.findByGardenPlanId(gardenPlanId)).thenReturn(List.of(plant));
+        when(plantMapper.toDto(plant)).thenReturn(plantDTO);
+        when(plantReminderRepository.findByGardenPlanIdAndIsCompletedOrderByReminderDateAsc(gardenPlanId, false))
+                .thenReturn(List.of(reminder));
+        when(plantReminderMapper.toDto(reminder)).thenReturn(reminderDTO);
+        when(gardenImageRepository.findByGardenPlanId(gardenPlanId)).thenReturn(List.of(liked, quiet));
+        when(imageEngagementCounterService.getCounts(imageIds))
+                .thenReturn(Map.of(liked.getId(), new Counts(4, 2), quiet.getId(), new Counts(0, 1)));
+
+        GardenPlanOverviewDTO overview =
+                service.getOverview(gardenPlanId, Set.of(Section.values())).orElseThrow();
+
+        assertThat(overview.getGardenPlan()).isEqualTo(gardenPlanDTO);
+        assertThat(overview.getPlants()).containsExactly(plantDTO);
+        assertThat(overview.getPendingReminders()).containsExactly(reminderDTO);
+        assertThat(overview.getImages())
+                .extracting(
+                        GardenImageOverviewDTO::getId,
+                        GardenImageOverviewDTO::getLikeCount,
+                        GardenImageOverviewDTO::getCommentCount)
+                .containsExactly(tuple(liked.getId(), 4L, 2L), tuple(quiet.getId(), 0L, 1L));
+        verify(imageEngagementCounterService, times(1)).getCounts(any(List.class));
+    }
+
+    @Test
+    void getOverview_skipsSectionsThatWereNotSelected() {
+        when(gardenImageRepository.findByGardenPlanId(gardenPlanId)).thenReturn(List.of(image()));
+
+        GardenPlanOverviewDTO overview =
+                service.getOverview(gardenPlanId, Set.of(Section.IMAGES)).orElseThrow();
+
+        assertThat(overview.getPlants()).isNull();
+        assertThat(overview.getPendingReminders()).isNull();
+        assertThat(overview.getImages()).singleElement().satisfies(image -> assertThat(image.getLikeCount())
+                .isNull());
+        verify(plantRepository, never()).findByGardenPlanId(any());
+        verify(imageEngagementCounterService, never()).getCounts(any(List.class));
+    }
+
+    @Test
+    void getOverview_returnsEmptyWhenGardenPlanMissing() {
+        UUID missing = UUID.randomUUID();
+        when(gardenPlanRepository.findById(missing)).thenReturn(Optional.empty());
+
+        assertThat(service.getOverview(missing, Set.of())).isEmpty();
+    }
+
+    @Test
+    void getOverview_rethrowsQueryFailures() {
+        when(plantRepository.findByGardenPlanId(gardenPlanId)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.getOverview(gardenPlanId, Set.of(Section.PLANTS)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+    }
+
+    @Test
+    void parseSections_defaultsToAllAndRejectsUnknownNames() {
+        assertThat(GardenPlanOverviewService.parseSections(null)).containsExactlyInAnyOrder(Section.values());
+        assertThat(GardenPlanOverviewService.parseSections("Plants, counts,"))
+                .containsExactlyInAnyOrder(Section.PLANTS, Section.COUNTS);
+        assertThatThrownBy(() -> GardenPlanOverviewService.parseSections("weather"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static GardenImage image() {
+        GardenImage image = new GardenImage();
+        image.setId(UUID.randomUUID());
+        image.setImageUrl("https://example.com/" + image.getId() + ".jpg");
+        return image;
+    }
+}
@@ -0,0 +1,289 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenPopularityConfig;
+import dev.solace.twiggle.dto.GardenPlanDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedDTO;
+import dev.solace.twiggle.dto.GardenPlanFeedItemDTO;
+import dev.solace.twiggle.mapper.GardenPlanMapper;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.model.GardenPlan;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlanCreationView;
+import dev.solace.twiggle.repository.PlanEngagementView;
+import dev.solace.twiggle.service.PopularityRanking.Entry;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GardenPlanPopularityServiceTest {
+
+    @Mock
+    private GardenPlanRepository gardenPlanRepository;
+
+    @Mock
+    private GardenImageRepository gardenImageRepository;
+
+    @Mock
+    private GardenPlanMapper gardenPlanMapper;
+
+    private GardenPlanPopularityService service;
+
+    private final OffsetDateTime createdAt = OffsetDateTime.now().minusDays(1);
+    private final List<GardenPlan> plans = new ArrayList<>();
+    private GardenPlan quiet;
+    private GardenPlan busy;
+    private GardenPlan hidden;
+
+    @BeforeEach
+    void setUp() {
+        service = new GardenPlanPopularityService(
+                gardenPlanRepository, gardenImageRepository, gardenPlanMapper, new GardenPopularityConfig());
+
+        quiet = plan("Quiet", true);
+        busy = plan("Busy", true);
+        hidden = plan("Hidden", false);
+
+        lenient()
+                .when(gardenPlanRepository.findCreationTimes())
+                .thenReturn(List.of(creation(quiet), creation(busy), creation(hidden)));
+        lenient()
+                .when(gardenPlanRepository.sumDecayedEngagement(
+                        any(), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(new Engagement(busy.getId(), 5.0), new Engagement(hidden.getId(), 50.0)));
+        lenient().when(gardenPlanRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return plans.stream().filter(plan -> ids.contains(plan.getId())).toList();
+        });
+        lenient().when(gardenPlanMapper.toDto(any())).thenAnswer(invocation -> GardenPlanDTO.builder()
+                .name(invocation.<GardenPlan>getArgument(0).getName())
+                .build());
+    }
+
+    @Test
+    void getFeed_shouldRankPublicPlansByEngagement() {
+        GardenPlanFeedDTO feed = service.getFeed(null, 10);
+
+        assertThat(names(feed)).containsExactly("Busy", "Quiet");
+        assertThat(feed.getItems().get(0).getPopularity())
+                .isGreaterThan(feed.getItems().get(1).getPopularity());
+        assertThat(feed.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getFeed_shouldPageWithCursor() {
+        GardenPlanFeedDTO firstPage = service.getFeed(null, 1);
+        GardenPlanFeedDTO secondPage = service.getFeed(firstPage.getNextCursor(), 1);
+
+        assertThat(names(firstPage)).containsExactly("Busy");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(names(secondPage)).containsExactly("Quiet");
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getFeed_shouldLoadOnlyOnce() {
+        service.getFeed(null, 10);
+        service.getFeed(null, 10);
+
+        verify(gardenPlanRepository).findCreationTimes();
+    }
+
+    @Test
+    void getFeed_shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> service.getFeed("not a cursor", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getFeed("bm8tc2VwYXJhdG9y", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursor_shouldRoundTrip() {
+        Entry entry = new Entry(1234.5678, UUID.randomUUID());
+
+        assertThat(GardenPlanPopularityService.parseCursor(GardenPlanPopularityService.formatCursor(entry)))
+                .isEqualTo(entry);
+        assertThat(GardenPlanPopularityService.parseCursor(" ")).isNull();
+    }
+
+    @Test
+    void recordComment_shouldRaisePlanOnceLoaded() {
+        service.getFeed(null, 10);
+        UUID imageId = UUID.randomUUID();
+        when(gardenImageRepository.findById(imageId))
+                .thenReturn(Optional.of(new GardenImage(imageId, quiet.getId(), "url", "title", null, null)));
+
+        for (int i = 0; i < 5; i++) {
+            service.recordComment(imageId, OffsetDateTime.now());
+        }
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Quiet", "Busy");
+    }
+
+    @Test
+    void retractLike_shouldUndoRecordLike() {
+        service.getFeed(null, 10);
+        UUID imageId = UUID.randomUUID();
+        when(gardenImageRepository.findById(imageId))
+                .thenReturn(Optional.of(new GardenImage(imageId, quiet.getId(), "url", "title", null, null)));
+        OffsetDateTime likedAt = OffsetDateTime.now();
+        double before = service.getFeed(null, 10).getItems().get(1).getPopularity();
+
+        service.recordLike(imageId, likedAt);
+        service.retractLike(imageId, likedAt);
+
+        GardenPlanFeedDTO feed = service.getFeed(null, 10);
+        assertThat(names(feed)).containsExactly("Busy", "Quiet");
+        assertThat(feed.getItems().get(1).getPopularity()).isCloseTo(before, within(1e-6));
+    }
+
+    @Test
+    void recordLike_shouldBeIgnoredBeforeFirstLoad() {
+        service.recordLike(UUID.randomUUID(), OffsetDateTime.now());
+
+        verify(gardenImageRepository, never()).findById(any());
+    }
+
+    @Test
+    void recordActivity_shouldIgnoreActivitiesWithoutPlan() {
+        service.getFeed(null, 10);
+
+        service.recordActivity(null, OffsetDateTime.now());
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Busy", "Quiet");
+    }
+
+    @Test
+    void planUpdated_shouldShowAndHidePlans() {
+        service.getFeed(null, 10);
+
+        hidden.setIsPublic(true);
+        service.planUpdated(hidden);
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Hidden", "Busy", "Quiet");
+
+        busy.setIsPublic(false);
+        service.planUpdated(busy);
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Hidden", "Quiet");
+    }
+
+    @Test
+    void planCreated_shouldAddNewPublicPlan() {
+        service.getFeed(null, 10);
+        GardenPlan fresh = plan("Fresh", true);
+        fresh.setCreatedAt(OffsetDateTime.now());
+
+        service.planCreated(fresh);
+
+        assertThat(names(service.getFeed(null, 10))).contains("Fresh");
+    }
+
+    @Test
+    void planDeleted_shouldRemovePlan() {
+        service.getFeed(null, 10);
+
+        service.planDeleted(busy.getId());
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Quiet");
+    }
+
+    @Test
+    void getFeed_shouldSkipPlansChangedSinceRanking() {
+        service.getFeed(null, 10);
+        plans.remove(busy);
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Quiet");
+    }
+
+    @Test
+    void scheduledRebuild_shouldDoNothingBeforeFirstLoad() {
+        service.scheduledRebuild();
+
+        verify(gardenPlanRepository, never()).findCreationTimes();
+    }
+
+    @Test
+    void scheduledRebuild_shouldReplayEventsWrittenDuringRebuild() {
+        service.getFeed(null, 10);
+        when(gardenPlanRepository.sumDecayedEngagement(
+                        any(), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    // An activity committed while the rebuild reads the database
+                    for (int i = 0; i < 40; i++) {
+                        service.recordActivity(
+                                quiet.getId(), OffsetDateTime.now().plusSeconds(1));
+                    }
+                    return List.of(new Engagement(busy.getId(), 5.0));
+                });
+
+        service.scheduledRebuild();
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Quiet", "Busy");
+    }
+
+    @Test
+    void scheduledRebuild_shouldReplayRetractionsWrittenDuringRebuild() {
+        service.getFeed(null, 10);
+        OffsetDateTime recordedAt = OffsetDateTime.now().minusSeconds(1);
+        when(gardenPlanRepository.sumDecayedEngagement(
+                        any(), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    // Activities deleted after the rebuild read them
+                    for (int i = 0; i < 4; i++) {
+                        service.retractActivity(quiet.getId(), recordedAt);
+                    }
+                    return List.of(new Engagement(quiet.getId(), 6.0), new Engagement(busy.getId(), 5.0));
+                });
+
+        service.scheduledRebuild();
+
+        assertThat(names(service.getFeed(null, 10))).containsExactly("Busy", "Quiet");
+    }
+
+    private GardenPlan plan(String name, boolean isPublic) {
+        GardenPlan plan = new GardenPlan(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                name,
+                "Balcony",
+                null,
+                null,
+                null,
+                isPublic,
+                createdAt,
+                createdAt);
+        plans.add(plan);
+        return plan;
+    }
+
+    private static PlanCreationView creation(GardenPlan plan) {
+        return new Creation(plan.getId(), plan.getIsPublic(), plan.getCreatedAt());
+    }
+
+    private static List<String> names(GardenPlanFeedDTO feed) {
+        return feed.getItems().stream()
+                .map(GardenPlanFeedItemDTO::getGardenPlan)
+                .map(GardenPlanDTO::getName)
+                .toList();
+    }
+
+    private record Creation(UUID getId, Boolean getIsPublic, OffsetDateTime getCreatedAt) implements PlanCreationView {}
+
+    private record Engagement(UUID getGardenPlanId, Double getDecayedWeight) implements PlanEngagementView {}
+}
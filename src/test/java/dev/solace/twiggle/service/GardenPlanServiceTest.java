@@ -1,6 +1,7 @@
 package dev.solace.twiggle.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import dev.solace.twiggle.dto.GardenPlanDTO;
@@ -22,6 +23,12 @@ class GardenPlanServiceTest {
     @Mock
     private GardenPlanMapper mapper;
 
+    @Mock
+    private UnifiedSearchService unifiedSearchService;
+
+    @Mock
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
     @InjectMocks
     private GardenPlanService service;
 
@@ -108,6 +115,8 @@ class GardenPlanServiceTest {
         GardenPlanDTO result = service.create(dto);
 
         assertThat(result.getName()).isEqualTo("Urban Garden");
+        verify(unifiedSearchService).indexGardenPlan(entity);
+        verify(gardenPlanPopularityService).planCreated(entity);
     }
 
     @Test
@@ -115,6 +124,8 @@ class GardenPlanServiceTest {
         UUID id = UUID.randomUUID();
         service.delete(id);
         verify(repository).deleteById(id);
+        verify(unifiedSearchService).removeGardenPlan(id);
+        verify(gardenPlanPopularityService).planDeleted(id);
     }
 
     @Test
@@ -205,6 +216,7 @@ class GardenPlanServiceTest {
         assertThat(result).isPresent();
         assertThat(result.get().getName()).isEqualTo("Updated Name");
         verify(repository).save(argThat(e -> e.getId().equals(existingId)));
+        verify(gardenPlanPopularityService).planUpdated(existingEntity);
     }
 
     @Test
@@ -393,7 +405,7 @@ class GardenPlanServiceTest {
     }
 
     @Test
-    void searchGardenPlansWithRelevance_shouldFallbackToSimpleSearch() {
+    void searchGardenPlansWithRelevance_shouldPropagateRepositoryErrors() {
         String name = "garden";
         String type = "balcony";
         String location = "dhaka";
@@ -402,20 +414,13 @@ class GardenPlanServiceTest {
         Boolean isPublic = true;
         Pageable pageable = PageRequest.of(0, 10);
 
-        // Simulate an exception in the enhanced search
         when(repository.searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable))
                 .thenThrow(new RuntimeException("Database error"));
 
-        // Expect the fallback to be called
-        when(repository.searchGardenPlans(query, userId, isPublic, pageable))
-                .thenReturn(new PageImpl<>(List.of(entity)));
-        when(mapper.toDto(entity)).thenReturn(dto);
-
-        Page<GardenPlanDTO> result =
-                service.searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable);
-
-        assertThat(result).hasSize(1);
-        verify(repository).searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable);
-        verify(repository).searchGardenPlans(query, userId, isPublic, pageable);
+        assertThatThrownBy(() ->
+                        service.searchGardenPlansWithRelevance(name, type, location, query, userId, isPublic, pageable))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Database error");
+        verify(repository, never()).searchGardenPlans(any(), any(), any(), any());
     }
 }
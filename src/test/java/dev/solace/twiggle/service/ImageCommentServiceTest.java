@@ -1,9 +1,13 @@
 package dev.solace.twiggle.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import dev.solace.twiggle.dto.CommentAuthorDTO;
 import dev.solace.twiggle.dto.ImageCommentDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedDTO;
+import dev.solace.twiggle.dto.ImageCommentFeedItemDTO;
 import dev.solace.twiggle.mapper.ImageCommentMapper;
 import dev.solace.twiggle.model.ImageComment;
 import dev.solace.twiggle.repository.ImageCommentRepository;
@@ -22,6 +26,15 @@ class ImageCommentServiceTest {
     @Mock
     private ImageCommentMapper mapper;
 
+    @Mock
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
+    @Mock
+    private ImageEngagementCounterService imageEngagementCounterService;
+
+    @Mock
+    private CommentAuthorCache commentAuthorCache;
+
     @InjectMocks
     private ImageCommentService service;
 
@@ -80,7 +93,7 @@ class ImageCommentServiceTest {
 
     @Test
     void countByImageId_shouldReturnCount() {
-        when(repository.countByImageId(entity.getImageId())).thenReturn(5L);
+        when(imageEngagementCounterService.getCommentCount(entity.getImageId())).thenReturn(5L);
 
         long count = service.countByImageId(entity.getImageId());
 
@@ -96,6 +109,8 @@ class ImageCommentServiceTest {
         ImageCommentDTO result = service.create(dto);
 
         assertThat(result.getComment()).isEqualTo("Great!");
+        verify(gardenPlanPopularityService).recordComment(entity.getImageId(), entity.getCreatedAt());
+        verify(imageEngagementCounterService).commentAdded(entity.getImageId());
     }
 
     @Test
@@ -121,9 +136,14 @@ class ImageCommentServiceTest {
 
     @Test
     void delete_shouldInvokeRepository() {
-        UUID id = UUID.randomUUID();
+        UUID id = entity.getId();
+        when(repository.findById(id)).thenReturn(Optional.of(entity));
+
         service.delete(id);
-        verify(repository).deleteById(id);
+
+        verify(repository).delete(entity);
+        verify(gardenPlanPopularityService).retractComment(entity.getImageId(), entity.getCreatedAt());
+        verify(imageEngagementCounterService).commentRemoved(entity.getImageId());
     }
 
     @Test
@@ -197,19 +217,15 @@ class ImageCommentServiceTest {
     }
 
     @Test
-    void delete_shouldThrowExceptionWhenNotFound() {
-        // Test behavior when trying to delete a non-existent comment
+    void delete_shouldDoNothingWhenNotFound() {
+        // Deleting a non-existent comment leaves the repository and the popularity ranking alone
         UUID nonExistentId = UUID.randomUUID();
-        doThrow(new RuntimeException("Entity not found")).when(repository).deleteById(nonExistentId);
+        when(repository.findById(nonExistentId)).thenReturn(Optional.empty());
 
-        try {
-            service.delete(nonExistentId);
-        } catch (Exception e) {
-            assertThat(e).isInstanceOf(RuntimeException.class);
-            assertThat(e.getMessage()).isEqualTo("Entity not found");
-        }
+        service.delete(nonExistentId);
 
-        verify(repository).deleteById(nonExistentId);
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(gardenPlanPopularityService, imageEngagementCounterService);
     }
 
     @Test
@@ -228,4 +244,62 @@ class ImageCommentServiceTest {
         verify(mapper).toEntity(invalidDto);
         verify(repository, never()).save(any());
     }
+
+    @Test
+    void getFeed_shouldEmbedAuthorsAndReturnCursorWhenMoreFollow() {
+        UUID imageId = entity.getImageId();
+        UUID author = entity.getUserId();
+        OffsetDateTime now = OffsetDateTime.now();
+        ImageComment newest = new ImageComment(UUID.randomUUID(), imageId, author, "First", now);
+        ImageComment older = new ImageComment(UUID.randomUUID(), imageId, author, "Second", now.minusMinutes(1));
+        ImageComment oldest = new ImageComment(UUID.randomUUID(), imageId, author, "Third", now.minusMinutes(2));
+        when(repository.findFeedByImageId(imageId, Limit.of(3))).thenReturn(List.of(newest, older, oldest));
+        CommentAuthorDTO authorDto = new CommentAuthorDTO(author, "Ada", "https://example.com/ada.png");
+        when(commentAuthorCache.getAuthors(List.of(author))).thenReturn(Map.of(author, authorDto));
+
+        ImageCommentFeedDTO feed = service.getFeed(imageId, null, 2);
+
+        assertThat(feed.getItems())
+                .extracting(ImageCommentFeedItemDTO::getComment)
+                .containsExactly("First", "Second");
+        assertThat(feed.getItems()).allMatch(item -> item.getAuthor() == authorDto);
+        assertThat(ImageCommentService.parseCursor(feed.getNextCursor()))
+                .isEqualTo(new ImageCommentService.FeedCursor(older.getCreatedAt(), older.getId()));
+    }
+
+    @Test
+    void getFeed_shouldSeekPastCursorAndOmitCursorOnLastPage() {
+        UUID imageId = entity.getImageId();
+        ImageComment last = new ImageComment(
+                UUID.randomUUID(),
+                imageId,
+                entity.getUserId(),
+                "Earlier",
+                OffsetDateTime.now().minusDays(1));
+        String cursor = ImageCommentService.formatCursor(entity);
+        when(repository.findFeedByImageIdAfter(imageId, entity.getCreatedAt(), entity.getId(), Limit.of(21)))
+                .thenReturn(List.of(last));
+        when(commentAuthorCache.getAuthors(List.of(entity.getUserId())))
+                .thenReturn(Map.of(entity.getUserId(), new CommentAuthorDTO(entity.getUserId(), null, null)));
+
+        ImageCommentFeedDTO feed = service.getFeed(imageId, cursor, 20);
+
+        assertThat(feed.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getId()).isEqualTo(last.getId());
+            assertThat(item.getAuthor().getId()).isEqualTo(entity.getUserId());
+        });
+        assertThat(feed.getNextCursor()).isNull();
+        verify(repository, never()).findFeedByImageId(any(), any());
+    }
+
+    @Test
+    void getFeed_shouldRejectMalformedCursor() {
+        UUID imageId = entity.getImageId();
+
+        assertThatThrownBy(() -> service.getFeed(imageId, "not a cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getFeed(imageId, "bm8tc2VwYXJhdG9y", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(commentAuthorCache);
+    }
 }
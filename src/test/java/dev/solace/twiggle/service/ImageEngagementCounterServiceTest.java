@@ -0,0 +1,284 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.model.ImageEngagementCount;
+import dev.solace.twiggle.repository.ImageEngagementCountRepository;
+import dev.solace.twiggle.repository.ImageEngagementView;
+import dev.solace.twiggle.service.ImageEngagementCounterService.Counts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImageEngagementCounterServiceTest {
+
+    @Mock
+    private ImageEngagementCountRepository repository;
+
+    private GardenEngagementConfig config;
+    private ImageEngagementCounterService service;
+    private UUID imageId;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenEngagementConfig();
+        service = new ImageEngagementCounterService(repository, config);
+        imageId = UUID.randomUUID();
+    }
+
+    @Test
+    void getLikeCount_shouldAddBufferedChangesToStoredCount() {
+        when(repository.findById(imageId)).thenReturn(Optional.of(new ImageEngagementCount(imageId, 10L, 3L, null)));
+
+        service.likeAdded(imageId);
+        service.likeAdded(imageId);
+        service.commentRemoved(imageId);
+
+        assertThat(service.getLikeCount(imageId)).isEqualTo(12);
+        assertThat(service.getCommentCount(imageId)).isEqualTo(2);
+    }
+
+    @Test
+    void getCounts_shouldReturnZeroForImagesWithoutRow() {
+        when(repository.findById(imageId)).thenReturn(Optional.empty());
+
+        assertThat(service.getCounts(imageId)).isEqualTo(new Counts(0, 0));
+    }
+
+    @Test
+    void getCounts_shouldReadManyImagesWithOneQuery() {
+        UUID stored = UUID.randomUUID();
+        UUID buffered = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        List<UUID> imageIds = List.of(stored, buffered, untouched);
+        when(repository.findAllById(imageIds)).thenReturn(List.of(new ImageEngagementCount(stored, 4L, 1L, null)));
+        service.commentAdded(buffered);
+
+        Map<UUID, Counts> counts = service.getCounts(imageIds);
+
+        assertThat(counts)
+                .containsEntry(stored, new Counts(4, 1))
+                .containsEntry(buffered, new Counts(0, 1))
+                .containsEntry(untouched, new Counts(0, 0));
+        verify(repository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_shouldWriteSummedChangesPerImage() {
+        UUID other = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            service.likeAdded(imageId);
+        }
+        service.commentAdded(imageId);
+        service.likeRemoved(other);
+
+        service.flush();
+
+        ArgumentCaptor<List<ImageEngagementView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).addCounts(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(
+                        ImageEngagementView::getImageId,
+                        ImageEngagementView::getLikeCount,
+                        ImageEngagementView::getCommentCount)
+                .containsExactlyInAnyOrder(tuple(imageId, 5L, 1L), tuple(other, -1L, 0L));
+    }
+
+    @Test
+    void flush_shouldClearBufferOnceWritten() {
+        when(repository.findById(imageId)).thenReturn(Optional.of(new ImageEngagementCount(imageId, 1L, 0L, null)));
+        service.likeAdded(imageId);
+
+        service.flush();
+        service.flush();
+
+        verify(repository, times(1)).addCounts(anyList());
+        assertThat(service.getLikeCount(imageId)).isEqualTo(1);
+    }
+
+    @Test
+    void flush_shouldSkipWhenNothingChanged() {
+        service.flush();
+        service.likeAdded(imageId);
+        service.likeRemoved(imageId);
+        service.flush();
+
+        verify(repository, never()).addCounts(anyList());
+    }
+
+    @Test
+    void flush_shouldSplitIntoBatches() {
+        config.setFlushBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            service.likeAdded(UUID.randomUUID());
+        }
+
+        service.flush();
+
+        verify(repository, times(3)).addCounts(anyList());
+    }
+
+    @Test
+    void flush_shouldRetryChangesThatFailedToWrite() {
+        when(repository.addCounts(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        when(repository.findById(imageId)).thenReturn(Optional.empty());
+        service.likeAdded(imageId);
+
+        service.flush();
+        assertThat(service.getLikeCount(imageId)).isEqualTo(1);
+        service.flush();
+
+        verify(repository, times(2)).addCounts(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldCorrectDriftedCountsButDeferImagesChangedMeanwhile() {
+        UUID drifted = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+        when(repository.deleteOrphans()).thenReturn(2);
+        when(repository.findMismatchedCounts()).thenAnswer(invocation -> {
+            // A like committed while the source tables were being counted
+            service.likeAdded(busy);
+            return List.of(view(drifted, 7, 3), view(busy, 2, 0));
+        });
+
+        service.reconcile();
+
+        ArgumentCaptor<List<ImageEngagementView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).setCounts(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ImageEngagementView::getImageId)
+                .containsExactly(drifted);
+        verify(repository, never()).addCounts(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_shouldNotOverwriteImagesChangedWhileEarlierBatchesAreWritten() {
+        config.setFlushBatchSize(1);
+        UUID drifted = UUID.randomUUID();
+        UUID busy = UUID.randomUUID();
+        when(repository.findMismatchedCounts()).thenReturn(List.of(view(drifted, 7, 3), view(busy, 2, 0)));
+        when(repository.setCounts(anyList())).thenAnswer(invocation -> {
+            // A comment committed while the first batch was being written
+            service.commentAdded(busy);
+            return 1;
+        });
+
+        service.reconcile();
+
+        ArgumentCaptor<List<ImageEngagementView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).setCounts(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ImageEngagementView::getImageId)
+                .containsExactly(drifted);
+    }
+
+    @Test
+    void reconcile_shouldFlushBufferedChangesFirst() {
+        when(repository.findMismatchedCounts()).thenReturn(List.of());
+        service.commentAdded(imageId);
+
+        service.reconcile();
+
+        verify(repository).addCounts(anyList());
+        verify(repository, never()).setCounts(anyList());
+    }
+
+    @Test
+    void concurrentWritesAndFlushes_shouldNotLoseChanges() throws Exception {
+        Map<UUID, Long> written = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+                    List<ImageEngagementView> deltas = invocation.getArgument(0);
+                    deltas.forEach(delta -> written.merge(delta.getImageId(), delta.getLikeCount(), Long::sum));
+                    return deltas.size();
+                })
+                .when(repository)
+                .addCounts(anyList());
+        List<UUID> images = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        int threads = 8;
+        int likesPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < likesPerThread; i++) {
+                        service.likeAdded(images.get(i % images.size()));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    service.flush();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        service.flush();
+
+        long total = written.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * likesPerThread);
+    }
+
+    private static ImageEngagementView view(UUID imageId, long likes, long comments) {
+        return new ImageEngagementView() {
+            @Override
+            public UUID getImageId() {
+                return imageId;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likes;
+            }
+
+            @Override
+            public Long getCommentCount() {
+                return comments;
+            }
+        };
+    }
+}
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import dev.solace.twiggle.dto.ImageLikeDTO;
+import dev.solace.twiggle.exception.CustomException;
 import dev.solace.twiggle.mapper.ImageLikeMapper;
 import dev.solace.twiggle.model.ImageLike;
 import dev.solace.twiggle.repository.ImageLikeRepository;
+import dev.solace.twiggle.repository.ImageLikeUpdateRepository.Toggle;
 import java.time.OffsetDateTime;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,15 @@ class ImageLikeServiceTest {
     @Mock
     private ImageLikeMapper mapper;
 
+    @Mock
+    private GardenPlanPopularityService gardenPlanPopularityService;
+
+    @Mock
+    private ImageEngagementCounterService imageEngagementCounterService;
+
+    @Mock
+    private LikedImageCache likedImageCache;
+
     @InjectMocks
     private ImageLikeService service;
 
@@ -121,7 +132,7 @@ class ImageLikeServiceTest {
 
     @Test
     void testHasUserLikedImage_True() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(true);
+        when(likedImageCache.hasLiked(userId, imageId)).thenReturn(true);
 
         boolean result = service.hasUserLikedImage(imageId, userId);
         assertThat(result).isTrue();
@@ -129,7 +140,7 @@ class ImageLikeServiceTest {
 
     @Test
     void testHasUserLikedImage_False() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(false);
+        when(likedImageCache.hasLiked(userId, imageId)).thenReturn(false);
 
         boolean result = service.hasUserLikedImage(imageId, userId);
         assertThat(result).isFalse();
@@ -138,7 +149,7 @@ class ImageLikeServiceTest {
     @Test
     void testCountByImageId() {
         long expectedCount = 5L;
-        when(repository.countByImageId(imageId)).thenReturn(expectedCount);
+        when(imageEngagementCounterService.getLikeCount(imageId)).thenReturn(expectedCount);
 
         long result = service.countByImageId(imageId);
         assertThat(result).isEqualTo(expectedCount);
@@ -146,65 +157,120 @@ class ImageLikeServiceTest {
 
     @Test
     void testCreateNewLike() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(false);
         when(mapper.toEntity(any())).thenReturn(entity);
-        when(repository.save(entity)).thenReturn(entity);
+        when(repository.insertIfAbsent(entity)).thenReturn(true);
         when(mapper.toDto(entity)).thenReturn(dto);
 
         ImageLikeDTO result = service.create(dto);
         assertThat(result.getImageId()).isEqualTo(imageId);
+        verify(repository, never()).save(any());
+        verify(gardenPlanPopularityService).recordLike(imageId, entity.getCreatedAt());
+        verify(imageEngagementCounterService).likeAdded(imageId);
+        verify(likedImageCache).likeAdded(userId, imageId);
     }
 
     @Test
     void testCreateNewLike_AlreadyExists() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(true);
+        when(mapper.toEntity(any())).thenReturn(entity);
+        when(repository.insertIfAbsent(entity)).thenReturn(false);
 
         assertThatThrownBy(() -> service.create(dto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("already liked");
+        verifyNoInteractions(gardenPlanPopularityService, imageEngagementCounterService);
     }
 
     @Test
     void testToggleLike_whenNotLiked() {
-        when(repository.findByImageIdAndUserId(imageId, userId)).thenReturn(Optional.empty());
-        when(repository.save(any())).thenReturn(entity);
+        OffsetDateTime likedAt = OffsetDateTime.now();
+        when(repository.toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(new Toggle(true, likedAt)));
 
         boolean result = service.toggleLike(imageId, userId);
         assertThat(result).isTrue();
+        verify(gardenPlanPopularityService).recordLike(imageId, likedAt);
+        verify(imageEngagementCounterService).likeAdded(imageId);
+        verify(likedImageCache).likeAdded(userId, imageId);
     }
 
     @Test
     void testToggleLike_whenAlreadyLiked() {
-        when(repository.findByImageIdAndUserId(imageId, userId)).thenReturn(Optional.of(entity));
+        when(repository.toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(new Toggle(false, entity.getCreatedAt())));
+
+        boolean result = service.toggleLike(imageId, userId);
+        assertThat(result).isFalse();
+        verify(repository, never()).delete(any());
+        verify(gardenPlanPopularityService).retractLike(imageId, entity.getCreatedAt());
+        verify(imageEngagementCounterService).likeRemoved(imageId);
+        verify(likedImageCache).likeRemoved(userId, imageId);
+    }
+
+    @Test
+    void testToggleLike_retriesAfterLosingRaceToConcurrentLike() {
+        when(repository.toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new Toggle(false, entity.getCreatedAt())));
 
         boolean result = service.toggleLike(imageId, userId);
         assertThat(result).isFalse();
+        verify(repository, times(2)).toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class));
+        verify(imageEngagementCounterService).likeRemoved(imageId);
+        verify(likedImageCache).likeRemoved(userId, imageId);
+        verify(imageEngagementCounterService, never()).likeAdded(any());
+    }
+
+    @Test
+    void testToggleLike_givesUpAfterRepeatedRaces() {
+        when(repository.toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.toggleLike(imageId, userId))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("changed concurrently");
+        verify(repository, times(3)).toggle(eq(imageId), eq(userId), any(UUID.class), any(OffsetDateTime.class));
+        verifyNoInteractions(gardenPlanPopularityService, imageEngagementCounterService);
     }
 
     @Test
     void testDelete() {
+        UUID id = entity.getId();
+        when(repository.findById(id)).thenReturn(Optional.of(entity));
+
+        service.delete(id);
+
+        verify(repository).delete(entity);
+        verify(gardenPlanPopularityService).retractLike(imageId, entity.getCreatedAt());
+    }
+
+    @Test
+    void testDelete_NotFound() {
         UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
 
         service.delete(id);
 
-        verify(repository).deleteById(id);
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(gardenPlanPopularityService, imageEngagementCounterService);
     }
 
     @Test
     void testUnlikeImage_whenExists() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(true);
+        when(repository.deleteLike(imageId, userId)).thenReturn(Optional.of(entity.getCreatedAt()));
 
         boolean result = service.unlikeImage(imageId, userId);
         assertThat(result).isTrue();
-        verify(repository).deleteByImageIdAndUserId(imageId, userId);
+        verify(gardenPlanPopularityService).retractLike(imageId, entity.getCreatedAt());
+        verify(imageEngagementCounterService).likeRemoved(imageId);
+        verify(likedImageCache).likeRemoved(userId, imageId);
     }
 
     @Test
     void testUnlikeImage_whenNotExists() {
-        when(repository.existsByImageIdAndUserId(imageId, userId)).thenReturn(false);
+        when(repository.deleteLike(imageId, userId)).thenReturn(Optional.empty());
 
         boolean result = service.unlikeImage(imageId, userId);
         assertThat(result).isFalse();
-        verify(repository, never()).deleteByImageIdAndUserId(any(), any());
+        verifyNoInteractions(gardenPlanPopularityService, imageEngagementCounterService);
     }
 }
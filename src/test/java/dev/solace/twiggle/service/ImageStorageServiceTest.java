@@ -0,0 +1,123 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.solace.twiggle.config.GardenImageStorageConfig;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.service.ImageStorageService.StagedImage;
+import dev.solace.twiggle.service.ImageStorageService.StoredFile;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ImageStorageServiceTest {
+
+    @TempDir
+    private Path storage;
+
+    private GardenImageStorageConfig config;
+    private ImageStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenImageStorageConfig();
+        config.setStorageDirectory(storage.toString());
+        service = new ImageStorageService(config);
+    }
+
+    @Test
+    void stageAndCommit_shouldStoreImageUnderItsId() throws IOException {
+        byte[] png = image("png", 40, 30);
+        UUID imageId = UUID.randomUUID();
+
+        StagedImage staged = service.stage(new MockMultipartFile("file", "roses.png", "image/png", png));
+        service.commit(staged, imageId);
+
+        assertThat(staged.width()).isEqualTo(40);
+        assertThat(staged.height()).isEqualTo(30);
+        StoredFile stored = service.findOriginal(imageId).orElseThrow();
+        assertThat(stored.mediaType()).isEqualTo("image/png");
+        assertThat(stored.size()).isEqualTo(png.length);
+        assertThat(Files.readAllBytes(stored.path())).isEqualTo(png);
+        assertThat(files(storage.resolve(".incoming"))).isZero();
+    }
+
+    @Test
+    void stage_shouldDetectFormatFromContentNotFileName() throws IOException {
+        StagedImage staged =
+                service.stage(new MockMultipartFile("file", "roses.png", "image/png", image("jpeg", 20, 20)));
+
+        assertThat(staged.format().mediaType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void stage_shouldRejectFilesThatAreNotImages() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", "not an image".getBytes());
+
+        assertThatThrownBy(() -> service.stage(file))
+                .isInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(files(storage.resolve(".incoming"))).isZero();
+    }
+
+    @Test
+    void stage_shouldRejectImagesWithTooManyPixelsBeforeDecodingThem() throws IOException {
+        config.setMaxImagePixels(100);
+        MockMultipartFile file = new MockMultipartFile("file", "roses.png", "image/png", image("png", 20, 20));
+
+        assertThatThrownBy(() -> service.stage(file))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("100 pixels");
+        assertThat(files(storage.resolve(".incoming"))).isZero();
+    }
+
+    @Test
+    void delete_shouldRemoveOriginalAndThumbnails() throws IOException {
+        UUID imageId = UUID.randomUUID();
+        service.commit(
+                service.stage(new MockMultipartFile("file", "roses.png", "image/png", image("png", 10, 10))), imageId);
+        Files.write(service.thumbnailPath(imageId, 160), new byte[] {1, 2, 3});
+        assertThat(service.findThumbnail(imageId, 160)).isPresent();
+
+        service.delete(imageId);
+
+        assertThat(service.findOriginal(imageId)).isEmpty();
+        assertThat(service.findThumbnail(imageId, 160)).isEmpty();
+        assertThat(storage.resolve(imageId.toString())).doesNotExist();
+    }
+
+    @Test
+    void find_shouldReturnEmptyForImagesThatWereNotUploaded() {
+        UUID imageId = UUID.randomUUID();
+
+        assertThat(service.findOriginal(imageId)).isEmpty();
+        assertThat(service.findThumbnail(imageId, 160)).isEmpty();
+        service.delete(imageId);
+    }
+
+    private static byte[] image(String format, int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    private static long files(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return 0;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class LikeBloomFilterTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void mightContain_shouldReportEveryAddedPair() {
+        LikeBloomFilter filter = new LikeBloomFilter(10_000, 0.01);
+        List<UUID[]> pairs = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID[] pair = {uuid(), uuid()};
+            pairs.add(pair);
+            filter.add(pair[0], pair[1]);
+        }
+
+        assertThat(pairs).allMatch(pair -> filter.mightContain(pair[0], pair[1]));
+    }
+
+    @Test
+    void mightContain_shouldKeepFalsePositivesNearTargetRate() {
+        LikeBloomFilter filter = new LikeBloomFilter(10_000, 0.01);
+        UUID userId = uuid();
+        for (int i = 0; i < 10_000; i++) {
+            // Many likes by one user, as in a real table, must not crowd the same bits
+            filter.add(i % 10 == 0 ? userId : uuid(), uuid());
+        }
+
+        int falsePositives = 0;
+        int checks = 100_000;
+        for (int i = 0; i < checks; i++) {
+            if (filter.mightContain(i % 2 == 0 ? userId : uuid(), uuid())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / checks).isLessThan(0.02);
+    }
+
+    @Test
+    void mightContain_shouldDistinguishSwappedUserAndImage() {
+        LikeBloomFilter filter = new LikeBloomFilter(100, 0.001);
+        UUID first = uuid();
+        UUID second = uuid();
+
+        filter.add(first, second);
+
+        assertThat(filter.mightContain(first, second)).isTrue();
+        assertThat(filter.mightContain(second, first)).isFalse();
+    }
+
+    @Test
+    void constructor_shouldSizeForExpectedPairs() {
+        LikeBloomFilter filter = new LikeBloomFilter(1_000_000, 0.01);
+
+        // About 9.6 bits and 7 hashes per pair at 1%
+        assertThat(filter.bitCount()).isBetween(9_500_000L, 9_700_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    private UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
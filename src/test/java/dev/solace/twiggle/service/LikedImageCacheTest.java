@@ -0,0 +1,198 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenEngagementConfig;
+import dev.solace.twiggle.repository.ImageLikePairView;
+import dev.solace.twiggle.repository.ImageLikeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class LikedImageCacheTest {
+
+    @Mock
+    private ImageLikeRepository repository;
+
+    private GardenEngagementConfig config;
+    private LikedImageCache cache;
+    private UUID userId;
+    private UUID liked;
+    private UUID notLiked;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenEngagementConfig();
+        cache = new LikedImageCache(repository, config);
+        userId = UUID.randomUUID();
+        liked = UUID.randomUUID();
+        notLiked = UUID.randomUUID();
+    }
+
+    @Test
+    void hasLiked_shouldAnswerPairsOutsideFilterWithoutLookup() {
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of(pair(userId, liked)));
+
+        assertThat(cache.hasLiked(userId, notLiked)).isFalse();
+        assertThat(cache.hasLiked(UUID.randomUUID(), liked)).isFalse();
+
+        verify(repository, never()).findImageIdsByUserId(any());
+    }
+
+    @Test
+    void hasLiked_shouldLoadLikedImagesOncePerUser() {
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of(pair(userId, liked)));
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked));
+
+        assertThat(cache.hasLiked(userId, liked)).isTrue();
+        assertThat(cache.hasLiked(userId, liked)).isTrue();
+
+        verify(repository, times(1)).findImageIdsByUserId(userId);
+        verify(repository, times(1)).findPairsAfter(any(), any());
+    }
+
+    @Test
+    void likeAdded_shouldBeVisibleWithoutReloading() {
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked));
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of(pair(userId, liked)));
+        assertThat(cache.hasLiked(userId, liked)).isTrue();
+
+        cache.likeAdded(userId, notLiked);
+
+        assertThat(cache.hasLiked(userId, notLiked)).isTrue();
+        verify(repository, times(1)).findImageIdsByUserId(userId);
+    }
+
+    @Test
+    void likeRemoved_shouldBeVisibleWhileFilterStillHoldsPair() {
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked));
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of(pair(userId, liked)));
+        assertThat(cache.hasLiked(userId, liked)).isTrue();
+
+        cache.likeRemoved(userId, liked);
+
+        assertThat(cache.hasLiked(userId, liked)).isFalse();
+    }
+
+    @Test
+    void filterLiked_shouldReturnOnlyLikedImages() {
+        UUID otherLiked = UUID.randomUUID();
+        when(repository.findPairsAfter(any(), any()))
+                .thenReturn(List.of(pair(userId, liked), pair(userId, otherLiked)));
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked, otherLiked));
+
+        assertThat(cache.filterLiked(userId, List.of(liked, notLiked, otherLiked)))
+                .containsExactlyInAnyOrder(liked, otherLiked);
+    }
+
+    @Test
+    void filterLiked_shouldSkipLookupWhenNoImagePassesFilter() {
+        assertThat(cache.filterLiked(userId, List.of(liked, notLiked))).isEmpty();
+
+        verify(repository, never()).findImageIdsByUserId(any());
+    }
+
+    @Test
+    void buildFilter_shouldReadLikesInBatches() {
+        List<ImageLikePairView> firstBatch = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            firstBatch.add(pair(UUID.randomUUID(), UUID.randomUUID()));
+        }
+        UUID lastId = firstBatch.getLast().getId();
+        when(repository.findPairsAfter(new UUID(0L, 0L), Limit.of(10_000))).thenReturn(firstBatch);
+        when(repository.findPairsAfter(lastId, Limit.of(10_000))).thenReturn(List.of(pair(userId, liked)));
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked));
+
+        assertThat(cache.hasLiked(userId, liked)).isTrue();
+
+        verify(repository).findPairsAfter(eq(lastId), any());
+    }
+
+    @Test
+    void rebuildFilter_shouldDoNothingBeforeFirstUse() {
+        cache.rebuildFilter();
+
+        verify(repository, never()).findPairsAfter(any(), any());
+    }
+
+    @Test
+    void rebuildFilter_shouldDropUnlikedPairs() {
+        when(repository.findPairsAfter(any(), any()))
+                .thenReturn(List.of(pair(userId, liked)))
+                .thenReturn(List.of());
+        cache.hasLiked(UUID.randomUUID(), liked);
+
+        cache.rebuildFilter();
+
+        assertThat(cache.hasLiked(userId, liked)).isFalse();
+        verify(repository, never()).findImageIdsByUserId(any());
+    }
+
+    @Test
+    void rebuildFilter_shouldKeepLikesAddedDuringRebuild() {
+        UUID likedDuringRebuild = UUID.randomUUID();
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of()).thenAnswer(invocation -> {
+            // A like committed while the rebuild reads image_likes
+            cache.likeAdded(userId, likedDuringRebuild);
+            return List.of();
+        });
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(likedDuringRebuild));
+        cache.hasLiked(userId, liked);
+
+        cache.rebuildFilter();
+
+        assertThat(cache.hasLiked(userId, likedDuringRebuild)).isTrue();
+    }
+
+    @Test
+    void evictIdle_shouldDropUnusedLikedSets() {
+        when(repository.findPairsAfter(any(), any())).thenReturn(List.of(pair(userId, liked)));
+        when(repository.findImageIdsByUserId(userId)).thenReturn(List.of(liked));
+        cache.hasLiked(userId, liked);
+
+        cache.evictIdle(System.nanoTime());
+        assertThat(cache.cachedUsers()).isEqualTo(1);
+        cache.evictIdle(System.nanoTime() + config.getLikedSetIdleTimeout().toNanos() + 1);
+        assertThat(cache.cachedUsers()).isZero();
+
+        cache.hasLiked(userId, liked);
+        verify(repository, times(2)).findImageIdsByUserId(userId);
+    }
+
+    @Test
+    void hasLiked_shouldKeepNumberOfCachedUsersBounded() {
+        config.setMaxCachedLikedSets(10);
+        List<ImageLikePairView> pairs = new ArrayList<>();
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            UUID user = UUID.randomUUID();
+            users.add(user);
+            pairs.add(pair(user, liked));
+        }
+        when(repository.findPairsAfter(any(), any())).thenReturn(pairs);
+        when(repository.findImageIdsByUserId(any())).thenReturn(List.of(liked));
+
+        users.forEach(user -> assertThat(cache.hasLiked(user, liked)).isTrue());
+
+        assertThat(cache.cachedUsers()).isLessThanOrEqualTo(10);
+    }
+
+    private static ImageLikePairView pair(UUID userId, UUID imageId) {
+        return new Pair(UUID.randomUUID(), userId, imageId);
+    }
+
+    private record Pair(UUID getId, UUID getUserId, UUID getImageId) implements ImageLikePairView {}
+}
@@ -6,9 +6,7 @@ import static org.mockito.Mockito.*;
 import dev.solace.twiggle.dto.PestDTO;
 import dev.solace.twiggle.mapper.PestMapper;
 import dev.solace.twiggle.model.Pest;
-import dev.solace.twiggle.model.PlantsLibrary;
 import dev.solace.twiggle.repository.PestRepository;
-import dev.solace.twiggle.repository.PlantsLibraryRepository;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +20,7 @@ class PestServiceTest {
     private PestRepository pestRepository;
 
     @Mock
-    private PlantsLibraryRepository plantsLibraryRepository;
+    private PlantHealthIndex plantHealthIndex;
 
     @Mock
     private PestMapper pestMapper;
@@ -53,35 +51,26 @@ class PestServiceTest {
     @Test
     void testFindByPlantLibraryId_Found() {
         UUID plantId = UUID.randomUUID();
-
-        PlantsLibrary plant = new PlantsLibrary();
-        plant.setCommonPests(List.of("Aphid", "Mealybug"));
-
-        Pest aphid = new Pest();
         PestDTO aphidDTO = new PestDTO();
 
-        when(plantsLibraryRepository.findById(plantId)).thenReturn(Optional.of(plant));
-        when(pestRepository.findByCommonNameIgnoreCaseIn(Set.of("aphid", "mealybug")))
-                .thenReturn(List.of(aphid));
-        when(pestMapper.toDto(aphid)).thenReturn(aphidDTO);
+        when(plantHealthIndex.findPests(plantId)).thenReturn(List.of(aphidDTO));
 
         List<PestDTO> result = pestService.findByPlantLibraryId(plantId);
 
         assertEquals(1, result.size());
-        verify(plantsLibraryRepository, times(1)).findById(plantId);
-        verify(pestRepository, times(1)).findByCommonNameIgnoreCaseIn(Set.of("aphid", "mealybug"));
-        verify(pestMapper, times(1)).toDto(aphid);
+        verify(plantHealthIndex, times(1)).findPests(plantId);
+        verifyNoInteractions(pestRepository, pestMapper);
     }
 
     @Test
     void testFindByPlantLibraryId_NotFound() {
         UUID plantId = UUID.randomUUID();
-        when(plantsLibraryRepository.findById(plantId)).thenReturn(Optional.empty());
+        when(plantHealthIndex.findPests(plantId)).thenReturn(List.of());
 
         List<PestDTO> result = pestService.findByPlantLibraryId(plantId);
 
         assertEquals(0, result.size());
-        verify(plantsLibraryRepository, times(1)).findById(plantId);
+        verify(plantHealthIndex, times(1)).findPests(plantId);
         verifyNoMoreInteractions(pestRepository);
     }
 }
@@ -7,12 +7,9 @@ import static org.mockito.Mockito.*;
 import dev.solace.twiggle.dto.PlantDiseaseDTO;
 import dev.solace.twiggle.mapper.PlantDiseaseMapper;
 import dev.solace.twiggle.model.PlantDisease;
-import dev.solace.twiggle.model.PlantsLibrary;
 import dev.solace.twiggle.repository.PlantDiseaseRepository;
-import dev.solace.twiggle.repository.PlantsLibraryRepository;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,7 +25,7 @@ class PlantDiseaseServiceTest {
     private PlantDiseaseRepository diseaseRepository;
 
     @Mock
-    private PlantsLibraryRepository plantsLibraryRepository;
+    private PlantHealthIndex plantHealthIndex;
 
     @Mock
     private PlantDiseaseMapper plantDiseaseMapper;
@@ -40,9 +37,7 @@ class PlantDiseaseServiceTest {
     private PlantDisease disease2;
     private PlantDiseaseDTO diseaseDTO1;
     private PlantDiseaseDTO diseaseDTO2;
-    private PlantsLibrary plantLibrary;
     private UUID plantLibraryId;
-    private List<String> commonDiseases;
 
     @BeforeEach
     void setUp() {
@@ -63,12 +58,6 @@ class PlantDiseaseServiceTest {
         diseaseDTO2 = new PlantDiseaseDTO();
         diseaseDTO2.setId(2L);
         diseaseDTO2.setCommonName(disease2.getCommonName());
-
-        commonDiseases = Arrays.asList("Leaf Blight", "Root Rot");
-
-        plantLibrary = new PlantsLibrary();
-        plantLibrary.setId(plantLibraryId);
-        plantLibrary.setCommonDiseases(commonDiseases);
     }
 
     @Test
@@ -92,10 +81,7 @@ class PlantDiseaseServiceTest {
     @Test
     void findByPlantLibraryId_WhenPlantExists_ShouldReturnMatchingDiseases() {
         // Arrange
-        doReturn(Optional.of(plantLibrary)).when(plantsLibraryRepository).findById(plantLibraryId);
-        doReturn(Arrays.asList(disease1, disease2)).when(diseaseRepository).findByCommonNameIgnoreCaseIn(any());
-        doReturn(diseaseDTO1).when(plantDiseaseMapper).toDto(disease1);
-        doReturn(diseaseDTO2).when(plantDiseaseMapper).toDto(disease2);
+        doReturn(Arrays.asList(diseaseDTO1, diseaseDTO2)).when(plantHealthIndex).findDiseases(plantLibraryId);
 
         // Act
         List<PlantDiseaseDTO> result = plantDiseaseService.findByPlantLibraryId(plantLibraryId);
@@ -103,15 +89,14 @@ class PlantDiseaseServiceTest {
         // Assert
         assertThat(result).hasSize(2).containsExactly(diseaseDTO1, diseaseDTO2);
 
-        verify(plantsLibraryRepository).findById(plantLibraryId);
-        verify(diseaseRepository).findByCommonNameIgnoreCaseIn(any());
-        verify(plantDiseaseMapper, times(2)).toDto(any(PlantDisease.class));
+        verify(plantHealthIndex).findDiseases(plantLibraryId);
+        verifyNoInteractions(diseaseRepository, plantDiseaseMapper);
     }
 
     @Test
     void findByPlantLibraryId_WhenPlantDoesNotExist_ShouldReturnEmptyList() {
         // Arrange
-        doReturn(Optional.empty()).when(plantsLibraryRepository).findById(plantLibraryId);
+        doReturn(List.of()).when(plantHealthIndex).findDiseases(plantLibraryId);
 
         // Act
         List<PlantDiseaseDTO> result = plantDiseaseService.findByPlantLibraryId(plantLibraryId);
@@ -119,8 +104,7 @@ class PlantDiseaseServiceTest {
         // Assert
         assertThat(result).isEmpty();
 
-        verify(plantsLibraryRepository).findById(plantLibraryId);
+        verify(plantHealthIndex).findDiseases(plantLibraryId);
         verify(diseaseRepository, never()).findByCommonNameIgnoreCaseIn(any());
-        verify(plantDiseaseMapper, never()).toDto(any());
     }
 }
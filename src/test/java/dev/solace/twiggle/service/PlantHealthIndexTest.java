@@ -0,0 +1,106 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.solace.twiggle.dto.PestDTO;
+import dev.solace.twiggle.dto.PlantDiseaseDTO;
+import dev.solace.twiggle.dto.PlantHealthDTO;
+import dev.solace.twiggle.mapper.PestMapper;
+import dev.solace.twiggle.mapper.PlantDiseaseMapper;
+import dev.solace.twiggle.model.Pest;
+import dev.solace.twiggle.model.PlantDisease;
+import dev.solace.twiggle.model.PlantsLibrary;
+import dev.solace.twiggle.repository.PestRepository;
+import dev.solace.twiggle.repository.PlantDiseaseRepository;
+import dev.solace.twiggle.repository.PlantsLibraryRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlantHealthIndexTest {
+
+    @Mock
+    private PlantsLibraryRepository plantsLibraryRepository;
+
+    @Mock
+    private PestRepository pestRepository;
+
+    @Mock
+    private PlantDiseaseRepository plantDiseaseRepository;
+
+    @Mock
+    private PestMapper pestMapper;
+
+    @Mock
+    private PlantDiseaseMapper plantDiseaseMapper;
+
+    @InjectMocks
+    private PlantHealthIndex index;
+
+    private UUID tomatoId;
+    private UUID basilId;
+    private PestDTO aphidDTO;
+    private PlantDiseaseDTO blightDTO;
+
+    @BeforeEach
+    void setUp() {
+        tomatoId = UUID.randomUUID();
+        basilId = UUID.randomUUID();
+
+        Pest aphid = Pest.builder().id(1L).commonName("Aphid").build();
+        aphidDTO = PestDTO.builder().id(1L).commonName("Aphid").build();
+        PlantDisease blight = new PlantDisease();
+        blight.setId(2L);
+        blight.setCommonName("Early Blight");
+        blightDTO = PlantDiseaseDTO.builder().id(2L).commonName("Early Blight").build();
+
+        PlantsLibrary tomato = PlantsLibrary.builder()
+                .id(tomatoId)
+                .commonPests(List.of(" aphid ", "Hornworm", "APHID"))
+                .commonDiseases(List.of("early blight"))
+                .build();
+        PlantsLibrary basil = PlantsLibrary.builder().id(basilId).build();
+
+        when(pestRepository.findAll()).thenReturn(List.of(aphid));
+        when(pestMapper.toDto(aphid)).thenReturn(aphidDTO);
+        when(plantDiseaseRepository.findAll()).thenReturn(List.of(blight));
+        when(plantDiseaseMapper.toDto(blight)).thenReturn(blightDTO);
+        when(plantsLibraryRepository.findAll()).thenReturn(List.of(tomato, basil));
+    }
+
+    @Test
+    void findPests_matchesNamesIgnoringCaseAndWhitespace() {
+        assertThat(index.findPests(tomatoId)).containsExactly(aphidDTO);
+        assertThat(index.findDiseases(tomatoId)).containsExactly(blightDTO);
+        assertThat(index.findPests(basilId)).isEmpty();
+        assertThat(index.findPests(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findAll_resolvesManyIdsFromOneSnapshot() {
+        List<PlantHealthDTO> result = index.findAll(List.of(basilId, tomatoId, UUID.randomUUID(), tomatoId));
+
+        assertThat(result).extracting(PlantHealthDTO::getPlantLibraryId).containsExactly(basilId, tomatoId);
+        verify(plantsLibraryRepository, times(1)).findAll();
+        verify(pestRepository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidate_rebuildsOnNextLookup() {
+        index.findPests(tomatoId);
+        index.findDiseases(tomatoId);
+        verify(plantsLibraryRepository, times(1)).findAll();
+
+        index.invalidate();
+        index.findPests(tomatoId);
+
+        verify(plantsLibraryRepository, times(2)).findAll();
+    }
+}
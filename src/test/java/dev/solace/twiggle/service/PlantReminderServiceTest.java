@@ -28,6 +28,9 @@ class PlantReminderServiceTest {
     @Mock
     private PlantReminderMapper plantReminderMapper;
 
+    @Mock
+    private ReminderScheduler reminderScheduler;
+
     @InjectMocks
     private PlantReminderService plantReminderService;
 
@@ -89,6 +92,7 @@ class PlantReminderServiceTest {
         PlantReminderDTO result = plantReminderService.create(reminderDTO);
         assertNotNull(result);
         assertEquals("Water", result.getReminderType());
+        verify(reminderScheduler).reschedule(reminder);
     }
 
     @Test
@@ -136,6 +140,7 @@ class PlantReminderServiceTest {
         Optional<PlantReminderDTO> result = plantReminderService.update(reminderId, reminderDTO);
         assertTrue(result.isPresent());
         assertEquals(reminderDTO, result.get());
+        verify(reminderScheduler).reschedule(reminder);
     }
 
     @Test
@@ -173,6 +178,7 @@ class PlantReminderServiceTest {
         Optional<PlantReminderDTO> result = plantReminderService.markAsCompleted(reminderId);
         assertTrue(result.isPresent());
         assertTrue(result.get().getIsCompleted());
+        verify(reminderScheduler).cancel(reminderId);
     }
 
     @Test
@@ -273,5 +279,6 @@ class PlantReminderServiceTest {
     void testDelete() {
         doNothing().when(plantReminderRepository).deleteById(reminderId);
         assertDoesNotThrow(() -> plantReminderService.delete(reminderId));
+        verify(reminderScheduler).cancel(reminderId);
     }
 }
@@ -2,15 +2,23 @@ package dev.solace.twiggle.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import dev.solace.twiggle.dto.LayoutPatchDTO;
 import dev.solace.twiggle.dto.PlantDTO;
+import dev.solace.twiggle.dto.PlantPositionDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
 import dev.solace.twiggle.mapper.PlantMapper;
 import dev.solace.twiggle.model.Plant;
 import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.service.GardenOccupancyGrid.Cell;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.jetbrains.annotations.NotNull;
@@ -24,6 +32,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
 class PlantServiceTest {
@@ -34,6 +43,12 @@ class PlantServiceTest {
     @Mock
     private PlantMapper plantMapper;
 
+    @Mock
+    private GardenOccupancyCache gardenOccupancyCache;
+
+    @Mock
+    private UnifiedSearchService unifiedSearchService;
+
     @InjectMocks
     private PlantService plantService;
 
@@ -198,6 +213,7 @@ class PlantServiceTest {
         verify(plantMapper).toEntity(requestDto);
         verify(plantRepository).save(plantToSave);
         verify(plantMapper).toDto(savedPlant);
+        verify(unifiedSearchService).indexPlant(savedPlant);
     }
 
     @Test
@@ -288,6 +304,107 @@ class PlantServiceTest {
         plantService.delete(plant1Uuid);
 
         verify(plantRepository).deleteById(plant1Uuid);
+        verify(unifiedSearchService).removePlant(plant1Uuid);
+    }
+
+    @Test
+    void delete_WhenPlantExists_ShouldRemoveItFromLayout() {
+        when(plantRepository.findById(plant1Uuid)).thenReturn(Optional.of(plant1));
+
+        plantService.delete(plant1Uuid);
+
+        verify(gardenOccupancyCache).remove(plant1.getGardenPlanId(), plant1Uuid);
+        verify(plantRepository).deleteById(plant1Uuid);
+    }
+
+    @Test
+    void applyLayoutPatch_ShouldMoveIndexAndUpdateInOneStatement() {
+        UUID plant2Uuid = UUID.randomUUID();
+        List<PlantPositionDTO> moves =
+                List.of(new PlantPositionDTO(plant1Uuid, 3, 4), new PlantPositionDTO(plant2Uuid, 1, 1));
+        when(gardenOccupancyCache.isOnGrid(anyInt(), anyInt())).thenReturn(true);
+        when(plantRepository.updatePositions(gardenPlanUuid, moves)).thenReturn(2);
+
+        List<PlantPositionDTO> result = plantService.applyLayoutPatch(gardenPlanUuid, new LayoutPatchDTO(moves));
+
+        assertEquals(moves, result);
+        verify(gardenOccupancyCache)
+                .move(gardenPlanUuid, Map.of(plant1Uuid, new Cell(3, 4), plant2Uuid, new Cell(1, 1)));
+        verify(plantRepository, never()).save(any());
+    }
+
+    @Test
+    void applyLayoutPatch_WhenPositionOffGrid_ShouldThrowBadRequest() {
+        List<PlantPositionDTO> moves = List.of(new PlantPositionDTO(plant1Uuid, 30, 0));
+        when(gardenOccupancyCache.isOnGrid(30, 0)).thenReturn(false);
+
+        CustomException exception = assertThrows(
+                CustomException.class, () -> plantService.applyLayoutPatch(gardenPlanUuid, new LayoutPatchDTO(moves)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(gardenOccupancyCache, never()).move(any(), any());
+    }
+
+    @Test
+    void applyLayoutPatch_WhenPlantMovedTwice_ShouldThrowBadRequest() {
+        List<PlantPositionDTO> moves =
+                List.of(new PlantPositionDTO(plant1Uuid, 0, 0), new PlantPositionDTO(plant1Uuid, 1, 0));
+        when(gardenOccupancyCache.isOnGrid(anyInt(), anyInt())).thenReturn(true);
+
+        CustomException exception = assertThrows(
+                CustomException.class, () -> plantService.applyLayoutPatch(gardenPlanUuid, new LayoutPatchDTO(moves)));
+
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    @Test
+    void applyLayoutPatch_WhenPlantNotInGardenPlan_ShouldThrowNotFound() {
+        List<PlantPositionDTO> moves =
+                List.of(new PlantPositionDTO(plant1Uuid, 0, 0), new PlantPositionDTO(UUID.randomUUID(), 1, 0));
+        when(gardenOccupancyCache.isOnGrid(anyInt(), anyInt())).thenReturn(true);
+        when(plantRepository.updatePositions(gardenPlanUuid, moves)).thenReturn(1);
+
+        CustomException exception = assertThrows(
+                CustomException.class, () -> plantService.applyLayoutPatch(gardenPlanUuid, new LayoutPatchDTO(moves)));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    }
+
+    @Test
+    void findPlantsInRegion_ShouldMapIndexedPositions() {
+        Map<UUID, Cell> inRegion = new LinkedHashMap<>();
+        inRegion.put(plant1Uuid, new Cell(1, 1));
+        when(gardenOccupancyCache.findInRegion(gardenPlanUuid, 0, 0, 2, 2)).thenReturn(inRegion);
+
+        List<PlantPositionDTO> result = plantService.findPlantsInRegion(gardenPlanUuid, 0, 0, 2, 2);
+
+        assertEquals(List.of(new PlantPositionDTO(plant1Uuid, 1, 1)), result);
+        assertThrows(CustomException.class, () -> plantService.findPlantsInRegion(gardenPlanUuid, 2, 0, 0, 2));
+    }
+
+    @Test
+    void findNearestFreePosition_ShouldReturnCellWithoutPlantId() {
+        when(gardenOccupancyCache.isOnGrid(5, 5)).thenReturn(true);
+        when(gardenOccupancyCache.findNearestFree(gardenPlanUuid, 5, 5)).thenReturn(Optional.of(new Cell(4, 5)));
+
+        Optional<PlantPositionDTO> result = plantService.findNearestFreePosition(gardenPlanUuid, 5, 5);
+
+        assertTrue(result.isPresent());
+        assertNull(result.get().getId());
+        assertEquals(4, result.get().getPositionX());
+        assertEquals(5, result.get().getPositionY());
+    }
+
+    @Test
+    void findNearestFreePosition_ShouldRejectPositionOutsideGrid() {
+        when(gardenOccupancyCache.isOnGrid(Integer.MAX_VALUE, 0)).thenReturn(false);
+
+        CustomException exception = assertThrows(
+                CustomException.class,
+                () -> plantService.findNearestFreePosition(gardenPlanUuid, Integer.MAX_VALUE, 0));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(gardenOccupancyCache, never()).findNearestFree(any(), anyInt(), anyInt());
     }
 
     @Test
@@ -446,31 +563,22 @@ class PlantServiceTest {
     }
 
     @Test
-    void searchPlantsWithRelevance_WhenExceptionOccurs_ShouldFallBackToSimpleSearch() {
+    void searchPlantsWithRelevance_WhenExceptionOccurs_ShouldPropagate() {
         String name = "Tomato";
         String type = "Vegetable";
         String wateringFrequency = "Daily";
         String sunlightRequirements = "Full sun";
         String query = "Tomato";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Plant> plantPage = new PageImpl<>(List.of(plant1), pageable, 1);
 
         when(plantRepository.searchPlantsWithRelevance(
                         name, type, wateringFrequency, sunlightRequirements, query, gardenPlanUuid, pageable))
                 .thenThrow(new RuntimeException("Search error"));
-        when(plantRepository.searchPlants(query, gardenPlanUuid, pageable)).thenReturn(plantPage);
-        when(plantMapper.toDto(plant1)).thenReturn(plantDTO1);
-
-        Page<PlantDTO> result = plantService.searchPlantsWithRelevance(
-                name, type, wateringFrequency, sunlightRequirements, query, gardenPlanUuid, pageable);
 
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        assertEquals(plantDTO1, result.getContent().getFirst());
-        verify(plantRepository)
-                .searchPlantsWithRelevance(
-                        name, type, wateringFrequency, sunlightRequirements, query, gardenPlanUuid, pageable);
-        verify(plantRepository).searchPlants(query, gardenPlanUuid, pageable);
-        verify(plantMapper).toDto(plant1);
+        assertThrows(
+                RuntimeException.class,
+                () -> plantService.searchPlantsWithRelevance(
+                        name, type, wateringFrequency, sunlightRequirements, query, gardenPlanUuid, pageable));
+        verify(plantRepository, never()).searchPlants(any(), any(), any());
     }
 }
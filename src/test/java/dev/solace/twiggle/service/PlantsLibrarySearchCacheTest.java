@@ -0,0 +1,122 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.solace.twiggle.dto.PlantsLibraryDTO;
+import dev.solace.twiggle.dto.PlantsLibrarySearchCriteria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class PlantsLibrarySearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlantsLibrarySearchCache cache;
+    private AtomicInteger loads;
+    private Pageable pageable;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PlantsLibrarySearchCache(meterRegistry, 2);
+        loads = new AtomicInteger();
+        pageable = PageRequest.of(0, 10);
+    }
+
+    private Supplier<Page<PlantsLibraryDTO>> loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(
+                    List.of(PlantsLibraryDTO.builder().commonName(name).build()));
+        };
+    }
+
+    @Test
+    void get_normalizesQueryCase() {
+        cache.get(PlantsLibrarySearchCache.queryKey("Tomato", pageable), loader("tomato"));
+        Page<PlantsLibraryDTO> result =
+                cache.get(PlantsLibrarySearchCache.queryKey("TOMATO", pageable), loader("tomato"));
+
+        assertThat(result.getContent().get(0).getCommonName()).isEqualTo("tomato");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_distinguishesPages() {
+        cache.get(PlantsLibrarySearchCache.queryKey("herb", pageable), loader("herb"));
+        cache.get(PlantsLibrarySearchCache.queryKey("herb", PageRequest.of(1, 10)), loader("herb"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_cachesCriteriaSearches() {
+        PlantsLibrarySearchCriteria easy =
+                PlantsLibrarySearchCriteria.builder().careLevel("Easy").build();
+        PlantsLibrarySearchCriteria easyLower =
+                PlantsLibrarySearchCriteria.builder().careLevel("easy").build();
+
+        cache.get(PlantsLibrarySearchCache.criteriaKey(easy, pageable), loader("easy"));
+        cache.get(PlantsLibrarySearchCache.criteriaKey(easyLower, pageable), loader("easy"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidate_makesExistingEntriesStale() {
+        cache.get(PlantsLibrarySearchCache.queryKey("tomato", pageable), loader("tomato"));
+        cache.invalidate();
+        cache.get(PlantsLibrarySearchCache.queryKey("tomato", pageable), loader("tomato"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_whenFull_evictsLeastFrequentlyUsedEntry() {
+        cache.get(PlantsLibrarySearchCache.queryKey("popular", pageable), loader("popular"));
+        cache.get(PlantsLibrarySearchCache.queryKey("popular", pageable), loader("popular"));
+        cache.get(PlantsLibrarySearchCache.queryKey("rare", pageable), loader("rare"));
+        cache.get(PlantsLibrarySearchCache.queryKey("new", pageable), loader("new"));
+        assertThat(loads).hasValue(3);
+
+        cache.get(PlantsLibrarySearchCache.queryKey("popular", pageable), loader("popular"));
+        assertThat(loads).hasValue(3);
+
+        cache.get(PlantsLibrarySearchCache.queryKey("rare", pageable), loader("rare"));
+        assertThat(loads).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("plants_library.search.cache.evictions")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void get_recordsLatencySavedOnHits() {
+        cache.get(PlantsLibrarySearchCache.queryKey("basil", pageable), loader("basil"));
+        cache.get(PlantsLibrarySearchCache.queryKey("basil", pageable), loader("basil"));
+
+        assertThat(meterRegistry
+                        .get("plants_library.search.cache.latency.saved")
+                        .functionCounter()
+                        .count())
+                .isPositive();
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new PlantsLibrarySearchCache(new SimpleMeterRegistry(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
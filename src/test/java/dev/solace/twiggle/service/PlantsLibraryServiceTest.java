@@ -4,11 +4,13 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import dev.solace.twiggle.dto.PlantHealthDTO;
 import dev.solace.twiggle.dto.PlantsLibraryDTO;
 import dev.solace.twiggle.dto.PlantsLibrarySearchCriteria;
 import dev.solace.twiggle.mapper.PlantsLibraryMapper;
 import dev.solace.twiggle.model.PlantsLibrary;
 import dev.solace.twiggle.repository.PlantsLibraryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,15 @@ class PlantsLibraryServiceTest {
     @Mock
     private PlantsLibraryMapper mapper;
 
+    @Mock
+    private PlantHealthIndex plantHealthIndex;
+
+    @Mock
+    private CareScheduleGenerator careScheduleGenerator;
+
+    @Spy
+    private PlantsLibrarySearchCache searchCache = new PlantsLibrarySearchCache(new SimpleMeterRegistry(), 100);
+
     @InjectMocks
     private PlantsLibraryService service;
 
@@ -84,6 +95,7 @@ class PlantsLibraryServiceTest {
 
         assertThat(saved.getId()).isEqualTo(entity.getId());
         verify(repo).save(entity);
+        verify(plantHealthIndex).invalidate();
     }
 
     @Test
@@ -114,6 +126,22 @@ class PlantsLibraryServiceTest {
     void delete_deletesById() {
         service.delete(entity.getId());
         verify(repo).deleteById(entity.getId());
+        verify(plantHealthIndex).invalidate();
+        verify(careScheduleGenerator).invalidate(entity.getId());
+    }
+
+    @Test
+    void findPestsAndDiseases_delegatesToIndex() {
+        PlantHealthDTO health = PlantHealthDTO.builder()
+                .plantLibraryId(entity.getId())
+                .pests(List.of())
+                .diseases(List.of())
+                .build();
+        when(plantHealthIndex.findAll(List.of(entity.getId()))).thenReturn(List.of(health));
+
+        List<PlantHealthDTO> result = service.findPestsAndDiseases(List.of(entity.getId()));
+
+        assertThat(result).containsExactly(health);
     }
 
     @Test
@@ -147,6 +175,21 @@ class PlantsLibraryServiceTest {
         verify(repo).findAll(any(Specification.class), eq(pageable));
     }
 
+    @Test
+    void searchPlants_repeatedQuery_isServedFromCacheUntilLibraryChanges() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repo.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(entity)));
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        service.searchPlants("Tomato", pageable);
+        service.searchPlants("tomato", pageable);
+        verify(repo, times(1)).findAll(any(Specification.class), eq(pageable));
+
+        service.delete(entity.getId());
+        service.searchPlants("tomato", pageable);
+        verify(repo, times(2)).findAll(any(Specification.class), eq(pageable));
+    }
+
     @Test
     void searchPlants_withEmptyQuery_shouldPassNullSpecification() {
         Pageable pageable = PageRequest.of(0, 10);
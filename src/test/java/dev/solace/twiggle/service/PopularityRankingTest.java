@@ -0,0 +1,158 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.solace.twiggle.service.PopularityRanking.Entry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PopularityRankingTest {
+
+    private PopularityRanking ranking;
+    private UUID first;
+    private UUID second;
+    private UUID third;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new PopularityRanking();
+        first = UUID.randomUUID();
+        second = UUID.randomUUID();
+        third = UUID.randomUUID();
+    }
+
+    @Test
+    void add_shouldSumScoresInLogSpace() {
+        ranking.add(first, 3.0);
+        ranking.add(first, 3.0);
+
+        // 2^3 + 2^3 = 2^4
+        assertThat(ranking.score(first)).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    void logAdd_shouldStayFiniteForLargeExponents() {
+        assertThat(PopularityRanking.logAdd(5000.0, 5000.0)).isCloseTo(5001.0, within(1e-9));
+        assertThat(PopularityRanking.logAdd(5000.0, 1.0)).isCloseTo(5000.0, within(1e-9));
+    }
+
+    @Test
+    void subtract_shouldUndoAdd() {
+        ranking.add(first, 3.0);
+        ranking.add(first, 1.0);
+
+        assertThat(ranking.subtract(first, 1.0)).isTrue();
+        assertThat(ranking.score(first)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void subtract_shouldIgnoreEventsLargerThanTheScore() {
+        ranking.add(first, 3.0);
+
+        assertThat(ranking.subtract(first, 3.5)).isFalse();
+        assertThat(ranking.subtract(second, 1.0)).isFalse();
+        assertThat(ranking.score(first)).isEqualTo(3.0);
+    }
+
+    @Test
+    void subtract_shouldRemoveOnlyRemainingEvent() {
+        ranking.add(first, 3.0);
+        ranking.add(first, 1.0);
+        ranking.add(second, 2.0);
+        ranking.setPublic(first, true);
+        ranking.setPublic(second, true);
+
+        assertThat(ranking.subtract(first, 1.0)).isTrue();
+        assertThat(ranking.subtract(first, 3.0)).isTrue();
+
+        assertThat(ranking.score(first)).isNull();
+        assertThat(ranking.page(null, 10)).extracting(Entry::planId).containsExactly(second);
+
+        // The plan stays public and is ranked again by its next event
+        ranking.add(first, 4.0);
+        assertThat(ranking.page(null, 10)).extracting(Entry::planId).containsExactly(first, second);
+    }
+
+    @Test
+    void page_shouldRankOnlyPublicPlansByScore() {
+        ranking.add(first, 1.0);
+        ranking.add(second, 5.0);
+        ranking.add(third, 3.0);
+        ranking.setPublic(first, true);
+        ranking.setPublic(second, true);
+
+        assertThat(ranking.page(null, 10)).extracting(Entry::planId).containsExactly(second, first);
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Test
+    void page_shouldContinueAfterCursor() {
+        ranking.add(first, 1.0);
+        ranking.add(second, 5.0);
+        ranking.add(third, 3.0);
+        List.of(first, second, third).forEach(id -> ranking.setPublic(id, true));
+
+        List<Entry> firstPage = ranking.page(null, 2);
+        List<Entry> secondPage = ranking.page(firstPage.get(1), 2);
+
+        assertThat(firstPage).extracting(Entry::planId).containsExactly(second, third);
+        assertThat(secondPage).extracting(Entry::planId).containsExactly(first);
+    }
+
+    @Test
+    void page_shouldBreakTiesById() {
+        ranking.add(first, 2.0);
+        ranking.add(second, 2.0);
+        ranking.setPublic(first, true);
+        ranking.setPublic(second, true);
+
+        List<Entry> page = ranking.page(null, 2);
+
+        assertThat(page.get(0).planId()).isLessThan(page.get(1).planId());
+        assertThat(ranking.page(page.get(0), 1))
+                .extracting(Entry::planId)
+                .containsExactly(page.get(1).planId());
+    }
+
+    @Test
+    void add_shouldReorderRankedPlans() {
+        ranking.add(first, 1.0);
+        ranking.add(second, 2.0);
+        ranking.setPublic(first, true);
+        ranking.setPublic(second, true);
+
+        ranking.add(first, 2.5);
+
+        assertThat(ranking.page(null, 10)).extracting(Entry::planId).containsExactly(first, second);
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Test
+    void setPublic_shouldKeepScoreWhileHidden() {
+        ranking.add(first, 4.0);
+        ranking.setPublic(first, true);
+
+        ranking.setPublic(first, false);
+        ranking.add(first, 4.0);
+        assertThat(ranking.page(null, 10)).isEmpty();
+
+        ranking.setPublic(first, true);
+        List<Entry> page = ranking.page(null, 10);
+        assertThat(page).extracting(Entry::planId).containsExactly(first);
+        assertThat(page.get(0).score()).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    void remove_shouldForgetPlan() {
+        ranking.add(first, 4.0);
+        ranking.setPublic(first, true);
+
+        ranking.remove(first);
+
+        assertThat(ranking.score(first)).isNull();
+        assertThat(ranking.page(null, 10)).isEmpty();
+    }
+}
@@ -33,6 +33,12 @@ class ProfileServiceTest {
     @Mock
     private ProfileMapper profileMapper;
 
+    @Mock
+    private UnifiedSearchService unifiedSearchService;
+
+    @Mock
+    private CommentAuthorCache commentAuthorCache;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -232,29 +238,17 @@ class ProfileServiceTest {
     }
 
     @Test
-    void searchProfilesWithRelevance_WhenExceptionOccurs_ShouldFallbackToSimpleSearch() {
+    void searchProfilesWithRelevance_WhenExceptionOccurs_ShouldPropagate() {
         String fullName = "Garden";
         String query = "User";
         Pageable pageable = PageRequest.of(0, 10);
-        List<Profile> profiles = Arrays.asList(profile1, profile2);
-        Page<Profile> profilePage = new PageImpl<>(profiles, pageable, profiles.size());
 
         when(profileRepository.searchProfilesWithRelevance(fullName, query, pageable))
                 .thenThrow(new RuntimeException("Test exception"));
-        when(profileRepository.searchProfiles(query, pageable)).thenReturn(profilePage);
-        when(profileMapper.toDto(profile1)).thenReturn(profileDTO1);
-        when(profileMapper.toDto(profile2)).thenReturn(profileDTO2);
 
-        Page<ProfileDTO> result = profileService.searchProfilesWithRelevance(fullName, query, pageable);
-
-        assertNotNull(result);
-        assertEquals(2, result.getContent().size());
-        assertEquals(profileDTO1.getFullName(), result.getContent().get(0).getFullName());
-        assertEquals(profileDTO2.getFullName(), result.getContent().get(1).getFullName());
-        verify(profileRepository, times(1)).searchProfilesWithRelevance(fullName, query, pageable);
-        verify(profileRepository, times(1)).searchProfiles(query, pageable);
-        verify(profileMapper, times(1)).toDto(profile1);
-        verify(profileMapper, times(1)).toDto(profile2);
+        assertThrows(
+                RuntimeException.class, () -> profileService.searchProfilesWithRelevance(fullName, query, pageable));
+        verify(profileRepository, never()).searchProfiles(any(), any());
     }
 
     @Test
@@ -296,6 +290,8 @@ class ProfileServiceTest {
         verify(profileMapper, times(1)).toEntity(any(ProfileDTO.class));
         verify(profileRepository, times(1)).save(any(Profile.class));
         verify(profileMapper, times(1)).toDto(savedEntity);
+        verify(unifiedSearchService).indexProfile(savedEntity);
+        verify(commentAuthorCache).evict(savedEntity.getId());
     }
 
     @Test
@@ -368,5 +364,7 @@ class ProfileServiceTest {
         profileService.delete(profile1Uuid);
 
         verify(profileRepository, times(1)).deleteById(profile1Uuid);
+        verify(unifiedSearchService).removeProfile(profile1Uuid);
+        verify(commentAuthorCache).evict(profile1Uuid);
     }
 }
@@ -0,0 +1,606 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.ReminderDispatchConfig;
+import dev.solace.twiggle.config.ReminderSchedulerConfig;
+import dev.solace.twiggle.config.ReminderWeatherConfig;
+import dev.solace.twiggle.dto.ReminderEmailRequest;
+import dev.solace.twiggle.repository.DueReminderView;
+import dev.solace.twiggle.repository.DueSeriesView;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.ReminderSeriesService.DueOccurrence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderDispatcherTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 10);
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    @Mock
+    private PlantReminderRepository plantReminderRepository;
+
+    @Mock
+    private ReminderSeriesRepository reminderSeriesRepository;
+
+    @Mock
+    private ReminderSeriesService reminderSeriesService;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private ReminderWeatherCheck reminderWeatherCheck;
+
+    private ReminderDispatchConfig config;
+    private ReminderSchedulerConfig schedulerConfig;
+    private ReminderWeatherConfig weatherConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReminderDispatchConfig();
+        config.setPageSize(2);
+        schedulerConfig = new ReminderSchedulerConfig();
+        weatherConfig = new ReminderWeatherConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new ReminderDispatcher(
+                plantReminderRepository,
+                reminderSeriesRepository,
+                reminderSeriesService,
+                emailOutboxService,
+                config,
+                schedulerConfig,
+                reminderWeatherCheck,
+                weatherConfig,
+                meterRegistry);
+    }
+
+    @Test
+    void dispatch_shouldQueueEveryDueReminderAcrossPages() {
+        List<Due> reminders = reminders(3);
+        when(plantReminderRepository.findDueForEmail(eq(TODAY), eq(LocalDate.EPOCH), eq(FIRST_ID), any()))
+                .thenReturn(List.of(reminders.get(0), reminders.get(1)));
+        when(plantReminderRepository.findDueForEmail(
+                        eq(TODAY),
+                        eq(reminders.get(1).getReminderDate()),
+                        eq(reminders.get(1).getId()),
+                        any()))
+                .thenReturn(List.of(reminders.get(2)));
+        when(emailOutboxService.enqueuePlantReminder(any(), any())).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(3);
+
+        for (Due reminder : reminders) {
+            verify(emailOutboxService).enqueuePlantReminder(any(ReminderEmailRequest.class), eq(reminder.getId()));
+        }
+        assertThat(counter("queued")).isEqualTo(3);
+        assertThat(meterRegistry.get("reminders.dispatch.lag").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("reminders.dispatch.run").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldSkipRemindersClaimedElsewhere() {
+        Due reminder = reminders(1).getFirst();
+        when(plantReminderRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(List.of(reminder));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminder.getId())))
+                .thenReturn(Optional.empty());
+
+        assertThat(dispatcher.dispatch(TODAY)).isZero();
+
+        assertThat(counter("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldContinueWhenOneReminderCannotBeQueued() {
+        config.setPageSize(10);
+        List<Due> reminders = reminders(2);
+        when(plantReminderRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(new ArrayList<>(reminders));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminders.get(0).getId())))
+                .thenThrow(new IllegalStateException("connection lost"));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminders.get(1).getId())))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        assertThat(counter("failed")).isEqualTo(1);
+        assertThat(counter("queued")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_withDigest_shouldQueueOneEmailPerUserAcrossPages() {
+        config.setDigest(true);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+        List<Due> aliceReminders = reminders(3, alice);
+        List<Due> bobReminders = reminders(2, bob);
+        Due carolReminder = reminders(1, carol).getFirst();
+        when(plantReminderRepository.findUserIdsWithDueForEmail(eq(TODAY), eq(FIRST_ID), any()))
+                .thenReturn(List.of(alice, bob));
+        when(plantReminderRepository.findUserIdsWithDueForEmail(eq(TODAY), eq(bob), any()))
+                .thenReturn(List.of(carol));
+        List<DueReminderView> firstPage = new ArrayList<>(aliceReminders);
+        firstPage.addAll(bobReminders);
+        when(plantReminderRepository.findDueForDigest(TODAY, List.of(alice, bob)))
+                .thenReturn(firstPage);
+        when(plantReminderRepository.findDueForDigest(TODAY, List.of(carol))).thenReturn(List.of(carolReminder));
+        when(emailOutboxService.enqueueDigest(any(), any())).thenReturn(Optional.of(UUID.randomUUID()));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(carolReminder.getId())))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(3);
+
+        ArgumentCaptor<Map<UUID, ReminderEmailRequest>> digests = ArgumentCaptor.forClass(Map.class);
+        verify(emailOutboxService, times(2)).enqueueDigest(digests.capture(), eq(List.of()));
+        assertThat(digests.getAllValues().get(0).keySet())
+                .containsExactlyElementsOf(
+                        aliceReminders.stream().map(Due::getId).toList());
+        assertThat(digests.getAllValues().get(1).keySet())
+                .containsExactlyElementsOf(bobReminders.stream().map(Due::getId).toList());
+        verify(plantReminderRepository, never()).findDueForEmail(any(), any(), any(), any());
+        assertThat(counter("queued")).isEqualTo(3);
+    }
+
+    @Test
+    void dispatch_withDigest_shouldContinueWhenOneDigestCannotBeQueued() {
+        config.setDigest(true);
+        config.setPageSize(10);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        List<DueReminderView> reminders = new ArrayList<>(reminders(2, alice));
+        reminders.addAll(reminders(2, bob));
+        when(plantReminderRepository.findUserIdsWithDueForEmail(any(), any(), any()))
+                .thenReturn(List.of(alice, bob));
+        when(plantReminderRepository.findDueForDigest(any(), any())).thenReturn(reminders);
+        when(emailOutboxService.enqueueDigest(any(), any()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(Optional.empty());
+
+        assertThat(dispatcher.dispatch(TODAY)).isZero();
+
+        assertThat(counter("failed")).isEqualTo(1);
+        assertThat(counter("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_withDigest_shouldListDueSeriesInDigestOfTheirOwner() {
+        config.setDigest(true);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        Due aliceReminder = reminders(1, alice).getFirst();
+        Series aliceSeries = series(1, alice).getFirst();
+        List<Series> bobSeries = series(2, bob);
+        when(plantReminderRepository.findUserIdsWithDueForEmail(eq(TODAY), eq(FIRST_ID), any()))
+                .thenReturn(List.of(alice));
+        when(plantReminderRepository.findDueForDigest(TODAY, List.of(alice))).thenReturn(List.of(aliceReminder));
+        when(reminderSeriesRepository.findDueForDigest(TODAY, List.of(alice))).thenReturn(List.of(aliceSeries));
+        // Bob has only due series, so he is found by the second pass
+        when(reminderSeriesRepository.findUserIdsWithDueForEmail(eq(TODAY), eq(FIRST_ID), any()))
+                .thenReturn(List.of(bob));
+        when(reminderSeriesRepository.findDueForDigest(TODAY, List.of(bob))).thenReturn(new ArrayList<>(bobSeries));
+        when(reminderSeriesService.resolveDue(any(), eq(TODAY)))
+                .thenReturn(new DueOccurrence(TODAY, TODAY.plusDays(7)));
+        when(emailOutboxService.enqueueDigest(any(), any())).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(2);
+
+        verify(emailOutboxService)
+                .enqueueDigest(
+                        eq(Map.of(aliceReminder.getId(), ReminderDispatcher.toEmailRequest(aliceReminder, "09:00"))),
+                        eq(List.of(new EmailOutboxService.SeriesOccurrence(
+                                aliceSeries.getId(),
+                                aliceSeries.getNextDueDate(),
+                                TODAY.plusDays(7),
+                                ReminderDispatcher.toEmailRequest(aliceSeries, TODAY, "09:00")))));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailOutboxService.SeriesOccurrence>> occurrences = ArgumentCaptor.forClass(List.class);
+        verify(emailOutboxService).enqueueDigest(eq(Map.of()), occurrences.capture());
+        assertThat(occurrences.getValue())
+                .extracting(EmailOutboxService.SeriesOccurrence::reminderSeriesId)
+                .containsExactly(bobSeries.get(0).getId(), bobSeries.get(1).getId());
+        verify(emailOutboxService, never()).enqueueSeriesOccurrence(any(), any(), any(), any());
+        verify(reminderSeriesRepository, never()).findDueForEmail(any(), any(), any(), any());
+        assertThat(counter("queued")).isEqualTo(2);
+    }
+
+    @Test
+    void dispatch_shouldQueueLatestPendingOccurrenceOfEveryDueSeriesAcrossPages() {
+        List<Series> series = series(3);
+        when(reminderSeriesRepository.findDueForEmail(eq(TODAY), eq(LocalDate.EPOCH), eq(FIRST_ID), any()))
+                .thenReturn(List.of(series.get(0), series.get(1)));
+        when(reminderSeriesRepository.findDueForEmail(
+                        eq(TODAY),
+                        eq(series.get(1).getNextDueDate()),
+                        eq(series.get(1).getId()),
+                        any()))
+                .thenReturn(List.of(series.get(2)));
+        when(reminderSeriesService.resolveDue(any(), eq(TODAY)))
+                .thenReturn(new DueOccurrence(TODAY.minusDays(1), TODAY.plusDays(6)));
+        when(emailOutboxService.enqueueSeriesOccurrence(any(), any(), any(), any()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(3);
+
+        ArgumentCaptor<ReminderEmailRequest> requests = ArgumentCaptor.forClass(ReminderEmailRequest.class);
+        for (Series one : series) {
+            verify(emailOutboxService)
+                    .enqueueSeriesOccurrence(
+                            requests.capture(), eq(one.getId()), eq(one.getNextDueDate()), eq(TODAY.plusDays(6)));
+        }
+        assertThat(requests.getAllValues())
+                .extracting(ReminderEmailRequest::getReminderDate)
+                .containsOnly(TODAY.minusDays(1).toString());
+        assertThat(counter("queued")).isEqualTo(3);
+        assertThat(meterRegistry.get("reminders.dispatch.run").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldAdvanceSeriesWithoutEmailWhenNoOccurrenceIsPending() {
+        Series one = series(1).getFirst();
+        when(reminderSeriesRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(List.of(one));
+        when(reminderSeriesService.resolveDue(one, TODAY)).thenReturn(new DueOccurrence(null, TODAY.plusDays(3)));
+
+        assertThat(dispatcher.dispatch(TODAY)).isZero();
+
+        verify(reminderSeriesRepository).advanceNextDueDate(one.getId(), one.getNextDueDate(), TODAY.plusDays(3));
+        verify(emailOutboxService, never()).enqueueSeriesOccurrence(any(), any(), any(), any());
+        assertThat(counter("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldContinueWhenOneSeriesCannotBeQueued() {
+        config.setPageSize(10);
+        List<Series> series = series(2);
+        when(reminderSeriesRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(new ArrayList<>(series));
+        when(reminderSeriesService.resolveDue(any(), eq(TODAY)))
+                .thenReturn(new DueOccurrence(TODAY, TODAY.plusDays(1)));
+        when(emailOutboxService.enqueueSeriesOccurrence(any(), eq(series.get(0).getId()), any(), any()))
+                .thenThrow(new IllegalStateException("connection lost"));
+        when(emailOutboxService.enqueueSeriesOccurrence(any(), eq(series.get(1).getId()), any(), any()))
+                .thenReturn(Optional.empty());
+
+        assertThat(dispatcher.dispatch(TODAY)).isZero();
+
+        assertThat(counter("failed")).isEqualTo(1);
+        assertThat(counter("skipped")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldDeferRainyRemindersToTomorrow() {
+        config.setPageSize(10);
+        List<Due> reminders = reminders(2);
+        UUID rainy = reminders.get(0).getId();
+        when(plantReminderRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(new ArrayList<>(reminders));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenReturn(Map.of(rainy, 14.2));
+        when(plantReminderRepository.deferUnclaimed(eq(Set.of(rainy)), any())).thenReturn(1);
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminders.get(1).getId())))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        verify(emailOutboxService, never()).enqueuePlantReminder(any(), eq(rainy));
+        assertThat(counter("deferred")).isEqualTo(1);
+        assertThat(counter("queued")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_withAnnotate_shouldNoteRainInEmail() {
+        weatherConfig.setAction(ReminderWeatherConfig.Action.ANNOTATE);
+        Due reminder = reminders(1).getFirst();
+        when(plantReminderRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(List.of(reminder));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenReturn(Map.of(reminder.getId(), 14.25));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminder.getId())))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        ArgumentCaptor<ReminderEmailRequest> request = ArgumentCaptor.forClass(ReminderEmailRequest.class);
+        verify(emailOutboxService).enqueuePlantReminder(request.capture(), eq(reminder.getId()));
+        assertThat(request.getValue().getNotes())
+                .isEqualTo("Before noon Heavy rain is expected today (14.3 mm), so watering may not be needed.");
+        verify(plantReminderRepository, never()).deferUnclaimed(any(), any());
+    }
+
+    @Test
+    void dispatch_shouldEmailAsUsualWhenWeatherCannotBeChecked() {
+        Due reminder = reminders(1).getFirst();
+        when(plantReminderRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(List.of(reminder));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenThrow(new IllegalStateException("timeout"));
+        when(emailOutboxService.enqueuePlantReminder(any(), eq(reminder.getId())))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        verify(plantReminderRepository, never()).deferUnclaimed(any(), any());
+    }
+
+    @Test
+    void dispatch_withDigest_shouldLeaveRainyRemindersOutOfDigest() {
+        config.setDigest(true);
+        UUID alice = UUID.randomUUID();
+        List<Due> reminders = reminders(3, alice);
+        UUID rainy = reminders.get(1).getId();
+        when(plantReminderRepository.findUserIdsWithDueForEmail(eq(TODAY), eq(FIRST_ID), any()))
+                .thenReturn(List.of(alice));
+        when(plantReminderRepository.findDueForDigest(TODAY, List.of(alice))).thenReturn(new ArrayList<>(reminders));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenReturn(Map.of(rainy, 20.0));
+        when(plantReminderRepository.deferUnclaimed(eq(Set.of(rainy)), any())).thenReturn(1);
+        when(emailOutboxService.enqueueDigest(any(), any())).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, ReminderEmailRequest>> requests = ArgumentCaptor.forClass(Map.class);
+        verify(emailOutboxService).enqueueDigest(requests.capture(), eq(List.of()));
+        assertThat(requests.getValue())
+                .containsOnlyKeys(reminders.get(0).getId(), reminders.get(2).getId());
+    }
+
+    @Test
+    void dispatch_shouldSkipRainySeriesOccurrence() {
+        config.setPageSize(10);
+        List<Series> series = series(2);
+        Series rainy = series.get(0);
+        when(reminderSeriesRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(new ArrayList<>(series));
+        when(reminderSeriesService.resolveDue(any(), eq(TODAY)))
+                .thenReturn(new DueOccurrence(TODAY, TODAY.plusDays(7)));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenReturn(Map.of(rainy.getId(), 14.2));
+        when(reminderSeriesService.skipDue(rainy.getId(), TODAY, rainy.getNextDueDate(), TODAY.plusDays(7)))
+                .thenReturn(true);
+        when(emailOutboxService.enqueueSeriesOccurrence(any(), eq(series.get(1).getId()), any(), any()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        verify(emailOutboxService, never()).enqueueSeriesOccurrence(any(), eq(rainy.getId()), any(), any());
+        assertThat(counter("deferred")).isEqualTo(1);
+        assertThat(counter("queued")).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_withAnnotate_shouldNoteRainInSeriesEmail() {
+        weatherConfig.setAction(ReminderWeatherConfig.Action.ANNOTATE);
+        Series one = series(1).getFirst();
+        when(reminderSeriesRepository.findDueForEmail(any(), any(), any(), any()))
+                .thenReturn(List.of(one));
+        when(reminderSeriesService.resolveDue(one, TODAY)).thenReturn(new DueOccurrence(TODAY, TODAY.plusDays(7)));
+        when(reminderWeatherCheck.findRainy(any(), any())).thenReturn(Map.of(one.getId(), 14.25));
+        when(emailOutboxService.enqueueSeriesOccurrence(any(), eq(one.getId()), any(), any()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatch(TODAY)).isEqualTo(1);
+
+        ArgumentCaptor<ReminderEmailRequest> request = ArgumentCaptor.forClass(ReminderEmailRequest.class);
+        verify(emailOutboxService).enqueueSeriesOccurrence(request.capture(), eq(one.getId()), any(), any());
+        assertThat(request.getValue().getNotes())
+                .isEqualTo("Heavy rain is expected today (14.3 mm), so watering may not be needed.");
+        verify(reminderSeriesService, never()).skipDue(any(), any(), any(), any());
+    }
+
+    @Test
+    void dispatchByIds_shouldQueueRemindersStillDue() {
+        List<Due> reminders = reminders(2);
+        List<UUID> ids = List.of(reminders.get(0).getId(), reminders.get(1).getId(), UUID.randomUUID());
+        when(plantReminderRepository.findDueForEmailByIds(eq(ids), any(), any(), any()))
+                .thenReturn(new ArrayList<>(reminders));
+        when(emailOutboxService.enqueuePlantReminder(any(), any())).thenReturn(Optional.of(UUID.randomUUID()));
+
+        assertThat(dispatcher.dispatchByIds(ids)).isEqualTo(2);
+
+        assertThat(counter("queued")).isEqualTo(2);
+        // Reminders without a time are due at the configured reminder time
+        verify(plantReminderRepository)
+                .findDueForEmailByIds(eq(ids), any(), any(), eq(LocalTime.parse(config.getReminderTime())));
+    }
+
+    @Test
+    void dispatchDue_withScheduler_shouldOnlyCatchUpOnRemindersDueBeforeToday() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        dispatcher.dispatchDue();
+
+        verify(plantReminderRepository).findDueForEmail(eq(today.minusDays(1)), any(), any(), any());
+        verify(reminderSeriesRepository).findDueForEmail(eq(today), any(), any(), any());
+    }
+
+    @Test
+    void dispatchDue_withoutScheduler_shouldQueueRemindersDueToday() {
+        schedulerConfig.setEnabled(false);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        dispatcher.dispatchDue();
+
+        verify(plantReminderRepository).findDueForEmail(eq(today), any(), any(), any());
+    }
+
+    @Test
+    void dispatchDue_shouldDoNothingWhenDisabled() {
+        config.setEnabled(false);
+
+        dispatcher.dispatchDue();
+
+        verify(plantReminderRepository, never()).findDueForEmail(any(), any(), any(), any());
+    }
+
+    @Test
+    void toEmailRequest_shouldDescribeReminderAndGardenPlan() {
+        Due reminder = reminders(1).getFirst();
+
+        ReminderEmailRequest request = ReminderDispatcher.toEmailRequest(reminder, "08:30");
+
+        assertThat(request.getPlantName()).isEqualTo("Basil");
+        assertThat(request.getReminderType()).isEqualTo("Water");
+        assertThat(request.getReminderDate())
+                .isEqualTo(reminder.getReminderDate().toString());
+        assertThat(request.getReminderTime()).isEqualTo("08:30");
+        assertThat(request.getUserEmail()).isEqualTo("gardener@example.com");
+        assertThat(request.getImageUrl()).isEqualTo("https://example.com/basil.png");
+        assertThat(request.getGardenSpaceName()).isEqualTo("Balcony");
+        assertThat(request.getGardenSpaceId())
+                .isEqualTo(reminder.getGardenPlanId().toString());
+    }
+
+    @Test
+    void toEmailRequest_shouldDescribeSeriesOccurrence() {
+        Series one = series(1).getFirst();
+
+        ReminderEmailRequest request = ReminderDispatcher.toEmailRequest(one, TODAY, "08:30");
+
+        assertThat(request.getPlantName()).isEqualTo("Tomato");
+        assertThat(request.getReminderType()).isEqualTo("Fertilize");
+        assertThat(request.getReminderDate()).isEqualTo(TODAY.toString());
+        assertThat(request.getReminderTime()).isEqualTo("08:30");
+        assertThat(request.getUserEmail()).isEqualTo("gardener@example.com");
+        assertThat(request.getGardenSpaceId()).isEqualTo(one.getGardenPlanId().toString());
+    }
+
+    @Test
+    void toEmailRequest_shouldShowTimeOfReminder() {
+        Due reminder = reminders(1).getFirst();
+        Due timed = new Due(
+                reminder.getId(),
+                reminder.getReminderType(),
+                reminder.getReminderDate(),
+                LocalTime.of(7, 5),
+                reminder.getNotes(),
+                reminder.getPlantName(),
+                reminder.getPlantImageUrl(),
+                reminder.getGardenPlanId(),
+                reminder.getGardenPlanName(),
+                reminder.getGardenPlanLocation(),
+                reminder.getUserId(),
+                reminder.getUserEmail());
+
+        assertThat(ReminderDispatcher.toEmailRequest(timed, "08:30").getReminderTime())
+                .isEqualTo("07:05");
+    }
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("reminders.dispatch.emails")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static List<Due> reminders(int count) {
+        return reminders(count, UUID.randomUUID());
+    }
+
+    private static List<Due> reminders(int count, UUID userId) {
+        List<Due> reminders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reminders.add(new Due(
+                    UUID.randomUUID(),
+                    "Water",
+                    TODAY.minusDays(count - i),
+                    null,
+                    "Before noon",
+                    "Basil",
+                    "https://example.com/basil.png",
+                    UUID.randomUUID(),
+                    "Balcony",
+                    "Lisbon",
+                    userId,
+                    "gardener@example.com"));
+        }
+        return reminders;
+    }
+
+    private record Due(
+            UUID getId,
+            String getReminderType,
+            LocalDate getReminderDate,
+            LocalTime getReminderTime,
+            String getNotes,
+            String getPlantName,
+            String getPlantImageUrl,
+            UUID getGardenPlanId,
+            String getGardenPlanName,
+            String getGardenPlanLocation,
+            UUID getUserId,
+            String getUserEmail)
+            implements DueReminderView {}
+
+    private static List<Series> series(int count) {
+        return series(count, UUID.randomUUID());
+    }
+
+    private static List<Series> series(int count, UUID userId) {
+        List<Series> series = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            series.add(new Series(
+                    UUID.randomUUID(),
+                    "Fertilize",
+                    null,
+                    TODAY.minusDays(count - i),
+                    TODAY.minusDays(30),
+                    null,
+                    7,
+                    null,
+                    null,
+                    null,
+                    "Tomato",
+                    null,
+                    UUID.randomUUID(),
+                    "Backyard",
+                    "Lisbon",
+                    userId,
+                    "gardener@example.com"));
+        }
+        return series;
+    }
+
+    private record Series(
+            UUID getId,
+            String getReminderType,
+            String getNotes,
+            LocalDate getNextDueDate,
+            LocalDate getStartDate,
+            LocalDate getEndDate,
+            Integer getIntervalDays,
+            Integer getWeekdays,
+            Integer getSeasonStartMonth,
+            Integer getSeasonEndMonth,
+            String getPlantName,
+            String getPlantImageUrl,
+            UUID getGardenPlanId,
+            String getGardenPlanName,
+            String getGardenPlanLocation,
+            UUID getUserId,
+            String getUserEmail)
+            implements DueSeriesView {}
+}
@@ -0,0 +1,223 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.ReminderDispatchConfig;
+import dev.solace.twiggle.config.ReminderSchedulerConfig;
+import dev.solace.twiggle.model.PlantReminder;
+import dev.solace.twiggle.repository.PlantReminderRepository;
+import dev.solace.twiggle.repository.ReminderTimeView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    @Mock
+    private PlantReminderRepository plantReminderRepository;
+
+    @Mock
+    private ReminderDispatcher reminderDispatcher;
+
+    private ReminderSchedulerConfig config;
+    private ReminderDispatchConfig dispatchConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderScheduler scheduler;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReminderSchedulerConfig();
+        config.setPageSize(2);
+        dispatchConfig = new ReminderDispatchConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ReminderScheduler(
+                plantReminderRepository, reminderDispatcher, config, dispatchConfig, meterRegistry);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void load_shouldScheduleRemindersWithinHorizonAcrossPages() {
+        LocalDateTime start = LocalDateTime.ofEpochSecond(now / 1000, 0, ZoneOffset.UTC);
+        Timed soon = timed(start.plusHours(1));
+        Timed untimed = new Timed(UUID.randomUUID(), start.toLocalDate().plusDays(1), null);
+        Timed beyond = timed(start.plusHours(25));
+        LocalDate from = start.toLocalDate();
+        LocalDate to = start.plusHours(24).toLocalDate();
+        when(plantReminderRepository.findUnclaimedBetween(eq(from), eq(to), eq(LocalDate.EPOCH), eq(FIRST_ID), any()))
+                .thenReturn(List.of(soon, untimed));
+        when(plantReminderRepository.findUnclaimedBetween(
+                        eq(from), eq(to), eq(untimed.getReminderDate()), eq(untimed.getId()), any()))
+                .thenReturn(List.of(beyond));
+
+        int count = scheduler.load(now);
+
+        // The default time of tomorrow's reminder may fall beyond the horizon
+        boolean untimedWithin = untimed.getReminderDate()
+                        .atTime(LocalTime.parse(dispatchConfig.getReminderTime()))
+                        .toInstant(ZoneOffset.UTC)
+                        .toEpochMilli()
+                <= now + Duration.ofHours(24).toMillis();
+        assertThat(count).isEqualTo(untimedWithin ? 2 : 1);
+        assertThat(scheduler.isScheduled(soon.getId())).isTrue();
+        assertThat(scheduler.isScheduled(untimed.getId())).isEqualTo(untimedWithin);
+        assertThat(scheduler.isScheduled(beyond.getId())).isFalse();
+        assertThat(meterRegistry.get("reminders.scheduler.timers").gauge().value())
+                .isEqualTo(count);
+    }
+
+    @Test
+    void load_shouldMoveOrCancelTimersOfRemindersWithANewTime() {
+        config.setPageSize(10);
+        LocalDateTime start = LocalDateTime.ofEpochSecond(now / 1000, 0, ZoneOffset.UTC);
+        PlantReminder moved = reminder(start.plusHours(1).atOffset(ZoneOffset.UTC));
+        PlantReminder postponed = reminder(start.plusHours(2).atOffset(ZoneOffset.UTC));
+        scheduler.reschedule(moved);
+        scheduler.reschedule(postponed);
+        // Both were changed without going through the service, such as by another instance
+        Timed movedNow = new Timed(
+                moved.getId(),
+                start.plusHours(3).toLocalDate(),
+                start.plusHours(3).toLocalTime());
+        Timed postponedNow = new Timed(
+                postponed.getId(),
+                start.plusHours(25).toLocalDate(),
+                start.plusHours(25).toLocalTime());
+        when(plantReminderRepository.findUnclaimedBetween(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(movedNow, postponedNow));
+
+        scheduler.load(now);
+
+        assertThat(scheduler.isScheduled(postponed.getId())).isFalse();
+        assertThat(scheduler.fire(now + Duration.ofMinutes(150).toMillis())).isZero();
+        assertThat(scheduler.isScheduled(moved.getId())).isTrue();
+        verify(reminderDispatcher, never()).dispatchByIds(any());
+    }
+
+    @Test
+    void fire_shouldDispatchRemindersWhoseTimeCame() {
+        PlantReminder due = reminder(OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+        PlantReminder later = reminder(OffsetDateTime.now(ZoneOffset.UTC).plusHours(2));
+        scheduler.reschedule(due);
+        scheduler.reschedule(later);
+        when(reminderDispatcher.dispatchByIds(List.of(due.getId()))).thenReturn(1);
+
+        assertThat(scheduler.fire(now)).isZero();
+        assertThat(scheduler.fire(now + Duration.ofMinutes(6).toMillis())).isEqualTo(1);
+
+        verify(reminderDispatcher).dispatchByIds(List.of(due.getId()));
+        assertThat(scheduler.isScheduled(due.getId())).isFalse();
+        assertThat(scheduler.isScheduled(later.getId())).isTrue();
+        assertThat(meterRegistry
+                        .get("reminders.scheduler.timers.fired")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void fire_shouldDispatchInPages() {
+        for (int i = 0; i < 3; i++) {
+            scheduler.reschedule(reminder(OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1)));
+        }
+        when(reminderDispatcher.dispatchByIds(any())).thenReturn(2, 1);
+
+        assertThat(scheduler.fire(now + Duration.ofSeconds(2).toMillis())).isEqualTo(3);
+    }
+
+    @Test
+    void tick_shouldDispatchOnItsOwnThread() throws Exception {
+        config.setTick(Duration.ofMillis(10));
+        scheduler = new ReminderScheduler(
+                plantReminderRepository, reminderDispatcher, config, dispatchConfig, new SimpleMeterRegistry());
+        PlantReminder due = reminder(OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        scheduler.reschedule(due);
+        CompletableFuture<String> dispatchThread = new CompletableFuture<>();
+        when(reminderDispatcher.dispatchByIds(List.of(due.getId()))).thenAnswer(invocation -> {
+            dispatchThread.complete(Thread.currentThread().getName());
+            return 1;
+        });
+
+        while (scheduler.isScheduled(due.getId())) {
+            Thread.sleep(10);
+            scheduler.tick();
+        }
+
+        assertThat(dispatchThread.get(5, TimeUnit.SECONDS)).isEqualTo("reminder-scheduler-dispatch");
+        scheduler.stop();
+    }
+
+    @Test
+    void reschedule_shouldCancelCompletedOrClaimedReminders() {
+        PlantReminder completed = reminder(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+        PlantReminder claimed = reminder(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+        scheduler.reschedule(completed);
+        scheduler.reschedule(claimed);
+
+        completed.setIsCompleted(true);
+        claimed.setEmailClaimedAt(OffsetDateTime.now());
+        scheduler.reschedule(completed);
+        scheduler.reschedule(claimed);
+
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    void cancel_shouldRemoveScheduledReminder() {
+        PlantReminder reminder = reminder(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+        scheduler.reschedule(reminder);
+
+        scheduler.cancel(reminder.getId());
+
+        assertThat(scheduler.isScheduled(reminder.getId())).isFalse();
+    }
+
+    @Test
+    void schedulerShouldBeInactiveInDigestMode() {
+        dispatchConfig.setDigest(true);
+
+        scheduler.reschedule(reminder(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1)));
+        scheduler.refill();
+        scheduler.tick();
+
+        assertThat(scheduler.size()).isZero();
+        verify(plantReminderRepository, never()).findUnclaimedBetween(any(), any(), any(), any(), any());
+    }
+
+    private static PlantReminder reminder(OffsetDateTime dueAt) {
+        PlantReminder reminder = new PlantReminder();
+        reminder.setId(UUID.randomUUID());
+        reminder.setReminderDate(dueAt.toLocalDate());
+        reminder.setReminderTime(dueAt.toLocalTime());
+        reminder.setIsCompleted(false);
+        return reminder;
+    }
+
+    private static Timed timed(LocalDateTime dueAt) {
+        return new Timed(UUID.randomUUID(), dueAt.toLocalDate(), dueAt.toLocalTime());
+    }
+
+    private record Timed(UUID getId, LocalDate getReminderDate, LocalTime getReminderTime)
+            implements ReminderTimeView {}
+}
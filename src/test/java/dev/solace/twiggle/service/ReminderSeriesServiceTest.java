@@ -0,0 +1,341 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.dto.ReminderOccurrenceDTO;
+import dev.solace.twiggle.dto.ReminderSeriesDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.mapper.ReminderSeriesMapper;
+import dev.solace.twiggle.model.ReminderSeries;
+import dev.solace.twiggle.model.ReminderSeriesException;
+import dev.solace.twiggle.repository.DueSeriesView;
+import dev.solace.twiggle.repository.ReminderSeriesExceptionRepository;
+import dev.solace.twiggle.repository.ReminderSeriesRepository;
+import dev.solace.twiggle.service.ReminderSeriesService.DueOccurrence;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSeriesServiceTest {
+
+    // A Thursday
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private ReminderSeriesRepository reminderSeriesRepository;
+
+    @Mock
+    private ReminderSeriesExceptionRepository reminderSeriesExceptionRepository;
+
+    private ReminderSeriesService service;
+    private ReminderSeries series;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReminderSeriesService(
+                reminderSeriesRepository,
+                reminderSeriesExceptionRepository,
+                Mappers.getMapper(ReminderSeriesMapper.class));
+        series = series(UUID.randomUUID(), "Watering", START, 2);
+    }
+
+    @Test
+    void create_shouldStoreRuleOnceWithFirstDueOccurrence() {
+        ReminderSeriesDTO request = ReminderSeriesDTO.builder()
+                .plantId(UUID.randomUUID())
+                .gardenPlanId(UUID.randomUUID())
+                .reminderType("Watering")
+                .startDate(LocalDate.of(2020, 1, 1))
+                .weekdays(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                .build();
+        when(reminderSeriesRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReminderSeriesDTO created = service.create(request);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        assertThat(created.getNextDueDate()).isAfterOrEqualTo(today).isBefore(today.plusDays(4));
+        assertThat(created.getNextDueDate().getDayOfWeek()).isIn(DayOfWeek.MONDAY, DayOfWeek.THURSDAY);
+        assertThat(created.getWeekdays()).containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.THURSDAY);
+        assertThat(created.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void create_shouldRejectRuleWithoutIntervalOrWeekdays() {
+        ReminderSeriesDTO request = ReminderSeriesDTO.builder()
+                .plantId(UUID.randomUUID())
+                .gardenPlanId(UUID.randomUUID())
+                .reminderType("Watering")
+                .startDate(START)
+                .build();
+
+        assertThatThrownBy(() -> service.create(request)).isInstanceOf(CustomException.class);
+
+        verify(reminderSeriesRepository, never()).save(any());
+    }
+
+    @Test
+    void update_shouldNotEmailTodaysOccurrenceAgainAfterItWasSent() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        ReminderSeries daily = series(series.getGardenPlanId(), "Watering", today.minusDays(10), 1);
+        // Today's occurrence was emailed, which moved the series to tomorrow
+        daily.setNextDueDate(today.plusDays(1));
+        when(reminderSeriesRepository.findById(daily.getId())).thenReturn(Optional.of(daily));
+        when(reminderSeriesRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReminderSeriesDTO updated = service.update(
+                        daily.getId(),
+                        ReminderSeriesDTO.builder()
+                                .plantId(daily.getPlantId())
+                                .gardenPlanId(daily.getGardenPlanId())
+                                .reminderType("Watering")
+                                .notes("Use rainwater")
+                                .startDate(daily.getStartDate())
+                                .intervalDays(1)
+                                .build())
+                .orElseThrow();
+
+        assertThat(updated.getNextDueDate()).isEqualTo(today.plusDays(1));
+        assertThat(updated.getNotes()).isEqualTo("Use rainwater");
+    }
+
+    @Test
+    void update_shouldKeepTodaysOccurrenceDueUntilItIsSent() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        ReminderSeries daily = series(series.getGardenPlanId(), "Watering", today.minusDays(10), 1);
+        daily.setNextDueDate(today);
+        when(reminderSeriesRepository.findById(daily.getId())).thenReturn(Optional.of(daily));
+        when(reminderSeriesRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReminderSeriesDTO updated = service.update(
+                        daily.getId(),
+                        ReminderSeriesDTO.builder()
+                                .plantId(daily.getPlantId())
+                                .gardenPlanId(daily.getGardenPlanId())
+                                .reminderType("Watering")
+                                .startDate(daily.getStartDate())
+                                .intervalDays(1)
+                                .build())
+                .orElseThrow();
+
+        assertThat(updated.getNextDueDate()).isEqualTo(today);
+    }
+
+    @Test
+    void delete_shouldDeleteExceptionsBeforeSeries() {
+        service.delete(series.getId());
+
+        InOrder order = inOrder(reminderSeriesExceptionRepository, reminderSeriesRepository);
+        order.verify(reminderSeriesExceptionRepository).deleteBySeriesId(series.getId());
+        order.verify(reminderSeriesRepository).deleteById(series.getId());
+    }
+
+    @Test
+    void findOccurrences_shouldExpandRuleAndApplyExceptions() {
+        when(reminderSeriesRepository.findById(series.getId())).thenReturn(Optional.of(series));
+        when(reminderSeriesExceptionRepository.findInRange(List.of(series.getId()), START, START.plusDays(6)))
+                .thenReturn(List.of(
+                        exception(START.plusDays(2), ReminderSeriesException.Kind.COMPLETED),
+                        exception(START.plusDays(4), ReminderSeriesException.Kind.SKIPPED)));
+
+        List<ReminderOccurrenceDTO> occurrences = service.findOccurrences(series.getId(), START, START.plusDays(6))
+                .orElseThrow();
+
+        assertThat(occurrences)
+                .extracting(ReminderOccurrenceDTO::getReminderDate)
+                .containsExactly(START, START.plusDays(2), START.plusDays(4), START.plusDays(6));
+        assertThat(occurrences)
+                .extracting(ReminderOccurrenceDTO::getStatus)
+                .containsExactly("PENDING", "COMPLETED", "SKIPPED", "PENDING");
+    }
+
+    @Test
+    void findOccurrences_shouldRejectTooLongRange() {
+        assertThatThrownBy(() -> service.findOccurrences(series.getId(), START, START.plusYears(2)))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> service.findOccurrences(series.getId(), START, START.minusDays(1)))
+                .isInstanceOf(CustomException.class);
+
+        verify(reminderSeriesRepository, never()).findById(any());
+    }
+
+    @Test
+    void findOccurrencesByGardenPlanId_shouldMergeSeriesByDate() {
+        ReminderSeries weekly = series(series.getGardenPlanId(), "Fertilizing", START.plusDays(1), 7);
+        when(reminderSeriesRepository.findByGardenPlanId(series.getGardenPlanId()))
+                .thenReturn(List.of(series, weekly));
+
+        List<ReminderOccurrenceDTO> occurrences =
+                service.findOccurrencesByGardenPlanId(series.getGardenPlanId(), START, START.plusDays(3));
+
+        assertThat(occurrences)
+                .extracting(ReminderOccurrenceDTO::getReminderDate)
+                .containsExactly(START, START.plusDays(1), START.plusDays(2));
+        assertThat(occurrences.get(1).getSeriesId()).isEqualTo(weekly.getId());
+    }
+
+    @Test
+    void markOccurrence_shouldStoreException() {
+        when(reminderSeriesRepository.findById(series.getId())).thenReturn(Optional.of(series));
+
+        ReminderOccurrenceDTO occurrence = service.markOccurrence(
+                        series.getId(), START.plusDays(2), ReminderSeriesException.Kind.COMPLETED)
+                .orElseThrow();
+
+        assertThat(occurrence.getStatus()).isEqualTo("COMPLETED");
+        ArgumentCaptor<ReminderSeriesException> captor = ArgumentCaptor.forClass(ReminderSeriesException.class);
+        verify(reminderSeriesExceptionRepository).save(captor.capture());
+        assertThat(captor.getValue().getSeriesId()).isEqualTo(series.getId());
+        assertThat(captor.getValue().getOccurrenceDate()).isEqualTo(START.plusDays(2));
+    }
+
+    @Test
+    void markOccurrence_shouldRejectDateThatIsNotAnOccurrence() {
+        when(reminderSeriesRepository.findById(series.getId())).thenReturn(Optional.of(series));
+
+        assertThatThrownBy(() ->
+                        service.markOccurrence(series.getId(), START.plusDays(1), ReminderSeriesException.Kind.SKIPPED))
+                .isInstanceOf(CustomException.class);
+
+        verify(reminderSeriesExceptionRepository, never()).save(any());
+    }
+
+    @Test
+    void resolveDue_shouldPickLatestPendingOccurrence() {
+        DueSeriesView due = due(START.plusDays(2));
+        when(reminderSeriesExceptionRepository.findInRange(eq(List.of(due.getId())), any(), any()))
+                .thenReturn(List.of(exception(START.plusDays(6), ReminderSeriesException.Kind.COMPLETED)));
+
+        DueOccurrence resolved = service.resolveDue(due, START.plusDays(7));
+
+        assertThat(resolved.occurrence()).isEqualTo(START.plusDays(4));
+        assertThat(resolved.next()).isEqualTo(START.plusDays(8));
+    }
+
+    @Test
+    void resolveDue_shouldFindNothingPendingWhenEveryOccurrenceIsClosed() {
+        DueSeriesView due = due(START);
+        when(reminderSeriesExceptionRepository.findInRange(eq(List.of(due.getId())), any(), any()))
+                .thenReturn(List.of(exception(START, ReminderSeriesException.Kind.SKIPPED)));
+
+        DueOccurrence resolved = service.resolveDue(due, START.plusDays(1));
+
+        assertThat(resolved.occurrence()).isNull();
+        assertThat(resolved.next()).isEqualTo(START.plusDays(2));
+    }
+
+    @Test
+    void skipDue_shouldRecordSkippedOccurrenceAndMoveSeries() {
+        when(reminderSeriesRepository.advanceNextDueDate(series.getId(), START, START.plusDays(2)))
+                .thenReturn(1);
+
+        assertThat(service.skipDue(series.getId(), START, START, START.plusDays(2)))
+                .isTrue();
+
+        ArgumentCaptor<ReminderSeriesException> captor = ArgumentCaptor.forClass(ReminderSeriesException.class);
+        verify(reminderSeriesExceptionRepository).save(captor.capture());
+        assertThat(captor.getValue().getOccurrenceDate()).isEqualTo(START);
+        assertThat(captor.getValue().getKind()).isEqualTo(ReminderSeriesException.Kind.SKIPPED);
+    }
+
+    @Test
+    void skipDue_shouldLeaveOccurrenceClaimedByAnotherRun() {
+        when(reminderSeriesRepository.advanceNextDueDate(series.getId(), START, START.plusDays(2)))
+                .thenReturn(0);
+
+        assertThat(service.skipDue(series.getId(), START, START, START.plusDays(2)))
+                .isFalse();
+
+        verify(reminderSeriesExceptionRepository, never()).save(any());
+    }
+
+    private static ReminderSeries series(UUID gardenPlanId, String reminderType, LocalDate start, int intervalDays) {
+        ReminderSeries series = new ReminderSeries();
+        series.setId(UUID.randomUUID());
+        series.setPlantId(UUID.randomUUID());
+        series.setGardenPlanId(gardenPlanId);
+        series.setReminderType(reminderType);
+        series.setStartDate(start);
+        series.setIntervalDays(intervalDays);
+        series.setCreatedAt(OffsetDateTime.now());
+        return series;
+    }
+
+    private ReminderSeriesException exception(LocalDate date, ReminderSeriesException.Kind kind) {
+        return new ReminderSeriesException(series.getId(), date, kind, OffsetDateTime.now());
+    }
+
+    private DueSeriesView due(LocalDate nextDueDate) {
+        return new Due(
+                series.getId(),
+                "Watering",
+                nextDueDate,
+                START,
+                null,
+                2,
+                null,
+                null,
+                null,
+                "Basil",
+                series.getGardenPlanId(),
+                "Balcony",
+                "gardener@example.com");
+    }
+
+    private record Due(
+            UUID getId,
+            String getReminderType,
+            LocalDate getNextDueDate,
+            LocalDate getStartDate,
+            LocalDate getEndDate,
+            Integer getIntervalDays,
+            Integer getWeekdays,
+            Integer getSeasonStartMonth,
+            Integer getSeasonEndMonth,
+            String getPlantName,
+            UUID getGardenPlanId,
+            String getGardenPlanName,
+            String getUserEmail)
+            implements DueSeriesView {
+
+        @Override
+        public String getNotes() {
+            return null;
+        }
+
+        @Override
+        public String getPlantImageUrl() {
+            return null;
+        }
+
+        @Override
+        public String getGardenPlanLocation() {
+            return null;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return null;
+        }
+    }
+}
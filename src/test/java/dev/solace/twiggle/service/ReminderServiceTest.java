@@ -2,14 +2,21 @@ package dev.solace.twiggle.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import com.resend.Resend;
 import com.resend.core.exception.ResendException;
+import com.resend.services.batch.Batch;
+import com.resend.services.batch.model.BatchEmail;
+import com.resend.services.batch.model.CreateBatchEmailsResponse;
 import com.resend.services.emails.Emails;
 import com.resend.services.emails.model.CreateEmailOptions;
 import com.resend.services.emails.model.CreateEmailResponse;
 import dev.solace.twiggle.dto.ReminderEmailRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,7 +40,11 @@ class ReminderServiceTest {
     @BeforeEach
     void setUp() {
         // Create the service with test configuration
-        reminderService = new ReminderService("test-api-key", "test@example.com", "https://test.supabase.co");
+        reminderService = new ReminderService(
+                "test-api-key",
+                "test@example.com",
+                "https://test.supabase.co",
+                new EmailTemplates(new SimpleMeterRegistry()));
 
         // Mock the Emails service - use lenient() to avoid unnecessary stubbing errors
         lenient().when(resend.emails()).thenReturn(emails);
@@ -220,4 +231,149 @@ class ReminderServiceTest {
         assertFalse(result);
         verify(emails).send(any(CreateEmailOptions.class));
     }
+
+    @Test
+    void buildReminderEmail_ShouldAddressUserAndDescribeReminder() {
+        // Act
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+
+        // Assert
+        assertEquals("test@example.com", email.to());
+        assertEquals("🌿 Plant Care Reminder: Watering for Test Plant", email.subject());
+        assertTrue(email.html().contains("Test Plant"));
+        assertTrue(email.html().contains("May 1, 2024 at 09:00"));
+        assertTrue(email.html().contains("href=\"https://test.supabase.co/garden-spaces/test-garden-id\""));
+        assertTrue(email.text().contains("When: May 1, 2024 at 09:00"));
+        assertFalse(email.text().contains("<"));
+    }
+
+    @Test
+    void buildReminderEmail_ShouldEscapeUserInput() {
+        // Arrange
+        validRequest.setPlantName("<script>alert('x')</script>");
+        validRequest.setNotes("Water & feed\nSubject: spam");
+        validRequest.setImageUrl("javascript:alert(1)");
+
+        // Act
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+
+        // Assert
+        assertFalse(email.html().contains("<script>"));
+        assertTrue(email.html().contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;"));
+        assertTrue(email.html().contains("Water &amp; feed"));
+        assertFalse(email.html().contains("javascript:"));
+        assertFalse(email.html().contains("<img"));
+        assertFalse(email.subject().contains("\n"));
+    }
+
+    @Test
+    void buildReminderEmail_WithLocale_ShouldUseLocalizedTemplate() {
+        // Arrange
+        validRequest.setLocale("es-MX");
+
+        // Act
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+
+        // Assert
+        assertEquals("🌿 Recordatorio de cuidado: Watering para Test Plant", email.subject());
+        assertTrue(email.html().contains("1 de mayo de 2024 a las 09:00"));
+        assertTrue(email.text().contains("Cuándo: 1 de mayo de 2024 a las 09:00"));
+    }
+
+    @Test
+    void buildReminderEmail_WithoutNotes_ShouldOmitNotes() {
+        // Arrange
+        validRequest.setNotes(null);
+
+        // Act
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+
+        // Assert
+        assertFalse(email.html().contains("Notes:"));
+        assertFalse(email.text().contains("Notes:"));
+    }
+
+    @Test
+    void sendEmail_ShouldReturnResendIdAndPropagateErrors() throws Exception {
+        // Arrange
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+        CreateEmailResponse mockResponse = new CreateEmailResponse();
+        mockResponse.setId("test-email-id");
+        when(emails.send(any(CreateEmailOptions.class)))
+                .thenReturn(mockResponse)
+                .thenThrow(new ResendException("Test error"));
+
+        // Act & Assert
+        assertEquals("test-email-id", reminderService.sendEmail(email));
+        assertThrows(ResendException.class, () -> reminderService.sendEmail(email));
+    }
+
+    @Test
+    void buildDigestEmail_ShouldListEveryReminder() {
+        // Arrange
+        ReminderEmailRequest second = ReminderEmailRequest.builder()
+                .userEmail("test@example.com")
+                .plantName("Mint & Co")
+                .reminderType("Fertilizing")
+                .reminderDate("2024-05-02")
+                .reminderTime("09:00")
+                .gardenSpaceName("Balcony")
+                .gardenSpaceId("balcony-id")
+                .build();
+
+        // Act
+        ReminderService.ReminderEmail email = reminderService.buildDigestEmail(List.of(validRequest, second));
+
+        // Assert
+        assertEquals("test@example.com", email.to());
+        assertEquals("🌿 Plant Care Digest: 2 tasks due", email.subject());
+        assertTrue(email.html().contains("<h2>Test Plant</h2>"));
+        assertTrue(email.html().contains("<h2>Mint &amp; Co</h2>"));
+        assertTrue(email.html().contains("May 2, 2024 at 09:00"));
+        assertTrue(email.html().contains("https://test.supabase.co/garden-spaces/balcony-id"));
+        assertEquals(1, countOccurrences(email.html(), "<strong>Notes:</strong>"));
+        assertTrue(email.text().contains("- Test Plant: Watering"));
+        assertTrue(email.text().contains("- Mint & Co: Fertilizing"));
+    }
+
+    @Test
+    void buildDigestEmail_WithoutReminders_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> reminderService.buildDigestEmail(List.of()));
+    }
+
+    @Test
+    void sendEmails_ShouldSendOneBatchAndReturnIdsInOrder() throws Exception {
+        // Arrange
+        Batch batch = mock(Batch.class);
+        when(resend.batch()).thenReturn(batch);
+        when(batch.send(anyList()))
+                .thenReturn(new CreateBatchEmailsResponse(List.of(new BatchEmail("id-1"), new BatchEmail("id-2"))));
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+
+        // Act
+        List<String> ids = reminderService.sendEmails(List.of(email, email));
+
+        // Assert
+        assertEquals(List.of("id-1", "id-2"), ids);
+        verify(batch).send(argThat(options -> options.size() == 2));
+        verify(emails, never()).send(any(CreateEmailOptions.class));
+    }
+
+    @Test
+    void sendEmail_WithNullResendClient_ShouldThrow() {
+        // Arrange
+        ReminderService.ReminderEmail email = reminderService.buildReminderEmail(validRequest);
+        ReflectionTestUtils.setField(reminderService, "resend", null);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> reminderService.sendEmail(email));
+    }
+
+    private static int countOccurrences(String text, String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + part.length())) {
+            count++;
+        }
+        return count;
+    }
 }
@@ -0,0 +1,197 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.ReminderWeatherConfig;
+import dev.solace.twiggle.dto.WeatherDTO;
+import dev.solace.twiggle.exception.CustomException;
+import dev.solace.twiggle.exception.ErrorCode;
+import dev.solace.twiggle.repository.DueReminderView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderWeatherCheckTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 10);
+
+    @Mock
+    private WeatherService weatherService;
+
+    private ReminderWeatherConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderWeatherCheck weatherCheck;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReminderWeatherConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        weatherCheck = new ReminderWeatherCheck(weatherService, config, meterRegistry);
+    }
+
+    @Test
+    void findRainy_shouldFetchOneForecastPerLocationBucket() {
+        Due lisbon = reminder("Watering", "Lisbon");
+        Due lisbonAgain = reminder("watering", "  lisbon ");
+        Due nearby = reminder("WATERING", "38.7223,-9.1393");
+        Due nearbyAgain = reminder("Watering", "38.70, -9.14");
+        when(weatherService.getWeatherForecast("lisbon", 2)).thenReturn(forecast(6.0, 5.5));
+        when(weatherService.getWeatherForecastByCoordinates(38.7, -9.1, 2)).thenReturn(forecast(2.0, 1.0));
+
+        Map<UUID, Double> rainy = weatherCheck.findRainy(List.of(lisbon, lisbonAgain, nearby, nearbyAgain), TODAY);
+
+        assertThat(rainy).containsOnly(Map.entry(lisbon.getId(), 11.5), Map.entry(lisbonAgain.getId(), 11.5));
+        verify(weatherService, times(1)).getWeatherForecast("lisbon", 2);
+        verify(weatherService, times(1)).getWeatherForecastByCoordinates(38.7, -9.1, 2);
+        assertThat(counter("fetched")).isEqualTo(2);
+    }
+
+    @Test
+    void findRainy_shouldReuseForecastWithinItsLifetime() {
+        when(weatherService.getWeatherForecast("porto", 2)).thenReturn(forecast(12.0));
+
+        weatherCheck.findRainy(List.of(reminder("Watering", "Porto")), TODAY);
+        Map<UUID, Double> rainy = weatherCheck.findRainy(List.of(reminder("Watering", "Porto")), TODAY);
+
+        assertThat(rainy).hasSize(1);
+        verify(weatherService, times(1)).getWeatherForecast("porto", 2);
+        assertThat(counter("cached")).isEqualTo(1);
+        assertThat(weatherCheck.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findRainy_shouldOnlyCountRainOnTheGivenDay() {
+        WeatherDTO forecast = forecast(1.0);
+        forecast.getForecast()
+                .add(WeatherDTO.ForecastItem.builder()
+                        .forecastTime(TODAY.plusDays(1).atTime(LocalTime.NOON))
+                        .precipitation(30.0)
+                        .build());
+        when(weatherService.getWeatherForecast("porto", 2)).thenReturn(forecast);
+
+        assertThat(weatherCheck.findRainy(List.of(reminder("Watering", "Porto")), TODAY))
+                .isEmpty();
+    }
+
+    @Test
+    void findRainy_shouldTreatLocationAsDryWhenForecastCannotBeFetched() {
+        when(weatherService.getWeatherForecast(anyString(), anyInt()))
+                .thenThrow(new CustomException(
+                        "Failed to retrieve weather forecast data",
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        ErrorCode.EXTERNAL_API_ERROR));
+
+        assertThat(weatherCheck.findRainy(List.of(reminder("Watering", "Atlantis")), TODAY))
+                .isEmpty();
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void findRainy_shouldCheckWaterAndWateringRemindersIgnoringCase() {
+        Due water = reminder("Water", "Porto");
+        Due watering = reminder(" watering ", "Porto");
+        when(weatherService.getWeatherForecast("porto", 2)).thenReturn(forecast(12.0));
+
+        assertThat(weatherCheck.findRainy(List.of(water, watering), TODAY))
+                .containsOnlyKeys(water.getId(), watering.getId());
+    }
+
+    @Test
+    void findRainy_shouldSkipOtherReminderTypesAndPlansWithoutLocation() {
+        Map<UUID, Double> rainy = weatherCheck.findRainy(
+                List.of(reminder("Pruning", "Lisbon"), reminder("Watering", null), reminder("Watering", " ")), TODAY);
+
+        assertThat(rainy).isEmpty();
+        verify(weatherService, never()).getWeatherForecast(anyString(), anyInt());
+        verify(weatherService, never()).getWeatherForecastByCoordinates(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void findRainy_shouldDoNothingWhenDisabled() {
+        config.setEnabled(false);
+
+        assertThat(weatherCheck.findRainy(List.of(reminder("Watering", "Lisbon")), TODAY))
+                .isEmpty();
+        verify(weatherService, never()).getWeatherForecast(anyString(), anyInt());
+    }
+
+    @Test
+    void bucket_shouldRoundCoordinatesAndNormalizePlaceNames() {
+        assertThat(ReminderWeatherCheck.bucket("51.5072, -0.1276")).isEqualTo("51.5,-0.1");
+        assertThat(ReminderWeatherCheck.bucket("-33.87,151.21")).isEqualTo("-33.9,151.2");
+        assertThat(ReminderWeatherCheck.bucket("-0.04,0.04")).isEqualTo("0.0,0.0");
+        assertThat(ReminderWeatherCheck.bucket("  New   York ")).isEqualTo("new york");
+        assertThat(ReminderWeatherCheck.bucket("95.0,10.0")).isEqualTo("95.0,10.0");
+        assertThat(ReminderWeatherCheck.bucket(null)).isNull();
+    }
+
+    private double counter(String result) {
+        return meterRegistry
+                .get("reminders.weather.forecasts")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static WeatherDTO forecast(double... precipitation) {
+        WeatherDTO forecast = new WeatherDTO();
+        forecast.setForecast(new ArrayList<>());
+        for (int i = 0; i < precipitation.length; i++) {
+            forecast.getForecast()
+                    .add(WeatherDTO.ForecastItem.builder()
+                            .forecastTime(TODAY.atTime(3 * i, 0))
+                            .precipitation(precipitation[i])
+                            .build());
+        }
+        return forecast;
+    }
+
+    private static Due reminder(String reminderType, String location) {
+        return new Due(
+                UUID.randomUUID(),
+                reminderType,
+                TODAY,
+                null,
+                null,
+                "Basil",
+                null,
+                UUID.randomUUID(),
+                "Balcony",
+                location,
+                UUID.randomUUID(),
+                "gardener@example.com");
+    }
+
+    private record Due(
+            UUID getId,
+            String getReminderType,
+            LocalDate getReminderDate,
+            LocalTime getReminderTime,
+            String getNotes,
+            String getPlantName,
+            String getPlantImageUrl,
+            UUID getGardenPlanId,
+            String getGardenPlanName,
+            String getGardenPlanLocation,
+            UUID getUserId,
+            String getUserEmail)
+            implements DueReminderView {}
+}
@@ -0,0 +1,107 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.solace.twiggle.dto.SearchResultDTO.Type;
+import dev.solace.twiggle.service.SearchIndex.Document;
+import dev.solace.twiggle.service.SearchIndex.Key;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    void tokenize_splitsOnNonWordCharactersAndLowerCases() {
+        assertThat(SearchIndex.tokenize("Cherry-Tomato, 2nd  BED!")).containsExactly("cherry", "tomato", "2nd", "bed");
+        assertThat(SearchIndex.tokenize("  ")).isEmpty();
+        assertThat(SearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void match_requiresEveryWordAndSumsTheirWeights() {
+        Key both = put(
+                Type.PLANT,
+                null,
+                new SearchIndex.Terms().add("Cherry Tomato", 3).add("Vegetable", 2));
+        Key one = put(Type.PLANT, null, new SearchIndex.Terms().add("Tomato", 3));
+
+        Map<Key, Double> result = index.match("tomato vegetable");
+
+        assertThat(result).containsOnlyKeys(both).containsEntry(both, 5.0);
+        assertThat(index.match("tomato")).containsOnlyKeys(both, one);
+        assertThat(index.match("tomato cucumber")).isEmpty();
+    }
+
+    @Test
+    void match_scoresPrefixesBelowExactWords() {
+        Key exact = put(Type.PROFILE, null, new SearchIndex.Terms().add("Tom", 3));
+        Key prefix = put(Type.PROFILE, null, new SearchIndex.Terms().add("Tomas", 3));
+
+        Map<Key, Double> result = index.match("TOM");
+
+        assertThat(result.get(exact)).isEqualTo(3.0);
+        assertThat(result.get(prefix)).isEqualTo(3.0 * SearchIndex.PREFIX_MATCH_FACTOR);
+    }
+
+    @Test
+    void terms_addWeightsAcrossFieldsButNotWithinOne() {
+        Key key = put(
+                Type.GARDEN_PLAN,
+                null,
+                new SearchIndex.Terms().add("Herb herb garden", 3).add("herb", 1));
+
+        assertThat(index.match("herb")).containsEntry(key, 4.0);
+    }
+
+    @Test
+    void put_replacesThePreviousVersion() {
+        UUID id = UUID.randomUUID();
+        Key key = new Key(Type.GARDEN_IMAGE, id);
+        index.put(new Document(
+                key,
+                "Spring",
+                null,
+                null,
+                null,
+                new SearchIndex.Terms().add("Spring", 3).build()));
+        index.put(new Document(
+                key,
+                "Summer",
+                null,
+                null,
+                null,
+                new SearchIndex.Terms().add("Summer", 3).build()));
+
+        assertThat(index.match("spring")).isEmpty();
+        assertThat(index.match("summer")).containsOnlyKeys(key);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeByGardenPlan_dropsPlantsAndImagesOfThatPlanOnly() {
+        UUID planId = UUID.randomUUID();
+        Key plan = new Key(Type.GARDEN_PLAN, planId);
+        index.put(new Document(
+                plan,
+                "Basil bed",
+                null,
+                null,
+                planId,
+                new SearchIndex.Terms().add("Basil", 3).build()));
+        put(Type.PLANT, planId, new SearchIndex.Terms().add("Basil", 3));
+        put(Type.GARDEN_IMAGE, planId, new SearchIndex.Terms().add("Basil", 3));
+        Key other = put(Type.PLANT, UUID.randomUUID(), new SearchIndex.Terms().add("Basil", 3));
+
+        assertThat(index.removeByGardenPlan(planId)).isEqualTo(2);
+        assertThat(index.match("basil")).containsOnlyKeys(plan, other);
+    }
+
+    private Key put(Type type, UUID gardenPlanId, SearchIndex.Terms terms) {
+        Key key = new Key(type, UUID.randomUUID());
+        index.put(new Document(key, null, null, null, gardenPlanId, terms.build()));
+        return key;
+    }
+}
@@ -0,0 +1,142 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.solace.twiggle.config.GardenImageStorageConfig;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+    @TempDir
+    private Path storage;
+
+    @Mock
+    private GardenImageRepository gardenImageRepository;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private GardenImageStorageConfig config;
+    private ImageStorageService imageStorageService;
+    private ThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new GardenImageStorageConfig();
+        config.setStorageDirectory(storage.toString());
+        config.setThumbnailWidths(List.of(480, 160, 960));
+        imageStorageService = new ImageStorageService(config);
+        service = new ThumbnailService(imageStorageService, gardenImageRepository, config, submitted::add);
+    }
+
+    @Test
+    void generate_shouldWriteEveryWidthAndRecordThem() throws IOException {
+        UUID imageId = upload("png", 2000, 1000);
+        when(gardenImageRepository.updateThumbnailWidths(imageId, "160,480,960"))
+                .thenReturn(1);
+
+        assertThat(service.generate(imageId)).isTrue();
+
+        for (int width : List.of(160, 480, 960)) {
+            BufferedImage thumbnail = read(imageId, width);
+            assertThat(thumbnail.getWidth()).isEqualTo(width);
+            assertThat(thumbnail.getHeight()).isEqualTo(width / 2);
+        }
+        assertThat(imageStorageService.findThumbnail(imageId, 160).orElseThrow().mediaType())
+                .isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void generate_shouldNotScaleUpSmallImages() throws IOException {
+        UUID imageId = upload("gif", 300, 200);
+        when(gardenImageRepository.updateThumbnailWidths(imageId, "160,480,960"))
+                .thenReturn(1);
+
+        service.generate(imageId);
+
+        assertThat(read(imageId, 960).getWidth()).isEqualTo(300);
+        assertThat(read(imageId, 480).getWidth()).isEqualTo(300);
+        assertThat(read(imageId, 160).getWidth()).isEqualTo(160);
+    }
+
+    @Test
+    void generate_shouldDeleteFilesOfImageDeletedMeanwhile() throws IOException {
+        UUID imageId = upload("png", 500, 500);
+        when(gardenImageRepository.updateThumbnailWidths(any(), anyString())).thenReturn(0);
+
+        assertThat(service.generate(imageId)).isFalse();
+
+        assertThat(imageStorageService.findOriginal(imageId)).isEmpty();
+        assertThat(imageStorageService.findThumbnail(imageId, 160)).isEmpty();
+    }
+
+    @Test
+    void generate_shouldSkipImagesWithoutStoredOriginal() {
+        assertThat(service.generate(UUID.randomUUID())).isFalse();
+
+        verify(gardenImageRepository, never()).updateThumbnailWidths(any(), anyString());
+    }
+
+    @Test
+    void generateAfterCommit_shouldRunOnThumbnailExecutor() throws IOException {
+        UUID imageId = upload("png", 400, 300);
+        when(gardenImageRepository.updateThumbnailWidths(imageId, "160,480,960"))
+                .thenReturn(1);
+
+        service.generateAfterCommit(imageId);
+
+        assertThat(imageStorageService.findThumbnail(imageId, 160)).isEmpty();
+        assertThat(submitted).hasSize(1);
+        submitted.getFirst().run();
+        assertThat(imageStorageService.findThumbnail(imageId, 160)).isPresent();
+    }
+
+    @Test
+    void resize_shouldKeepAspectRatioAndFlattenTransparency() {
+        BufferedImage transparent = new BufferedImage(1000, 300, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ThumbnailService.resize(transparent, 100);
+
+        assertThat(resized.getWidth()).isEqualTo(100);
+        assertThat(resized.getHeight()).isEqualTo(30);
+        assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(resized.getRGB(50, 15) & 0xFFFFFF).isEqualTo(0xFFFFFF);
+    }
+
+    private UUID upload(String format, int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        UUID imageId = UUID.randomUUID();
+        imageStorageService.commit(
+                imageStorageService.stage(new MockMultipartFile("file", "image", "image/" + format, out.toByteArray())),
+                imageId);
+        return imageId;
+    }
+
+    private BufferedImage read(UUID imageId, int width) throws IOException {
+        return ImageIO.read(imageStorageService
+                .findThumbnail(imageId, width)
+                .orElseThrow()
+                .path()
+                .toFile());
+    }
+}
@@ -0,0 +1,191 @@
+package dev.solace.twiggle.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.solace.twiggle.dto.SearchResultDTO;
+import dev.solace.twiggle.dto.SearchResultDTO.Type;
+import dev.solace.twiggle.model.GardenImage;
+import dev.solace.twiggle.model.GardenPlan;
+import dev.solace.twiggle.model.Plant;
+import dev.solace.twiggle.model.Profile;
+import dev.solace.twiggle.repository.GardenImageRepository;
+import dev.solace.twiggle.repository.GardenPlanRepository;
+import dev.solace.twiggle.repository.PlantRepository;
+import dev.solace.twiggle.repository.ProfileRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UnifiedSearchServiceTest {
+
+    @Mock
+    private GardenPlanRepository gardenPlanRepository;
+
+    @Mock
+    private PlantRepository plantRepository;
+
+    @Mock
+    private GardenImageRepository gardenImageRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @InjectMocks
+    private UnifiedSearchService service;
+
+    private UUID ownerId;
+    private GardenPlan publicPlan;
+    private GardenPlan privatePlan;
+    private Plant publicTomato;
+    private Plant privateTomato;
+    private GardenImage privateImage;
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        publicPlan = plan("Tomato Corner", "Backyard", "Dhaka", true);
+        privatePlan = plan("Secret Garden", "Balcony", "Chittagong", false);
+        publicTomato = plant(publicPlan, "Cherry Tomato", "Vegetable");
+        privateTomato = plant(privatePlan, "Roma Tomato", "Vegetable");
+        privateImage = new GardenImage(
+                UUID.randomUUID(), privatePlan.getId(), "https://img/1.png", "First tomato", null, null);
+        profile = new Profile(UUID.randomUUID(), "Tom Tomatoes", "https://img/avatar.png", null, null);
+
+        lenient().when(gardenPlanRepository.findAll()).thenReturn(List.of(publicPlan, privatePlan));
+        lenient().when(plantRepository.findAll()).thenReturn(List.of(publicTomato, privateTomato));
+        lenient().when(gardenImageRepository.findAll()).thenReturn(List.of(privateImage));
+        lenient().when(profileRepository.findAll()).thenReturn(List.of(profile));
+    }
+
+    @Test
+    void search_mergesTypesAndRanksWholeWordsAbovePrefixes() {
+        List<SearchResultDTO> results = service.search("tomato", ownerId, Set.of(), 10);
+
+        assertThat(results)
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(
+                        publicTomato.getId(),
+                        privateImage.getId(),
+                        privateTomato.getId(),
+                        publicPlan.getId(),
+                        profile.getId());
+        assertThat(results.get(0).getType()).isEqualTo(Type.PLANT);
+        assertThat(results.get(0).getGardenPlanId()).isEqualTo(publicPlan.getId());
+        assertThat(results.get(4).getType()).isEqualTo(Type.PROFILE);
+        assertThat(results.get(4).getGardenPlanId()).isNull();
+    }
+
+    @Test
+    void search_hidesPrivatePlansFromOtherUsers() {
+        List<SearchResultDTO> anonymous = service.search("tomato", null, Set.of(), 10);
+        List<SearchResultDTO> stranger = service.search("tomato", UUID.randomUUID(), Set.of(), 10);
+
+        assertThat(anonymous)
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(publicTomato.getId(), publicPlan.getId(), profile.getId());
+        assertThat(stranger).isEqualTo(anonymous);
+    }
+
+    @Test
+    void search_filtersByTypeAndKeepsTheBestHits() {
+        assertThat(service.search("tomato", ownerId, Set.of(Type.GARDEN_PLAN, Type.GARDEN_IMAGE), 10))
+                .extracting(SearchResultDTO::getType)
+                .containsExactly(Type.GARDEN_IMAGE, Type.GARDEN_PLAN);
+        assertThat(service.search("tomato", ownerId, Set.of(), 2))
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(publicTomato.getId(), privateImage.getId());
+    }
+
+    @Test
+    void search_loadsTheIndexOnce() {
+        service.search("tomato", null, Set.of(), 10);
+        service.search("garden", null, Set.of(), 10);
+
+        verify(gardenPlanRepository, times(1)).findAll();
+        verify(profileRepository, times(1)).findAll();
+    }
+
+    @Test
+    void writeHooks_keepTheIndexCurrent() {
+        service.search("tomato", null, Set.of(), 10);
+
+        Plant basil = plant(publicPlan, "Sweet Basil", "Herb");
+        service.indexPlant(basil);
+        publicTomato.setName("Cherry");
+        service.indexPlant(publicTomato);
+        service.removeProfile(profile.getId());
+
+        assertThat(service.search("basil", null, Set.of(), 10))
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(basil.getId());
+        assertThat(service.search("tomato", null, Set.of(), 10))
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(publicPlan.getId());
+    }
+
+    @Test
+    void indexGardenPlan_appliesVisibilityToItsPlantsAndImages() {
+        service.search("tomato", null, Set.of(), 10);
+
+        privatePlan.setIsPublic(true);
+        service.indexGardenPlan(privatePlan);
+
+        assertThat(service.search("tomato", null, Set.of(), 10))
+                .extracting(SearchResultDTO::getId)
+                .contains(privateTomato.getId(), privateImage.getId());
+    }
+
+    @Test
+    void removeGardenPlan_removesItsPlantsAndImages() {
+        service.search("tomato", ownerId, Set.of(), 10);
+
+        service.removeGardenPlan(privatePlan.getId());
+
+        assertThat(service.search("tomato", ownerId, Set.of(), 10))
+                .extracting(SearchResultDTO::getId)
+                .containsExactly(publicTomato.getId(), publicPlan.getId(), profile.getId());
+    }
+
+    @Test
+    void writeHooks_beforeFirstSearch_areLeftToTheLoad() {
+        service.indexPlant(plant(publicPlan, "Mint", "Herb"));
+
+        assertThat(service.search("mint", null, Set.of(), 10)).isEmpty();
+    }
+
+    @Test
+    void parseTypes_acceptsNamesInAnyCase() {
+        assertThat(UnifiedSearchService.parseTypes(" plant, Garden-Image ,"))
+                .containsExactlyInAnyOrder(Type.PLANT, Type.GARDEN_IMAGE);
+        assertThat(UnifiedSearchService.parseTypes(null)).isEmpty();
+    }
+
+    private GardenPlan plan(String name, String type, String location, boolean isPublic) {
+        GardenPlan gardenPlan = new GardenPlan();
+        gardenPlan.setId(UUID.randomUUID());
+        gardenPlan.setUserId(ownerId);
+        gardenPlan.setName(name);
+        gardenPlan.setType(type);
+        gardenPlan.setLocation(location);
+        gardenPlan.setIsPublic(isPublic);
+        return gardenPlan;
+    }
+
+    private static Plant plant(GardenPlan gardenPlan, String name, String type) {
+        Plant plant = new Plant();
+        plant.setId(UUID.randomUUID());
+        plant.setGardenPlanId(gardenPlan.getId());
+        plant.setName(name);
+        plant.setType(type);
+        return plant;
+    }
+}
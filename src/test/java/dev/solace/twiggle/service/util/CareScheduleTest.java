@@ -0,0 +1,61 @@
+package dev.solace.twiggle.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class CareScheduleTest {
+
+    @Test
+    void parse_shouldTurnWateringFrequenciesIntoIntervals() {
+        assertThat(watering("High")).isEqualTo(2);
+        assertThat(watering(" moderate ")).isEqualTo(3);
+        assertThat(watering("Low")).isEqualTo(7);
+        assertThat(watering("Daily")).isEqualTo(1);
+        assertThat(watering("Once a  week")).isEqualTo(7);
+        assertThat(watering("Every 5 days")).isEqualTo(5);
+        assertThat(watering("3 times per week")).isEqualTo(2);
+        assertThat(watering("When the soil feels dry")).isNull();
+        assertThat(watering(null)).isNull();
+    }
+
+    @Test
+    void parse_shouldTurnPlantingSeasonsIntoMonths() {
+        assertThat(CareSchedule.parse(null, "Spring", null, null).plantingMonths())
+                .isEqualTo(0b000000011100);
+        assertThat(CareSchedule.parse(null, "Spring/Fall", null, null).plantingMonths())
+                .isEqualTo(0b011100011100);
+        assertThat(CareSchedule.parse(null, "Winter", null, null).plantingMonths())
+                .isEqualTo(0b100000000011);
+        assertThat(CareSchedule.parse(null, "Rainy/Monsoon", null, null).plantingMonths())
+                .isEqualTo(0b000111100000);
+        assertThat(CareSchedule.parse(null, "Whenever", null, null).plantingMonths())
+                .isZero();
+    }
+
+    @Test
+    void parse_shouldKeepOnlyKnownDurations() {
+        CareSchedule schedule = CareSchedule.parse(null, null, 7.4, 0.0);
+
+        assertThat(schedule.germinationDays()).isEqualTo(7);
+        assertThat(schedule.harvestDays()).isNull();
+        assertThat(CareSchedule.parse(null, null, null, 1.0e9).harvestDays()).isEqualTo(CareSchedule.MAX_DAYS);
+    }
+
+    @Test
+    void sowingDate_shouldWaitForNextPlantingSeason() {
+        CareSchedule spring = CareSchedule.parse(null, "Spring", null, null);
+        CareSchedule winter = CareSchedule.parse(null, "Winter", null, null);
+
+        assertThat(spring.sowingDate(LocalDate.of(2025, 4, 17))).isEqualTo(LocalDate.of(2025, 4, 17));
+        assertThat(spring.sowingDate(LocalDate.of(2025, 7, 2))).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(winter.sowingDate(LocalDate.of(2025, 10, 9))).isEqualTo(LocalDate.of(2025, 12, 1));
+        assertThat(CareSchedule.parse(null, null, null, null).sowingDate(LocalDate.of(2025, 7, 2)))
+                .isEqualTo(LocalDate.of(2025, 7, 2));
+    }
+
+    private static Integer watering(String frequency) {
+        return CareSchedule.parse(frequency, null, null, null).wateringIntervalDays();
+    }
+}
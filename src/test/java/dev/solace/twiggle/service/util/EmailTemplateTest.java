@@ -0,0 +1,96 @@
+package dev.solace.twiggle.service.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dev.solace.twiggle.service.util.EmailTemplate.Escaping;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EmailTemplateTest {
+
+    @Test
+    void render_ShouldInsertValuesBetweenLiterals() {
+        EmailTemplate template = EmailTemplate.compile("Water {{ plant }} in {{garden}}.", Escaping.TEXT);
+
+        assertEquals("Water Basil in Balcony.", template.render(Map.of("plant", "Basil", "garden", "Balcony")::get));
+    }
+
+    @Test
+    void render_WithMissingValue_ShouldInsertNothing() {
+        EmailTemplate template = EmailTemplate.compile("[{{missing}}]", Escaping.TEXT);
+
+        assertEquals("[]", template.render(Map.<String, String>of()::get));
+    }
+
+    @Test
+    void render_ShouldEscapeHtmlValuesButNotLiterals() {
+        EmailTemplate template = EmailTemplate.compile("<p title=\"{{v}}\">{{v}}</p>", Escaping.HTML);
+
+        assertEquals(
+                "<p title=\"&lt;b&gt; &amp; &quot;q&quot; &#39;s&#39;\">&lt;b&gt; &amp; &quot;q&quot; &#39;s&#39;</p>",
+                template.render(Map.of("v", "<b> & \"q\" 's'")::get));
+    }
+
+    @Test
+    void render_WithHeaderEscaping_ShouldReplaceLineBreaks() {
+        EmailTemplate template = EmailTemplate.compile("Reminder: {{v}}", Escaping.HEADER);
+
+        assertEquals("Reminder: a  b c", template.render(Map.of("v", "a\r\nb\nc")::get));
+    }
+
+    @Test
+    void render_ShouldRenderSectionsOnlyForNonBlankValues() {
+        EmailTemplate template = EmailTemplate.compile("A{{#notes}}<{{notes}}>{{/notes}}B", Escaping.TEXT);
+
+        assertEquals("A<n>B", template.render(Map.of("notes", "n")::get));
+        assertEquals("AB", template.render(Map.of("notes", "  ")::get));
+        assertEquals("AB", template.render(Map.<String, String>of()::get));
+    }
+
+    @Test
+    void render_ShouldSupportNestedSections() {
+        EmailTemplate template = EmailTemplate.compile("{{#a}}a{{#b}}b{{/b}}{{/a}}", Escaping.TEXT);
+
+        assertEquals("ab", template.render(Map.of("a", "1", "b", "1")::get));
+        assertEquals("a", template.render(Map.of("a", "1")::get));
+        assertEquals("", template.render(Map.of("b", "1")::get));
+    }
+
+    @Test
+    void render_ShouldRepeatSectionForEveryListItem() {
+        EmailTemplate template =
+                EmailTemplate.compile("{{#items}}<li>{{name}} at {{time}}</li>{{/items}}", Escaping.HTML);
+        Map<String, Object> values = Map.of(
+                "time", "09:00", "items", List.of(Map.of("name", "Basil"), Map.of("name", "<Mint>", "time", "10:00")));
+
+        assertEquals("<li>Basil at 09:00</li><li>&lt;Mint&gt; at 10:00</li>", template.render(values::get));
+        assertEquals("", template.render(Map.of("items", List.of())::get));
+    }
+
+    @Test
+    void render_WithListItemThatIsNotMap_ShouldThrow() {
+        EmailTemplate template = EmailTemplate.compile("{{#items}}x{{/items}}", Escaping.TEXT);
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of("items", List.of("a"))::get));
+    }
+
+    @Test
+    void render_ShouldReuseBufferAcrossRenders() {
+        EmailTemplate template = EmailTemplate.compile("{{v}}", Escaping.TEXT);
+        String large = "x".repeat(100_000);
+
+        assertEquals(large, template.render(Map.of("v", large)::get));
+        assertEquals("small", template.render(Map.of("v", "small")::get));
+    }
+
+    @Test
+    void compile_WithMalformedTemplate_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{name", Escaping.TEXT));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{bad name}}", Escaping.TEXT));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{#a}}", Escaping.TEXT));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{/a}}", Escaping.TEXT));
+        assertThrows(
+                IllegalArgumentException.class, () -> EmailTemplate.compile("{{#a}}{{#b}}{{/a}}{{/b}}", Escaping.TEXT));
+    }
+}
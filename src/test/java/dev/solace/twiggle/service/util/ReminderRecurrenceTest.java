@@ -0,0 +1,111 @@
+package dev.solace.twiggle.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReminderRecurrenceTest {
+
+    // A Thursday
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+    private static final int MONDAY = ReminderRecurrence.toWeekdays(List.of(DayOfWeek.MONDAY));
+    private static final int MONDAY_AND_THURSDAY =
+            ReminderRecurrence.toWeekdays(List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+
+    @Test
+    void occurrences_withInterval_shouldRepeatFromStartDate() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, null, 3, 0, null, null);
+
+        assertThat(recurrence.occurrences(START, START.plusDays(9)))
+                .containsExactly(START, START.plusDays(3), START.plusDays(6), START.plusDays(9));
+        assertThat(recurrence.next(START.plusDays(1))).isEqualTo(START.plusDays(3));
+    }
+
+    @Test
+    void occurrences_withWeekdays_shouldFallOnThoseDays() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, null, null, MONDAY_AND_THURSDAY, null, null);
+
+        assertThat(recurrence.occurrences(START, START.plusDays(7)))
+                .containsExactly(START, START.plusDays(4), START.plusDays(7));
+    }
+
+    @Test
+    void next_withIntervalAndWeekdays_shouldNeedBoth() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, null, 2, MONDAY, null, null);
+
+        assertThat(recurrence.next(START)).isEqualTo(LocalDate.of(2025, 5, 5));
+        assertThat(recurrence.next(LocalDate.of(2025, 5, 6))).isEqualTo(LocalDate.of(2025, 5, 19));
+    }
+
+    @Test
+    void next_shouldReturnNullWhenIntervalNeverMeetsWeekdays() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, null, 7, MONDAY, null, null);
+
+        assertThat(recurrence.next(START)).isNull();
+    }
+
+    @Test
+    void next_shouldJumpToSeasonAndKeepIntervalAligned() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(LocalDate.of(2025, 1, 1), null, 10, 0, 6, 6);
+
+        assertThat(recurrence.next(LocalDate.of(2025, 2, 1))).isEqualTo(LocalDate.of(2025, 6, 10));
+        assertThat(recurrence.next(LocalDate.of(2025, 6, 25))).isEqualTo(LocalDate.of(2025, 6, 30));
+        assertThat(recurrence.next(LocalDate.of(2025, 7, 1))).isEqualTo(LocalDate.of(2026, 6, 5));
+    }
+
+    @Test
+    void occursOn_withSeasonAcrossNewYear_shouldWrap() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(LocalDate.of(2025, 1, 1), null, 1, 0, 11, 2);
+
+        assertThat(recurrence.occursOn(LocalDate.of(2025, 12, 31))).isTrue();
+        assertThat(recurrence.occursOn(LocalDate.of(2026, 2, 28))).isTrue();
+        assertThat(recurrence.occursOn(LocalDate.of(2025, 6, 1))).isFalse();
+        assertThat(recurrence.next(LocalDate.of(2025, 3, 10))).isEqualTo(LocalDate.of(2025, 11, 1));
+    }
+
+    @Test
+    void next_shouldReturnNullAfterEndDate() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, START.plusDays(4), 3, 0, null, null);
+
+        assertThat(recurrence.occurrences(START, START.plusDays(30))).containsExactly(START, START.plusDays(3));
+        assertThat(recurrence.next(START.plusDays(4))).isNull();
+    }
+
+    @Test
+    void occurrences_shouldBeComputedLazily() {
+        ReminderRecurrence recurrence = new ReminderRecurrence(START, null, 1, 0, null, null);
+
+        assertThat(recurrence.occurrences(START, LocalDate.of(9999, 12, 31)).limit(3))
+                .containsExactly(START, START.plusDays(1), START.plusDays(2));
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidRules() {
+        assertThatThrownBy(() -> new ReminderRecurrence(START, null, null, 0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReminderRecurrence(START, START.minusDays(1), 1, 0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReminderRecurrence(START, null, 0, 0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReminderRecurrence(START, null, 1, 0x80, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReminderRecurrence(START, null, 1, 0, 4, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ReminderRecurrence(START, null, 1, 0, 0, 13))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void weekdays_shouldRoundTripThroughBitMask() {
+        int mask = ReminderRecurrence.toWeekdays(List.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY));
+
+        assertThat(mask).isEqualTo(0b1000001);
+        assertThat(ReminderRecurrence.fromWeekdays(mask)).isEqualTo(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY));
+        assertThat(ReminderRecurrence.fromWeekdays(null)).isEmpty();
+    }
+}
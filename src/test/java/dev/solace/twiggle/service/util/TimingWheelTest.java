@@ -0,0 +1,144 @@
+package dev.solace.twiggle.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_750_000_000_000L;
+    private static final long SECOND = 1000;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long DAY = 24 * 60 * MINUTE;
+
+    @Test
+    void advance_shouldFireTimerAtItsTickAndNotBefore() {
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        wheel.schedule("water", START + 90 * MINUTE + 500);
+        List<String> fired = new ArrayList<>();
+
+        assertThat(wheel.advance(START + 90 * MINUTE, fired::add)).isZero();
+        assertThat(wheel.advance(START + 90 * MINUTE + SECOND, fired::add)).isEqualTo(1);
+
+        assertThat(fired).containsExactly("water");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_shouldCascadeTimersFromHigherLevelsInDeadlineOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        List<Long> deadlines = List.of(3 * DAY, 5 * SECOND, DAY + 17 * SECOND, 70 * SECOND, 4321 * SECOND);
+        for (long offset : deadlines) {
+            wheel.schedule(offset, START + offset);
+        }
+        List<Long> fired = new ArrayList<>();
+        List<Long> firedAt = new ArrayList<>();
+
+        for (long now = START; now <= START + 3 * DAY; now += SECOND) {
+            long tick = now;
+            wheel.advance(now, offset -> {
+                fired.add(offset);
+                firedAt.add(tick - START);
+            });
+        }
+
+        assertThat(fired).containsExactly(5 * SECOND, 70 * SECOND, 4321 * SECOND, DAY + 17 * SECOND, 3 * DAY);
+        assertThat(firedAt).isEqualTo(fired);
+    }
+
+    @Test
+    void advance_shouldCatchUpOnSkippedTicks() {
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        wheel.schedule("first", START + 10 * MINUTE);
+        wheel.schedule("second", START + 2 * DAY);
+        List<String> fired = new ArrayList<>();
+
+        assertThat(wheel.advance(START + 3 * DAY, fired::add)).isEqualTo(2);
+
+        assertThat(fired).containsExactly("first", "second");
+    }
+
+    @Test
+    void schedule_shouldReplaceTimerOfSameKey() {
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        wheel.schedule("water", START + 5 * SECOND);
+        wheel.schedule("water", START + 2 * MINUTE);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(START + MINUTE, fired::add);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        wheel.advance(START + 2 * MINUTE, fired::add);
+        assertThat(fired).containsExactly("water");
+    }
+
+    @Test
+    void schedule_shouldFirePassedDeadlineOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        wheel.schedule("late", START - DAY);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(START + SECOND, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void cancel_shouldRemoveTimerFromAnyLevel() {
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        wheel.schedule("soon", START + 3 * SECOND);
+        wheel.schedule("later", START + 2 * DAY);
+        wheel.schedule("kept", START + 2 * DAY);
+
+        assertThat(wheel.cancel("soon")).isTrue();
+        assertThat(wheel.cancel("later")).isTrue();
+        assertThat(wheel.cancel("missing")).isFalse();
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 3 * DAY, fired::add);
+
+        assertThat(fired).containsExactly("kept");
+        assertThat(wheel.contains("kept")).isFalse();
+    }
+
+    @Test
+    void schedule_shouldHoldDeadlinesBeyondTheWheelRange() {
+        // 2 levels of 4 slots span 16 ticks
+        TimingWheel<String> wheel = new TimingWheel<>(SECOND, 2, 2, START);
+        wheel.schedule("far", START + 40 * SECOND);
+        List<String> fired = new ArrayList<>();
+
+        for (long now = START; now < START + 40 * SECOND; now += SECOND) {
+            wheel.advance(now, fired::add);
+        }
+        assertThat(fired).isEmpty();
+
+        wheel.advance(START + 40 * SECOND, fired::add);
+        assertThat(fired).containsExactly("far");
+    }
+
+    @Test
+    void advance_shouldFireManyTimersSharingATick() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(SECOND, 6, 4, START);
+        for (int i = 0; i < 200_000; i++) {
+            wheel.schedule(i, START + (i % 2 == 0 ? 9 * 60 : 10 * 60) * MINUTE);
+        }
+        assertThat(wheel.size()).isEqualTo(200_000);
+        List<Integer> fired = new ArrayList<>();
+
+        assertThat(wheel.advance(START + 9 * 60 * MINUTE, fired::add)).isEqualTo(100_000);
+        assertThat(fired).allMatch(i -> i % 2 == 0);
+        assertThat(wheel.advance(START + 10 * 60 * MINUTE, fired::add)).isEqualTo(100_000);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidSizes() {
+        assertThatThrownBy(() -> new TimingWheel<>(0, 6, 4, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(SECOND, 0, 4, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(SECOND, 16, 4, START)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
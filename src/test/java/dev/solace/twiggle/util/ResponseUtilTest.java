@@ -136,4 +136,25 @@ class ResponseUtilTest {
         assertTrue(cause instanceof NullPointerException, "Cause should be a NullPointerException");
         assertEquals("message must not be null", cause.getMessage());
     }
+
+    @Test
+    @DisplayName("accepted method should return a 202 Accepted response with data")
+    void accepted_ShouldReturnResponseWith202Status() {
+        // Arrange
+        String message = "Accepted message";
+        String data = "Test data";
+
+        // Act
+        ResponseEntity<ApiResponse<String>> response = ResponseUtil.accepted(message, data);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+
+        ApiResponse<String> body = response.getBody();
+        assertNotNull(body);
+        assertEquals(202, body.getStatus());
+        assertEquals(message, body.getMessage());
+        assertEquals(data, body.getData());
+    }
 }